@@ -0,0 +1,127 @@
+package io.github.sinuscosinustan.hetznercloud;
+
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+/**
+ * Synthetic API responses shaped like the real payloads of the list endpoints
+ */
+final class BenchmarkPayloads {
+
+    private static final String SERVER = """
+            {
+              "id": %1$d,
+              "name": "server-%1$d",
+              "status": "running",
+              "created": "2024-03-%2$02dT10:15:30+00:00",
+              "public_net": {
+                "ipv4": { "id": %1$d, "ip": "10.0.%3$d.%4$d", "blocked": false, "dns_ptr": "static.%1$d.example.com" },
+                "ipv6": { "id": %1$d, "ip": "2001:db8:%1$x::/64", "blocked": false, "dns_ptr": [] },
+                "floating_ips": [],
+                "firewalls": [ { "id": 42, "status": "applied" } ]
+              },
+              "private_net": [ { "network": 4711, "ip": "10.1.%3$d.%4$d", "alias_ips": [], "mac_address": "86:00:00:2a:7d:e0" } ],
+              "server_type": {
+                "id": 22, "name": "cpx21", "description": "CPX 21", "cores": 3, "memory": 4.0, "disk": 80,
+                "deprecated": false, "storage_type": "local", "cpu_type": "shared", "architecture": "x86",
+                "prices": [
+                  { "location": "fsn1", "price_hourly": { "net": "0.0113", "gross": "0.0134" }, "price_monthly": { "net": "7.0500", "gross": "8.3895" } },
+                  { "location": "nbg1", "price_hourly": { "net": "0.0113", "gross": "0.0134" }, "price_monthly": { "net": "7.0500", "gross": "8.3895" } }
+                ]
+              },
+              "datacenter": {
+                "id": 4, "name": "fsn1-dc14", "description": "Falkenstein 1 virtual DC 14",
+                "location": { "id": 1, "name": "fsn1", "description": "Falkenstein DC Park 1", "country": "DE", "city": "Falkenstein", "latitude": 50.47612, "longitude": 12.370071, "network_zone": "eu-central" }
+              },
+              "image": %5$s,
+              "iso": null,
+              "rescue_enabled": false,
+              "locked": false,
+              "backup_window": "22-02",
+              "outgoing_traffic": 123456789,
+              "ingoing_traffic": 987654321,
+              "included_traffic": 21990232555520,
+              "protection": { "delete": false, "rebuild": false },
+              "labels": { "env": "prod", "team": "team-%3$d", "app": "app-%4$d" },
+              "volumes": [ %1$d ],
+              "primary_disk_size": 80,
+              "load_balancers": [],
+              "placement_group": null
+            }""";
+
+    private static final String IMAGE = """
+            {
+              "id": %1$d,
+              "type": "snapshot",
+              "status": "available",
+              "name": "image-%1$d",
+              "description": "Snapshot %1$d",
+              "image_size": 2.3,
+              "disk_size": 10,
+              "created": "2024-02-%2$02dT08:00:00+00:00",
+              "created_from": { "id": %1$d, "name": "server-%1$d" },
+              "bound_to": null,
+              "os_flavor": "ubuntu",
+              "os_version": "24.04",
+              "rapid_redeploy": false,
+              "protection": { "delete": false },
+              "deprecated": null,
+              "deleted": null,
+              "labels": { "env": "prod" },
+              "architecture": "x86"
+            }""";
+
+    private static final String RRSET = """
+            {
+              "id": "host-%1$d/A",
+              "name": "host-%1$d",
+              "type": "A",
+              "ttl": 3600,
+              "labels": { "env": "prod" },
+              "protection": { "change": false },
+              "records": [ { "value": "10.0.%2$d.%3$d", "comment": "host %1$d" } ],
+              "zone": 7
+            }""";
+
+    private static final String META = """
+            "meta": { "pagination": { "page": 1, "per_page": %1$d, "previous_page": null, "next_page": null, "last_page": 1, "total_entries": %1$d } }""";
+
+    private BenchmarkPayloads() {
+    }
+
+    static byte[] servers(int count) {
+        final StringJoiner items = new StringJoiner(",", "{ \"servers\": [", "], " + META.formatted(count) + " }");
+        for (int i = 1; i <= count; i++) {
+            items.add(server(i));
+        }
+        return items.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] server(long id) {
+        return "{ \"server\": %s }".formatted(server((int) id)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] images(int count) {
+        final StringJoiner items = new StringJoiner(",", "{ \"images\": [", "], " + META.formatted(count) + " }");
+        for (int i = 1; i <= count; i++) {
+            items.add(image(i));
+        }
+        return items.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] rrSets(int count) {
+        final StringJoiner items = new StringJoiner(",", "{ \"rrsets\": [", "], " + META.formatted(count) + " }");
+        for (int i = 1; i <= count; i++) {
+            items.add(RRSET.formatted(i, i / 256 % 256, i % 256));
+        }
+        return items.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String server(int id) {
+        return SERVER.formatted(id, id % 28 + 1, id / 256 % 256, id % 256, image(id));
+    }
+
+    private static String image(int id) {
+        return IMAGE.formatted(id, id % 28 + 1);
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.sinuscosinustan.hetznercloud;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.github.sinuscosinustan.hetznercloud.deserialize.DateDeserializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link DateDeserializer} on an array of API timestamps
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateDeserializerBenchmark {
+
+    private static final int DATES = 1000;
+
+    private byte[] payload;
+    private ObjectReader reader;
+
+    @Setup
+    public void setUp() {
+        final StringJoiner dates = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < DATES; i++) {
+            dates.add("\"2024-%02d-%02dT%02d:%02d:%02d+00:00\"".formatted(i % 12 + 1, i % 28 + 1, i % 24, i % 60, i % 60));
+        }
+        payload = dates.toString().getBytes(StandardCharsets.UTF_8);
+
+        final ObjectMapper objectMapper = HetznerCloudAPI.createObjectMapper();
+        objectMapper.registerModule(new SimpleModule().addDeserializer(Date.class, new DateDeserializer()));
+        reader = objectMapper.readerFor(Date[].class);
+    }
+
+    @Benchmark
+    public Date[] deserialize() throws IOException {
+        return reader.readValue(payload);
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.sinuscosinustan.hetznercloud;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.sinuscosinustan.hetznercloud.objects.response.ImagesResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.RRSetsResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.ServersResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization of full list responses with the object mapper configuration of {@link HetznerCloudAPI}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeserializationBenchmark {
+
+    @Param({"50", "1000"})
+    private int items;
+
+    private byte[] servers;
+    private byte[] images;
+    private byte[] rrSets;
+
+    private ObjectReader serversReader;
+    private ObjectReader imagesReader;
+    private ObjectReader rrSetsReader;
+
+    @Setup
+    public void setUp() {
+        servers = BenchmarkPayloads.servers(items);
+        images = BenchmarkPayloads.images(items);
+        rrSets = BenchmarkPayloads.rrSets(items);
+
+        final ObjectMapper objectMapper = HetznerCloudAPI.createObjectMapper();
+        serversReader = objectMapper.readerFor(ServersResponse.class);
+        imagesReader = objectMapper.readerFor(ImagesResponse.class);
+        rrSetsReader = objectMapper.readerFor(RRSetsResponse.class);
+    }
+
+    @Benchmark
+    public ServersResponse servers() throws IOException {
+        return serversReader.readValue(servers);
+    }
+
+    @Benchmark
+    public ImagesResponse images() throws IOException {
+        return imagesReader.readValue(images);
+    }
+
+    @Benchmark
+    public RRSetsResponse rrSets() throws IOException {
+        return rrSetsReader.readValue(rrSets);
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.sinuscosinustan.hetznercloud;
+
+import io.github.sinuscosinustan.hetznercloud.objects.response.ServerResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.ServersResponse;
+import io.github.sinuscosinustan.hetznercloud.retry.RetryPolicy;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full request round trip against an in-process {@link MockWebServer}: request building, rate limiting, the HTTP
+ * exchange and deserialization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExchangeBenchmark {
+
+    private MockWebServer server;
+    private HetznerCloudAPI api;
+
+    @Setup
+    public void setUp() throws IOException {
+        final byte[] single = BenchmarkPayloads.server(1);
+        final byte[] list = BenchmarkPayloads.servers(50);
+
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @NotNull
+            @Override
+            public MockResponse dispatch(@NotNull RecordedRequest request) {
+                final byte[] body = request.getPath() != null && request.getPath().startsWith("/v1/servers/") ? single : list;
+                return new MockResponse()
+                        .setHeader("Content-Type", "application/json")
+                        .setBody(new Buffer().write(body));
+            }
+        });
+        server.start();
+
+        api = HetznerCloudAPI.builder()
+                .token("benchmark-token")
+                .apiUrl(server.url("/v1").toString())
+                .rateLimiter(null)
+                .retryPolicy(RetryPolicy.none())
+                .requestCoalescing(false)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Benchmark
+    public ServerResponse getServer() {
+        return api.getServer(1);
+    }
+
+    @Benchmark
+    public ServersResponse getServers() {
+        return api.getServers();
+    }
+
+    @Benchmark
+    public ServerResponse getServerAsync() {
+        return api.async().getServer(1).join();
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.sinuscosinustan.hetznercloud;
+
+import io.github.sinuscosinustan.hetznercloud.objects.request.CreateServerRequest;
+import okhttp3.Request;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction of the OkHttp request including headers and the serialized body
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestBuildingBenchmark {
+
+    private HetznerCloudAPI api;
+    private CreateServerRequest createServerRequest;
+
+    @Setup
+    public void setUp() {
+        api = new HetznerCloudAPI("benchmark-token");
+        createServerRequest = CreateServerRequest.builder()
+                .name("benchmark-server")
+                .serverType("cpx21")
+                .location("fsn1")
+                .image("ubuntu-24.04")
+                .startAfterCreate(true)
+                .label("env", "prod")
+                .label("team", "platform")
+                .sshKey(1L)
+                .volume(2L)
+                .network(3L)
+                .build();
+    }
+
+    @Benchmark
+    public Request get() {
+        return api.buildRequest("https://api.hetzner.cloud/v1/servers/4711", HetznerCloudAPI.HttpMethod.GET, null);
+    }
+
+    @Benchmark
+    public Request postWithBody() {
+        return api.buildRequest("https://api.hetzner.cloud/v1/servers", HetznerCloudAPI.HttpMethod.POST, createServerRequest);
+    }
+}
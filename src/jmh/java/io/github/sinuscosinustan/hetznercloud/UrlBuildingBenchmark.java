@@ -0,0 +1,59 @@
+package io.github.sinuscosinustan.hetznercloud;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * URL construction as done by the endpoint methods of {@link HetznerCloudAPI}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UrlBuildingBenchmark {
+
+    private final String apiUrl = "https://api.hetzner.cloud/v1";
+    private final long serverId = 4711;
+    private final List<Long> actionIds = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+
+    @Benchmark
+    public String formattedPath() {
+        return "%s/servers/%d/actions/poweron".formatted(apiUrl, serverId);
+    }
+
+    @Benchmark
+    public String concatenatedPath() {
+        return apiUrl + "/servers/" + serverId + "/actions/poweron";
+    }
+
+    @Benchmark
+    public String queryParams() {
+        return UrlBuilder.from("%s/servers".formatted(apiUrl))
+                .queryParamIfPresent("label_selector", Optional.of("env=prod"))
+                .queryParamIfPresent("name", Optional.empty())
+                .queryParamIfPresent("page", Optional.of(2))
+                .queryParamIfPresent("per_page", Optional.of(50))
+                .toUri();
+    }
+
+    @Benchmark
+    public String repeatedQueryParams() {
+        return UrlBuilder.from("%s/actions".formatted(apiUrl))
+                .queryParams("id", actionIds)
+                .queryParamIfPresent("per_page", Optional.of(50))
+                .toUri();
+    }
+}
@@ -1,37 +1,102 @@
 package io.github.sinuscosinustan.hetznercloud;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.sinuscosinustan.hetznercloud.cache.ResponseCache;
 import io.github.sinuscosinustan.hetznercloud.exception.APIRequestException;
+import io.github.sinuscosinustan.hetznercloud.instrumentation.LatencyHistogramRecorder;
+import io.github.sinuscosinustan.hetznercloud.instrumentation.RequestEvent;
+import io.github.sinuscosinustan.hetznercloud.instrumentation.RequestListener;
 import io.github.sinuscosinustan.hetznercloud.objects.enums.ImageType;
 import io.github.sinuscosinustan.hetznercloud.objects.enums.ActionStatus;
 import io.github.sinuscosinustan.hetznercloud.objects.enums.Architecture;
 import io.github.sinuscosinustan.hetznercloud.objects.enums.APIType;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Certificate;
 import io.github.sinuscosinustan.hetznercloud.objects.general.FWApplicationTarget;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Firewall;
 import io.github.sinuscosinustan.hetznercloud.objects.general.FirewallRule;
+import io.github.sinuscosinustan.hetznercloud.objects.general.FloatingIP;
+import io.github.sinuscosinustan.hetznercloud.objects.general.ISO;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Image;
+import io.github.sinuscosinustan.hetznercloud.objects.general.LoadBalancer;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Meta;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Network;
+import io.github.sinuscosinustan.hetznercloud.objects.general.PlacementGroup;
+import io.github.sinuscosinustan.hetznercloud.objects.general.PrimaryIP;
+import io.github.sinuscosinustan.hetznercloud.objects.general.RRSet;
+import io.github.sinuscosinustan.hetznercloud.objects.general.SSHKey;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Server;
+import io.github.sinuscosinustan.hetznercloud.objects.general.StorageBox;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Volume;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Zone;
 import io.github.sinuscosinustan.hetznercloud.objects.enums.PlacementGroupType;
 import io.github.sinuscosinustan.hetznercloud.objects.pagination.PaginationParameters;
 import io.github.sinuscosinustan.hetznercloud.objects.request.*;
 import io.github.sinuscosinustan.hetznercloud.objects.response.*;
+import io.github.sinuscosinustan.hetznercloud.ratelimit.RateLimiter;
+import io.github.sinuscosinustan.hetznercloud.retry.RetryPolicy;
+import io.github.sinuscosinustan.hetznercloud.util.ISO8601Util;
 import io.github.sinuscosinustan.hetznercloud.util.VersionUtil;
 import okhttp3.*;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
-
-public class HetznerCloudAPI {
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+public class HetznerCloudAPI implements AutoCloseable {
 
     private static final String DEFAULT_USER_AGENT = "sinuscosinustan-hetznercloud-java/%s".formatted(VersionUtil.getLibraryVersion());
 
+    /**
+     * Cached endpoints which are changed by modifying requests to another endpoint, keyed by the endpoint template of
+     * the request. Writes to an endpoint itself, e.g. deleting an image, always invalidate it.
+     */
+    private static final Map<String, String> AFFECTED_ENDPOINTS = Map.of(
+            "/servers/{id}/actions/create_image", "images",
+            "/servers/{id}/actions/rebuild", "images");
+
     private final String apiUrl;
     private final OkHttpClient client;
+    private final OkHttpClient longRunningClient;
     private final String hcloudToken;
     private final String userAgent;
     private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final HetznerCloudAsyncAPI asyncAPI;
+    /**
+     * Builds the requests of the blocking methods, which are sent on the calling thread
+     */
+    private final HetznerCloudAsyncAPI blockingAPI;
+    private final int pageParallelism;
+    private volatile RateLimiter rateLimiter;
+    private volatile RetryPolicy retryPolicy;
+    private volatile ResponseCache responseCache;
+    private volatile boolean requestCoalescing;
+    private final Map<String, CompletableFuture<Object>> inFlightRequests = new ConcurrentHashMap<>();
+    private final List<RequestListener> requestListeners = new CopyOnWriteArrayList<>();
+    private final List<MutationListener> mutationListeners = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService keepAliveScheduler;
 
     /**
      * Initial method to use the API with default Cloud API endpoint
@@ -105,20 +170,50 @@ public class HetznerCloudAPI {
      * @param userAgentPrefix Prefix that should be added in front of the default user agent
      */
     private HetznerCloudAPI(String hcloudToken, String apiUrl, OkHttpClient client, String userAgentPrefix) {
-        if (hcloudToken == null || hcloudToken.isBlank()) {
+        this(builder().token(hcloudToken).apiUrl(apiUrl).client(client).userAgentPrefix(userAgentPrefix));
+    }
+
+    private HetznerCloudAPI(Builder builder) {
+        if (builder.token == null || builder.token.isBlank()) {
             throw new RuntimeException("no Hetzner cloud token provided");
         }
-        if (apiUrl == null || apiUrl.isBlank()) {
+        if (builder.apiUrl == null || builder.apiUrl.isBlank()) {
             throw new RuntimeException("API URL cannot be null or blank");
         }
 
-        this.hcloudToken = hcloudToken;
-        this.apiUrl = apiUrl;
-        this.client = client != null ? client : new OkHttpClient();
-        this.userAgent = buildUserAgent(userAgentPrefix);
+        this.hcloudToken = builder.token;
+        this.apiUrl = builder.apiUrl;
+        this.client = builder.buildClient();
+        this.longRunningClient = builder.longRunningTimeout != null
+                ? client.newBuilder().readTimeout(builder.longRunningTimeout).callTimeout(builder.longRunningTimeout).build()
+                : client;
+        this.userAgent = buildUserAgent(builder.userAgentPrefix);
 
-        objectMapper = new ObjectMapper();
+        this.objectMapper = builder.objectMapper != null ? builder.objectMapper : createObjectMapper();
+
+        this.pageParallelism = builder.pageParallelism;
+        this.rateLimiter = builder.rateLimiter;
+        this.retryPolicy = builder.retryPolicy != null ? builder.retryPolicy : RetryPolicy.none();
+        this.responseCache = builder.responseCache;
+        this.requestCoalescing = builder.requestCoalescing;
+        this.requestListeners.addAll(builder.requestListeners);
+        this.asyncAPI = new HetznerCloudAsyncAPI(this);
+        this.blockingAPI = new HetznerCloudAsyncAPI(this, new BlockingTransport());
+    }
+
+    static ObjectMapper createObjectMapper() {
+        final ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return objectMapper;
+    }
+
+    /**
+     * Create a builder to configure the API instance including its HTTP client.
+     *
+     * @return Builder
+     */
+    public static Builder builder() {
+        return new Builder();
     }
 
     private static String buildUserAgent(String userAgentPrefix) {
@@ -129,10 +224,214 @@ public class HetznerCloudAPI {
     }
 
     /**
-     * Get all actions in a project.
+     * Non-blocking view of this API instance.
+     * <p>
+     * The returned instance shares the HTTP client, the token, the object mapper and the error handling of this instance.
+     * <p>
+     * The blocking methods send their request on the calling thread and may be used in callbacks of the returned
+     * futures, except for the {@code listAll} methods: they wait for page requests on the OkHttp dispatcher, and a
+     * callback keeps its own call counted against {@link Builder#dispatcher(int, int)} until it returns. Callbacks
+     * which block on them can take all slots of the dispatcher and wait forever, use the non-blocking
+     * {@code listAll} methods and compose the futures instead.
+     *
+     * @return HetznerCloudAsyncAPI
+     */
+    public HetznerCloudAsyncAPI async() {
+        return asyncAPI;
+    }
+
+    /**
+     * Open connections to the API before they are needed, so the first real request does not pay for DNS
+     * resolution and the TLS handshake.
+     * <p>
+     * Sends {@code connections} concurrent, cheap GET requests to the API URL. The response is irrelevant, errors are
+     * ignored. The connection pool of the client must allow enough idle connections, see
+     * {@link Builder#connectionPool(int, Duration)}. With HTTP/2 a single connection is shared by all requests.
+     *
+     * @param connections number of connections to open
+     */
+    public void warmUp(int connections) {
+        asyncAPI.warmUp(connections).join();
+    }
+
+    /**
+     * Keep pooled connections alive between bursts by calling {@link #warmUp(int)} periodically.
+     * The interval should be shorter than the keep-alive duration of the connection pool (5 minutes by default).
+     *
+     * @param connections number of connections to keep open
+     * @param interval time between two warm-ups
+     */
+    public synchronized void startKeepAlive(int connections, Duration interval) {
+        stopKeepAlive();
+        keepAliveScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "hetznercloud-keep-alive");
+            thread.setDaemon(true);
+            return thread;
+        });
+        keepAliveScheduler.scheduleWithFixedDelay(() -> asyncAPI.warmUp(connections),
+                0, interval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stop the periodic warm-ups started by {@link #startKeepAlive(int, Duration)}.
+     */
+    public synchronized void stopKeepAlive() {
+        if (keepAliveScheduler != null) {
+            keepAliveScheduler.shutdownNow();
+            keepAliveScheduler = null;
+        }
+    }
+
+    /**
+     * Stop the periodic warm-ups and close the response cache of this instance. The HTTP client, which may be
+     * shared with other instances, stays open.
+     */
+    @Override
+    public void close() {
+        stopKeepAlive();
+        if (responseCache != null) {
+            responseCache.close();
+        }
+    }
+
+    /**
+     * Sends a warm-up request which bypasses the response cache and request coalescing.
+     */
+    CompletableFuture<Void> warmUpRequest() {
+        return exchangeAsync("%s/locations".formatted(apiUrl), HttpMethod.GET, null, String.class)
+                .handle((ignored, throwable) -> null);
+    }
+
+    /**
+     * Client-side rate limiter used by this instance.
+     *
+     * @return RateLimiter or null if client-side rate limiting is disabled
+     */
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Replace the client-side rate limiter, e.g. to share one limiter between instances which use the same project
+     * token or to switch to {@link RateLimiter.Mode#FAIL_FAST}.
+     *
+     * @param rateLimiter RateLimiter or null to disable client-side rate limiting
+     */
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Retry policy used by this instance.
+     *
+     * @return RetryPolicy
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Replace the retry policy.
+     *
+     * @param retryPolicy RetryPolicy or null to disable retries
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy != null ? retryPolicy : RetryPolicy.none();
+    }
+
+    /**
+     * Response cache used by this instance.
+     *
+     * @return ResponseCache or null if responses are not cached
+     */
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Enable caching of GET responses for the endpoints configured in the cache, e.g. {@link ResponseCache#withDefaults()}.
+     * Creating, updating or deleting a resource invalidates the cached responses of its endpoint. The cache is
+     * closed by {@link #close()}.
+     *
+     * @param responseCache ResponseCache or null to disable caching
+     */
+    public void setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * @return whether concurrent identical GET requests share one HTTP request
+     */
+    public boolean isRequestCoalescing() {
+        return requestCoalescing;
+    }
+
+    /**
+     * Let concurrent identical GET requests share one in-flight HTTP request and its deserialized response.
+     * Disabled by default. Callers then receive the same response instance, which must not be modified.
+     * A modifying request stops later callers from joining GET requests of the same endpoint which are already in
+     * flight, so they do not receive a response from before the change.
+     *
+     * @param requestCoalescing true to let concurrent identical GET requests share one HTTP request
+     */
+    public void setRequestCoalescing(boolean requestCoalescing) {
+        this.requestCoalescing = requestCoalescing;
+    }
+
+    /**
+     * Register a listener which is notified about every HTTP exchange, e.g. a {@link LatencyHistogramRecorder}.
+     *
+     * @param listener RequestListener
+     */
+    public void addRequestListener(RequestListener listener) {
+        requestListeners.add(listener);
+    }
+
+    /**
+     * Remove a previously registered listener.
+     *
+     * @param listener RequestListener
+     */
+    public void removeRequestListener(RequestListener listener) {
+        requestListeners.remove(listener);
+    }
+
+    /**
+     * Register a listener which is notified about every successful modifying request, e.g. to keep local state
+     * in sync with the changes made through this instance.
+     *
+     * @param listener MutationListener
+     */
+    public void addMutationListener(MutationListener listener) {
+        mutationListeners.add(listener);
+    }
+
+    /**
+     * Remove a previously registered listener.
+     *
+     * @param listener MutationListener
+     */
+    public void removeMutationListener(MutationListener listener) {
+        mutationListeners.remove(listener);
+    }
+
+    String getApiUrl() {
+        return apiUrl;
+    }
+
+    ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    int getPageParallelism() {
+        return pageParallelism;
+    }
+
+    /**
+     * Get the first page of actions in a project.
      *
      * @deprecated This function has been deprecated by Hetzner
-     * @return All Actions without pagination
+     * @return ActionsResponse containing the first page and the pagination metadata
      */
     @Deprecated
     public ActionsResponse getActions() {
@@ -140,11 +439,11 @@ public class HetznerCloudAPI {
     }
 
     /**
-     * Get all action in a project filtered by its status.
+     * Get the first page of actions in a project filtered by its status.
      *
      * @deprecated This function has been deprecated by Hetzner
      * @param actionStatus Action status type
-     * @return ActionsResponse containing all actions without pagination filtered by its status
+     * @return ActionsResponse containing the first page of actions with the status
      */
     @Deprecated
     public ActionsResponse getActions(ActionStatus actionStatus) {
@@ -161,13 +460,17 @@ public class HetznerCloudAPI {
      */
     @Deprecated
     public ActionsResponse getActions(ActionStatus actionStatus, PaginationParameters paginationParameters) {
-        return get(
-                UrlBuilder.from("%s/actions".formatted(apiUrl))
-                        .queryParamIfPresent("status", Optional.ofNullable(actionStatus))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
-                ActionsResponse.class);
+        return await(blockingAPI.getActions(actionStatus, paginationParameters));
+    }
+
+    /**
+     * Get multiple actions by their IDs.
+     *
+     * @param ids IDs of the actions, at most 50 per request
+     * @return ActionsResponse containing the requested actions
+     */
+    public ActionsResponse getActions(List<Long> ids) {
+        return await(blockingAPI.getActions(ids));
     }
 
     /**
@@ -177,15 +480,14 @@ public class HetznerCloudAPI {
      * @return ActionResponse
      */
     public ActionResponse getAction(long id) {
-        return get(
-                "%s/actions/%s".formatted(apiUrl, id),
-                ActionResponse.class);
+        return await(blockingAPI.getAction(id));
     }
 
     /**
-     * Get all servers in a project.
+     * Get the first page of servers in a project.
      *
-     * @return All servers as Servers object without pagination
+     * @return Servers object containing the first page and the pagination metadata
+     * @see #listAllServers()
      */
     public ServersResponse getServers() {
         return getServers(null, new PaginationParameters(null, null));
@@ -195,7 +497,8 @@ public class HetznerCloudAPI {
      * Get all servers in a project filtered by a label selector
      *
      * @param labelSelector Label selector
-     * @return ServersResponse containing all servers which match the label selector
+     * @return ServersResponse containing the first page of servers which match the label selector
+     * @see #listAllServers(String)
      */
     public ServersResponse getServers(String labelSelector) {
         return getServers(labelSelector, new PaginationParameters(null, null));
@@ -209,13 +512,55 @@ public class HetznerCloudAPI {
      * @return All servers as Servers object
      */
     public ServersResponse getServers(String labelSelector, PaginationParameters paginationParameters) {
-        return get(
-                UrlBuilder.from("%s/servers".formatted(apiUrl))
-                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
-                ServersResponse.class);
+        return await(blockingAPI.getServers(labelSelector, paginationParameters));
+    }
+
+    /**
+     * Get all servers in a project.
+     * <p>
+     * Unlike {@link #getServers()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @return all servers
+     */
+    public List<Server> listAllServers() {
+        return Paginator.join(asyncAPI.listAllServers());
+    }
+
+    /**
+     * Get all servers in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getServers(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @param labelSelector Label selector
+     * @return all servers which match the label selector
+     */
+    public List<Server> listAllServers(String labelSelector) {
+        return Paginator.join(asyncAPI.listAllServers(labelSelector));
+    }
+
+    /**
+     * Stream all servers in a project to a consumer.
+     * <p>
+     * Every page is parsed directly from the response body and each server is handed to the consumer as soon as
+     * it has been read, so only a single server is held in memory at a time.
+     *
+     * @param consumer Consumer which is called for every server
+     */
+    public void forEachServer(Consumer<? super Server> consumer) {
+        forEachServer(null, consumer);
+    }
+
+    /**
+     * Stream all servers in a project which match a label selector to a consumer.
+     *
+     * @param labelSelector Label selector
+     * @param consumer Consumer which is called for every matching server
+     * @see #forEachServer(Consumer)
+     */
+    public void forEachServer(String labelSelector, Consumer<? super Server> consumer) {
+        await(blockingAPI.forEachServer(labelSelector, consumer));
     }
 
     /**
@@ -225,11 +570,7 @@ public class HetznerCloudAPI {
      * @return Matching servers as Servers object
      */
     public ServersResponse getServer(String name) {
-        return get(
-                UrlBuilder.from("%s/servers".formatted(apiUrl))
-                        .queryParam("name", name)
-                        .toUri(),
-                ServersResponse.class);
+        return await(blockingAPI.getServer(name));
     }
 
     /**
@@ -239,9 +580,7 @@ public class HetznerCloudAPI {
      * @return GetServerResponse
      */
     public ServerResponse getServer(long id) {
-        return get(
-                "%s/servers/%s".formatted(apiUrl, id),
-                ServerResponse.class);
+        return await(blockingAPI.getServer(id));
     }
 
     /**
@@ -251,11 +590,7 @@ public class HetznerCloudAPI {
      * @return ServerResponse including Action status, Server object and (if no ssh key defined) root password.
      */
     public CreateServerResponse createServer(CreateServerRequest createServerRequest) {
-        createServerRequest.setServerType(createServerRequest.getServerType().toLowerCase());   // Case-sensitive fix
-        return post(
-                "%s/servers".formatted(apiUrl),
-                createServerRequest,
-                CreateServerResponse.class);
+        return await(blockingAPI.createServer(createServerRequest));
     }
 
     /**
@@ -265,9 +600,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse object
      */
     public ActionResponse deleteServer(long id) {
-        return delete(
-                "%s/servers/%s".formatted(apiUrl, id),
-                ActionResponse.class);
+        return await(blockingAPI.deleteServer(id));
     }
 
     /**
@@ -278,10 +611,7 @@ public class HetznerCloudAPI {
      * @return ServerResponse object
      */
     public ServerResponse updateServer(long id, UpdateServerRequest updateServerRequest) {
-        return put(
-                "%s/servers/%s".formatted(apiUrl, id),
-                updateServerRequest,
-                ServerResponse.class);
+        return await(blockingAPI.updateServer(id, updateServerRequest));
     }
 
     /**
@@ -291,9 +621,7 @@ public class HetznerCloudAPI {
      * @return ConsoleResponse object
      */
     public ConsoleResponse requestConsole(long id) {
-        return post(
-                "%s/servers/%s/actions/request_console".formatted(apiUrl, id),
-                ConsoleResponse.class);
+        return await(blockingAPI.requestConsole(id));
     }
 
     /**
@@ -304,10 +632,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse object
      */
     public ActionResponse changeServerProtection(long id, ChangeProtectionRequest changeProtection) {
-        return post(
-                "%s/servers/%s/actions/change_protection".formatted(apiUrl, id),
-                changeProtection,
-                ActionResponse.class);
+        return await(blockingAPI.changeServerProtection(id, changeProtection));
     }
 
     /**
@@ -319,10 +644,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse
      */
     public ActionResponse addServerToPlacementGroup(long serverId, long placementGroupId) {
-        return post(
-                "%s/servers/%s/actions/add_to_placement_group".formatted(apiUrl, serverId),
-                new PlacementGroupAddServerRequest(placementGroupId),
-                ActionResponse.class);
+        return await(blockingAPI.addServerToPlacementGroup(serverId, placementGroupId));
     }
 
     /**
@@ -332,9 +654,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse
      */
     public ActionResponse removeServerFromPlacementGroup(long serverId) {
-        return post(
-                "%s/servers/%s/actions/remove_from_placement_group".formatted(apiUrl, serverId),
-                ActionResponse.class);
+        return await(blockingAPI.removeServerFromPlacementGroup(serverId));
     }
 
     /**
@@ -344,9 +664,7 @@ public class HetznerCloudAPI {
      * @return ActionsResponse object
      */
     public ActionsResponse getServerActions(long id) {
-        return get(
-                "%s/servers/%s/actions".formatted(apiUrl, id),
-                ActionsResponse.class);
+        return await(blockingAPI.getServerActions(id));
     }
 
     /**
@@ -356,8 +674,7 @@ public class HetznerCloudAPI {
      * @return ActionsResponse object
      */
     public ActionsResponse getFloatingIPActions(long id) {
-        return get("%s/floating_ips/%s/actions".formatted(apiUrl, id),
-                ActionsResponse.class);
+        return await(blockingAPI.getFloatingIPActions(id));
     }
 
     /**
@@ -367,9 +684,7 @@ public class HetznerCloudAPI {
      * @return respond
      */
     public ActionResponse powerOnServer(long id) {
-        return post(
-                "%s/servers/%s/actions/poweron".formatted(apiUrl, id),
-                ActionResponse.class);
+        return await(blockingAPI.powerOnServer(id));
     }
 
     /**
@@ -379,9 +694,7 @@ public class HetznerCloudAPI {
      * @return respond
      */
     public ActionResponse powerOffServer(long id) {
-        return post(
-                "%s/servers/%s/actions/poweroff".formatted(apiUrl, id),
-                ActionResponse.class);
+        return await(blockingAPI.powerOffServer(id));
     }
 
     /**
@@ -391,9 +704,7 @@ public class HetznerCloudAPI {
      * @return respond
      */
     public ActionResponse rebootServer(long id) {
-        return post(
-                "%s/servers/%s/actions/reboot".formatted(apiUrl, id),
-                ActionResponse.class);
+        return await(blockingAPI.rebootServer(id));
     }
 
     /**
@@ -403,9 +714,7 @@ public class HetznerCloudAPI {
      * @return respond
      */
     public ActionResponse resetServer(long id) {
-        return post(
-                "%s/servers/%s/actions/reset".formatted(apiUrl, id),
-                ActionResponse.class);
+        return await(blockingAPI.resetServer(id));
     }
 
     /**
@@ -415,9 +724,7 @@ public class HetznerCloudAPI {
      * @return respond
      */
     public ActionResponse shutdownServer(long id) {
-        return post(
-                "%s/servers/%s/actions/shutdown".formatted(apiUrl, id),
-                ActionResponse.class);
+        return await(blockingAPI.shutdownServer(id));
     }
 
     /**
@@ -427,9 +734,7 @@ public class HetznerCloudAPI {
      * @return respond
      */
     public ResetRootPasswordResponse resetRootPassword(long id) {
-        return post(
-                "%s/servers/%s/actions/reset_password".formatted(apiUrl, id),
-                ResetRootPasswordResponse.class);
+        return await(blockingAPI.resetRootPassword(id));
     }
 
     /**
@@ -439,9 +744,7 @@ public class HetznerCloudAPI {
      * @return respond
      */
     public EnableRescueResponse enableRescue(long id) {
-        return post(
-                "%s/servers/%s/actions/enable_rescue".formatted(apiUrl, id),
-                EnableRescueResponse.class);
+        return await(blockingAPI.enableRescue(id));
     }
 
     /**
@@ -452,10 +755,7 @@ public class HetznerCloudAPI {
      * @return respond
      */
     public EnableRescueResponse enableRescue(long id, EnableRescueRequest enableRescueRequest) {
-        return post(
-                "%s/servers/%s/actions/enable_rescue".formatted(apiUrl, id),
-                enableRescueRequest,
-                EnableRescueResponse.class);
+        return await(blockingAPI.enableRescue(id, enableRescueRequest));
     }
 
     /**
@@ -467,9 +767,7 @@ public class HetznerCloudAPI {
      * @return respond
      */
     public ActionResponse disableRescue(long id) {
-        return post(
-                "%s/servers/%s/actions/disable_rescue".formatted(apiUrl, id),
-                ActionResponse.class);
+        return await(blockingAPI.disableRescue(id));
     }
 
     /**
@@ -482,10 +780,7 @@ public class HetznerCloudAPI {
      * @return respond
      */
     public RebuildServerResponse rebuildServer(long id, RebuildServerRequest rebuildServerRequest) {
-        return post(
-                "%s/servers/%s/actions/rebuild".formatted(apiUrl, id),
-                rebuildServerRequest,
-                RebuildServerResponse.class);
+        return await(blockingAPI.rebuildServer(id, rebuildServerRequest));
     }
 
     /**
@@ -498,10 +793,7 @@ public class HetznerCloudAPI {
      * @return respond
      */
     public ActionResponse changeServerType(long id, ChangeTypeRequest changeTypeRequest) {
-        return post(
-                "%s/servers/%s/actions/change_type".formatted(apiUrl, id),
-                changeTypeRequest,
-                ActionResponse.class);
+        return await(blockingAPI.changeServerType(id, changeTypeRequest));
     }
 
     /**
@@ -514,14 +806,37 @@ public class HetznerCloudAPI {
      * @return respond
      */
     public MetricsResponse getServerMetrics(long id, String metricType, String start, String end) {
-        return get(
-                UrlBuilder.from(
-                        "%s/servers/%s/metrics".formatted(apiUrl, id))
-                        .queryParam("type", metricType)
-                        .queryParam("start", start)
-                        .queryParam("end", end)
-                        .toUri(),
-                MetricsResponse.class);
+        return await(blockingAPI.getServerMetrics(id, metricType, start, end));
+    }
+
+    /**
+     * Get the metrics from a server with every series decoded into primitive arrays.
+     * <p>
+     * Prefer this over {@link #getServerMetrics(long, String, String, String)} for long ranges or small steps, as it
+     * does not create a boxed object per data point.
+     *
+     * @param id         ID of the server
+     * @param metricType like cpu, disk or network (but also cpu,disk possible)
+     * @param start      of the metric
+     * @param end        of the metric
+     * @return respond
+     */
+    public TypedMetricsResponse getTypedServerMetrics(long id, String metricType, String start, String end) {
+        return await(blockingAPI.getTypedServerMetrics(id, metricType, start, end));
+    }
+
+    /**
+     * Get the metrics from a server with every series decoded into primitive arrays.
+     *
+     * @param id         ID of the server
+     * @param metricType like cpu, disk or network (but also cpu,disk possible)
+     * @param start      of the metric
+     * @param end        of the metric
+     * @param step       resolution in seconds or null to let the API choose
+     * @return respond
+     */
+    public TypedMetricsResponse getTypedServerMetrics(long id, String metricType, Instant start, Instant end, Long step) {
+        return await(blockingAPI.getTypedServerMetrics(id, metricType, start, end, step));
     }
 
     /**
@@ -532,10 +847,7 @@ public class HetznerCloudAPI {
      * @return respond
      */
     public CreateImageResponse createImage(long id, CreateImageRequest createImageRequest) {
-        return post(
-                "%s/servers/%s/actions/create_image".formatted(apiUrl, id),
-                createImageRequest,
-                CreateImageResponse.class);
+        return await(blockingAPI.createImage(id, createImageRequest));
     }
 
 
@@ -547,10 +859,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse object
      */
     public ActionResponse changeImageProtection(long id, ChangeProtectionRequest protectionRequest) {
-        return post(
-                "%s/images/%s/actions/change_protection".formatted(apiUrl, id),
-                protectionRequest,
-                ActionResponse.class);
+        return await(blockingAPI.changeImageProtection(id, protectionRequest));
     }
 
     /**
@@ -562,9 +871,7 @@ public class HetznerCloudAPI {
      * @return response
      */
     public ActionResponse enableBackup(long id) {
-        return post(
-                "%s/servers/%s/actions/enable_backup".formatted(apiUrl, id),
-                ActionResponse.class);
+        return await(blockingAPI.enableBackup(id));
     }
 
     /**
@@ -604,13 +911,32 @@ public class HetznerCloudAPI {
      * @return {@link ISOSResponse}
      */
     public ISOSResponse getISOS(Architecture architecture, PaginationParameters paginationParameters) {
-        return get(
-                UrlBuilder.from("%s/isos".formatted(apiUrl))
-                        .queryParamIfPresent("architecture", Optional.ofNullable(architecture))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
-                ISOSResponse.class);
+        return await(blockingAPI.getISOS(architecture, paginationParameters));
+    }
+
+    /**
+     * Get all available ISO's.
+     * <p>
+     * Unlike {@link #getISOS()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @return all ISO's
+     */
+    public List<ISO> listAllISOS() {
+        return listAllISOS(null);
+    }
+
+    /**
+     * Get all available ISO's by architecture.
+     * <p>
+     * Unlike {@link #getISOS(Architecture)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @param architecture {@link Architecture}, may be null
+     * @return all ISO's for the architecture
+     */
+    public List<ISO> listAllISOS(Architecture architecture) {
+        return Paginator.join(asyncAPI.listAllISOS(architecture));
     }
 
     /**
@@ -620,9 +946,7 @@ public class HetznerCloudAPI {
      * @return ISOResponse Object
      */
     public ISOResponse getISO(long id) {
-        return get(
-                "%s/isos/%s".formatted(apiUrl, id),
-                ISOResponse.class);
+        return await(blockingAPI.getISO(id));
     }
 
     /**
@@ -635,10 +959,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse object
      */
     public ActionResponse attachISO(long id, AttachISORequest attachISORequest) {
-        return post(
-                "%s/servers/%s/actions/attach_iso".formatted(apiUrl, id),
-                attachISORequest,
-                ActionResponse.class);
+        return await(blockingAPI.attachISO(id, attachISORequest));
     }
 
     /**
@@ -648,9 +969,7 @@ public class HetznerCloudAPI {
      * @return respond
      */
     public ActionResponse detachISO(long id) {
-        return post(
-                "%s/servers/%s/actions/detach_iso".formatted(apiUrl, id),
-                ActionResponse.class);
+        return await(blockingAPI.detachISO(id));
     }
 
     /**
@@ -663,10 +982,7 @@ public class HetznerCloudAPI {
      * @return respond
      */
     public ActionResponse changeDNSPTR(long id, ChangeReverseDNSRequest changeReverseDNSRequest) {
-        return post(
-                "%s/servers/%s/actions/change_dns_ptr".formatted(apiUrl, id),
-                changeReverseDNSRequest,
-                ActionResponse.class);
+        return await(blockingAPI.changeDNSPTR(id, changeReverseDNSRequest));
     }
 
     /**
@@ -676,9 +992,7 @@ public class HetznerCloudAPI {
      * @return respond
      */
     public DatacenterResponse getDatacenter(long id) {
-        return get(
-                "%s/datacenters/%s".formatted(apiUrl, id),
-                DatacenterResponse.class);
+        return await(blockingAPI.getDatacenter(id));
     }
 
     /**
@@ -687,9 +1001,7 @@ public class HetznerCloudAPI {
      * @return respond
      */
     public DatacentersResponse getDatacenters() {
-        return get(
-                "%s/datacenters".formatted(apiUrl),
-                DatacentersResponse.class);
+        return await(blockingAPI.getDatacenters());
     }
 
     /**
@@ -699,11 +1011,7 @@ public class HetznerCloudAPI {
      * @return DatacentersResponse
      */
     public DatacentersResponse getDatacenter(String name) {
-        return get(
-                UrlBuilder.from("%s/datacenters".formatted(apiUrl))
-                        .queryParam("name", name)
-                        .toUri(),
-                DatacentersResponse.class);
+        return await(blockingAPI.getDatacenter(name));
     }
 
     /**
@@ -745,13 +1053,32 @@ public class HetznerCloudAPI {
      * @return a FirewallsResponse containing all Firewalls of the requested page and paging metadata
      */
     public FirewallsResponse getFirewalls(String labelSelector, PaginationParameters paginationParameters) {
-        return get(
-                UrlBuilder.from("%s/firewalls".formatted(apiUrl))
-                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
-                FirewallsResponse.class);
+        return await(blockingAPI.getFirewalls(labelSelector, paginationParameters));
+    }
+
+    /**
+     * Get all Firewalls in a project.
+     * <p>
+     * Unlike {@link #getFirewalls()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @return all Firewalls
+     */
+    public List<Firewall> listAllFirewalls() {
+        return Paginator.join(asyncAPI.listAllFirewalls());
+    }
+
+    /**
+     * Get all Firewalls in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getFirewalls(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @param labelSelector Label selector
+     * @return all Firewalls which match the label selector
+     */
+    public List<Firewall> listAllFirewalls(String labelSelector) {
+        return Paginator.join(asyncAPI.listAllFirewalls(labelSelector));
     }
 
     /**
@@ -761,10 +1088,7 @@ public class HetznerCloudAPI {
      * @return a FirewallResponse containing the created Firewall and taken Actions
      */
     public CreateFirewallResponse createFirewall(CreateFirewallRequest createFirewallRequest) {
-        return post(
-                "%s/firewalls".formatted(apiUrl),
-                createFirewallRequest,
-                CreateFirewallResponse.class);
+        return await(blockingAPI.createFirewall(createFirewallRequest));
     }
 
     /**
@@ -773,9 +1097,7 @@ public class HetznerCloudAPI {
      * @param id
      */
     public void deleteFirewall(long id) {
-        delete(
-                "%s/firewalls/%s".formatted(apiUrl, id),
-                String.class);
+        await(blockingAPI.deleteFirewall(id));
     }
 
     /**
@@ -785,9 +1107,7 @@ public class HetznerCloudAPI {
      * @return the FirewallResponse containing the searched Firewall
      */
     public CreateFirewallResponse getFirewall(long id) {
-        return get(
-                "%s/firewalls/%s".formatted(apiUrl, id),
-                CreateFirewallResponse.class);
+        return await(blockingAPI.getFirewall(id));
     }
 
     /**
@@ -798,10 +1118,7 @@ public class HetznerCloudAPI {
      * @return the FirewallResponse of the request, containing the new Firewall and Metadata
      */
     public CreateFirewallResponse updateFirewall(long id, UpdateFirewallRequest updateFirewallRequest) {
-        return put(
-                "%s/firewalls/%s".formatted(apiUrl, id),
-                updateFirewallRequest,
-                CreateFirewallResponse.class);
+        return await(blockingAPI.updateFirewall(id, updateFirewallRequest));
     }
 
     /**
@@ -811,9 +1128,7 @@ public class HetznerCloudAPI {
      * @return an ActionsResponse with the executed actions
      */
     public ActionsResponse getFirewallActions(long id) {
-        return get(
-                "%s/firewalls/%s/actions".formatted(apiUrl, id),
-                ActionsResponse.class);
+        return await(blockingAPI.getFirewallActions(id));
     }
 
     /**
@@ -824,10 +1139,7 @@ public class HetznerCloudAPI {
      * @return an ActionsResponse with the executed actions
      */
     public ActionsResponse applyFirewallToResources(long id, List<FWApplicationTarget> applicationTargets) {
-        return post(
-                "%s/firewalls/%s/actions/apply_to_resources".formatted(apiUrl, id),
-                Map.of("apply_to", applicationTargets),
-                ActionsResponse.class);
+        return await(blockingAPI.applyFirewallToResources(id, applicationTargets));
     }
 
     /**
@@ -838,10 +1150,7 @@ public class HetznerCloudAPI {
      * @return an ActionsResponse with the executed actions
      */
     public ActionsResponse removeFirewallFromResources(long id, List<FWApplicationTarget> removalTargets) {
-        return post(
-                "%s/firewalls/%s/actions/remove_from_resources".formatted(apiUrl, id),
-                Map.of("remove_from", removalTargets),
-                ActionsResponse.class);
+        return await(blockingAPI.removeFirewallFromResources(id, removalTargets));
     }
 
     /**
@@ -864,10 +1173,7 @@ public class HetznerCloudAPI {
      * @return an ActionsResponse with the executed actions
      */
     public ActionsResponse setFirewallRules(long id, List<FirewallRule> firewallRules) {
-        return post(
-                "%s/firewalls/%s/actions/set_rules".formatted(apiUrl, id),
-                Map.of("rules", firewallRules),
-                ActionsResponse.class);
+        return await(blockingAPI.setFirewallRules(id, firewallRules));
     }
 
     /**
@@ -876,9 +1182,7 @@ public class HetznerCloudAPI {
      * @return PricingResponse
      */
     public PricingResponse getPricing() {
-        return get(
-                "%s/pricing".formatted(apiUrl),
-                PricingResponse.class);
+        return await(blockingAPI.getPricing());
     }
 
     /**
@@ -908,13 +1212,32 @@ public class HetznerCloudAPI {
      * @return PrimaryIPsResponse
      */
     public PrimaryIPsResponse getPrimaryIPs(String labelSelector, PaginationParameters paginationParameters) {
-        return get(
-                UrlBuilder.from("%s/primary_ips".formatted(apiUrl))
-                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
-                PrimaryIPsResponse.class);
+        return await(blockingAPI.getPrimaryIPs(labelSelector, paginationParameters));
+    }
+
+    /**
+     * Get all Primary IPs in a project.
+     * <p>
+     * Unlike {@link #getPrimaryIPs()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @return all Primary IPs
+     */
+    public List<PrimaryIP> listAllPrimaryIPs() {
+        return Paginator.join(asyncAPI.listAllPrimaryIPs());
+    }
+
+    /**
+     * Get all Primary IPs in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getPrimaryIPs(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @param labelSelector Label selector
+     * @return all Primary IPs which match the label selector
+     */
+    public List<PrimaryIP> listAllPrimaryIPs(String labelSelector) {
+        return Paginator.join(asyncAPI.listAllPrimaryIPs(labelSelector));
     }
 
     /**
@@ -924,11 +1247,7 @@ public class HetznerCloudAPI {
      * @return PrimaryIPsResponse
      */
     public PrimaryIPsResponse getPrimaryIPByName(String name) {
-        return get(
-                UrlBuilder.from("%s/primary_ips".formatted(apiUrl))
-                        .queryParam("name", name)
-                        .toUri(),
-                PrimaryIPsResponse.class);
+        return await(blockingAPI.getPrimaryIPByName(name));
     }
 
     /**
@@ -938,11 +1257,7 @@ public class HetznerCloudAPI {
      * @return PrimaryIPsResponse
      */
     public PrimaryIPsResponse getPrimaryIP(String ip) {
-        return get(
-                UrlBuilder.from("%s/primary_ips".formatted(apiUrl))
-                        .queryParam("ip", ip)
-                        .toUri(),
-                PrimaryIPsResponse.class);
+        return await(blockingAPI.getPrimaryIP(ip));
     }
 
     /**
@@ -952,9 +1267,7 @@ public class HetznerCloudAPI {
      * @return PrimaryIPResponse
      */
     public PrimaryIPResponse getPrimaryIP(long id) {
-        return get(
-                "%s/primary_ips/%s".formatted(apiUrl, id),
-                PrimaryIPResponse.class);
+        return await(blockingAPI.getPrimaryIP(id));
     }
 
     /**
@@ -964,10 +1277,7 @@ public class HetznerCloudAPI {
      * @return CreatePrimaryIPResponse
      */
     public CreatePrimaryIPResponse createPrimaryIP(CreatePrimaryIPRequest createPrimaryIPRequest) {
-        return post(
-                "%s/primary_ips".formatted(apiUrl),
-                createPrimaryIPRequest,
-                CreatePrimaryIPResponse.class);
+        return await(blockingAPI.createPrimaryIP(createPrimaryIPRequest));
     }
 
     /**
@@ -976,10 +1286,7 @@ public class HetznerCloudAPI {
      * @return PrimaryIPResponse
      */
     public PrimaryIPResponse updatePrimaryIP(long id, UpdatePrimaryIPRequest updatePrimaryIPRequest) {
-        return put(
-                "%s/primary_ips/%s".formatted(apiUrl, id),
-                updatePrimaryIPRequest,
-                PrimaryIPResponse.class);
+        return await(blockingAPI.updatePrimaryIP(id, updatePrimaryIPRequest));
     }
 
     /**
@@ -990,10 +1297,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse
      */
     public ActionResponse assignPrimaryIP(long id, AssignPrimaryIPRequest assignPrimaryIPRequest) {
-        return post(
-                "%s/primary_ips/%s/actions/assign".formatted(apiUrl, id),
-                assignPrimaryIPRequest,
-                ActionResponse.class);
+        return await(blockingAPI.assignPrimaryIP(id, assignPrimaryIPRequest));
     }
 
     /**
@@ -1003,9 +1307,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse
      */
     public ActionResponse unassignPrimaryIP(long id) {
-        return post(
-                "%s/primary_ips/%s/actions/unassign".formatted(apiUrl, id),
-                ActionResponse.class);
+        return await(blockingAPI.unassignPrimaryIP(id));
     }
 
     /**
@@ -1016,17 +1318,11 @@ public class HetznerCloudAPI {
      * @return ActionResponse
      */
     public ActionResponse changePrimaryIPReverseDNS(long id, ChangeReverseDNSRequest changeReverseDNSRequest) {
-        return post(
-                "%s/primary_ips/%s/actions/change_dns_ptr".formatted(apiUrl, id),
-                changeReverseDNSRequest,
-                ActionResponse.class);
+        return await(blockingAPI.changePrimaryIPReverseDNS(id, changeReverseDNSRequest));
     }
 
     public ActionResponse changePrimaryIPProtection(long id, ChangeProtectionRequest changeProtectionRequest) {
-        return post(
-                "%s/primary_ips/%s/actions/change_protection".formatted(apiUrl, id),
-                changeProtectionRequest,
-                ActionResponse.class);
+        return await(blockingAPI.changePrimaryIPProtection(id, changeProtectionRequest));
     }
 
     /**
@@ -1036,9 +1332,7 @@ public class HetznerCloudAPI {
      * @return nothing
      */
     public String deletePrimaryIP(Long id) {
-        return delete(
-                "%s/primary_ips/%s".formatted(apiUrl, id),
-                String.class);
+        return await(blockingAPI.deletePrimaryIP(id));
     }
 
     /**
@@ -1080,13 +1374,32 @@ public class HetznerCloudAPI {
      * @return FloatingIPsResponse
      */
     public FloatingIPsResponse getFloatingIPs(String labelSelector, PaginationParameters paginationParameters) {
-        return get(
-                UrlBuilder.from("%s/floating_ips".formatted(apiUrl))
-                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
-                FloatingIPsResponse.class);
+        return await(blockingAPI.getFloatingIPs(labelSelector, paginationParameters));
+    }
+
+    /**
+     * Get all Floating IPs in a project.
+     * <p>
+     * Unlike {@link #getFloatingIPs()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @return all Floating IPs
+     */
+    public List<FloatingIP> listAllFloatingIPs() {
+        return Paginator.join(asyncAPI.listAllFloatingIPs());
+    }
+
+    /**
+     * Get all Floating IPs in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getFloatingIPs(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @param labelSelector Label selector
+     * @return all Floating IPs which match the label selector
+     */
+    public List<FloatingIP> listAllFloatingIPs(String labelSelector) {
+        return Paginator.join(asyncAPI.listAllFloatingIPs(labelSelector));
     }
 
     /**
@@ -1096,9 +1409,7 @@ public class HetznerCloudAPI {
      * @return GetFloatingIPResponse
      */
     public FloatingIPResponse getFloatingIP(long id) {
-        return get(
-                "%s/floating_ips/%s".formatted(apiUrl, id),
-                FloatingIPResponse.class);
+        return await(blockingAPI.getFloatingIP(id));
     }
 
     /**
@@ -1108,10 +1419,7 @@ public class HetznerCloudAPI {
      * @return FloatingIPResponse object
      */
     public CreateFloatingIPResponse createFloatingIP(CreateFloatingIPRequest createFloatingIPRequest) {
-        return post(
-                "%s/floating_ips".formatted(apiUrl),
-                createFloatingIPRequest,
-                CreateFloatingIPResponse.class);
+        return await(blockingAPI.createFloatingIP(createFloatingIPRequest));
     }
 
     /**
@@ -1122,10 +1430,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse object
      */
     public ActionResponse changeFloatingIPProtection(long id, ChangeProtectionRequest protectionRequest) {
-        return post(
-                "%s/floating_ips/%s/actions/change_protection".formatted(apiUrl, id),
-                protectionRequest,
-                ActionResponse.class);
+        return await(blockingAPI.changeFloatingIPProtection(id, protectionRequest));
     }
 
     /**
@@ -1136,10 +1441,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse object
      */
     public ActionResponse assignFloatingIP(long id, AssignFloatingIPRequest assignFloatingIPRequest) {
-        return post(
-                "%s/floating_ips/%s/actions/assign".formatted(apiUrl, id),
-                assignFloatingIPRequest,
-                ActionResponse.class);
+        return await(blockingAPI.assignFloatingIP(id, assignFloatingIPRequest));
     }
 
     /**
@@ -1149,9 +1451,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse object
      */
     public ActionResponse unassignFloatingIP(long id) {
-        return post(
-                "%s/floating_ips/%s/actions/unassign".formatted(apiUrl, id),
-                ActionResponse.class);
+        return await(blockingAPI.unassignFloatingIP(id));
     }
 
     /**
@@ -1162,10 +1462,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse object
      */
     public ActionResponse changeFloatingReverseDNS(long id, ChangeReverseDNSRequest changeReverseDNSRequest) {
-        return post(
-                "%s/floating_ips/%s/actions/change_dns_ptr".formatted(apiUrl, id),
-                changeReverseDNSRequest,
-                ActionResponse.class);
+        return await(blockingAPI.changeFloatingReverseDNS(id, changeReverseDNSRequest));
     }
 
     /**
@@ -1177,9 +1474,7 @@ public class HetznerCloudAPI {
      * @return String
      */
     public String deleteFloatingIP(long id) {
-        return delete(
-                "%s/floating_ips/%s".formatted(apiUrl, id),
-                String.class);
+        return await(blockingAPI.deleteFloatingIP(id));
     }
 
     /**
@@ -1190,10 +1485,7 @@ public class HetznerCloudAPI {
      * @return Response from API (Action will be null)
      */
     public CreateFloatingIPResponse updateFloatingIP(long id, UpdateFloatingIPRequest updateFloatingIPRequest) {
-        return put(
-                "%s/floating_ips/%s".formatted(apiUrl, id),
-                updateFloatingIPRequest,
-                CreateFloatingIPResponse.class);
+        return await(blockingAPI.updateFloatingIP(id, updateFloatingIPRequest));
     }
 
     /**
@@ -1233,13 +1525,32 @@ public class HetznerCloudAPI {
      * @return SSHKeysResponse
      */
     public SSHKeysResponse getSSHKeys(String labelSelector, PaginationParameters paginationParameters) {
-        return get(
-                UrlBuilder.from("%s/ssh_keys".formatted(apiUrl))
-                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
-                SSHKeysResponse.class);
+        return await(blockingAPI.getSSHKeys(labelSelector, paginationParameters));
+    }
+
+    /**
+     * Get all SSH keys in a project.
+     * <p>
+     * Unlike {@link #getSSHKeys()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @return all SSH keys
+     */
+    public List<SSHKey> listAllSSHKeys() {
+        return Paginator.join(asyncAPI.listAllSSHKeys());
+    }
+
+    /**
+     * Get all SSH keys in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getSSHKeys(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @param labelSelector Label selector
+     * @return all SSH keys which match the label selector
+     */
+    public List<SSHKey> listAllSSHKeys(String labelSelector) {
+        return Paginator.join(asyncAPI.listAllSSHKeys(labelSelector));
     }
 
     /**
@@ -1249,9 +1560,7 @@ public class HetznerCloudAPI {
      * @return SSHKeyResponse
      */
     public SSHKeyResponse getSSHKey(long id) {
-        return get(
-                "%s/ssh_keys/%s".formatted(apiUrl, id),
-                SSHKeyResponse.class);
+        return await(blockingAPI.getSSHKey(id));
     }
 
     /**
@@ -1261,11 +1570,7 @@ public class HetznerCloudAPI {
      * @return SSHKeysResponse object
      */
     public SSHKeysResponse getSSHKey(String name) {
-        return get(
-                UrlBuilder.from("%s/ssh_keys".formatted(apiUrl))
-                        .queryParam("name", name)
-                        .toUri(),
-                SSHKeysResponse.class);
+        return await(blockingAPI.getSSHKey(name));
     }
 
     /**
@@ -1275,11 +1580,7 @@ public class HetznerCloudAPI {
      * @return SSHKeysResponse object
      */
     public SSHKeysResponse getSSHKeyByFingerprint(String fingerprint) {
-        return get(
-                UrlBuilder.from("%s/ssh_keys".formatted(apiUrl))
-                        .queryParam("fingerprint", fingerprint)
-                        .toUri(),
-                SSHKeysResponse.class);
+        return await(blockingAPI.getSSHKeyByFingerprint(fingerprint));
     }
 
     /**
@@ -1289,10 +1590,7 @@ public class HetznerCloudAPI {
      * @return SSHKeyResponse object
      */
     public SSHKeyResponse createSSHKey(CreateSSHKeyRequest createSshKeyRequest) {
-        return post(
-                "%s/ssh_keys".formatted(apiUrl),
-                createSshKeyRequest,
-                SSHKeyResponse.class);
+        return await(blockingAPI.createSSHKey(createSshKeyRequest));
     }
 
     /**
@@ -1303,10 +1601,7 @@ public class HetznerCloudAPI {
      * @return SSHKeyResponse object
      */
     public SSHKeyResponse updateSSHKey(long id, UpdateSSHKeyRequest updateSSHKeyRequest) {
-        return put(
-                "%s/ssh_keys/%s".formatted(apiUrl, id),
-                updateSSHKeyRequest,
-                SSHKeyResponse.class);
+        return await(blockingAPI.updateSSHKey(id, updateSSHKeyRequest));
     }
 
     /**
@@ -1318,9 +1613,7 @@ public class HetznerCloudAPI {
      * @return String
      */
     public String deleteSSHKey(long id) {
-        return delete(
-                "%s/ssh_keys/%s".formatted(apiUrl, id),
-                String.class);
+        return await(blockingAPI.deleteSSHKey(id));
     }
 
     /**
@@ -1329,9 +1622,7 @@ public class HetznerCloudAPI {
      * @return ServerTypesResponse object
      */
     public ServerTypesResponse getServerTypes() {
-        return get(
-                "%s/server_types".formatted(apiUrl),
-                ServerTypesResponse.class);
+        return await(blockingAPI.getServerTypes());
     }
 
     /**
@@ -1340,12 +1631,7 @@ public class HetznerCloudAPI {
      * @return ServerTypesResponse object
      */
     public ServerTypesResponse getServerTypes(PaginationParameters paginationParameters) {
-        return get(
-                UrlBuilder.from("%s/server_types".formatted(apiUrl))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
-                ServerTypesResponse.class);
+        return await(blockingAPI.getServerTypes(paginationParameters));
     }
 
     /**
@@ -1354,9 +1640,7 @@ public class HetznerCloudAPI {
      * @return LoadBalancerTypesResponse object
      */
     public LoadBalancerTypesResponse getLoadBalancerTypes() {
-        return get(
-                "%s/load_balancer_types".formatted(apiUrl),
-                LoadBalancerTypesResponse.class);
+        return await(blockingAPI.getLoadBalancerTypes());
     }
 
     /**
@@ -1366,11 +1650,7 @@ public class HetznerCloudAPI {
      * @return LoadBalancerTypesResponse object
      */
     public LoadBalancerTypesResponse getLoadBalancerTypeByName(String name) {
-        return get(
-                UrlBuilder.from("%s/load_balancer_types".formatted(apiUrl))
-                        .queryParam("name", name)
-                        .toUri(),
-                LoadBalancerTypesResponse.class);
+        return await(blockingAPI.getLoadBalancerTypeByName(name));
     }
 
     /**
@@ -1380,7 +1660,7 @@ public class HetznerCloudAPI {
      * @return LoadBalancerTypeResponse
      */
     public LoadBalancerTypeResponse getLoadBalancerType(long id) {
-        return get("%s/load_balancer_types/%s".formatted(apiUrl, id), LoadBalancerTypeResponse.class);
+        return await(blockingAPI.getLoadBalancerType(id));
     }
 
     /**
@@ -1390,11 +1670,7 @@ public class HetznerCloudAPI {
      * @return ServerTypesResponse object
      */
     public ServerTypesResponse getServerTypeByName(String name) {
-        return get(
-                UrlBuilder.from("%s/server_types".formatted(apiUrl))
-                        .queryParam("name", name)
-                        .toUri(),
-                ServerTypesResponse.class);
+        return await(blockingAPI.getServerTypeByName(name));
     }
 
     /**
@@ -1404,9 +1680,7 @@ public class HetznerCloudAPI {
      * @return ServerTypeResponse object
      */
     public ServerTypeResponse getServerType(long id) {
-        return get(
-                "%s/server_types/%s".formatted(apiUrl, id),
-                ServerTypeResponse.class);
+        return await(blockingAPI.getServerType(id));
     }
 
     /**
@@ -1415,9 +1689,7 @@ public class HetznerCloudAPI {
      * @return LocationsResponse object
      */
     public LocationsResponse getLocations() {
-        return get(
-                "%s/locations".formatted(apiUrl),
-                LocationsResponse.class);
+        return await(blockingAPI.getLocations());
     }
 
     /**
@@ -1427,11 +1699,7 @@ public class HetznerCloudAPI {
      * @return LocationsResponse object
      */
     public LocationsResponse getLocationByName(String name) {
-        return get(
-                UrlBuilder.from("%s/locations".formatted(apiUrl))
-                        .queryParam("name", name)
-                        .toUri(),
-                LocationsResponse.class);
+        return await(blockingAPI.getLocationByName(name));
     }
 
     /**
@@ -1441,15 +1709,14 @@ public class HetznerCloudAPI {
      * @return LocationResponse object
      */
     public LocationResponse getLocation(long id) {
-        return get(
-                "%s/locations/%s".formatted(apiUrl, id),
-                LocationResponse.class);
+        return await(blockingAPI.getLocation(id));
     }
 
     /**
-     * Get all available images.
+     * Get the first page of available images.
      *
      * @return ImagesResponse object
+     * @see #listAllImages()
      */
     public ImagesResponse getImages() {
         return getImages(null, null, new PaginationParameters(null, null));
@@ -1517,67 +1784,109 @@ public class HetznerCloudAPI {
      * @return {@link ImagesResponse}
      */
     public ImagesResponse getImages(String labelSelector, Architecture architecture, PaginationParameters paginationParameters) {
-        return get(
-                UrlBuilder.from("%s/images".formatted(apiUrl))
-                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
-                        .queryParamIfPresent("architecture", Optional.ofNullable(architecture))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
-                ImagesResponse.class);
+        return await(blockingAPI.getImages(labelSelector, architecture, paginationParameters));
     }
 
     /**
-     * Get all images by type.
+     * Get all images in a project.
+     * <p>
+     * Unlike {@link #getImages()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
      *
-     * @param type Type of image
-     * @return ImagesResponse object
+     * @return all images
      */
-    public ImagesResponse getImagesByType(ImageType type) {
-        return getImagesByType(type, new PaginationParameters(null, null));
+    public List<Image> listAllImages() {
+        return Paginator.join(asyncAPI.listAllImages());
     }
 
     /**
-     * Get all images by type.
+     * Get all images in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getImages(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
      *
-     * @param type                 Type of image
-     * @param paginationParameters Pagination parametres
-     * @return ImagesResponse object
+     * @param labelSelector Label selector
+     * @return all images which match the label selector
      */
-    public ImagesResponse getImagesByType(ImageType type, PaginationParameters paginationParameters) {
-        return get(
-                UrlBuilder.from("%s/images".formatted(apiUrl))
-                        .queryParam("type", type.toString())
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
-                ImagesResponse.class);
+    public List<Image> listAllImages(String labelSelector) {
+        return Paginator.join(asyncAPI.listAllImages(labelSelector));
     }
 
     /**
-     * Get an image by name.
+     * Stream all images in a project to a consumer.
+     * <p>
+     * Every page is parsed directly from the response body and each image is handed to the consumer as soon as
+     * it has been read, so only a single image is held in memory at a time.
      *
-     * @param name Name of the image
-     * @return ImagesResponse object
+     * @param consumer Consumer which is called for every image
      */
-    public ImagesResponse getImageByName(String name) {
-        return get(
-                UrlBuilder.from("%s/images".formatted(apiUrl))
-                        .queryParam("name", name)
-                        .toUri(),
-                ImagesResponse.class);
+    public void forEachImage(Consumer<? super Image> consumer) {
+        forEachImage(null, consumer);
     }
 
     /**
-     * Get image by ID.
+     * Stream all images in a project which match a label selector to a consumer.
      *
-     * @param id ID of the image
+     * @param labelSelector Label selector
+     * @param consumer Consumer which is called for every matching image
+     * @see #forEachImage(Consumer)
+     */
+    public void forEachImage(String labelSelector, Consumer<? super Image> consumer) {
+        await(blockingAPI.forEachImage(labelSelector, consumer));
+    }
+
+    /**
+     * Get all images by type.
+     *
+     * @param type Type of image
+     * @return ImagesResponse object
+     */
+    public ImagesResponse getImagesByType(ImageType type) {
+        return getImagesByType(type, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all images by type.
+     *
+     * @param type                 Type of image
+     * @param paginationParameters Pagination parametres
+     * @return ImagesResponse object
+     */
+    public ImagesResponse getImagesByType(ImageType type, PaginationParameters paginationParameters) {
+        return await(blockingAPI.getImagesByType(type, paginationParameters));
+    }
+
+    /**
+     * Get all images of a type.
+     * <p>
+     * Unlike {@link #getImagesByType(ImageType)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @param type Type of image
+     * @return all images of the type
+     */
+    public List<Image> listAllImagesByType(ImageType type) {
+        return Paginator.join(asyncAPI.listAllImagesByType(type));
+    }
+
+    /**
+     * Get an image by name.
+     *
+     * @param name Name of the image
+     * @return ImagesResponse object
+     */
+    public ImagesResponse getImageByName(String name) {
+        return await(blockingAPI.getImageByName(name));
+    }
+
+    /**
+     * Get image by ID.
+     *
+     * @param id ID of the image
      * @return ImageResponse object
      */
     public ImageResponse getImage(long id) {
-        return get(
-                "%s/images/%s".formatted(apiUrl, id),
-                ImageResponse.class);
+        return await(blockingAPI.getImage(id));
     }
 
     /**
@@ -1588,10 +1897,7 @@ public class HetznerCloudAPI {
      * @return ImageResponse object
      */
     public ImageResponse updateImage(long id, UpdateImageRequest updateImageRequest) {
-        return put(
-                "%s/images/%s".formatted(apiUrl, id),
-                updateImageRequest,
-                ImageResponse.class);
+        return await(blockingAPI.updateImage(id, updateImageRequest));
     }
 
     /**
@@ -1603,15 +1909,14 @@ public class HetznerCloudAPI {
      * @return String
      */
     public String deleteImage(long id) {
-        return delete(
-                "%s/images/%s".formatted(apiUrl, id),
-                String.class);
+        return await(blockingAPI.deleteImage(id));
     }
 
     /**
-     * Get all volumes in a project.
+     * Get the first page of volumes in a project.
      *
      * @return VolumesResponse
+     * @see #listAllVolumes()
      */
     public VolumesResponse getVolumes() {
         return getVolumes(null, new PaginationParameters(null, null));
@@ -1645,13 +1950,32 @@ public class HetznerCloudAPI {
      * @return VolumesResponse
      */
     public VolumesResponse getVolumes(String labelSelector, PaginationParameters paginationParameters) {
-        return get(
-                UrlBuilder.from("%s/volumes".formatted(apiUrl))
-                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
-                VolumesResponse.class);
+        return await(blockingAPI.getVolumes(labelSelector, paginationParameters));
+    }
+
+    /**
+     * Get all volumes in a project.
+     * <p>
+     * Unlike {@link #getVolumes()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @return all volumes
+     */
+    public List<Volume> listAllVolumes() {
+        return Paginator.join(asyncAPI.listAllVolumes());
+    }
+
+    /**
+     * Get all volumes in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getVolumes(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @param labelSelector Label selector
+     * @return all volumes which match the label selector
+     */
+    public List<Volume> listAllVolumes(String labelSelector) {
+        return Paginator.join(asyncAPI.listAllVolumes(labelSelector));
     }
 
     /**
@@ -1661,9 +1985,7 @@ public class HetznerCloudAPI {
      * @return Volume object
      */
     public VolumeResponse getVolume(long id) {
-        return get(
-                "%s/volumes/%s".formatted(apiUrl, id),
-                VolumeResponse.class);
+        return await(blockingAPI.getVolume(id));
     }
 
     /**
@@ -1673,12 +1995,7 @@ public class HetznerCloudAPI {
      * @return Volume object with action
      */
     public CreateVolumeResponse createVolume(CreateVolumeRequest createVolumeRequest) {
-        if ((createVolumeRequest.getFormat() != null))
-            createVolumeRequest.setFormat(createVolumeRequest.getFormat().toLowerCase());   // case-sensitive fix
-        return post(
-                "%s/volumes".formatted(apiUrl),
-                createVolumeRequest,
-                CreateVolumeResponse.class);
+        return await(blockingAPI.createVolume(createVolumeRequest));
     }
 
     /**
@@ -1689,10 +2006,7 @@ public class HetznerCloudAPI {
      * @return GetVolume object
      */
     public VolumeResponse updateVolume(long id, UpdateVolumeRequest updateVolumeRequest) {
-        return put(
-                "%s/volumes/%s".formatted(apiUrl, id),
-                updateVolumeRequest,
-                VolumeResponse.class);
+        return await(blockingAPI.updateVolume(id, updateVolumeRequest));
     }
 
     /**
@@ -1702,9 +2016,7 @@ public class HetznerCloudAPI {
      * @return no return object
      */
     public String deleteVolume(long id) {
-        return delete(
-                "%s/volumes/%s".formatted(apiUrl, id),
-                String.class);
+        return await(blockingAPI.deleteVolume(id));
     }
 
     /**
@@ -1714,9 +2026,7 @@ public class HetznerCloudAPI {
      * @return Action array
      */
     public ActionsResponse getVolumeActions(long id) {
-        return get(
-                "%s/volumes/%s/actions".formatted(apiUrl, id),
-                ActionsResponse.class);
+        return await(blockingAPI.getVolumeActions(id));
     }
 
     /**
@@ -1727,10 +2037,7 @@ public class HetznerCloudAPI {
      * @return Action object
      */
     public ActionResponse attachVolumeToServer(long id, AttachVolumeRequest attachVolumeRequest) {
-        return post(
-                "%s/volumes/%s/actions/attach".formatted(apiUrl, id),
-                attachVolumeRequest,
-                ActionResponse.class);
+        return await(blockingAPI.attachVolumeToServer(id, attachVolumeRequest));
     }
 
     /**
@@ -1740,9 +2047,7 @@ public class HetznerCloudAPI {
      * @return Action object
      */
     public ActionResponse detachVolume(long id) {
-        return post(
-                "%s/volumes/%s/actions/detach".formatted(apiUrl, id),
-                ActionResponse.class);
+        return await(blockingAPI.detachVolume(id));
     }
 
     /**
@@ -1754,10 +2059,7 @@ public class HetznerCloudAPI {
      * @return Action object
      */
     public ActionResponse resizeVolume(long id, ResizeVolumeRequest resizeVolumeRequest) {
-        return post(
-                "%s/volumes/%s/actions/resize".formatted(apiUrl, id),
-                resizeVolumeRequest,
-                ActionResponse.class);
+        return await(blockingAPI.resizeVolume(id, resizeVolumeRequest));
     }
 
     /**
@@ -1769,10 +2071,7 @@ public class HetznerCloudAPI {
      * @return Action object
      */
     public ActionResponse changeVolumeProtection(long id, ChangeProtectionRequest changeProtectionRequest) {
-        return post(
-                "%s/volumes/%s/actions/change_protection".formatted(apiUrl, id),
-                changeProtectionRequest,
-                ActionResponse.class);
+        return await(blockingAPI.changeVolumeProtection(id, changeProtectionRequest));
     }
 
     /**
@@ -1812,13 +2111,32 @@ public class HetznerCloudAPI {
      * @return NetworksResponse
      */
     public NetworksResponse getNetworks(String labelSelector, PaginationParameters paginationParameters) {
-        return get(
-                UrlBuilder.from("%s/networks".formatted(apiUrl))
-                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
-                NetworksResponse.class);
+        return await(blockingAPI.getNetworks(labelSelector, paginationParameters));
+    }
+
+    /**
+     * Get all private networks in a project.
+     * <p>
+     * Unlike {@link #getNetworks()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @return all private networks
+     */
+    public List<Network> listAllNetworks() {
+        return Paginator.join(asyncAPI.listAllNetworks());
+    }
+
+    /**
+     * Get all private networks in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getNetworks(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @param labelSelector Label selector
+     * @return all private networks which match the label selector
+     */
+    public List<Network> listAllNetworks(String labelSelector) {
+        return Paginator.join(asyncAPI.listAllNetworks(labelSelector));
     }
 
     /**
@@ -1828,11 +2146,7 @@ public class HetznerCloudAPI {
      * @return Response from API
      */
     public NetworksResponse getNetworksByName(String name) {
-        return get(
-                UrlBuilder.from("%s/networks".formatted(apiUrl))
-                        .queryParam("name", name)
-                        .toUri(),
-                NetworksResponse.class);
+        return await(blockingAPI.getNetworksByName(name));
     }
 
     /**
@@ -1842,9 +2156,7 @@ public class HetznerCloudAPI {
      * @return Response from API
      */
     public NetworkResponse getNetwork(long id) {
-        return get(
-                "%s/networks/%s".formatted(apiUrl, id),
-                NetworkResponse.class);
+        return await(blockingAPI.getNetwork(id));
     }
 
     /**
@@ -1855,10 +2167,7 @@ public class HetznerCloudAPI {
      * @return Response from API
      */
     public NetworkResponse updateNetwork(long id, UpdateNetworkRequest updateNetworkRequest) {
-        return put(
-                "%s/networks/%s".formatted(apiUrl, id),
-                updateNetworkRequest,
-                NetworkResponse.class);
+        return await(blockingAPI.updateNetwork(id, updateNetworkRequest));
     }
 
 
@@ -1869,10 +2178,7 @@ public class HetznerCloudAPI {
      * @return Response from API
      */
     public NetworkResponse createNetwork(CreateNetworkRequest createNetworkRequest) {
-        return post(
-                "%s/networks".formatted(apiUrl),
-                createNetworkRequest,
-                NetworkResponse.class);
+        return await(blockingAPI.createNetwork(createNetworkRequest));
     }
 
     /**
@@ -1882,9 +2188,7 @@ public class HetznerCloudAPI {
      * @return There is no response.
      */
     public String deleteNetwork(long id) {
-        return delete(
-                "%s/networks/%s".formatted(apiUrl, id),
-                String.class);
+        return await(blockingAPI.deleteNetwork(id));
     }
 
     /**
@@ -1895,10 +2199,7 @@ public class HetznerCloudAPI {
      * @return Response from API
      */
     public ActionResponse attachServerToNetwork(long id, AttachServerToNetworkRequest attachServerToNetworkRequest) {
-        return post(
-                "%s/servers/%s/actions/attach_to_network".formatted(apiUrl, id),
-                attachServerToNetworkRequest,
-                ActionResponse.class);
+        return await(blockingAPI.attachServerToNetwork(id, attachServerToNetworkRequest));
     }
 
 
@@ -1910,10 +2211,7 @@ public class HetznerCloudAPI {
      * @return Response from API
      */
     public ActionResponse detachServerFromNetwork(long id, DetachServerFromNetworkRequest detachServerFromNetworkRequest) {
-        return post(
-                "%s/servers/%s/actions/detach_from_network".formatted(apiUrl, id),
-                detachServerFromNetworkRequest,
-                ActionResponse.class);
+        return await(blockingAPI.detachServerFromNetwork(id, detachServerFromNetworkRequest));
     }
 
     /**
@@ -1924,10 +2222,7 @@ public class HetznerCloudAPI {
      * @return Response from API
      */
     public ActionResponse changeAliasIPsOfNetwork(long id, ChangeAliasIPsofNetworkRequest changeAliasIPsofNetworkRequest) {
-        return post(
-                "%s/servers/%s/actions/change_alias_ips".formatted(apiUrl, id),
-                changeAliasIPsofNetworkRequest,
-                ActionResponse.class);
+        return await(blockingAPI.changeAliasIPsOfNetwork(id, changeAliasIPsofNetworkRequest));
     }
 
     /**
@@ -1938,10 +2233,7 @@ public class HetznerCloudAPI {
      * @return Response from API
      */
     public ActionResponse changeNetworkProtection(long id, ChangeProtectionRequest changeProtection) {
-        return post(
-                "%s/networks/%s/actions/change_protection".formatted(apiUrl, id),
-                changeProtection,
-                ActionResponse.class);
+        return await(blockingAPI.changeNetworkProtection(id, changeProtection));
     }
 
     /**
@@ -1951,9 +2243,7 @@ public class HetznerCloudAPI {
      * @return Response from API
      */
     public ActionsResponse getNetworkActions(long id) {
-        return get(
-                "%s/networks/%s/actions".formatted(apiUrl, id),
-                ActionsResponse.class);
+        return await(blockingAPI.getNetworkActions(id));
     }
 
     /**
@@ -1964,10 +2254,7 @@ public class HetznerCloudAPI {
      * @return Response from API
      */
     public ActionResponse addSubnetToNetwork(long id, AddSubnetToNetworkRequest addSubnetToNetworkRequest) {
-        return post(
-                "%s/networks/%s/actions/add_subnet".formatted(apiUrl, id),
-                addSubnetToNetworkRequest,
-                ActionResponse.class);
+        return await(blockingAPI.addSubnetToNetwork(id, addSubnetToNetworkRequest));
     }
 
     /**
@@ -1978,10 +2265,7 @@ public class HetznerCloudAPI {
      * @return Response from API
      */
     public ActionResponse deleteSubnetFromNetwork(long id, DeleteSubnetFromNetwork deleteSubnetFromNetwork) {
-        return post(
-                "%s/networks/%s/actions/delete_subnet".formatted(apiUrl, id),
-                deleteSubnetFromNetwork,
-                ActionResponse.class);
+        return await(blockingAPI.deleteSubnetFromNetwork(id, deleteSubnetFromNetwork));
     }
 
     /**
@@ -1992,10 +2276,7 @@ public class HetznerCloudAPI {
      * @return Response from API
      */
     public ActionResponse addRouteToNetwork(long id, NetworkRouteRequest networkRouteRequest) {
-        return post(
-                "%s/networks/%s/actions/add_route".formatted(apiUrl, id),
-                networkRouteRequest,
-                ActionResponse.class);
+        return await(blockingAPI.addRouteToNetwork(id, networkRouteRequest));
     }
 
     /**
@@ -2006,10 +2287,7 @@ public class HetznerCloudAPI {
      * @return Response from API
      */
     public ActionResponse deleteRouteFromNetwork(long id, NetworkRouteRequest networkRouteRequest) {
-        return post(
-                "%s/networks/%s/actions/delete_route".formatted(apiUrl, id),
-                networkRouteRequest,
-                ActionResponse.class);
+        return await(blockingAPI.deleteRouteFromNetwork(id, networkRouteRequest));
     }
 
     /**
@@ -2021,10 +2299,7 @@ public class HetznerCloudAPI {
      * @return Response from API
      */
     public ActionResponse changeIPRangeOfNetwork(long id, ChangeIPRangeOfNetwork changeIPRangeOfNetwork) {
-        return post(
-                "%s/networks/%s/actions/change_ip_range".formatted(apiUrl, id),
-                changeIPRangeOfNetwork,
-                ActionResponse.class);
+        return await(blockingAPI.changeIPRangeOfNetwork(id, changeIPRangeOfNetwork));
     }
 
     /**
@@ -2043,12 +2318,7 @@ public class HetznerCloudAPI {
      * @return CertificatesResponse
      */
     public CertificatesResponse getCertificates(PaginationParameters paginationParameters) {
-        return get(
-                UrlBuilder.from("%s/certificates".formatted(apiUrl))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
-                CertificatesResponse.class);
+        return await(blockingAPI.getCertificates(paginationParameters));
     }
 
     /**
@@ -2071,13 +2341,32 @@ public class HetznerCloudAPI {
      * @return CertificatesResponse
      */
     public CertificatesResponse getCertificates(String labelSelector, PaginationParameters paginationParameters) {
-        return get(
-                UrlBuilder.from("%s/certificates".formatted(apiUrl))
-                        .queryParam("label_selector", labelSelector)
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
-                CertificatesResponse.class);
+        return await(blockingAPI.getCertificates(labelSelector, paginationParameters));
+    }
+
+    /**
+     * Get all certificates in a project.
+     * <p>
+     * Unlike {@link #getCertificates()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @return all certificates
+     */
+    public List<Certificate> listAllCertificates() {
+        return Paginator.join(asyncAPI.listAllCertificates());
+    }
+
+    /**
+     * Get all certificates in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getCertificates(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @param labelSelector Label selector
+     * @return all certificates which match the label selector
+     */
+    public List<Certificate> listAllCertificates(String labelSelector) {
+        return Paginator.join(asyncAPI.listAllCertificates(labelSelector));
     }
 
     /**
@@ -2087,11 +2376,7 @@ public class HetznerCloudAPI {
      * @return CertificatesResponse
      */
     public CertificatesResponse getCertificate(String name) {
-        return get(
-                UrlBuilder.from("%s/certificates".formatted(apiUrl))
-                        .queryParam("name", name)
-                        .toUri(),
-                CertificatesResponse.class);
+        return await(blockingAPI.getCertificate(name));
     }
 
     /**
@@ -2101,9 +2386,7 @@ public class HetznerCloudAPI {
      * @return CertificateResponse
      */
     public CertificateResponse getCertificate(long id) {
-        return get(
-                "%s/certificates/%s".formatted(apiUrl, id),
-                CertificateResponse.class);
+        return await(blockingAPI.getCertificate(id));
     }
 
     /**
@@ -2113,10 +2396,7 @@ public class HetznerCloudAPI {
      * @return CertificateResponse
      */
     public CertificateResponse createCertificate(CreateCertificateRequest createCertificateRequest) {
-        return post(
-                "%s/certificates".formatted(apiUrl),
-                createCertificateRequest,
-                CertificateResponse.class);
+        return await(blockingAPI.createCertificate(createCertificateRequest));
     }
 
     /**
@@ -2131,10 +2411,7 @@ public class HetznerCloudAPI {
      * @return CertificateResponse
      */
     public CertificateResponse updateCertificate(long id, UpdateCertificateRequest updateCertificateRequest) {
-        return put(
-                "%s/certificates/%s".formatted(apiUrl, id),
-                updateCertificateRequest,
-                CertificateResponse.class);
+        return await(blockingAPI.updateCertificate(id, updateCertificateRequest));
     }
 
     /**
@@ -2147,9 +2424,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse
      */
     public ActionResponse retryCertificate(long id) {
-        return post(
-                "%s/certificates/%s/actions/retry".formatted(apiUrl, id),
-                ActionResponse.class);
+        return await(blockingAPI.retryCertificate(id));
     }
 
     /**
@@ -2159,9 +2434,7 @@ public class HetznerCloudAPI {
      * @return nothing...
      */
     public String deleteCertificate(long id) {
-        return delete(
-                "%s/certificates/%s".formatted(apiUrl, id),
-                String.class);
+        return await(blockingAPI.deleteCertificate(id));
     }
 
     /**
@@ -2179,11 +2452,7 @@ public class HetznerCloudAPI {
      * @return LoadBalancersResponse
      */
     public LoadBalancersResponse getLoadBalancerByName(String name) {
-        return get(
-            UrlBuilder.from("%s/load_balancers".formatted(apiUrl))
-                    .queryParam("name", name)
-                    .toUri(),
-            LoadBalancersResponse.class);
+        return await(blockingAPI.getLoadBalancerByName(name));
     }
 
     /**
@@ -2204,13 +2473,32 @@ public class HetznerCloudAPI {
      * @return LoadBalancersResponse
      */
     public LoadBalancersResponse getLoadBalancers(String labelSelector, PaginationParameters paginationParameters) {
-        return get(
-                UrlBuilder.from("%s/load_balancers".formatted(apiUrl))
-                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
-                LoadBalancersResponse.class);
+        return await(blockingAPI.getLoadBalancers(labelSelector, paginationParameters));
+    }
+
+    /**
+     * Get all Load Balancers in a project.
+     * <p>
+     * Unlike {@link #getLoadBalancers()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @return all Load Balancers
+     */
+    public List<LoadBalancer> listAllLoadBalancers() {
+        return Paginator.join(asyncAPI.listAllLoadBalancers());
+    }
+
+    /**
+     * Get all Load Balancers in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getLoadBalancers(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @param labelSelector Label selector
+     * @return all Load Balancers which match the label selector
+     */
+    public List<LoadBalancer> listAllLoadBalancers(String labelSelector) {
+        return Paginator.join(asyncAPI.listAllLoadBalancers(labelSelector));
     }
 
     /**
@@ -2220,9 +2508,7 @@ public class HetznerCloudAPI {
      * @return LoadBalancerResponse
      */
     public LoadBalancerResponse getLoadBalancer(long id) {
-        return get(
-                "%s/load_balancers/%s".formatted(apiUrl, id),
-                LoadBalancerResponse.class);
+        return await(blockingAPI.getLoadBalancer(id));
     }
 
     /**
@@ -2232,10 +2518,7 @@ public class HetznerCloudAPI {
      * @return LoadBalancerResponse
      */
     public LoadBalancerResponse createLoadBalancer(CreateLoadBalancerRequest createLoadBalancerRequest) {
-        return post(
-                "%s/load_balancers".formatted(apiUrl),
-                createLoadBalancerRequest,
-                LoadBalancerResponse.class);
+        return await(blockingAPI.createLoadBalancer(createLoadBalancerRequest));
     }
 
     /**
@@ -2246,10 +2529,7 @@ public class HetznerCloudAPI {
      * @return LoadBalancerResponse
      */
     public LoadBalancerResponse updateLoadBalancer(long id, UpdateLoadBalancerRequest updateLoadBalancerRequest) {
-        return put(
-                "%s/load_balancers/%s".formatted(apiUrl, id),
-                updateLoadBalancerRequest,
-                LoadBalancerResponse.class);
+        return await(blockingAPI.updateLoadBalancer(id, updateLoadBalancerRequest));
     }
 
     /**
@@ -2259,9 +2539,7 @@ public class HetznerCloudAPI {
      * @return nothing
      */
     public String deleteLoadBalancer(long id) {
-        return delete(
-                "%s/load_balancers/%s".formatted(apiUrl, id),
-                String.class);
+        return await(blockingAPI.deleteLoadBalancer(id));
     }
 
     /**
@@ -2271,9 +2549,7 @@ public class HetznerCloudAPI {
      * @return ActionsResponse
      */
     public ActionsResponse getLoadBalancerActions(long id) {
-        return get(
-                "%s/load_balancers/%s/actions".formatted(apiUrl, id),
-                ActionsResponse.class);
+        return await(blockingAPI.getLoadBalancerActions(id));
     }
 
     /**
@@ -2284,10 +2560,7 @@ public class HetznerCloudAPI {
      * @return LoadBalancerResponse
      */
     public LoadBalancerResponse addServiceToLoadBalancer(long id, LBServiceRequest lbServiceRequest) {
-        return post(
-                "%s/load_balancers/%s/actions/add_service".formatted(apiUrl, id),
-                lbServiceRequest,
-                LoadBalancerResponse.class);
+        return await(blockingAPI.addServiceToLoadBalancer(id, lbServiceRequest));
     }
 
     /**
@@ -2298,10 +2571,7 @@ public class HetznerCloudAPI {
      * @return LoadBalancerResponse
      */
     public LoadBalancerResponse updateServiceOfLoadBalancer(long id, LBServiceRequest lbServiceRequest) {
-        return post(
-                "%s/load_balancers/%s/actions/update_service".formatted(apiUrl, id),
-                lbServiceRequest,
-                LoadBalancerResponse.class);
+        return await(blockingAPI.updateServiceOfLoadBalancer(id, lbServiceRequest));
     }
 
     /**
@@ -2312,10 +2582,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse
      */
     public ActionResponse deleteServiceOfLoadBalancer(long id, long listenPort) {
-        return post(
-                "%s/load_balancers/%s/actions/delete_service".formatted(apiUrl, id),
-                new LoadBalancerDeleteServiceRequest(listenPort),
-                ActionResponse.class);
+        return await(blockingAPI.deleteServiceOfLoadBalancer(id, listenPort));
     }
 
     /**
@@ -2326,10 +2593,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse
      */
     public ActionResponse addTargetToLoadBalancer(long id, LBTargetRequest lbTargetRequest) {
-        return post(
-                "%s/load_balancers/%s/actions/add_target".formatted(apiUrl, id),
-                lbTargetRequest,
-                ActionResponse.class);
+        return await(blockingAPI.addTargetToLoadBalancer(id, lbTargetRequest));
     }
 
     /**
@@ -2340,10 +2604,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse
      */
     public ActionResponse removeTargetFromLoadBalancer(long id, LBTargetRequest lbTargetRequest) {
-        return post(
-                "%s/load_balancers/%s/actions/remove_target".formatted(apiUrl, id),
-                lbTargetRequest,
-                ActionResponse.class);
+        return await(blockingAPI.removeTargetFromLoadBalancer(id, lbTargetRequest));
     }
 
     /**
@@ -2354,10 +2615,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse
      */
     public ActionResponse changeAlgorithmOfLoadBalancer(long id, String algorithmType) {
-        return post(
-                "%s/load_balancers/%s/actions/change_algorithm".formatted(apiUrl, id),
-                new LoadBalancerChangeAlgorithmRequest(algorithmType),
-                ActionResponse.class);
+        return await(blockingAPI.changeAlgorithmOfLoadBalancer(id, algorithmType));
     }
 
 
@@ -2369,10 +2627,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse
      */
     public ActionResponse changeTypeOfLoadBalancer(long id, String loadBalancerType) {
-        return post(
-                "%s/load_balancers/%s/actions/change_type".formatted(apiUrl, id),
-                new LoadBalancerChangeTypeRequest(loadBalancerType),
-                ActionResponse.class);
+        return await(blockingAPI.changeTypeOfLoadBalancer(id, loadBalancerType));
     }
 
     /**
@@ -2383,10 +2638,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse
      */
     public ActionResponse attachNetworkToLoadBalancer(long id, LoadBalancerNetworkRequest request) {
-        return post(
-                "%s/load_balancers/%s/actions/attach_to_network".formatted(apiUrl, id),
-                request,
-                ActionResponse.class);
+        return await(blockingAPI.attachNetworkToLoadBalancer(id, request));
     }
 
     /**
@@ -2424,10 +2676,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse
      */
     public ActionResponse detachNetworkFromLoadBalancer(long id, long networkId) {
-        return post(
-                "%s/load_balancers/%s/actions/detach_from_network".formatted(apiUrl, id),
-                new LoadBalancerNetworkRequest(networkId),
-                ActionResponse.class);
+        return await(blockingAPI.detachNetworkFromLoadBalancer(id, networkId));
     }
 
     /**
@@ -2437,9 +2686,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse
      */
     public ActionResponse enablePublicInterfaceOfLoadBalancer(long id) {
-        return post(
-                "%s/load_balancers/%s/actions/enable_public_interface".formatted(apiUrl, id),
-                ActionResponse.class);
+        return await(blockingAPI.enablePublicInterfaceOfLoadBalancer(id));
     }
 
     /**
@@ -2449,10 +2696,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse
      */
     public ActionResponse disablePublicInterfaceOfLoadBalancer(long id) {
-        return post(
-                "%s/load_balancers/%s/actions/disable_public_interface".formatted(apiUrl, id),
-
-                ActionResponse.class);
+        return await(blockingAPI.disablePublicInterfaceOfLoadBalancer(id));
     }
 
     /**
@@ -2463,10 +2707,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse
      */
     public ActionResponse changeProtectionOfLoadBalancer(long id, boolean delete) {
-        return post(
-                "%s/load_balancers/%s/actions/change_protection".formatted(apiUrl, id),
-                new LoadBalancerChangeProtectionRequest(delete),
-                ActionResponse.class);
+        return await(blockingAPI.changeProtectionOfLoadBalancer(id, delete));
     }
 
     /**
@@ -2476,9 +2717,7 @@ public class HetznerCloudAPI {
      * @return PlacementGroupResponse
      */
     public PlacementGroupResponse getPlacementGroup(long id) {
-        return get(
-                "%s/placement_groups/%s".formatted(apiUrl, id),
-                PlacementGroupResponse.class);
+        return await(blockingAPI.getPlacementGroup(id));
     }
 
     /**
@@ -2497,12 +2736,7 @@ public class HetznerCloudAPI {
      * @return PlacementGroupsResponse
      */
     public PlacementGroupsResponse getPlacementGroups(PaginationParameters paginationParameters) {
-        return get(
-                UrlBuilder.from("%s/placement_groups".formatted(apiUrl))
-                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
-                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
-                        .toUri(),
-                PlacementGroupsResponse.class);
+        return await(blockingAPI.getPlacementGroups(paginationParameters));
     }
 
     /**
@@ -2512,12 +2746,7 @@ public class HetznerCloudAPI {
      * @return PlacementGroupsResponse
      */
     public PlacementGroupsResponse getPlacementGroup(String name) {
-        UrlBuilder builder = UrlBuilder.from("%s/placement_groups".formatted(apiUrl))
-                .queryParam("name", name);
-
-        return get(
-                builder.toUri(),
-                PlacementGroupsResponse.class);
+        return await(blockingAPI.getPlacementGroup(name));
     }
 
     /**
@@ -2527,12 +2756,43 @@ public class HetznerCloudAPI {
      * @return PlacementGroupsResponse
      */
     public PlacementGroupsResponse getPlacementGroups(String labelSelector) {
-        UrlBuilder builder = UrlBuilder.from("%s/placement_groups".formatted(apiUrl))
-                .queryParam("label_selector", labelSelector);
+        return await(blockingAPI.getPlacementGroups(labelSelector));
+    }
 
-        return get(
-                builder.toUri(),
-                PlacementGroupsResponse.class);
+    /**
+     * Get placement groups by label selector with pagination.
+     *
+     * @param labelSelector label selector used by resource
+     * @param paginationParameters Pagination parametres
+     * @return PlacementGroupsResponse
+     */
+    public PlacementGroupsResponse getPlacementGroups(String labelSelector, PaginationParameters paginationParameters) {
+        return await(blockingAPI.getPlacementGroups(labelSelector, paginationParameters));
+    }
+
+    /**
+     * Get all placement groups in a project.
+     * <p>
+     * Unlike {@link #getPlacementGroups()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @return all placement groups
+     */
+    public List<PlacementGroup> listAllPlacementGroups() {
+        return Paginator.join(asyncAPI.listAllPlacementGroups());
+    }
+
+    /**
+     * Get all placement groups in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getPlacementGroups(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @param labelSelector Label selector
+     * @return all placement groups which match the label selector
+     */
+    public List<PlacementGroup> listAllPlacementGroups(String labelSelector) {
+        return Paginator.join(asyncAPI.listAllPlacementGroups(labelSelector));
     }
 
     /**
@@ -2542,9 +2802,7 @@ public class HetznerCloudAPI {
      * @return PlacementGroupsResponse
      */
     public PlacementGroupsResponse getPlacementGroup(PlacementGroupType type) {
-        return get(
-                UrlBuilder.from("%s/placement_groups".formatted(apiUrl)).queryParam("type", type.toString()).toUri(),
-                PlacementGroupsResponse.class);
+        return await(blockingAPI.getPlacementGroup(type));
     }
 
     /**
@@ -2554,10 +2812,7 @@ public class HetznerCloudAPI {
      * @return PlacementGroupResponse
      */
     public PlacementGroupResponse createPlacementGroup(CreatePlacementGroupRequest placementGroupRequest) {
-        return post(
-                "%s/placement_groups".formatted(apiUrl),
-                placementGroupRequest,
-                PlacementGroupResponse.class);
+        return await(blockingAPI.createPlacementGroup(placementGroupRequest));
     }
 
     /**
@@ -2567,9 +2822,7 @@ public class HetznerCloudAPI {
      * @return ActionResponse
      */
     public String deletePlacementGroup(long id) {
-        return delete(
-                "%s/placement_groups/%s".formatted(apiUrl, id),
-                String.class);
+        return await(blockingAPI.deletePlacementGroup(id));
     }
 
     /**
@@ -2577,8 +2830,7 @@ public class HetznerCloudAPI {
      * @throws IllegalStateException if not using Hetzner Online API
      */
     public StorageBoxesResponse getStorageBoxes() {
-        validateHetznerOnlineApiUsage();
-        return get("%s/storage_boxes".formatted(apiUrl), StorageBoxesResponse.class);
+        return await(blockingAPI.getStorageBoxes());
     }
 
     /**
@@ -2586,12 +2838,7 @@ public class HetznerCloudAPI {
      * @throws IllegalStateException if not using Hetzner Online API
      */
     public StorageBoxesResponse getStorageBoxes(String labelSelector) {
-        validateHetznerOnlineApiUsage();
-        return get(
-                UrlBuilder.from("%s/storage_boxes".formatted(apiUrl))
-                        .queryParam("label_selector", labelSelector)
-                        .toUri(),
-                StorageBoxesResponse.class);
+        return await(blockingAPI.getStorageBoxes(labelSelector));
     }
 
     /**
@@ -2599,13 +2846,19 @@ public class HetznerCloudAPI {
      * @throws IllegalStateException if not using Hetzner Online API
      */
     public StorageBoxesResponse getStorageBoxes(PaginationParameters paginationParameters) {
-        validateHetznerOnlineApiUsage();
-        return get(
-                UrlBuilder.from("%s/storage_boxes".formatted(apiUrl))
-                        .queryParam("page", paginationParameters.getPage())
-                        .queryParam("per_page", paginationParameters.getPerPage())
-                        .toUri(),
-                StorageBoxesResponse.class);
+        return await(blockingAPI.getStorageBoxes(paginationParameters));
+    }
+
+    /**
+     * Get all Storage Boxes, fetching all pages concurrently using the maximum page size.
+     * <p>
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @return all Storage Boxes
+     * @throws IllegalStateException if not using Hetzner Online API
+     */
+    public List<StorageBox> listAllStorageBoxes() {
+        return Paginator.join(asyncAPI.listAllStorageBoxes());
     }
 
     /**
@@ -2613,8 +2866,7 @@ public class HetznerCloudAPI {
      * @throws IllegalStateException if not using Hetzner Online API
      */
     public StorageBoxResponse getStorageBox(long id) {
-        validateHetznerOnlineApiUsage();
-        return get("%s/storage_boxes/%s".formatted(apiUrl, id), StorageBoxResponse.class);
+        return await(blockingAPI.getStorageBox(id));
     }
 
     /**
@@ -2622,12 +2874,7 @@ public class HetznerCloudAPI {
      * @throws IllegalStateException if not using Hetzner Online API
      */
     public StorageBoxesResponse getStorageBoxByName(String name) {
-        validateHetznerOnlineApiUsage();
-        return get(
-                UrlBuilder.from("%s/storage_boxes".formatted(apiUrl))
-                        .queryParam("name", name)
-                        .toUri(),
-                StorageBoxesResponse.class);
+        return await(blockingAPI.getStorageBoxByName(name));
     }
 
     /**
@@ -2635,8 +2882,7 @@ public class HetznerCloudAPI {
      * @throws IllegalStateException if not using Hetzner Online API
      */
     public StorageBoxResponse createStorageBox(CreateStorageBoxRequest request) {
-        validateHetznerOnlineApiUsage();
-        return post("%s/storage_boxes".formatted(apiUrl), request, StorageBoxResponse.class);
+        return await(blockingAPI.createStorageBox(request));
     }
 
     /**
@@ -2648,8 +2894,7 @@ public class HetznerCloudAPI {
      * @throws IllegalStateException if not using Hetzner Online API
      */
     public StorageBoxResponse updateStorageBox(long id, UpdateStorageBoxRequest request) {
-        validateHetznerOnlineApiUsage();
-        return put("%s/storage_boxes/%s".formatted(apiUrl, id), request, StorageBoxResponse.class);
+        return await(blockingAPI.updateStorageBox(id, request));
     }
 
     /**
@@ -2660,8 +2905,7 @@ public class HetznerCloudAPI {
      * @throws IllegalStateException if not using Hetzner Online API
      */
     public ActionResponse deleteStorageBox(long id) {
-        validateHetznerOnlineApiUsage();
-        return delete("%s/storage_boxes/%s".formatted(apiUrl, id), ActionResponse.class);
+        return await(blockingAPI.deleteStorageBox(id));
     }
 
     /**
@@ -2673,8 +2917,7 @@ public class HetznerCloudAPI {
      * @throws IllegalStateException if not using Hetzner Online API
      */
     public StorageBoxResponse createStorageBoxSubAccount(long storageBoxId, CreateStorageBoxSubAccountRequest request) {
-        validateHetznerOnlineApiUsage();
-        return post("%s/storage_boxes/%s/sub_accounts".formatted(apiUrl, storageBoxId), request, StorageBoxResponse.class);
+        return await(blockingAPI.createStorageBoxSubAccount(storageBoxId, request));
     }
 
     /**
@@ -2687,8 +2930,7 @@ public class HetznerCloudAPI {
      * @throws IllegalStateException if not using Hetzner Online API
      */
     public StorageBoxResponse updateStorageBoxSubAccount(long storageBoxId, String username, CreateStorageBoxSubAccountRequest request) {
-        validateHetznerOnlineApiUsage();
-        return put("%s/storage_boxes/%s/sub_accounts/%s".formatted(apiUrl, storageBoxId, username), request, StorageBoxResponse.class);
+        return await(blockingAPI.updateStorageBoxSubAccount(storageBoxId, username, request));
     }
 
     /**
@@ -2700,8 +2942,7 @@ public class HetznerCloudAPI {
      * @throws IllegalStateException if not using Hetzner Online API
      */
     public ActionResponse deleteStorageBoxSubAccount(long storageBoxId, String username) {
-        validateHetznerOnlineApiUsage();
-        return delete("%s/storage_boxes/%s/sub_accounts/%s".formatted(apiUrl, storageBoxId, username), ActionResponse.class);
+        return await(blockingAPI.deleteStorageBoxSubAccount(storageBoxId, username));
     }
 
     /**
@@ -2712,8 +2953,7 @@ public class HetznerCloudAPI {
      * @throws IllegalStateException if not using Hetzner Online API
      */
     public StorageBoxSnapshotsResponse getStorageBoxSnapshots(long storageBoxId) {
-        validateHetznerOnlineApiUsage();
-        return get("%s/storage_boxes/%s/snapshots".formatted(apiUrl, storageBoxId), StorageBoxSnapshotsResponse.class);
+        return await(blockingAPI.getStorageBoxSnapshots(storageBoxId));
     }
 
     /**
@@ -2725,10 +2965,7 @@ public class HetznerCloudAPI {
      * @throws IllegalStateException if not using Hetzner Online API
      */
     public ActionResponse rollbackStorageBoxToSnapshot(long storageBoxId, String snapshotName) {
-        validateHetznerOnlineApiUsage();
-        var requestBody = objectMapper.createObjectNode();
-        requestBody.put("snapshot", snapshotName);
-        return post("%s/storage_boxes/%s/actions/rollback".formatted(apiUrl, storageBoxId), requestBody, ActionResponse.class);
+        return await(blockingAPI.rollbackStorageBoxToSnapshot(storageBoxId, snapshotName));
     }
 
     /**
@@ -2739,8 +2976,7 @@ public class HetznerCloudAPI {
      * @throws IllegalStateException if not using Hetzner Online API
      */
     public ActionResponse resetStorageBoxPassword(long storageBoxId) {
-        validateHetznerOnlineApiUsage();
-        return post("%s/storage_boxes/%s/actions/reset_password".formatted(apiUrl, storageBoxId), ActionResponse.class);
+        return await(blockingAPI.resetStorageBoxPassword(storageBoxId));
     }
 
     /**
@@ -2751,8 +2987,7 @@ public class HetznerCloudAPI {
      * @throws IllegalStateException if not using Hetzner Online API
      */
     public ActionResponse enableStorageBoxSnapshotPlan(long storageBoxId) {
-        validateHetznerOnlineApiUsage();
-        return post("%s/storage_boxes/%s/actions/enable_snapshot_plan".formatted(apiUrl, storageBoxId), ActionResponse.class);
+        return await(blockingAPI.enableStorageBoxSnapshotPlan(storageBoxId));
     }
 
     /**
@@ -2763,8 +2998,7 @@ public class HetznerCloudAPI {
      * @throws IllegalStateException if not using Hetzner Online API
      */
     public ActionResponse disableStorageBoxSnapshotPlan(long storageBoxId) {
-        validateHetznerOnlineApiUsage();
-        return post("%s/storage_boxes/%s/actions/disable_snapshot_plan".formatted(apiUrl, storageBoxId), ActionResponse.class);
+        return await(blockingAPI.disableStorageBoxSnapshotPlan(storageBoxId));
     }
 
     /**
@@ -2774,18 +3008,17 @@ public class HetznerCloudAPI {
      * @return Date in ISO-8601 format
      */
     public String convertToISO8601(Date date) {
-        DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'");
-        dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-        return dateFormat.format(date);
+        return ISO8601Util.format(date.toInstant());
     }
 
     /**
-     * Get all DNS zones
+     * Get the first page of DNS zones
      *
      * @return List of DNS zones
+     * @see #listAllZones()
      */
     public ZonesResponse getZones() {
-        return get("%s/zones".formatted(apiUrl), ZonesResponse.class);
+        return await(blockingAPI.getZones());
     }
 
     /**
@@ -2795,12 +3028,7 @@ public class HetznerCloudAPI {
      * @return List of DNS zones
      */
     public ZonesResponse getZones(PaginationParameters paginationParameters) {
-        return get(
-                UrlBuilder.from("%s/zones".formatted(apiUrl))
-                        .queryParam("per_page", paginationParameters.getPerPage())
-                        .queryParam("page", paginationParameters.getPage())
-                        .toUri(),
-                ZonesResponse.class);
+        return await(blockingAPI.getZones(paginationParameters));
     }
 
     /**
@@ -2810,11 +3038,43 @@ public class HetznerCloudAPI {
      * @return List of DNS zones
      */
     public ZonesResponse getZones(String labelSelector) {
-        return get(
-                UrlBuilder.from("%s/zones".formatted(apiUrl))
-                        .queryParam("label_selector", labelSelector)
-                        .toUri(),
-                ZonesResponse.class);
+        return await(blockingAPI.getZones(labelSelector));
+    }
+
+    /**
+     * Get all DNS zones with label selector and pagination
+     *
+     * @param labelSelector Label selector to filter zones
+     * @param paginationParameters Pagination parameters to apply to the request
+     * @return List of DNS zones
+     */
+    public ZonesResponse getZones(String labelSelector, PaginationParameters paginationParameters) {
+        return await(blockingAPI.getZones(labelSelector, paginationParameters));
+    }
+
+    /**
+     * Get all DNS zones in a project.
+     * <p>
+     * Unlike {@link #getZones()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @return all DNS zones
+     */
+    public List<Zone> listAllZones() {
+        return Paginator.join(asyncAPI.listAllZones());
+    }
+
+    /**
+     * Get all DNS zones in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getZones(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @param labelSelector Label selector
+     * @return all DNS zones which match the label selector
+     */
+    public List<Zone> listAllZones(String labelSelector) {
+        return Paginator.join(asyncAPI.listAllZones(labelSelector));
     }
 
     /**
@@ -2824,7 +3084,7 @@ public class HetznerCloudAPI {
      * @return Zone object
      */
     public ZoneResponse getZone(long id) {
-        return get("%s/zones/%s".formatted(apiUrl, id), ZoneResponse.class);
+        return await(blockingAPI.getZone(id));
     }
 
     /**
@@ -2834,11 +3094,7 @@ public class HetznerCloudAPI {
      * @return Zone response containing matching zones
      */
     public ZonesResponse getZoneByName(String name) {
-        return get(
-                UrlBuilder.from("%s/zones".formatted(apiUrl))
-                        .queryParam("name", name)
-                        .toUri(),
-                ZonesResponse.class);
+        return await(blockingAPI.getZoneByName(name));
     }
 
     /**
@@ -2848,7 +3104,7 @@ public class HetznerCloudAPI {
      * @return Zone response
      */
     public ZoneResponse createZone(CreateZoneRequest request) {
-        return post("%s/zones".formatted(apiUrl), request, ZoneResponse.class);
+        return await(blockingAPI.createZone(request));
     }
 
     /**
@@ -2859,7 +3115,7 @@ public class HetznerCloudAPI {
      * @return Zone response
      */
     public ZoneResponse updateZone(long id, UpdateZoneRequest request) {
-        return put("%s/zones/%s".formatted(apiUrl, id), request, ZoneResponse.class);
+        return await(blockingAPI.updateZone(id, request));
     }
 
     /**
@@ -2869,7 +3125,7 @@ public class HetznerCloudAPI {
      * @return Action response
      */
     public ActionResponse deleteZone(long id) {
-        return delete("%s/zones/%s".formatted(apiUrl, id), ActionResponse.class);
+        return await(blockingAPI.deleteZone(id));
     }
 
     /**
@@ -2880,8 +3136,7 @@ public class HetznerCloudAPI {
      * @return Action response
      */
     public ActionResponse changeZoneProtection(long id, boolean delete) {
-        return post("%s/zones/%s/actions/change_protection".formatted(apiUrl, id),
-                Map.of("delete", delete), ActionResponse.class);
+        return await(blockingAPI.changeZoneProtection(id, delete));
     }
 
     /**
@@ -2891,7 +3146,7 @@ public class HetznerCloudAPI {
      * @return List of RRSets
      */
     public RRSetsResponse getRRSets(long zoneId) {
-        return get("%s/zones/%s/rrsets".formatted(apiUrl, zoneId), RRSetsResponse.class);
+        return await(blockingAPI.getRRSets(zoneId));
     }
 
     /**
@@ -2902,12 +3157,32 @@ public class HetznerCloudAPI {
      * @return List of RRSets
      */
     public RRSetsResponse getRRSets(long zoneId, PaginationParameters paginationParameters) {
-        return get(
-                UrlBuilder.from("%s/zones/%s/rrsets".formatted(apiUrl, zoneId))
-                        .queryParam("per_page", paginationParameters.getPerPage())
-                        .queryParam("page", paginationParameters.getPage())
-                        .toUri(),
-                RRSetsResponse.class);
+        return await(blockingAPI.getRRSets(zoneId, paginationParameters));
+    }
+
+    /**
+     * Get all RRSets for a zone, fetching all pages concurrently using the maximum page size.
+     * <p>
+     * The pages are requested on the OkHttp dispatcher, so this must not be called from a callback of {@link #async()}.
+     *
+     * @param zoneId Zone ID
+     * @return all RRSets of the zone
+     */
+    public List<RRSet> listAllRRSets(long zoneId) {
+        return Paginator.join(asyncAPI.listAllRRSets(zoneId));
+    }
+
+    /**
+     * Stream all RRSets of a zone to a consumer.
+     * <p>
+     * Every page is parsed directly from the response body and each RRSet is handed to the consumer as soon as
+     * it has been read, so only a single RRSet is held in memory at a time.
+     *
+     * @param zoneId Zone ID
+     * @param consumer Consumer which is called for every RRSet
+     */
+    public void forEachRRSet(long zoneId, Consumer<? super RRSet> consumer) {
+        await(blockingAPI.forEachRRSet(zoneId, consumer));
     }
 
     /**
@@ -2918,7 +3193,7 @@ public class HetznerCloudAPI {
      * @return RRSet response
      */
     public RRSetResponse getRRSet(long zoneId, String rrsetId) {
-        return get("%s/zones/%s/rrsets/%s".formatted(apiUrl, zoneId, rrsetId), RRSetResponse.class);
+        return await(blockingAPI.getRRSet(zoneId, rrsetId));
     }
 
     /**
@@ -2929,7 +3204,7 @@ public class HetznerCloudAPI {
      * @return RRSet response
      */
     public RRSetResponse createRRSet(long zoneId, CreateRRSetRequest request) {
-        return post("%s/zones/%s/rrsets".formatted(apiUrl, zoneId), request, RRSetResponse.class);
+        return await(blockingAPI.createRRSet(zoneId, request));
     }
 
     /**
@@ -2941,7 +3216,7 @@ public class HetznerCloudAPI {
      * @return RRSet response
      */
     public RRSetResponse updateRRSet(long zoneId, String rrsetId, UpdateRRSetRequest request) {
-        return put("%s/zones/%s/rrsets/%s".formatted(apiUrl, zoneId, rrsetId), request, RRSetResponse.class);
+        return await(blockingAPI.updateRRSet(zoneId, rrsetId, request));
     }
 
     /**
@@ -2952,7 +3227,7 @@ public class HetznerCloudAPI {
      * @return Action response
      */
     public ActionResponse deleteRRSet(long zoneId, String rrsetId) {
-        return delete("%s/zones/%s/rrsets/%s".formatted(apiUrl, zoneId, rrsetId), ActionResponse.class);
+        return await(blockingAPI.deleteRRSet(zoneId, rrsetId));
     }
 
     /**
@@ -2964,11 +3239,10 @@ public class HetznerCloudAPI {
      * @return Action response
      */
     public ActionResponse changeRRSetProtection(long zoneId, String rrsetId, boolean change) {
-        return post("%s/zones/%s/rrsets/%s/actions/change_protection".formatted(apiUrl, zoneId, rrsetId),
-                Map.of("change", change), ActionResponse.class);
+        return await(blockingAPI.changeRRSetProtection(zoneId, rrsetId, change));
     }
 
-    private void validateHetznerOnlineApiUsage() {
+    void validateHetznerOnlineApiUsage() {
         if (!apiUrl.contains("api.hetzner.com") && !isTestMode()) {
             throw new IllegalStateException("Storage Box methods can only be used with APIType.HETZNER_ONLINE. " +
                     "Please create the API instance with: new HetznerCloudAPI(token, APIType.HETZNER_ONLINE)");
@@ -2983,63 +3257,927 @@ public class HetznerCloudAPI {
     }
 
     private <T> T exchange(String url, HttpMethod method, Object body, Class<T> clazz) {
-        try(Response response = buildCall(url, method, body).execute()) {
-            final String responseBody = response.body().string();
+        return exchange(url, method, body, (response, measurement) -> readResponse(response, clazz, measurement));
+    }
+
+    /**
+     * Sends a request with retries, rate limiting and reporting and reads successful responses with the reader.
+     */
+    private <T> T exchange(String url, HttpMethod method, Object body, BodyReader<T> reader) {
+        invalidateReads(url, method);
+        final Request request = buildRequest(url, method, body);
+        final RetryPolicy policy = retryPolicy;
+        final long start = System.nanoTime();
+
+        for (int attempt = 1; ; attempt++) {
+            final Measurement measurement = new Measurement();
+            final RateLimiter limiter = rateLimiter;
+            if (limiter != null) {
+                final long queueStart = System.nanoTime();
+                try {
+                    limiter.acquire();
+                } catch (RuntimeException e) {
+                    measurement.queueNanos = System.nanoTime() - queueStart;
+                    report(url, method, attempt, measurement, e);
+                    throw e;
+                }
+                measurement.queueNanos = System.nanoTime() - queueStart;
+            }
+
+            Duration retryAfter = null;
+            final Exception failure;
+            final long networkStart = System.nanoTime();
+            try (Response response = clientFor(method).newCall(request).execute()) {
+                measurement.networkNanos = System.nanoTime() - networkStart;
+                if (limiter != null) {
+                    limiter.update(response.headers());
+                }
+                retryAfter = RetryPolicy.parseRetryAfter(response.header("Retry-After"));
+                final T result = reader.read(response, measurement);
+                report(url, method, attempt, measurement, null);
+                invalidateReads(url, method);
+                notifyMutation(url, method, result);
+                return result;
+            } catch (APIRequestException | IOException e) {
+                failure = e;
+            }
+            if (measurement.networkNanos == 0) {
+                measurement.networkNanos = System.nanoTime() - networkStart;
+            }
+            report(url, method, attempt, measurement, failure);
+
+            final long delay = policy.nextDelayNanos(attempt, failure, method.isIdempotent(), retryAfter, System.nanoTime() - start);
+            if (delay < 0) {
+                throw failure instanceof APIRequestException apiRequestException ? apiRequestException : new RuntimeException(failure);
+            }
+            sleep(delay);
+        }
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #exchange(String, HttpMethod, Object, Class)}.
+     * <p>
+     * The call is enqueued on the OkHttp dispatcher and the returned future is completed on one of its threads.
+     * Error responses complete the future exceptionally with an {@link APIRequestException},
+     * cancelling the future cancels the underlying call. Waiting for the rate limiter and between retries
+     * does not block a thread.
+     */
+    <T> CompletableFuture<T> exchangeAsync(String url, HttpMethod method, Object body, Class<T> clazz) {
+        return exchangeAsync(url, method, body, (response, measurement) -> readResponse(response, clazz, measurement));
+    }
+
+    private <T> CompletableFuture<T> exchangeAsync(String url, HttpMethod method, Object body, BodyReader<T> reader) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final AtomicReference<Call> currentCall = new AtomicReference<>();
+        final Request request;
+
+        try {
+            invalidateReads(url, method);
+            request = buildRequest(url, method, body);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        future.whenComplete((result, throwable) -> {
+            final Call call = currentCall.get();
+            if (throwable instanceof CancellationException && call != null) {
+                call.cancel();
+            }
+        });
+        attemptAsync(url, request, method, reader, future, currentCall, retryPolicy, 1, System.nanoTime());
+
+        return future;
+    }
+
+    private <T> void attemptAsync(String url, Request request, HttpMethod method, BodyReader<T> reader, CompletableFuture<T> future,
+                                  AtomicReference<Call> currentCall, RetryPolicy policy, int attempt, long start) {
+        if (future.isDone()) {
+            return;
+        }
+
+        final RateLimiter limiter = rateLimiter;
+        final Measurement measurement = new Measurement();
+        final long delayNanos;
+        final long queueStart = System.nanoTime();
+        try {
+            delayNanos = limiter != null ? limiter.reserve() : 0;
+        } catch (RuntimeException e) {
+            measurement.queueNanos = System.nanoTime() - queueStart;
+            report(url, method, attempt, measurement, e);
+            future.completeExceptionally(e);
+            return;
+        }
+
+        final Call call = clientFor(method).newCall(request);
+        measurement.queueNanos = delayNanos;
+        currentCall.set(call);
+
+        final Runnable enqueue = () -> {
+            if (future.isDone()) {
+                return;
+            }
+
+            final long networkStart = System.nanoTime();
+            call.enqueue(new Callback() {
+                @Override
+                public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                    measurement.networkNanos = System.nanoTime() - networkStart;
+                    retryAsync(e, null);
+                }
+
+                @Override
+                public void onResponse(@NotNull Call call, @NotNull Response response) {
+                    measurement.networkNanos = System.nanoTime() - networkStart;
+                    Duration retryAfter = null;
+                    try (response) {
+                        if (limiter != null) {
+                            limiter.update(response.headers());
+                        }
+                        retryAfter = RetryPolicy.parseRetryAfter(response.header("Retry-After"));
+                        final T result = reader.read(response, measurement);
+                        report(url, method, attempt, measurement, null);
+                        invalidateReads(url, method);
+                        notifyMutation(url, method, result);
+                        future.complete(result);
+                    } catch (APIRequestException | IOException e) {
+                        retryAsync(e, retryAfter);
+                    } catch (RuntimeException e) {
+                        future.completeExceptionally(e);
+                    }
+                }
+
+                private void retryAsync(Exception failure, Duration retryAfter) {
+                    report(url, method, attempt, measurement, failure);
+                    final long delay = policy.nextDelayNanos(attempt, failure, method.isIdempotent(), retryAfter, System.nanoTime() - start);
+                    if (delay < 0) {
+                        future.completeExceptionally(failure instanceof APIRequestException ? failure : new RuntimeException(failure));
+                        return;
+                    }
+                    CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(() ->
+                            attemptAsync(url, request, method, reader, future, currentCall, policy, attempt + 1, start));
+                }
+            });
+        };
+
+        if (delayNanos > 0) {
+            CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS).execute(enqueue);
+        } else {
+            enqueue.run();
+        }
+    }
+
+    private static void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Requests one page of a list endpoint and hands every element of the {@code field} array to the consumer.
+     * <p>
+     * The page is parsed token by token from the body's byte stream, so neither the body nor the page's list is
+     * materialized. The page is not cached and it is only retried as long as no element has been handed out yet.
+     *
+     * @return the pagination metadata of the page
+     */
+    private <E> Meta streamPage(String url, String field, Class<E> clazz, Consumer<? super E> consumer) {
+        return exchange(url, HttpMethod.GET, null, (response, measurement) -> readStream(response, url, field, clazz, consumer, measurement));
+    }
 
+    /**
+     * Non-blocking counterpart of {@link #streamPage(String, String, Class, Consumer)}, the consumer is called on
+     * an OkHttp dispatcher thread.
+     */
+    <E> CompletableFuture<Meta> streamPageAsync(String url, String field, Class<E> clazz, Consumer<? super E> consumer) {
+        return exchangeAsync(url, HttpMethod.GET, null, (response, measurement) -> readStream(response, url, field, clazz, consumer, measurement));
+    }
+
+    private <E> Meta readStream(Response response, String url, String field, Class<E> clazz, Consumer<? super E> consumer,
+                                Measurement measurement) throws IOException {
+        measurement.status = response.code();
+        measurement.correlationId = response.header("X-Correlation-Id");
+        final long start = System.nanoTime();
+        boolean emitted = false;
+
+        try {
             if (!response.isSuccessful()) {
-                String correlationId = response.header("X-Correlation-Id");
-                throw new APIRequestException(objectMapper.readValue(responseBody, APIErrorResponse.class), correlationId);
+                throw toAPIRequestException(response);
+            }
+
+            try (CountingInputStream body = new CountingInputStream(response.body().byteStream());
+                 JsonParser parser = objectMapper.getFactory().createParser(body)) {
+                try {
+                    if (parser.nextToken() != JsonToken.START_OBJECT) {
+                        throw new IOException("expected JSON object in response of " + url);
+                    }
+
+                    Meta meta = null;
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        final String name = parser.currentName();
+                        final JsonToken value = parser.nextToken();
+
+                        if (field.equals(name) && value == JsonToken.START_ARRAY) {
+                            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                                final E item = readerFor(clazz).readValue(parser);
+                                emitted = true;
+                                consumer.accept(item);
+                            }
+                        } else if ("meta".equals(name) && value == JsonToken.START_OBJECT) {
+                            meta = readerFor(Meta.class).readValue(parser);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    return meta;
+                } finally {
+                    measurement.responseBytes = body.count;
+                }
+            }
+        } catch (IOException e) {
+            if (emitted) {
+                // a retry would hand out the elements of the page a second time
+                throw new UncheckedIOException(e);
+            }
+            throw e;
+        } finally {
+            measurement.deserializationNanos = System.nanoTime() - start;
+        }
+    }
+
+    private <T> T readResponse(Response response, Class<T> clazz) throws IOException {
+        return readResponse(response, clazz, new Measurement());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T readResponse(Response response, Class<T> clazz, Measurement measurement) throws IOException {
+        measurement.status = response.code();
+        measurement.correlationId = response.header("X-Correlation-Id");
+        final long start = System.nanoTime();
+
+        try {
+            if (!response.isSuccessful()) {
+                throw toAPIRequestException(response);
             }
 
             if (String.class.equals(clazz)) {
-                return (T) responseBody;
-            } else {
-                return objectMapper.readValue(responseBody, clazz);
+                final MediaType contentType = response.body().contentType();
+                final Charset charset = contentType != null ? contentType.charset(StandardCharsets.UTF_8) : StandardCharsets.UTF_8;
+                try (CountingInputStream body = new CountingInputStream(response.body().byteStream())) {
+                    try {
+                        return (T) new String(body.readAllBytes(), charset);
+                    } finally {
+                        measurement.responseBytes = body.count;
+                    }
+                }
             }
 
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+            try (CountingInputStream body = new CountingInputStream(response.body().byteStream())) {
+                try {
+                    return readerFor(clazz).readValue(body);
+                } finally {
+                    measurement.responseBytes = body.count;
+                }
+            }
+        } finally {
+            measurement.deserializationNanos = System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Notifies the request listeners about a finished attempt.
+     */
+    private void report(String url, HttpMethod method, int attempt, Measurement measurement, Exception failure) {
+        if (requestListeners.isEmpty()) {
+            return;
+        }
+
+        final RequestEvent event = RequestEvent.builder()
+                .endpoint(endpointTemplateOf(url))
+                .method(method.name())
+                .status(measurement.status)
+                .responseBytes(measurement.responseBytes)
+                .queueNanos(measurement.queueNanos)
+                .networkNanos(measurement.networkNanos)
+                .deserializationNanos(measurement.deserializationNanos)
+                .attempt(attempt)
+                .correlationId(measurement.correlationId)
+                .failure(failure)
+                .build();
+        for (RequestListener listener : requestListeners) {
+            try {
+                listener.onRequest(event);
+            } catch (RuntimeException e) {
+                // a broken listener must not break the request
+            }
+        }
+    }
+
+    /**
+     * Notifies the mutation listeners about a successful modifying request.
+     */
+    private void notifyMutation(String url, HttpMethod method, Object response) {
+        if (method == HttpMethod.GET || mutationListeners.isEmpty()) {
+            return;
+        }
+
+        String path = url.startsWith(apiUrl) ? url.substring(apiUrl.length()) : url;
+        final int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+        for (MutationListener listener : mutationListeners) {
+            try {
+                listener.onMutation(method.name(), path, response);
+            } catch (RuntimeException e) {
+                // a broken listener must not break the request
+            }
         }
     }
 
+    /**
+     * @return path below the API URL without query, with numeric IDs and DNS zone names replaced by {@code {id}} and
+     * RRSet names and types replaced by {@code {name}} and {@code {type}}
+     */
+    private String endpointTemplateOf(String url) {
+        String path = url.startsWith(apiUrl) ? url.substring(apiUrl.length()) : url;
+        final int query = path.indexOf('?');
+        if (query >= 0) {
+            path = path.substring(0, query);
+        }
+
+        final String[] segments = path.split("/");
+        final StringBuilder template = new StringBuilder(path.length());
+        for (int i = 0; i < segments.length; i++) {
+            if (!segments[i].isEmpty()) {
+                template.append('/').append(segmentTemplateOf(segments, i));
+            }
+        }
+        return template.toString();
+    }
+
+    /**
+     * Zones are addressed by ID or name, RRSets by name and type, e.g. {@code /zones/example.com/rrsets/www/A}.
+     */
+    private static String segmentTemplateOf(String[] segments, int index) {
+        final String segment = segments[index];
+        final String parent = index > 0 ? segments[index - 1] : "";
+        if ("rrsets".equals(parent)) {
+            return "{name}";
+        }
+        if (index > 1 && "rrsets".equals(segments[index - 2]) && !"actions".equals(segment)) {
+            return "{type}";
+        }
+        return "zones".equals(parent) || segment.chars().allMatch(Character::isDigit) ? "{id}" : segment;
+    }
+
+    /**
+     * ObjectReaders are immutable and thread-safe, so one instance per response class is reused for all requests.
+     */
+    private ObjectReader readerFor(Class<?> clazz) {
+        return readers.computeIfAbsent(clazz, objectMapper::readerFor);
+    }
+
+    private APIRequestException toAPIRequestException(Response response) throws IOException {
+        final String correlationId = response.header("X-Correlation-Id");
+        return new APIRequestException(objectMapper.readValue(response.body().string(), APIErrorResponse.class), correlationId);
+    }
+
+    /**
+     * Creating resources may take much longer than reading them, so POST requests use the client with the long-running timeouts.
+     */
+    private OkHttpClient clientFor(HttpMethod method) {
+        return method == HttpMethod.POST ? longRunningClient : client;
+    }
+
+    /**
+     * Builds the request including its serialized body, so the request can be sent again on retries.
+     */
     @NotNull
-    private Call buildCall(String url, HttpMethod method, Object body) throws JsonProcessingException {
+    Request buildRequest(String url, HttpMethod method, Object body) {
         RequestBody requestBody = null;
 
         if (body != null) {
-            requestBody = RequestBody.create(objectMapper.writeValueAsBytes(body), MediaType.get("application/json"));
+            try {
+                requestBody = RequestBody.create(objectMapper.writeValueAsBytes(body), MediaType.get("application/json"));
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException(e);
+            }
         }
 
-        return client.newCall(new Request.Builder()
+        return new Request.Builder()
                 .addHeader("Authorization", "Bearer " + hcloudToken)
                 .addHeader("Accept", "application/json")
                 .addHeader("User-Agent", userAgent)
                 .url(url)
-                .method(method.toString(), requestBody).build());
+                .method(method.toString(), requestBody).build();
     }
 
     private <T> T get(String url, Class<T> clazz) {
-        return exchange(url, HttpMethod.GET, null, clazz);
+        final ResponseCache cache = responseCache;
+        if (cache != null) {
+            return cache.get(endpointOf(url), url, clazz, () -> coalescedGet(url, clazz));
+        }
+        return coalescedGet(url, clazz);
+    }
+
+    /**
+     * Non-blocking GET which is served from the response cache if possible.
+     */
+    <T> CompletableFuture<T> getAsync(String url, Class<T> clazz) {
+        final ResponseCache cache = responseCache;
+        if (cache != null) {
+            return cache.getAsync(endpointOf(url), url, clazz, () -> coalescedGetAsync(url, clazz));
+        }
+        return coalescedGetAsync(url, clazz);
+    }
+
+    /**
+     * Joins an identical GET request which is already in flight, otherwise sends it and lets others join.
+     */
+    private <T> T coalescedGet(String url, Class<T> clazz) {
+        if (!requestCoalescing) {
+            return exchange(url, HttpMethod.GET, null, clazz);
+        }
+
+        final String key = clazz.getName() + " " + url;
+        final CompletableFuture<Object> inFlight = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlightRequests.putIfAbsent(key, inFlight);
+        if (existing != null) {
+            return clazz.cast(await(existing));
+        }
+
+        try {
+            final T result = exchange(url, HttpMethod.GET, null, clazz);
+            inFlight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            inFlight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(key, inFlight);
+        }
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #coalescedGet(String, Class)}. Cancelling the returned future does not
+     * cancel the shared request.
+     */
+    private <T> CompletableFuture<T> coalescedGetAsync(String url, Class<T> clazz) {
+        if (!requestCoalescing) {
+            return exchangeAsync(url, HttpMethod.GET, null, clazz);
+        }
+
+        final String key = clazz.getName() + " " + url;
+        final CompletableFuture<Object> inFlight = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlightRequests.putIfAbsent(key, inFlight);
+        if (existing != null) {
+            return existing.thenApply(clazz::cast);
+        }
+
+        exchangeAsync(url, HttpMethod.GET, null, clazz).whenComplete((result, throwable) -> {
+            inFlightRequests.remove(key, inFlight);
+            if (throwable != null) {
+                inFlight.completeExceptionally(throwable);
+            } else {
+                inFlight.complete(result);
+            }
+        });
+        return inFlight.thenApply(clazz::cast);
+    }
+
+    /**
+     * Invalidates the cached responses and the in-flight GET requests of the endpoint a modifying request is sent to
+     * and of the endpoints in {@link #AFFECTED_ENDPOINTS}. Called before the request is sent and again once it
+     * succeeded, so responses loaded while the request was processed are neither kept nor shared.
+     */
+    private void invalidateReads(String url, HttpMethod method) {
+        if (method == HttpMethod.GET) {
+            return;
+        }
+
+        final String endpoint = endpointOf(url);
+        final String affected = AFFECTED_ENDPOINTS.get(endpointTemplateOf(url));
+        final ResponseCache cache = responseCache;
+        if (cache != null) {
+            invalidateCache(cache, endpoint);
+            invalidateCache(cache, affected);
+        }
+        if (!inFlightRequests.isEmpty()) {
+            // the shared requests keep running for their current callers, later callers send a new request
+            inFlightRequests.keySet().removeIf(key -> {
+                final String inFlightEndpoint = endpointOf(key.substring(key.indexOf(' ') + 1));
+                return inFlightEndpoint != null && (inFlightEndpoint.equals(endpoint) || inFlightEndpoint.equals(affected));
+            });
+        }
+    }
+
+    private static void invalidateCache(ResponseCache cache, String endpoint) {
+        if (cache.isCached(endpoint)) {
+            cache.invalidate(endpoint);
+        }
     }
 
-    private <T> T delete(String url, Class<T> clazz) {
-        return exchange(url, HttpMethod.DELETE, null, clazz);
+    /**
+     * @return first path segment below the API URL, e.g. {@code server_types}
+     */
+    private String endpointOf(String url) {
+        if (!url.startsWith(apiUrl)) {
+            return null;
+        }
+
+        final String path = url.substring(apiUrl.length());
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = start;
+        while (end < path.length() && path.charAt(end) != '/' && path.charAt(end) != '?') {
+            end++;
+        }
+        return path.substring(start, end);
     }
 
-    private <T> T put(String url, Object body, Class<T> clazz) {
-        return exchange(url, HttpMethod.PUT, body, clazz);
+    /**
+     * Waits for a future and rethrows the original exception instead of a {@link CompletionException}.
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
-    private <T> T post(String url, Object body, Class<T> clazz) {
-        return exchange(url, HttpMethod.POST, body, clazz);
+    /**
+     * Builder for {@link HetznerCloudAPI}.
+     * <p>
+     * The HTTP client settings are applied on top of {@link #client(OkHttpClient)} (or a new client), so an existing
+     * client keeps its interceptors while sharing its connection pool and dispatcher only if they are not replaced.
+     */
+    public static class Builder {
+        private String token;
+        private String apiUrl = APIType.CLOUD.getBaseUrl();
+        private OkHttpClient client;
+        private String userAgentPrefix;
+        private Integer maxIdleConnections;
+        private Duration keepAlive;
+        private Integer maxRequests;
+        private Integer maxRequestsPerHost;
+        private Duration connectTimeout;
+        private Duration readTimeout;
+        private Duration writeTimeout;
+        private Duration longRunningTimeout;
+        private Boolean http2;
+        private int pageParallelism = Paginator.DEFAULT_PARALLELISM;
+        private RateLimiter rateLimiter;
+        private RetryPolicy retryPolicy;
+        private ResponseCache responseCache;
+        private boolean requestCoalescing;
+        private final List<RequestListener> requestListeners = new ArrayList<>();
+        private ObjectMapper objectMapper;
+
+        private Builder() {
+        }
+
+        /**
+         * Copy of this builder for one project of a {@link HetznerCloudClientPool}, which shares the object mapper and
+         * the already built HTTP client. The response cache is left out because it is keyed by URL and would hand
+         * out resources of one project to another.
+         */
+        Builder forProject(String token, ObjectMapper objectMapper, OkHttpClient client, RateLimiter rateLimiter) {
+            final Builder copy = new Builder();
+            copy.token = token;
+            copy.apiUrl = apiUrl;
+            copy.client = client;
+            copy.userAgentPrefix = userAgentPrefix;
+            copy.longRunningTimeout = longRunningTimeout;
+            copy.pageParallelism = pageParallelism;
+            copy.rateLimiter = rateLimiter;
+            copy.retryPolicy = retryPolicy;
+            copy.requestCoalescing = requestCoalescing;
+            copy.requestListeners.addAll(requestListeners);
+            copy.objectMapper = objectMapper;
+            return copy;
+        }
+
+        RateLimiter getRateLimiter() {
+            return rateLimiter;
+        }
+
+        /**
+         * @param token API-Token for Hetzner API
+         * @return the current {@link Builder} instance
+         */
+        public Builder token(String token) {
+            this.token = token;
+            return this;
+        }
+
+        /**
+         * @param apiType Type of API to use (Cloud or Hetzner Online)
+         * @return the current {@link Builder} instance
+         */
+        public Builder apiType(APIType apiType) {
+            this.apiUrl = apiType.getBaseUrl();
+            return this;
+        }
+
+        /**
+         * @param apiUrl Custom API base URL
+         * @return the current {@link Builder} instance
+         */
+        public Builder apiUrl(String apiUrl) {
+            this.apiUrl = apiUrl;
+            return this;
+        }
+
+        /**
+         * @param client OkHttpClient the settings of this builder are applied to
+         * @return the current {@link Builder} instance
+         */
+        public Builder client(OkHttpClient client) {
+            this.client = client;
+            return this;
+        }
+
+        /**
+         * @param userAgentPrefix Prefix that should be added in front of the default user agent
+         * @return the current {@link Builder} instance
+         */
+        public Builder userAgentPrefix(String userAgentPrefix) {
+            this.userAgentPrefix = userAgentPrefix;
+            return this;
+        }
+
+        /**
+         * @param maxIdleConnections maximum number of idle connections kept in the pool
+         * @param keepAlive time an idle connection is kept
+         * @return the current {@link Builder} instance
+         */
+        public Builder connectionPool(int maxIdleConnections, Duration keepAlive) {
+            this.maxIdleConnections = maxIdleConnections;
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        /**
+         * Concurrency limits of the dispatcher used by the async API. OkHttp allows only 5 concurrent requests per
+         * host by default.
+         *
+         * @param maxRequests maximum number of concurrent requests
+         * @param maxRequestsPerHost maximum number of concurrent requests to the API host
+         * @return the current {@link Builder} instance
+         */
+        public Builder dispatcher(int maxRequests, int maxRequestsPerHost) {
+            this.maxRequests = maxRequests;
+            this.maxRequestsPerHost = maxRequestsPerHost;
+            return this;
+        }
+
+        /**
+         * @param connectTimeout connect timeout for all requests
+         * @return the current {@link Builder} instance
+         */
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        /**
+         * @param readTimeout read timeout for reads, updates and deletes
+         * @return the current {@link Builder} instance
+         */
+        public Builder readTimeout(Duration readTimeout) {
+            this.readTimeout = readTimeout;
+            return this;
+        }
+
+        /**
+         * @param writeTimeout write timeout for all requests
+         * @return the current {@link Builder} instance
+         */
+        public Builder writeTimeout(Duration writeTimeout) {
+            this.writeTimeout = writeTimeout;
+            return this;
+        }
+
+        /**
+         * Read and call timeout for POST requests, which create resources or start actions and may take considerably
+         * longer than reads.
+         *
+         * @param longRunningTimeout timeout for long-running operations
+         * @return the current {@link Builder} instance
+         */
+        public Builder longRunningTimeout(Duration longRunningTimeout) {
+            this.longRunningTimeout = longRunningTimeout;
+            return this;
+        }
+
+        /**
+         * @param http2 true to prefer HTTP/2 which multiplexes all requests over one connection, false to use HTTP/1.1 only
+         * @return the current {@link Builder} instance
+         */
+        public Builder http2(boolean http2) {
+            this.http2 = http2;
+            return this;
+        }
+
+        /**
+         * @param pageParallelism maximum number of pages requested at the same time by the listAll methods
+         * @return the current {@link Builder} instance
+         */
+        public Builder pageParallelism(int pageParallelism) {
+            this.pageParallelism = pageParallelism;
+            return this;
+        }
+
+        /**
+         * Client-side rate limiting is disabled by default.
+         *
+         * @param rateLimiter RateLimiter or null to disable client-side rate limiting
+         * @return the current {@link Builder} instance
+         */
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * Requests are not retried by default, {@link RetryPolicy#defaultPolicy()} retries transient errors.
+         *
+         * @param retryPolicy RetryPolicy or null to disable retries
+         * @return the current {@link Builder} instance
+         */
+        public Builder retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return this;
+        }
+
+        /**
+         * @param responseCache ResponseCache or null to disable caching, closed together with the client
+         * @return the current {@link Builder} instance
+         */
+        public Builder responseCache(ResponseCache responseCache) {
+            this.responseCache = responseCache;
+            return this;
+        }
+
+        /**
+         * Request coalescing is disabled by default, see {@link HetznerCloudAPI#setRequestCoalescing(boolean)}.
+         *
+         * @param requestCoalescing true to let concurrent identical GET requests share one HTTP request
+         * @return the current {@link Builder} instance
+         */
+        public Builder requestCoalescing(boolean requestCoalescing) {
+            this.requestCoalescing = requestCoalescing;
+            return this;
+        }
+
+        /**
+         * @param listener RequestListener to register
+         * @return the current {@link Builder} instance
+         */
+        public Builder requestListener(RequestListener listener) {
+            this.requestListeners.add(listener);
+            return this;
+        }
+
+        public HetznerCloudAPI build() {
+            return new HetznerCloudAPI(this);
+        }
+
+        OkHttpClient buildClient() {
+            final OkHttpClient base = client != null ? client : new OkHttpClient();
+            if (maxIdleConnections == null && maxRequests == null && connectTimeout == null && readTimeout == null
+                    && writeTimeout == null && http2 == null) {
+                return base;
+            }
+
+            final OkHttpClient.Builder builder = base.newBuilder();
+            if (maxIdleConnections != null) {
+                builder.connectionPool(new ConnectionPool(maxIdleConnections, keepAlive.toMillis(), TimeUnit.MILLISECONDS));
+            }
+            if (maxRequests != null) {
+                final Dispatcher dispatcher = new Dispatcher();
+                dispatcher.setMaxRequests(maxRequests);
+                dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+                builder.dispatcher(dispatcher);
+            }
+            if (connectTimeout != null) {
+                builder.connectTimeout(connectTimeout);
+            }
+            if (readTimeout != null) {
+                builder.readTimeout(readTimeout);
+            }
+            if (writeTimeout != null) {
+                builder.writeTimeout(writeTimeout);
+            }
+            if (http2 != null) {
+                builder.protocols(http2 ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1) : List.of(Protocol.HTTP_1_1));
+            }
+            return builder.build();
+        }
     }
 
-    private <T> T post(String url, Class<T> clazz) {
-        return exchange(url, HttpMethod.POST, objectMapper.createObjectNode(), clazz);
+    /**
+     * Sends the requests of {@link #blockingAPI} on the calling thread and returns completed futures.
+     */
+    private final class BlockingTransport implements Transport {
+
+        @Override
+        public <T> CompletableFuture<T> get(String url, Class<T> clazz) {
+            try {
+                return CompletableFuture.completedFuture(HetznerCloudAPI.this.get(url, clazz));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        @Override
+        public <T> CompletableFuture<T> exchange(String url, HttpMethod method, Object body, Class<T> clazz) {
+            try {
+                return CompletableFuture.completedFuture(HetznerCloudAPI.this.exchange(url, method, body, clazz));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        @Override
+        public <E> CompletableFuture<Meta> stream(String url, String field, Class<E> clazz, Consumer<? super E> consumer) {
+            try {
+                return CompletableFuture.completedFuture(streamPage(url, field, clazz, consumer));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+    }
+
+    /**
+     * Reads the body of a response, called once per attempt
+     */
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(Response response, Measurement measurement) throws IOException;
+    }
+
+    /**
+     * Timings and sizes of a single attempt, reported to the request listeners.
+     */
+    private static final class Measurement {
+        private int status;
+        private long responseBytes = -1;
+        private long queueNanos;
+        private long networkNanos;
+        private long deserializationNanos;
+        private String correlationId;
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            final int n = super.read(b, off, len);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            final long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
     }
 
-    private enum HttpMethod {
-        GET, PUT, POST, DELETE
+    enum HttpMethod {
+        GET, PUT, POST, DELETE;
+
+        /**
+         * @return whether a request may be sent again after an I/O error
+         */
+        boolean isIdempotent() {
+            return this != POST;
+        }
     }
 
 }
@@ -0,0 +1,3621 @@
+package io.github.sinuscosinustan.hetznercloud;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI.HttpMethod;
+import io.github.sinuscosinustan.hetznercloud.objects.enums.ImageType;
+import io.github.sinuscosinustan.hetznercloud.objects.enums.ActionStatus;
+import io.github.sinuscosinustan.hetznercloud.objects.enums.Architecture;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Certificate;
+import io.github.sinuscosinustan.hetznercloud.objects.general.FWApplicationTarget;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Firewall;
+import io.github.sinuscosinustan.hetznercloud.objects.general.FirewallRule;
+import io.github.sinuscosinustan.hetznercloud.objects.general.FloatingIP;
+import io.github.sinuscosinustan.hetznercloud.objects.general.ISO;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Image;
+import io.github.sinuscosinustan.hetznercloud.objects.general.LoadBalancer;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Meta;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Network;
+import io.github.sinuscosinustan.hetznercloud.objects.general.PlacementGroup;
+import io.github.sinuscosinustan.hetznercloud.objects.general.PrimaryIP;
+import io.github.sinuscosinustan.hetznercloud.objects.general.RRSet;
+import io.github.sinuscosinustan.hetznercloud.objects.general.SSHKey;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Server;
+import io.github.sinuscosinustan.hetznercloud.objects.general.StorageBox;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Volume;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Zone;
+import io.github.sinuscosinustan.hetznercloud.objects.enums.PlacementGroupType;
+import io.github.sinuscosinustan.hetznercloud.objects.pagination.PaginationParameters;
+import io.github.sinuscosinustan.hetznercloud.objects.request.*;
+import io.github.sinuscosinustan.hetznercloud.objects.response.*;
+import io.github.sinuscosinustan.hetznercloud.util.ISO8601Util;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Non-blocking variant of {@link HetznerCloudAPI}.
+ * <p>
+ * Every method mirrors the method with the same signature in {@link HetznerCloudAPI}, but enqueues the request
+ * on the OkHttp dispatcher instead of blocking the calling thread. The returned futures are completed on the
+ * dispatcher threads; API errors complete them exceptionally with an
+ * {@link io.github.sinuscosinustan.hetznercloud.exception.APIRequestException}.
+ * <p>
+ * Note that OkHttp limits the number of concurrent requests per host (5 by default), further calls are queued
+ * by the dispatcher of the used {@link okhttp3.OkHttpClient}. The limits can be raised with
+ * {@link HetznerCloudAPI.Builder#dispatcher(int, int)}.
+ */
+public class HetznerCloudAsyncAPI {
+
+    private final HetznerCloudAPI api;
+    private final Transport transport;
+    private final String apiUrl;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a non-blocking view of an existing API instance.
+     *
+     * @param api API instance that provides HTTP client, token and object mapper
+     * @see HetznerCloudAPI#async()
+     */
+    public HetznerCloudAsyncAPI(HetznerCloudAPI api) {
+        this(api, new Transport() {
+            @Override
+            public <T> CompletableFuture<T> get(String url, Class<T> clazz) {
+                return api.getAsync(url, clazz);
+            }
+
+            @Override
+            public <T> CompletableFuture<T> exchange(String url, HttpMethod method, Object body, Class<T> clazz) {
+                return api.exchangeAsync(url, method, body, clazz);
+            }
+
+            @Override
+            public <E> CompletableFuture<Meta> stream(String url, String field, Class<E> clazz, Consumer<? super E> consumer) {
+                return api.streamPageAsync(url, field, clazz, consumer);
+            }
+        });
+    }
+
+    /**
+     * @param api       API instance that provides token and object mapper
+     * @param transport sends the requests, {@link HetznerCloudAPI} passes one which blocks the calling thread
+     */
+    HetznerCloudAsyncAPI(HetznerCloudAPI api, Transport transport) {
+        this.api = Objects.requireNonNull(api, "api must not be null");
+        this.transport = transport;
+        this.apiUrl = api.getApiUrl();
+        this.objectMapper = api.getObjectMapper();
+    }
+
+    /**
+     * Open connections to the API before they are needed.
+     *
+     * @param connections number of connections to open
+     * @return future completed once all warm-up requests finished, it never completes exceptionally
+     * @see HetznerCloudAPI#warmUp(int)
+     */
+    public CompletableFuture<Void> warmUp(int connections) {
+        final CompletableFuture<?>[] requests = new CompletableFuture<?>[connections];
+        for (int i = 0; i < connections; i++) {
+            requests[i] = api.warmUpRequest();
+        }
+        return CompletableFuture.allOf(requests);
+    }
+
+    /**
+     * Get the first page of actions in a project.
+     *
+     * @deprecated This function has been deprecated by Hetzner
+     * @return ActionsResponse containing the first page and the pagination metadata
+     */
+    @Deprecated
+    public CompletableFuture<ActionsResponse> getActions() {
+        return getActions(null, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get the first page of actions in a project filtered by its status.
+     *
+     * @deprecated This function has been deprecated by Hetzner
+     * @param actionStatus Action status type
+     * @return ActionsResponse containing the first page of actions with the status
+     */
+    @Deprecated
+    public CompletableFuture<ActionsResponse> getActions(ActionStatus actionStatus) {
+        return getActions(actionStatus, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all actions in a project.
+     *
+     * @deprecated This function has been deprecated by Hetzner
+     * @param actionStatus Query only actions with the specified status
+     * @param paginationParameters Pagination parameters
+     * @return ActionsResponse
+     */
+    @Deprecated
+    public CompletableFuture<ActionsResponse> getActions(ActionStatus actionStatus, PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/actions".formatted(apiUrl))
+                        .queryParamIfPresent("status", Optional.ofNullable(actionStatus))
+                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                        .toUri(),
+                ActionsResponse.class);
+    }
+
+    /**
+     * Get multiple actions by their IDs.
+     *
+     * @param ids IDs of the actions, at most 50 per request
+     * @return ActionsResponse containing the requested actions
+     */
+    public CompletableFuture<ActionsResponse> getActions(List<Long> ids) {
+        return get(
+                UrlBuilder.from("%s/actions".formatted(apiUrl))
+                        .queryParams("id", ids)
+                        .queryParam("per_page", Paginator.MAX_PER_PAGE)
+                        .toUri(),
+                ActionsResponse.class);
+    }
+
+    /**
+     * Get an action by id.
+     *
+     * @param id ID of the action
+     * @return ActionResponse
+     */
+    public CompletableFuture<ActionResponse> getAction(long id) {
+        return get(
+                "%s/actions/%s".formatted(apiUrl, id),
+                ActionResponse.class);
+    }
+
+    /**
+     * Get the first page of servers in a project.
+     *
+     * @return Servers object containing the first page and the pagination metadata
+     * @see #listAllServers()
+     */
+    public CompletableFuture<ServersResponse> getServers() {
+        return getServers(null, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all servers in a project filtered by a label selector
+     *
+     * @param labelSelector Label selector
+     * @return ServersResponse containing the first page of servers which match the label selector
+     * @see #listAllServers(String)
+     */
+    public CompletableFuture<ServersResponse> getServers(String labelSelector) {
+        return getServers(labelSelector, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all servers in a project.
+     *
+     * @param labelSelector Label selector filter
+     * @param paginationParameters Pagination parameters
+     * @return All servers as Servers object
+     */
+    public CompletableFuture<ServersResponse> getServers(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/servers".formatted(apiUrl))
+                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
+                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                        .toUri(),
+                ServersResponse.class);
+    }
+
+    /**
+     * Get all servers in a project.
+     * <p>
+     * Unlike {@link #getServers()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @return all servers
+     */
+    public CompletableFuture<List<Server>> listAllServers() {
+        return Paginator.fetchAll(
+                paginationParameters -> getServers(null, paginationParameters),
+                ServersResponse::getServers,
+                ServersResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get all servers in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getServers(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @param labelSelector Label selector
+     * @return all servers which match the label selector
+     */
+    public CompletableFuture<List<Server>> listAllServers(String labelSelector) {
+        return Paginator.fetchAll(
+                paginationParameters -> getServers(labelSelector, paginationParameters),
+                ServersResponse::getServers,
+                ServersResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Stream all servers in a project to a consumer.
+     * <p>
+     * The pages are requested one after another, every page is parsed directly from the response body and each
+     * server is handed to the consumer as soon as it has been read. The consumer is called on the OkHttp dispatcher.
+     *
+     * @param consumer Consumer which is called for every server
+     * @return future completed once all pages were handed to the consumer
+     */
+    public CompletableFuture<Void> forEachServer(Consumer<? super Server> consumer) {
+        return forEachServer(null, consumer);
+    }
+
+    /**
+     * Stream all servers in a project which match a label selector to a consumer.
+     *
+     * @param labelSelector Label selector
+     * @param consumer Consumer which is called for every matching server
+     * @return future completed once all pages were handed to the consumer
+     * @see #forEachServer(Consumer)
+     */
+    public CompletableFuture<Void> forEachServer(String labelSelector, Consumer<? super Server> consumer) {
+        return forEachItem(
+                paginationParameters -> UrlBuilder.from("%s/servers".formatted(apiUrl))
+                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
+                        .queryParam("page", paginationParameters.page)
+                        .queryParam("per_page", paginationParameters.perPage)
+                        .toUri(),
+                "servers", Server.class, consumer, 1);
+    }
+
+    /**
+     * Get servers by name.
+     *
+     * @param name Name of the server
+     * @return Matching servers as Servers object
+     */
+    public CompletableFuture<ServersResponse> getServer(String name) {
+        return get(
+                UrlBuilder.from("%s/servers".formatted(apiUrl))
+                        .queryParam("name", name)
+                        .toUri(),
+                ServersResponse.class);
+    }
+
+    /**
+     * Get a server by id
+     *
+     * @param id id of the server
+     * @return GetServerResponse
+     */
+    public CompletableFuture<ServerResponse> getServer(long id) {
+        return get(
+                "%s/servers/%s".formatted(apiUrl, id),
+                ServerResponse.class);
+    }
+
+    /**
+     * Create a server.
+     *
+     * @param createServerRequest Parameters for server creation.
+     * @return ServerResponse including Action status, Server object and (if no ssh key defined) root password.
+     */
+    public CompletableFuture<CreateServerResponse> createServer(CreateServerRequest createServerRequest) {
+        createServerRequest.setServerType(createServerRequest.getServerType().toLowerCase());   // Case-sensitive fix
+        return post(
+                "%s/servers".formatted(apiUrl),
+                createServerRequest,
+                CreateServerResponse.class);
+    }
+
+    /**
+     * Delete a server
+     *
+     * @param id id of the server.
+     * @return ActionResponse object
+     */
+    public CompletableFuture<ActionResponse> deleteServer(long id) {
+        return delete(
+                "%s/servers/%s".formatted(apiUrl, id),
+                ActionResponse.class);
+    }
+
+    /**
+     * Update a server's name and its labels.
+     *
+     * @param id            id of the server.
+     * @param updateServerRequest request
+     * @return ServerResponse object
+     */
+    public CompletableFuture<ServerResponse> updateServer(long id, UpdateServerRequest updateServerRequest) {
+        return put(
+                "%s/servers/%s".formatted(apiUrl, id),
+                updateServerRequest,
+                ServerResponse.class);
+    }
+
+    /**
+     * Request a WebSocket URL for a server.
+     *
+     * @param id id of the server
+     * @return ConsoleResponse object
+     */
+    public CompletableFuture<ConsoleResponse> requestConsole(long id) {
+        return post(
+                "%s/servers/%s/actions/request_console".formatted(apiUrl, id),
+                ConsoleResponse.class);
+    }
+
+    /**
+     * Change the protection configuration of a server.
+     *
+     * @param id               id of the server
+     * @param changeProtection Request Object (both optional)
+     * @return ActionResponse object
+     */
+    public CompletableFuture<ActionResponse> changeServerProtection(long id, ChangeProtectionRequest changeProtection) {
+        return post(
+                "%s/servers/%s/actions/change_protection".formatted(apiUrl, id),
+                changeProtection,
+                ActionResponse.class);
+    }
+
+    /**
+     * Add a server to a placement group.
+     * Server has to be stopped.
+     *
+     * @param serverId         server id
+     * @param placementGroupId placement group id
+     * @return ActionResponse
+     */
+    public CompletableFuture<ActionResponse> addServerToPlacementGroup(long serverId, long placementGroupId) {
+        return post(
+                "%s/servers/%s/actions/add_to_placement_group".formatted(apiUrl, serverId),
+                new PlacementGroupAddServerRequest(placementGroupId),
+                ActionResponse.class);
+    }
+
+    /**
+     * Remove a server from a placement group.
+     *
+     * @param serverId server id
+     * @return ActionResponse
+     */
+    public CompletableFuture<ActionResponse> removeServerFromPlacementGroup(long serverId) {
+        return post(
+                "%s/servers/%s/actions/remove_from_placement_group".formatted(apiUrl, serverId),
+                ActionResponse.class);
+    }
+
+    /**
+     * Get all performed Actions of a server.
+     *
+     * @param id id of the server
+     * @return ActionsResponse object
+     */
+    public CompletableFuture<ActionsResponse> getServerActions(long id) {
+        return get(
+                "%s/servers/%s/actions".formatted(apiUrl, id),
+                ActionsResponse.class);
+    }
+
+    /**
+     * Get all performed Actions of a Floating IP
+     *
+     * @param id ID of the FloatingIP
+     * @return ActionsResponse object
+     */
+    public CompletableFuture<ActionsResponse> getFloatingIPActions(long id) {
+        return get("%s/floating_ips/%s/actions".formatted(apiUrl, id),
+                ActionsResponse.class);
+    }
+
+    /**
+     * Power on a specific server with the id
+     *
+     * @param id of the server
+     * @return respond
+     */
+    public CompletableFuture<ActionResponse> powerOnServer(long id) {
+        return post(
+                "%s/servers/%s/actions/poweron".formatted(apiUrl, id),
+                ActionResponse.class);
+    }
+
+    /**
+     * Force power off a specific server with the id
+     *
+     * @param id of the server
+     * @return respond
+     */
+    public CompletableFuture<ActionResponse> powerOffServer(long id) {
+        return post(
+                "%s/servers/%s/actions/poweroff".formatted(apiUrl, id),
+                ActionResponse.class);
+    }
+
+    /**
+     * Reboot a specific server with the id
+     *
+     * @param id of the server
+     * @return respond
+     */
+    public CompletableFuture<ActionResponse> rebootServer(long id) {
+        return post(
+                "%s/servers/%s/actions/reboot".formatted(apiUrl, id),
+                ActionResponse.class);
+    }
+
+    /**
+     * Reset a specific server with the id
+     *
+     * @param id of the server
+     * @return respond
+     */
+    public CompletableFuture<ActionResponse> resetServer(long id) {
+        return post(
+                "%s/servers/%s/actions/reset".formatted(apiUrl, id),
+                ActionResponse.class);
+    }
+
+    /**
+     * Shutdown a specific server via ACPI with the id
+     *
+     * @param id ID of the server
+     * @return respond
+     */
+    public CompletableFuture<ActionResponse> shutdownServer(long id) {
+        return post(
+                "%s/servers/%s/actions/shutdown".formatted(apiUrl, id),
+                ActionResponse.class);
+    }
+
+    /**
+     * Resets the root password from a specific server with the id
+     *
+     * @param id ID of the server
+     * @return respond
+     */
+    public CompletableFuture<ResetRootPasswordResponse> resetRootPassword(long id) {
+        return post(
+                "%s/servers/%s/actions/reset_password".formatted(apiUrl, id),
+                ResetRootPasswordResponse.class);
+    }
+
+    /**
+     * Enables the rescue mode from the server
+     *
+     * @param id ID of the server
+     * @return respond
+     */
+    public CompletableFuture<EnableRescueResponse> enableRescue(long id) {
+        return post(
+                "%s/servers/%s/actions/enable_rescue".formatted(apiUrl, id),
+                EnableRescueResponse.class);
+    }
+
+    /**
+     * Enables the rescue mode from the server
+     *
+     * @param id                  ID of the server
+     * @param enableRescueRequest Request object
+     * @return respond
+     */
+    public CompletableFuture<EnableRescueResponse> enableRescue(long id, EnableRescueRequest enableRescueRequest) {
+        return post(
+                "%s/servers/%s/actions/enable_rescue".formatted(apiUrl, id),
+                enableRescueRequest,
+                EnableRescueResponse.class);
+    }
+
+    /**
+     * Disables the rescue mode from the server.
+     * <p>
+     * Only needed, if the server doesn't booted into the rescue mode.
+     *
+     * @param id ID of the server
+     * @return respond
+     */
+    public CompletableFuture<ActionResponse> disableRescue(long id) {
+        return post(
+                "%s/servers/%s/actions/disable_rescue".formatted(apiUrl, id),
+                ActionResponse.class);
+    }
+
+    /**
+     * Rebuild a server, with the specific image.
+     * <p>
+     * example: ubuntu-16.04
+     *
+     * @param id                   ID of the server
+     * @param rebuildServerRequest Request object
+     * @return respond
+     */
+    public CompletableFuture<RebuildServerResponse> rebuildServer(long id, RebuildServerRequest rebuildServerRequest) {
+        return post(
+                "%s/servers/%s/actions/rebuild".formatted(apiUrl, id),
+                rebuildServerRequest,
+                RebuildServerResponse.class);
+    }
+
+    /**
+     * Change the type from the server
+     * <p>
+     * example: from cx11 to cpx21
+     *
+     * @param id                ID of the server
+     * @param changeTypeRequest Request object
+     * @return respond
+     */
+    public CompletableFuture<ActionResponse> changeServerType(long id, ChangeTypeRequest changeTypeRequest) {
+        return post(
+                "%s/servers/%s/actions/change_type".formatted(apiUrl, id),
+                changeTypeRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Get the metrics from a server
+     *
+     * @param id         ID of the server
+     * @param metricType like cpu, disk or network (but also cpu,disk possible)
+     * @param start      of the metric
+     * @param end        of the metric
+     * @return respond
+     */
+    public CompletableFuture<MetricsResponse> getServerMetrics(long id, String metricType, String start, String end) {
+        return get(
+                UrlBuilder.from(
+                        "%s/servers/%s/metrics".formatted(apiUrl, id))
+                        .queryParam("type", metricType)
+                        .queryParam("start", start)
+                        .queryParam("end", end)
+                        .toUri(),
+                MetricsResponse.class);
+    }
+
+    /**
+     * Get the metrics from a server with every series decoded into primitive arrays.
+     * <p>
+     * Prefer this over {@link #getServerMetrics(long, String, String, String)} for long ranges or small steps, as it
+     * does not create a boxed object per data point.
+     *
+     * @param id         ID of the server
+     * @param metricType like cpu, disk or network (but also cpu,disk possible)
+     * @param start      of the metric
+     * @param end        of the metric
+     * @return respond
+     */
+    public CompletableFuture<TypedMetricsResponse> getTypedServerMetrics(long id, String metricType, String start, String end) {
+        return get(
+                UrlBuilder.from(
+                        "%s/servers/%s/metrics".formatted(apiUrl, id))
+                        .queryParam("type", metricType)
+                        .queryParam("start", start)
+                        .queryParam("end", end)
+                        .toUri(),
+                TypedMetricsResponse.class);
+    }
+
+    /**
+     * Get the metrics from a server with every series decoded into primitive arrays.
+     *
+     * @param id         ID of the server
+     * @param metricType like cpu, disk or network (but also cpu,disk possible)
+     * @param start      of the metric
+     * @param end        of the metric
+     * @param step       resolution in seconds or null to let the API choose
+     * @return respond
+     */
+    public CompletableFuture<TypedMetricsResponse> getTypedServerMetrics(long id, String metricType, Instant start, Instant end, Long step) {
+        return get(
+                UrlBuilder.from(
+                        "%s/servers/%s/metrics".formatted(apiUrl, id))
+                        .queryParam("type", metricType)
+                        .queryParam("start", ISO8601Util.format(start))
+                        .queryParam("end", ISO8601Util.format(end))
+                        .queryParamIfPresent("step", Optional.ofNullable(step))
+                        .toUri(),
+                TypedMetricsResponse.class);
+    }
+
+    /**
+     * Create an image from a server
+     *
+     * @param id                 ID of the server
+     * @param createImageRequest Request object
+     * @return respond
+     */
+    public CompletableFuture<CreateImageResponse> createImage(long id, CreateImageRequest createImageRequest) {
+        return post(
+                "%s/servers/%s/actions/create_image".formatted(apiUrl, id),
+                createImageRequest,
+                CreateImageResponse.class);
+    }
+
+    /**
+     * Enable or disable the Protection of an Image
+     *
+     * @param id                ID of the image
+     * @param protectionRequest Only the delete parameter!
+     * @return ActionResponse object
+     */
+    public CompletableFuture<ActionResponse> changeImageProtection(long id, ChangeProtectionRequest protectionRequest) {
+        return post(
+                "%s/images/%s/actions/change_protection".formatted(apiUrl, id),
+                protectionRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Enable the backups from a server
+     *
+     * Please note that this action will increase the price of the server by 20%
+     *
+     * @param id ID of the server
+     * @return response
+     */
+    public CompletableFuture<ActionResponse> enableBackup(long id) {
+        return post(
+                "%s/servers/%s/actions/enable_backup".formatted(apiUrl, id),
+                ActionResponse.class);
+    }
+
+    /**
+     * Get all available ISO's.
+     *
+     * @return ISOSResponse
+     */
+    public CompletableFuture<ISOSResponse> getISOS() {
+        return getISOS(null, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all available ISO's by architecture.
+     *
+     * @param architecture {@link Architecture}
+     * @return {@link ISOSResponse}
+     */
+    public CompletableFuture<ISOSResponse> getISOS(Architecture architecture) {
+        return getISOS(architecture, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all available ISO's with pagination.
+     * @param paginationParameters Pagination
+     * @return {@link ISOSResponse}
+     */
+    public CompletableFuture<ISOSResponse> getISOS(PaginationParameters paginationParameters) {
+        return getISOS(null, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all available ISO's.
+     *
+     * @param architecture {@link Architecture}
+     * @param paginationParameters Pagination parametres
+     * @return {@link ISOSResponse}
+     */
+    public CompletableFuture<ISOSResponse> getISOS(Architecture architecture, PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/isos".formatted(apiUrl))
+                        .queryParamIfPresent("architecture", Optional.ofNullable(architecture))
+                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                        .toUri(),
+                ISOSResponse.class);
+    }
+
+    /**
+     * Get all available ISO's.
+     * <p>
+     * Unlike {@link #getISOS()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @return all ISO's
+     */
+    public CompletableFuture<List<ISO>> listAllISOS() {
+        return listAllISOS(null);
+    }
+
+    /**
+     * Get all available ISO's by architecture.
+     * <p>
+     * Unlike {@link #getISOS(Architecture)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @param architecture {@link Architecture}, may be null
+     * @return all ISO's for the architecture
+     */
+    public CompletableFuture<List<ISO>> listAllISOS(Architecture architecture) {
+        return Paginator.fetchAll(
+                paginationParameters -> getISOS(architecture, paginationParameters),
+                ISOSResponse::getIsos,
+                ISOSResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get an ISO by ID
+     *
+     * @param id ID of the ISO
+     * @return ISOResponse Object
+     */
+    public CompletableFuture<ISOResponse> getISO(long id) {
+        return get(
+                "%s/isos/%s".formatted(apiUrl, id),
+                ISOResponse.class);
+    }
+
+    /**
+     * Attach an ISO to a server.
+     * <p>
+     * To get all ISO's {@link #getISOS}
+     *
+     * @param id               of the server
+     * @param attachISORequest Request object
+     * @return ActionResponse object
+     */
+    public CompletableFuture<ActionResponse> attachISO(long id, AttachISORequest attachISORequest) {
+        return post(
+                "%s/servers/%s/actions/attach_iso".formatted(apiUrl, id),
+                attachISORequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Detach an ISO from a server.
+     *
+     * @param id of the server
+     * @return respond
+     */
+    public CompletableFuture<ActionResponse> detachISO(long id) {
+        return post(
+                "%s/servers/%s/actions/detach_iso".formatted(apiUrl, id),
+                ActionResponse.class);
+    }
+
+    /**
+     * Changes the reverse DNS entry from a server.
+     * <p>
+     * Floating IPs assigned to the server are not affected!
+     *
+     * @param id                      ID of the server
+     * @param changeReverseDNSRequest Request object
+     * @return respond
+     */
+    public CompletableFuture<ActionResponse> changeDNSPTR(long id, ChangeReverseDNSRequest changeReverseDNSRequest) {
+        return post(
+                "%s/servers/%s/actions/change_dns_ptr".formatted(apiUrl, id),
+                changeReverseDNSRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Get a Datacenter by ID
+     *
+     * @param id of the Datacenter
+     * @return respond
+     */
+    public CompletableFuture<DatacenterResponse> getDatacenter(long id) {
+        return get(
+                "%s/datacenters/%s".formatted(apiUrl, id),
+                DatacenterResponse.class);
+    }
+
+    /**
+     * Get all available datacenters and the recommendation
+     *
+     * @return respond
+     */
+    public CompletableFuture<DatacentersResponse> getDatacenters() {
+        return get(
+                "%s/datacenters".formatted(apiUrl),
+                DatacentersResponse.class);
+    }
+
+    /**
+     * Get a datacenter by name
+     *
+     * @param name of the datacenter
+     * @return DatacentersResponse
+     */
+    public CompletableFuture<DatacentersResponse> getDatacenter(String name) {
+        return get(
+                UrlBuilder.from("%s/datacenters".formatted(apiUrl))
+                        .queryParam("name", name)
+                        .toUri(),
+                DatacentersResponse.class);
+    }
+
+    /**
+     * Returns 25 Firewall objects.
+     *
+     * @return a FirewallsResponse containing all Firewalls of the requested page and paging metadata
+     * @see #getFirewalls(String, PaginationParameters)
+     */
+    public CompletableFuture<FirewallsResponse> getFirewalls() {
+        return getFirewalls(null, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all Firewalls in a project by label selector.
+     *
+     * @param labelSelector Label Selector
+     * @return FirewallsResponse
+     * @see #getFirewalls(String, PaginationParameters)
+     */
+    public CompletableFuture<FirewallsResponse> getFirewalls(String labelSelector) {
+        return getFirewalls(labelSelector, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all Firewalls in a project.
+     *
+     * @param paginationParameters Pagination parametres
+     * @return FirewallsResponse
+     * @see #getFirewalls(String, PaginationParameters)
+     */
+    public CompletableFuture<FirewallsResponse> getFirewalls(PaginationParameters paginationParameters) {
+        return getFirewalls(null, paginationParameters);
+    }
+
+    /**
+     * Returns all Firewall objects.
+     *
+     * @param paginationParameters
+     * @return a FirewallsResponse containing all Firewalls of the requested page and paging metadata
+     */
+    public CompletableFuture<FirewallsResponse> getFirewalls(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/firewalls".formatted(apiUrl))
+                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
+                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                        .toUri(),
+                FirewallsResponse.class);
+    }
+
+    /**
+     * Get all Firewalls in a project.
+     * <p>
+     * Unlike {@link #getFirewalls()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @return all Firewalls
+     */
+    public CompletableFuture<List<Firewall>> listAllFirewalls() {
+        return Paginator.fetchAll(
+                paginationParameters -> getFirewalls(null, paginationParameters),
+                FirewallsResponse::getFirewalls,
+                FirewallsResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get all Firewalls in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getFirewalls(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @param labelSelector Label selector
+     * @return all Firewalls which match the label selector
+     */
+    public CompletableFuture<List<Firewall>> listAllFirewalls(String labelSelector) {
+        return Paginator.fetchAll(
+                paginationParameters -> getFirewalls(labelSelector, paginationParameters),
+                FirewallsResponse::getFirewalls,
+                FirewallsResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Creates a new Firewall.
+     *
+     * @param createFirewallRequest the config of the Firewall you want to create
+     * @return a FirewallResponse containing the created Firewall and taken Actions
+     */
+    public CompletableFuture<CreateFirewallResponse> createFirewall(CreateFirewallRequest createFirewallRequest) {
+        return post(
+                "%s/firewalls".formatted(apiUrl),
+                createFirewallRequest,
+                CreateFirewallResponse.class);
+    }
+
+    /**
+     * Deletes a Firewall.
+     *
+     * @param id
+     */
+    public CompletableFuture<Void> deleteFirewall(long id) {
+        return delete(
+                "%s/firewalls/%s".formatted(apiUrl, id),
+                String.class)
+                .thenApply(ignored -> null);
+    }
+
+    /**
+     * Gets a specific Firewall.
+     *
+     * @param id
+     * @return the FirewallResponse containing the searched Firewall
+     */
+    public CompletableFuture<CreateFirewallResponse> getFirewall(long id) {
+        return get(
+                "%s/firewalls/%s".formatted(apiUrl, id),
+                CreateFirewallResponse.class);
+    }
+
+    /**
+     * Updates the Firewall. This replaces the current labels with the given
+     *
+     * @param id
+     * @param updateFirewallRequest the changes you want to perform
+     * @return the FirewallResponse of the request, containing the new Firewall and Metadata
+     */
+    public CompletableFuture<CreateFirewallResponse> updateFirewall(long id, UpdateFirewallRequest updateFirewallRequest) {
+        return put(
+                "%s/firewalls/%s".formatted(apiUrl, id),
+                updateFirewallRequest,
+                CreateFirewallResponse.class);
+    }
+
+    /**
+     * Returns all Action objects for a Firewall.
+     *
+     * @param id
+     * @return an ActionsResponse with the executed actions
+     */
+    public CompletableFuture<ActionsResponse> getFirewallActions(long id) {
+        return get(
+                "%s/firewalls/%s/actions".formatted(apiUrl, id),
+                ActionsResponse.class);
+    }
+
+    /**
+     * Applies one Firewall to multiple resources.
+     *
+     * @param id of the firewall you want to add to resources
+     * @param applicationTargets you want to add
+     * @return an ActionsResponse with the executed actions
+     */
+    public CompletableFuture<ActionsResponse> applyFirewallToResources(long id, List<FWApplicationTarget> applicationTargets) {
+        return post(
+                "%s/firewalls/%s/actions/apply_to_resources".formatted(apiUrl, id),
+                Map.of("apply_to", applicationTargets),
+                ActionsResponse.class);
+    }
+
+    /**
+     * Removes one Firewall from multiple resources.
+     *
+     * @param id of the firewall you want to remove resources from
+     * @param removalTargets you want to remove
+     * @return an ActionsResponse with the executed actions
+     */
+    public CompletableFuture<ActionsResponse> removeFirewallFromResources(long id, List<FWApplicationTarget> removalTargets) {
+        return post(
+                "%s/firewalls/%s/actions/remove_from_resources".formatted(apiUrl, id),
+                Map.of("remove_from", removalTargets),
+                ActionsResponse.class);
+    }
+
+    /**
+     * Removes all rules of a Firewall.
+     *
+     * @param id the firewall you want to remove the rules from
+     * @return an ActionsResponse with the executed actions
+     * @see #setFirewallRules(long, List)
+     */
+    public CompletableFuture<ActionsResponse> removeAllRulesFromFirewall(long id) {
+        return setFirewallRules(id, Collections.emptyList());
+    }
+
+    /**
+     * Sets the rules of a Firewall. All existing rules will be overwritten.
+     * If the firewallRules are empty, all rules are deleted.
+     *
+     * @param id of the Firewall you want to set the Rules on.
+     * @param firewallRules you want to set.
+     * @return an ActionsResponse with the executed actions
+     */
+    public CompletableFuture<ActionsResponse> setFirewallRules(long id, List<FirewallRule> firewallRules) {
+        return post(
+                "%s/firewalls/%s/actions/set_rules".formatted(apiUrl, id),
+                Map.of("rules", firewallRules),
+                ActionsResponse.class);
+    }
+
+    /**
+     * Get all prices from the products
+     *
+     * @return PricingResponse
+     */
+    public CompletableFuture<PricingResponse> getPricing() {
+        return get(
+                "%s/pricing".formatted(apiUrl),
+                PricingResponse.class);
+    }
+
+    /**
+     * Get all Primary IPs in a project
+     *
+     * @return PrimaryIPsResponse
+     */
+    public CompletableFuture<PrimaryIPsResponse> getPrimaryIPs() {
+        return getPrimaryIPs(null, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all Primary IPs in a project by label selector
+     *
+     * @param labelSelector Label selector
+     * @return PrimaryIPsResponse
+     */
+    public CompletableFuture<PrimaryIPsResponse> getPrimaryIPs(String labelSelector) {
+        return getPrimaryIPs(labelSelector, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all Primary IPs in a project
+     *
+     * @param labelSelector Label selector
+     * @param paginationParameters Pagination parametres
+     * @return PrimaryIPsResponse
+     */
+    public CompletableFuture<PrimaryIPsResponse> getPrimaryIPs(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/primary_ips".formatted(apiUrl))
+                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
+                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                        .toUri(),
+                PrimaryIPsResponse.class);
+    }
+
+    /**
+     * Get all Primary IPs in a project.
+     * <p>
+     * Unlike {@link #getPrimaryIPs()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @return all Primary IPs
+     */
+    public CompletableFuture<List<PrimaryIP>> listAllPrimaryIPs() {
+        return Paginator.fetchAll(
+                paginationParameters -> getPrimaryIPs(null, paginationParameters),
+                PrimaryIPsResponse::getPrimaryIPs,
+                PrimaryIPsResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get all Primary IPs in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getPrimaryIPs(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @param labelSelector Label selector
+     * @return all Primary IPs which match the label selector
+     */
+    public CompletableFuture<List<PrimaryIP>> listAllPrimaryIPs(String labelSelector) {
+        return Paginator.fetchAll(
+                paginationParameters -> getPrimaryIPs(labelSelector, paginationParameters),
+                PrimaryIPsResponse::getPrimaryIPs,
+                PrimaryIPsResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get a Primary IP by its name in a project
+     *
+     * @param name Name of the Primary IP
+     * @return PrimaryIPsResponse
+     */
+    public CompletableFuture<PrimaryIPsResponse> getPrimaryIPByName(String name) {
+        return get(
+                UrlBuilder.from("%s/primary_ips".formatted(apiUrl))
+                        .queryParam("name", name)
+                        .toUri(),
+                PrimaryIPsResponse.class);
+    }
+
+    /**
+     * Get a Primary IP by the IP address itself
+     *
+     * @param ip IP address
+     * @return PrimaryIPsResponse
+     */
+    public CompletableFuture<PrimaryIPsResponse> getPrimaryIP(String ip) {
+        return get(
+                UrlBuilder.from("%s/primary_ips".formatted(apiUrl))
+                        .queryParam("ip", ip)
+                        .toUri(),
+                PrimaryIPsResponse.class);
+    }
+
+    /**
+     * Get a Primary IP by its id
+     *
+     * @param id id of the Primary IP
+     * @return PrimaryIPResponse
+     */
+    public CompletableFuture<PrimaryIPResponse> getPrimaryIP(long id) {
+        return get(
+                "%s/primary_ips/%s".formatted(apiUrl, id),
+                PrimaryIPResponse.class);
+    }
+
+    /**
+     * Create a Primary IP
+     *
+     * @param createPrimaryIPRequest Primary IP request
+     * @return CreatePrimaryIPResponse
+     */
+    public CompletableFuture<CreatePrimaryIPResponse> createPrimaryIP(CreatePrimaryIPRequest createPrimaryIPRequest) {
+        return post(
+                "%s/primary_ips".formatted(apiUrl),
+                createPrimaryIPRequest,
+                CreatePrimaryIPResponse.class);
+    }
+
+    /**
+     * Update a Primary IP
+     * @param updatePrimaryIPRequest Primary IP Update request
+     * @return PrimaryIPResponse
+     */
+    public CompletableFuture<PrimaryIPResponse> updatePrimaryIP(long id, UpdatePrimaryIPRequest updatePrimaryIPRequest) {
+        return put(
+                "%s/primary_ips/%s".formatted(apiUrl, id),
+                updatePrimaryIPRequest,
+                PrimaryIPResponse.class);
+    }
+
+    /**
+     * Assign a Primary IP to a resource.
+     *
+     * @param id id of the Primary IP
+     * @param assignPrimaryIPRequest Primary IP Resource Assignment request
+     * @return ActionResponse
+     */
+    public CompletableFuture<ActionResponse> assignPrimaryIP(long id, AssignPrimaryIPRequest assignPrimaryIPRequest) {
+        return post(
+                "%s/primary_ips/%s/actions/assign".formatted(apiUrl, id),
+                assignPrimaryIPRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Unassign a Primary IP from a resource.
+     *
+     * @param id id of the Primary IP
+     * @return ActionResponse
+     */
+    public CompletableFuture<ActionResponse> unassignPrimaryIP(long id) {
+        return post(
+                "%s/primary_ips/%s/actions/unassign".formatted(apiUrl, id),
+                ActionResponse.class);
+    }
+
+    /**
+     * Update a reverse DNS entry for a Primary IP
+     *
+     * @param id id of the Primary IP
+     * @param changeReverseDNSRequest Reverse DNS update change
+     * @return ActionResponse
+     */
+    public CompletableFuture<ActionResponse> changePrimaryIPReverseDNS(long id, ChangeReverseDNSRequest changeReverseDNSRequest) {
+        return post(
+                "%s/primary_ips/%s/actions/change_dns_ptr".formatted(apiUrl, id),
+                changeReverseDNSRequest,
+                ActionResponse.class);
+    }
+
+    public CompletableFuture<ActionResponse> changePrimaryIPProtection(long id, ChangeProtectionRequest changeProtectionRequest) {
+        return post(
+                "%s/primary_ips/%s/actions/change_protection".formatted(apiUrl, id),
+                changeProtectionRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Delete a Primary IP
+     *
+     * @param id id of the Primary IP
+     * @return nothing
+     */
+    public CompletableFuture<String> deletePrimaryIP(Long id) {
+        return delete(
+                "%s/primary_ips/%s".formatted(apiUrl, id),
+                String.class);
+    }
+
+    /**
+     * Get all Floating IPs in a project.
+     *
+     * @return FloatingIPsResponse
+     */
+    public CompletableFuture<FloatingIPsResponse> getFloatingIPs() {
+        return getFloatingIPs(new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all Floating IPs in a project.
+     *
+     * @param paginationParameters Pagination parametres
+     * @return FloatingIPsResponse
+     */
+    public CompletableFuture<FloatingIPsResponse> getFloatingIPs(PaginationParameters paginationParameters) {
+        return getFloatingIPs(null, paginationParameters);
+    }
+
+    /**
+     * Get all Floating IPs in a project by label selector.
+     * A label selector can be e.g. env=prod
+     *
+     * @param labelSelector Label selector
+     * @return FloatingIPsResponse
+     */
+    public CompletableFuture<FloatingIPsResponse> getFloatingIPs(String labelSelector) {
+        return getFloatingIPs(labelSelector, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all Floating IPs in a project.
+     * A label selector can be e.g. env=prod
+     *
+     * @param labelSelector        Label selector
+     * @param paginationParameters Pagination parametres
+     * @return FloatingIPsResponse
+     */
+    public CompletableFuture<FloatingIPsResponse> getFloatingIPs(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/floating_ips".formatted(apiUrl))
+                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
+                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                        .toUri(),
+                FloatingIPsResponse.class);
+    }
+
+    /**
+     * Get all Floating IPs in a project.
+     * <p>
+     * Unlike {@link #getFloatingIPs()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @return all Floating IPs
+     */
+    public CompletableFuture<List<FloatingIP>> listAllFloatingIPs() {
+        return Paginator.fetchAll(
+                paginationParameters -> getFloatingIPs(null, paginationParameters),
+                FloatingIPsResponse::getFloatingIps,
+                FloatingIPsResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get all Floating IPs in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getFloatingIPs(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @param labelSelector Label selector
+     * @return all Floating IPs which match the label selector
+     */
+    public CompletableFuture<List<FloatingIP>> listAllFloatingIPs(String labelSelector) {
+        return Paginator.fetchAll(
+                paginationParameters -> getFloatingIPs(labelSelector, paginationParameters),
+                FloatingIPsResponse::getFloatingIps,
+                FloatingIPsResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get a specific Floating IP.
+     *
+     * @param id ID of the Floating IP
+     * @return GetFloatingIPResponse
+     */
+    public CompletableFuture<FloatingIPResponse> getFloatingIP(long id) {
+        return get(
+                "%s/floating_ips/%s".formatted(apiUrl, id),
+                FloatingIPResponse.class);
+    }
+
+    /**
+     * Create a Floating IP for the project or for a Server.
+     *
+     * @param createFloatingIPRequest Request object
+     * @return FloatingIPResponse object
+     */
+    public CompletableFuture<CreateFloatingIPResponse> createFloatingIP(CreateFloatingIPRequest createFloatingIPRequest) {
+        return post(
+                "%s/floating_ips".formatted(apiUrl),
+                createFloatingIPRequest,
+                CreateFloatingIPResponse.class);
+    }
+
+    /**
+     * Enable or disable the Protection of a Floating IP
+     *
+     * @param id                ID of the Floating IP
+     * @param protectionRequest Only the delete parameter!
+     * @return ActionResponse object
+     */
+    public CompletableFuture<ActionResponse> changeFloatingIPProtection(long id, ChangeProtectionRequest protectionRequest) {
+        return post(
+                "%s/floating_ips/%s/actions/change_protection".formatted(apiUrl, id),
+                protectionRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Assign a Floating IP to a server
+     *
+     * @param id                      ID of the Floating IP
+     * @param assignFloatingIPRequest Request object
+     * @return ActionResponse object
+     */
+    public CompletableFuture<ActionResponse> assignFloatingIP(long id, AssignFloatingIPRequest assignFloatingIPRequest) {
+        return post(
+                "%s/floating_ips/%s/actions/assign".formatted(apiUrl, id),
+                assignFloatingIPRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Unassign a Floating IP from a server
+     *
+     * @param id ID of the Floating IP
+     * @return ActionResponse object
+     */
+    public CompletableFuture<ActionResponse> unassignFloatingIP(long id) {
+        return post(
+                "%s/floating_ips/%s/actions/unassign".formatted(apiUrl, id),
+                ActionResponse.class);
+    }
+
+    /**
+     * Change the reverse DNS entry for a Floating IP
+     *
+     * @param id                      ID of the Floating IP
+     * @param changeReverseDNSRequest Request object
+     * @return ActionResponse object
+     */
+    public CompletableFuture<ActionResponse> changeFloatingReverseDNS(long id, ChangeReverseDNSRequest changeReverseDNSRequest) {
+        return post(
+                "%s/floating_ips/%s/actions/change_dns_ptr".formatted(apiUrl, id),
+                changeReverseDNSRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Delete a Floating IP.
+     * <p>
+     * This object does not have a respond!
+     *
+     * @param id ID of the Floating ID
+     * @return String
+     */
+    public CompletableFuture<String> deleteFloatingIP(long id) {
+        return delete(
+                "%s/floating_ips/%s".formatted(apiUrl, id),
+                String.class);
+    }
+
+    /**
+     * Update the description or labels of a Floating IP.
+     *
+     * @param id                      ID of the Floating IP
+     * @param updateFloatingIPRequest Request Object
+     * @return Response from API (Action will be null)
+     */
+    public CompletableFuture<CreateFloatingIPResponse> updateFloatingIP(long id, UpdateFloatingIPRequest updateFloatingIPRequest) {
+        return put(
+                "%s/floating_ips/%s".formatted(apiUrl, id),
+                updateFloatingIPRequest,
+                CreateFloatingIPResponse.class);
+    }
+
+    /**
+     * Get all SSH keys.
+     *
+     * @return SSHKeysResponse
+     */
+    public CompletableFuture<SSHKeysResponse> getSSHKeys() {
+        return getSSHKeys(new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all SSH keys.
+     *
+     * @param paginationParameters Pagination parameters
+     * @return SSHKeysResponse
+     */
+    public CompletableFuture<SSHKeysResponse> getSSHKeys(PaginationParameters paginationParameters) {
+        return getSSHKeys(null, paginationParameters);
+    }
+
+    /**
+     * Get all SSH keys by label.
+     *
+     * @param labelSelector Label selector
+     * @return SSHKeysResponse
+     */
+    public CompletableFuture<SSHKeysResponse> getSSHKeys(String labelSelector) {
+        return getSSHKeys(labelSelector, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all SSH keys by label.
+     *
+     * @param labelSelector Label selector
+     * @param paginationParameters Pagination parameters
+     * @return SSHKeysResponse
+     */
+    public CompletableFuture<SSHKeysResponse> getSSHKeys(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/ssh_keys".formatted(apiUrl))
+                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
+                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                        .toUri(),
+                SSHKeysResponse.class);
+    }
+
+    /**
+     * Get all SSH keys in a project.
+     * <p>
+     * Unlike {@link #getSSHKeys()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @return all SSH keys
+     */
+    public CompletableFuture<List<SSHKey>> listAllSSHKeys() {
+        return Paginator.fetchAll(
+                paginationParameters -> getSSHKeys(null, paginationParameters),
+                SSHKeysResponse::getSshKeys,
+                SSHKeysResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get all SSH keys in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getSSHKeys(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @param labelSelector Label selector
+     * @return all SSH keys which match the label selector
+     */
+    public CompletableFuture<List<SSHKey>> listAllSSHKeys(String labelSelector) {
+        return Paginator.fetchAll(
+                paginationParameters -> getSSHKeys(labelSelector, paginationParameters),
+                SSHKeysResponse::getSshKeys,
+                SSHKeysResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get an SSH key by ID.
+     *
+     * @param id ID of the SSH key
+     * @return SSHKeyResponse
+     */
+    public CompletableFuture<SSHKeyResponse> getSSHKey(long id) {
+        return get(
+                "%s/ssh_keys/%s".formatted(apiUrl, id),
+                SSHKeyResponse.class);
+    }
+
+    /**
+     * Get an SSH key by name.
+     *
+     * @param name name of the SSH key
+     * @return SSHKeysResponse object
+     */
+    public CompletableFuture<SSHKeysResponse> getSSHKey(String name) {
+        return get(
+                UrlBuilder.from("%s/ssh_keys".formatted(apiUrl))
+                        .queryParam("name", name)
+                        .toUri(),
+                SSHKeysResponse.class);
+    }
+
+    /**
+     * Get a SSH key by the fingerprint.
+     *
+     * @param fingerprint Fingerprint of the SSH key
+     * @return SSHKeysResponse object
+     */
+    public CompletableFuture<SSHKeysResponse> getSSHKeyByFingerprint(String fingerprint) {
+        return get(
+                UrlBuilder.from("%s/ssh_keys".formatted(apiUrl))
+                        .queryParam("fingerprint", fingerprint)
+                        .toUri(),
+                SSHKeysResponse.class);
+    }
+
+    /**
+     * Create an SSH key.
+     *
+     * @param createSshKeyRequest Request object
+     * @return SSHKeyResponse object
+     */
+    public CompletableFuture<SSHKeyResponse> createSSHKey(CreateSSHKeyRequest createSshKeyRequest) {
+        return post(
+                "%s/ssh_keys".formatted(apiUrl),
+                createSshKeyRequest,
+                SSHKeyResponse.class);
+    }
+
+    /**
+     * Update parameters of an SSH key
+     *
+     * @param id                  ID of the SSH key
+     * @param updateSSHKeyRequest Request Object
+     * @return SSHKeyResponse object
+     */
+    public CompletableFuture<SSHKeyResponse> updateSSHKey(long id, UpdateSSHKeyRequest updateSSHKeyRequest) {
+        return put(
+                "%s/ssh_keys/%s".formatted(apiUrl, id),
+                updateSSHKeyRequest,
+                SSHKeyResponse.class);
+    }
+
+    /**
+     * Delete an SSH key.
+     * <p>
+     * This object does not have a response!
+     *
+     * @param id ID of the SSH key
+     * @return String
+     */
+    public CompletableFuture<String> deleteSSHKey(long id) {
+        return delete(
+                "%s/ssh_keys/%s".formatted(apiUrl, id),
+                String.class);
+    }
+
+    /**
+     * Get all Server types.
+     *
+     * @return ServerTypesResponse object
+     */
+    public CompletableFuture<ServerTypesResponse> getServerTypes() {
+        return get(
+                "%s/server_types".formatted(apiUrl),
+                ServerTypesResponse.class);
+    }
+
+    /**
+     * Get Server types Paginated.
+     *
+     * @return ServerTypesResponse object
+     */
+    public CompletableFuture<ServerTypesResponse> getServerTypes(PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/server_types".formatted(apiUrl))
+                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                        .toUri(),
+                ServerTypesResponse.class);
+    }
+
+    /**
+     * Get all Load Balancer types.
+     *
+     * @return LoadBalancerTypesResponse object
+     */
+    public CompletableFuture<LoadBalancerTypesResponse> getLoadBalancerTypes() {
+        return get(
+                "%s/load_balancer_types".formatted(apiUrl),
+                LoadBalancerTypesResponse.class);
+    }
+
+    /**
+     * Get Load Balancer type by name.
+     *
+     * @param name Name of the Load Balancer type
+     * @return LoadBalancerTypesResponse object
+     */
+    public CompletableFuture<LoadBalancerTypesResponse> getLoadBalancerTypeByName(String name) {
+        return get(
+                UrlBuilder.from("%s/load_balancer_types".formatted(apiUrl))
+                        .queryParam("name", name)
+                        .toUri(),
+                LoadBalancerTypesResponse.class);
+    }
+
+    /**
+     * Get a Load Balancer type by id.
+     *
+     * @param id ID of the load balancer type
+     * @return LoadBalancerTypeResponse
+     */
+    public CompletableFuture<LoadBalancerTypeResponse> getLoadBalancerType(long id) {
+        return get("%s/load_balancer_types/%s".formatted(apiUrl, id), LoadBalancerTypeResponse.class);
+    }
+
+    /**
+     * Get a Server type by name.
+     *
+     * @param name name of the Server type
+     * @return ServerTypesResponse object
+     */
+    public CompletableFuture<ServerTypesResponse> getServerTypeByName(String name) {
+        return get(
+                UrlBuilder.from("%s/server_types".formatted(apiUrl))
+                        .queryParam("name", name)
+                        .toUri(),
+                ServerTypesResponse.class);
+    }
+
+    /**
+     * Get a Server type by id.
+     *
+     * @param id id of the Server type
+     * @return ServerTypeResponse object
+     */
+    public CompletableFuture<ServerTypeResponse> getServerType(long id) {
+        return get(
+                "%s/server_types/%s".formatted(apiUrl, id),
+                ServerTypeResponse.class);
+    }
+
+    /**
+     * Get all available Locations.
+     *
+     * @return LocationsResponse object
+     */
+    public CompletableFuture<LocationsResponse> getLocations() {
+        return get(
+                "%s/locations".formatted(apiUrl),
+                LocationsResponse.class);
+    }
+
+    /**
+     * Get a Location by name.
+     *
+     * @param name Name of the location
+     * @return LocationsResponse object
+     */
+    public CompletableFuture<LocationsResponse> getLocationByName(String name) {
+        return get(
+                UrlBuilder.from("%s/locations".formatted(apiUrl))
+                        .queryParam("name", name)
+                        .toUri(),
+                LocationsResponse.class);
+    }
+
+    /**
+     * Get a location by id.
+     *
+     * @param id id of the location
+     * @return LocationResponse object
+     */
+    public CompletableFuture<LocationResponse> getLocation(long id) {
+        return get(
+                "%s/locations/%s".formatted(apiUrl, id),
+                LocationResponse.class);
+    }
+
+    /**
+     * Get the first page of available images.
+     *
+     * @return ImagesResponse object
+     * @see #listAllImages()
+     */
+    public CompletableFuture<ImagesResponse> getImages() {
+        return getImages(null, null, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all images by label selector.
+     *
+     * @param labelSelector Label Selector
+     * @return {@link ImagesResponse}
+     */
+    public CompletableFuture<ImagesResponse> getImages(String labelSelector) {
+        return getImages(labelSelector, null, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all images by architecture.
+     *
+     * @param architecture Architecture of the Image
+     * @return {@link ImagesResponse}
+     */
+    public CompletableFuture<ImagesResponse> getImages(Architecture architecture) {
+        return getImages(null, architecture, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all images by label selector and architecture.
+     *
+     * @param labelSelector Label Selector
+     * @param architecture Architecture of the Image
+     * @return {@link ImagesResponse}
+     */
+    public CompletableFuture<ImagesResponse> getImages(String labelSelector, Architecture architecture) {
+        return getImages(labelSelector, architecture, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all images by label selector with pagination.
+     *
+     * @param labelSelector Label Selector
+     * @param paginationParameters Pagination parametres
+     * @return {@link ImagesResponse}
+     */
+    public CompletableFuture<ImagesResponse> getImages(String labelSelector, PaginationParameters paginationParameters) {
+        return getImages(labelSelector, null, paginationParameters);
+    }
+
+    /**
+     * Get all images by architecture with pagination.
+     *
+     * @param architecture Architecture
+     * @param paginationParameters Pagination parametres
+     * @return {@link ImagesResponse}
+     */
+    public CompletableFuture<ImagesResponse> getImages(Architecture architecture, PaginationParameters paginationParameters) {
+        return getImages(null, architecture, paginationParameters);
+    }
+
+    /**
+     * Get all available images.
+     *
+     * @param labelSelector Label selector
+     * @param architecture Architecture of the image
+     * @param paginationParameters Pagination parametres
+     * @return {@link ImagesResponse}
+     */
+    public CompletableFuture<ImagesResponse> getImages(String labelSelector, Architecture architecture, PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/images".formatted(apiUrl))
+                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
+                        .queryParamIfPresent("architecture", Optional.ofNullable(architecture))
+                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                        .toUri(),
+                ImagesResponse.class);
+    }
+
+    /**
+     * Get all images in a project.
+     * <p>
+     * Unlike {@link #getImages()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @return all images
+     */
+    public CompletableFuture<List<Image>> listAllImages() {
+        return Paginator.fetchAll(
+                paginationParameters -> getImages(null, null, paginationParameters),
+                ImagesResponse::getImages,
+                ImagesResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get all images in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getImages(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @param labelSelector Label selector
+     * @return all images which match the label selector
+     */
+    public CompletableFuture<List<Image>> listAllImages(String labelSelector) {
+        return Paginator.fetchAll(
+                paginationParameters -> getImages(labelSelector, null, paginationParameters),
+                ImagesResponse::getImages,
+                ImagesResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Stream all images to a consumer.
+     * <p>
+     * The pages are requested one after another, every page is parsed directly from the response body and each
+     * image is handed to the consumer as soon as it has been read. The consumer is called on the OkHttp dispatcher.
+     *
+     * @param consumer Consumer which is called for every image
+     * @return future completed once all pages were handed to the consumer
+     */
+    public CompletableFuture<Void> forEachImage(Consumer<? super Image> consumer) {
+        return forEachImage(null, consumer);
+    }
+
+    /**
+     * Stream all images which match a label selector to a consumer.
+     *
+     * @param labelSelector Label selector
+     * @param consumer Consumer which is called for every matching image
+     * @return future completed once all pages were handed to the consumer
+     * @see #forEachImage(Consumer)
+     */
+    public CompletableFuture<Void> forEachImage(String labelSelector, Consumer<? super Image> consumer) {
+        return forEachItem(
+                paginationParameters -> UrlBuilder.from("%s/images".formatted(apiUrl))
+                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
+                        .queryParam("page", paginationParameters.page)
+                        .queryParam("per_page", paginationParameters.perPage)
+                        .toUri(),
+                "images", Image.class, consumer, 1);
+    }
+
+    /**
+     * Get all images by type.
+     *
+     * @param type Type of image
+     * @return ImagesResponse object
+     */
+    public CompletableFuture<ImagesResponse> getImagesByType(ImageType type) {
+        return getImagesByType(type, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all images by type.
+     *
+     * @param type                 Type of image
+     * @param paginationParameters Pagination parametres
+     * @return ImagesResponse object
+     */
+    public CompletableFuture<ImagesResponse> getImagesByType(ImageType type, PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/images".formatted(apiUrl))
+                        .queryParam("type", type.toString())
+                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                        .toUri(),
+                ImagesResponse.class);
+    }
+
+    /**
+     * Get all images of a type.
+     * <p>
+     * Unlike {@link #getImagesByType(ImageType)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @param type Type of image
+     * @return all images of the type
+     */
+    public CompletableFuture<List<Image>> listAllImagesByType(ImageType type) {
+        return Paginator.fetchAll(
+                paginationParameters -> getImagesByType(type, paginationParameters),
+                ImagesResponse::getImages,
+                ImagesResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get an image by name.
+     *
+     * @param name Name of the image
+     * @return ImagesResponse object
+     */
+    public CompletableFuture<ImagesResponse> getImageByName(String name) {
+        return get(
+                UrlBuilder.from("%s/images".formatted(apiUrl))
+                        .queryParam("name", name)
+                        .toUri(),
+                ImagesResponse.class);
+    }
+
+    /**
+     * Get image by ID.
+     *
+     * @param id ID of the image
+     * @return ImageResponse object
+     */
+    public CompletableFuture<ImageResponse> getImage(long id) {
+        return get(
+                "%s/images/%s".formatted(apiUrl, id),
+                ImageResponse.class);
+    }
+
+    /**
+     * Update the description or the type of a image.
+     *
+     * @param id                 ID of the image
+     * @param updateImageRequest Request object
+     * @return ImageResponse object
+     */
+    public CompletableFuture<ImageResponse> updateImage(long id, UpdateImageRequest updateImageRequest) {
+        return put(
+                "%s/images/%s".formatted(apiUrl, id),
+                updateImageRequest,
+                ImageResponse.class);
+    }
+
+    /**
+     * Delete an image,
+     * <p>
+     * This object does not have a respond!
+     *
+     * @param id ID of the image
+     * @return String
+     */
+    public CompletableFuture<String> deleteImage(long id) {
+        return delete(
+                "%s/images/%s".formatted(apiUrl, id),
+                String.class);
+    }
+
+    /**
+     * Get the first page of volumes in a project.
+     *
+     * @return VolumesResponse
+     * @see #listAllVolumes()
+     */
+    public CompletableFuture<VolumesResponse> getVolumes() {
+        return getVolumes(null, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all volumes in a project.
+     *
+     * @param paginationParameters Pagination parametres
+     * @return VolumesResponse
+     */
+    public CompletableFuture<VolumesResponse> getVolumes(PaginationParameters paginationParameters) {
+        return getVolumes(null, paginationParameters);
+    }
+
+    /**
+     * Get all volumes in a project filtered by volumes
+     *
+     * @param labelSelector Label selector
+     * @return VolumesResponse
+     */
+    public CompletableFuture<VolumesResponse> getVolumes(String labelSelector) {
+        return getVolumes(labelSelector, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all volumes in a project.
+     *
+     * @param labelSelector Filter response by label selector
+     * @param paginationParameters Pagination parametres
+     * @return VolumesResponse
+     */
+    public CompletableFuture<VolumesResponse> getVolumes(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/volumes".formatted(apiUrl))
+                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
+                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                        .toUri(),
+                VolumesResponse.class);
+    }
+
+    /**
+     * Get all volumes in a project.
+     * <p>
+     * Unlike {@link #getVolumes()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @return all volumes
+     */
+    public CompletableFuture<List<Volume>> listAllVolumes() {
+        return Paginator.fetchAll(
+                paginationParameters -> getVolumes(null, paginationParameters),
+                VolumesResponse::getVolumes,
+                VolumesResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get all volumes in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getVolumes(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @param labelSelector Label selector
+     * @return all volumes which match the label selector
+     */
+    public CompletableFuture<List<Volume>> listAllVolumes(String labelSelector) {
+        return Paginator.fetchAll(
+                paginationParameters -> getVolumes(labelSelector, paginationParameters),
+                VolumesResponse::getVolumes,
+                VolumesResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get a specific volume by id.
+     *
+     * @param id ID of the volume
+     * @return Volume object
+     */
+    public CompletableFuture<VolumeResponse> getVolume(long id) {
+        return get(
+                "%s/volumes/%s".formatted(apiUrl, id),
+                VolumeResponse.class);
+    }
+
+    /**
+     * Create a new volume.
+     *
+     * @param createVolumeRequest Volume request object
+     * @return Volume object with action
+     */
+    public CompletableFuture<CreateVolumeResponse> createVolume(CreateVolumeRequest createVolumeRequest) {
+        if ((createVolumeRequest.getFormat() != null))
+            createVolumeRequest.setFormat(createVolumeRequest.getFormat().toLowerCase());   // case-sensitive fix
+        return post(
+                "%s/volumes".formatted(apiUrl),
+                createVolumeRequest,
+                CreateVolumeResponse.class);
+    }
+
+    /**
+     * Update some specific options of a volume.
+     *
+     * @param id                  ID of the volume
+     * @param updateVolumeRequest Update volume request object
+     * @return GetVolume object
+     */
+    public CompletableFuture<VolumeResponse> updateVolume(long id, UpdateVolumeRequest updateVolumeRequest) {
+        return put(
+                "%s/volumes/%s".formatted(apiUrl, id),
+                updateVolumeRequest,
+                VolumeResponse.class);
+    }
+
+    /**
+     * Delete a volume
+     *
+     * @param id ID of the volume
+     * @return no return object
+     */
+    public CompletableFuture<String> deleteVolume(long id) {
+        return delete(
+                "%s/volumes/%s".formatted(apiUrl, id),
+                String.class);
+    }
+
+    /**
+     * Get all actions of a volume.
+     *
+     * @param id ID of the volume
+     * @return Action array
+     */
+    public CompletableFuture<ActionsResponse> getVolumeActions(long id) {
+        return get(
+                "%s/volumes/%s/actions".formatted(apiUrl, id),
+                ActionsResponse.class);
+    }
+
+    /**
+     * Attach a volume to a server.
+     *
+     * @param id                  ID of the volume
+     * @param attachVolumeRequest Request object
+     * @return Action object
+     */
+    public CompletableFuture<ActionResponse> attachVolumeToServer(long id, AttachVolumeRequest attachVolumeRequest) {
+        return post(
+                "%s/volumes/%s/actions/attach".formatted(apiUrl, id),
+                attachVolumeRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Detach a volume from a server.
+     *
+     * @param id ID of the volume
+     * @return Action object
+     */
+    public CompletableFuture<ActionResponse> detachVolume(long id) {
+        return post(
+                "%s/volumes/%s/actions/detach".formatted(apiUrl, id),
+                ActionResponse.class);
+    }
+
+    /**
+     * Resize a volume.
+     * Downsizing not possible!
+     *
+     * @param id                  ID of the volume
+     * @param resizeVolumeRequest Request object
+     * @return Action object
+     */
+    public CompletableFuture<ActionResponse> resizeVolume(long id, ResizeVolumeRequest resizeVolumeRequest) {
+        return post(
+                "%s/volumes/%s/actions/resize".formatted(apiUrl, id),
+                resizeVolumeRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Change the protection mode of the volume.
+     * Only deletion protection is available!
+     *
+     * @param id                      ID of the volume
+     * @param changeProtectionRequest Request object
+     * @return Action object
+     */
+    public CompletableFuture<ActionResponse> changeVolumeProtection(long id, ChangeProtectionRequest changeProtectionRequest) {
+        return post(
+                "%s/volumes/%s/actions/change_protection".formatted(apiUrl, id),
+                changeProtectionRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Get all Private networks in a project.
+     *
+     * @return NetworksResponse
+     */
+    public CompletableFuture<NetworksResponse> getNetworks() {
+        return getNetworks(null, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all Private networks in a project.
+     *
+     * @param paginationParameters Pagination parametres
+     * @return NetworksResponse
+     */
+    public CompletableFuture<NetworksResponse> getNetworks(PaginationParameters paginationParameters) {
+        return getNetworks(null, paginationParameters);
+    }
+
+    /**
+     * Get all Private Networks in a project with a label selector.
+     *
+     * @param labelSelector Label Selector
+     * @return NetworksResponse
+     */
+    public CompletableFuture<NetworksResponse> getNetworks(String labelSelector) {
+        return getNetworks(labelSelector, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all Private networks in a project.
+     *
+     * @param labelSelector Label selector
+     * @param paginationParameters Pagination parametres
+     * @return NetworksResponse
+     */
+    public CompletableFuture<NetworksResponse> getNetworks(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/networks".formatted(apiUrl))
+                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
+                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                        .toUri(),
+                NetworksResponse.class);
+    }
+
+    /**
+     * Get all private networks in a project.
+     * <p>
+     * Unlike {@link #getNetworks()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @return all private networks
+     */
+    public CompletableFuture<List<Network>> listAllNetworks() {
+        return Paginator.fetchAll(
+                paginationParameters -> getNetworks(null, paginationParameters),
+                NetworksResponse::getNetworks,
+                NetworksResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get all private networks in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getNetworks(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @param labelSelector Label selector
+     * @return all private networks which match the label selector
+     */
+    public CompletableFuture<List<Network>> listAllNetworks(String labelSelector) {
+        return Paginator.fetchAll(
+                paginationParameters -> getNetworks(labelSelector, paginationParameters),
+                NetworksResponse::getNetworks,
+                NetworksResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get all networks with specific name.
+     *
+     * @param name Name of the network
+     * @return Response from API
+     */
+    public CompletableFuture<NetworksResponse> getNetworksByName(String name) {
+        return get(
+                UrlBuilder.from("%s/networks".formatted(apiUrl))
+                        .queryParam("name", name)
+                        .toUri(),
+                NetworksResponse.class);
+    }
+
+    /**
+     * Get a network with it's specific ID.
+     *
+     * @param id ID of the network
+     * @return Response from API
+     */
+    public CompletableFuture<NetworkResponse> getNetwork(long id) {
+        return get(
+                "%s/networks/%s".formatted(apiUrl, id),
+                NetworkResponse.class);
+    }
+
+    /**
+     * Update the labels or the name of a network.
+     *
+     * @param id                   ID of the network
+     * @param updateNetworkRequest Request object
+     * @return Response from API
+     */
+    public CompletableFuture<NetworkResponse> updateNetwork(long id, UpdateNetworkRequest updateNetworkRequest) {
+        return put(
+                "%s/networks/%s".formatted(apiUrl, id),
+                updateNetworkRequest,
+                NetworkResponse.class);
+    }
+
+    /**
+     * Create a new private network.
+     *
+     * @param createNetworkRequest Request object
+     * @return Response from API
+     */
+    public CompletableFuture<NetworkResponse> createNetwork(CreateNetworkRequest createNetworkRequest) {
+        return post(
+                "%s/networks".formatted(apiUrl),
+                createNetworkRequest,
+                NetworkResponse.class);
+    }
+
+    /**
+     * Delete a network.
+     *
+     * @param id ID of the network
+     * @return There is no response.
+     */
+    public CompletableFuture<String> deleteNetwork(long id) {
+        return delete(
+                "%s/networks/%s".formatted(apiUrl, id),
+                String.class);
+    }
+
+    /**
+     * Attaches a server to a private network.
+     *
+     * @param id                           ID of the server
+     * @param attachServerToNetworkRequest Request object
+     * @return Response from API
+     */
+    public CompletableFuture<ActionResponse> attachServerToNetwork(long id, AttachServerToNetworkRequest attachServerToNetworkRequest) {
+        return post(
+                "%s/servers/%s/actions/attach_to_network".formatted(apiUrl, id),
+                attachServerToNetworkRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Detaches a server from a private network.
+     *
+     * @param id                             ID of the server
+     * @param detachServerFromNetworkRequest Request object
+     * @return Response from API
+     */
+    public CompletableFuture<ActionResponse> detachServerFromNetwork(long id, DetachServerFromNetworkRequest detachServerFromNetworkRequest) {
+        return post(
+                "%s/servers/%s/actions/detach_from_network".formatted(apiUrl, id),
+                detachServerFromNetworkRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Change alias IPs of a network.
+     *
+     * @param id                             ID of the server
+     * @param changeAliasIPsofNetworkRequest Request object
+     * @return Response from API
+     */
+    public CompletableFuture<ActionResponse> changeAliasIPsOfNetwork(long id, ChangeAliasIPsofNetworkRequest changeAliasIPsofNetworkRequest) {
+        return post(
+                "%s/servers/%s/actions/change_alias_ips".formatted(apiUrl, id),
+                changeAliasIPsofNetworkRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Change the protection configuration for a network
+     *
+     * @param id               ID of the network
+     * @param changeProtection Request Object
+     * @return Response from API
+     */
+    public CompletableFuture<ActionResponse> changeNetworkProtection(long id, ChangeProtectionRequest changeProtection) {
+        return post(
+                "%s/networks/%s/actions/change_protection".formatted(apiUrl, id),
+                changeProtection,
+                ActionResponse.class);
+    }
+
+    /**
+     * Get all performed Actions for a network
+     *
+     * @param id ID of the network
+     * @return Response from API
+     */
+    public CompletableFuture<ActionsResponse> getNetworkActions(long id) {
+        return get(
+                "%s/networks/%s/actions".formatted(apiUrl, id),
+                ActionsResponse.class);
+    }
+
+    /**
+     * Add a new subnet to a network.
+     *
+     * @param id                        ID of the network
+     * @param addSubnetToNetworkRequest Request object
+     * @return Response from API
+     */
+    public CompletableFuture<ActionResponse> addSubnetToNetwork(long id, AddSubnetToNetworkRequest addSubnetToNetworkRequest) {
+        return post(
+                "%s/networks/%s/actions/add_subnet".formatted(apiUrl, id),
+                addSubnetToNetworkRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Delete a subnet from a network.
+     *
+     * @param id                      ID of the network
+     * @param deleteSubnetFromNetwork Request object
+     * @return Response from API
+     */
+    public CompletableFuture<ActionResponse> deleteSubnetFromNetwork(long id, DeleteSubnetFromNetwork deleteSubnetFromNetwork) {
+        return post(
+                "%s/networks/%s/actions/delete_subnet".formatted(apiUrl, id),
+                deleteSubnetFromNetwork,
+                ActionResponse.class);
+    }
+
+    /**
+     * Add a route to a network.
+     *
+     * @param id             ID of the network
+     * @param networkRouteRequest Request object
+     * @return Response from API
+     */
+    public CompletableFuture<ActionResponse> addRouteToNetwork(long id, NetworkRouteRequest networkRouteRequest) {
+        return post(
+                "%s/networks/%s/actions/add_route".formatted(apiUrl, id),
+                networkRouteRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Delete a route from a network.
+     *
+     * @param id             ID of the network
+     * @param networkRouteRequest Request object
+     * @return Response from API
+     */
+    public CompletableFuture<ActionResponse> deleteRouteFromNetwork(long id, NetworkRouteRequest networkRouteRequest) {
+        return post(
+                "%s/networks/%s/actions/delete_route".formatted(apiUrl, id),
+                networkRouteRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Change the IP range of a network.
+     * Shrinking not possible!
+     *
+     * @param id                     ID of the network
+     * @param changeIPRangeOfNetwork Request object
+     * @return Response from API
+     */
+    public CompletableFuture<ActionResponse> changeIPRangeOfNetwork(long id, ChangeIPRangeOfNetwork changeIPRangeOfNetwork) {
+        return post(
+                "%s/networks/%s/actions/change_ip_range".formatted(apiUrl, id),
+                changeIPRangeOfNetwork,
+                ActionResponse.class);
+    }
+
+    /**
+     * Get all certificates from the project.
+     *
+     * @return CertificatesResponse
+     */
+    public CompletableFuture<CertificatesResponse> getCertificates() {
+        return getCertificates(new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all certificates from the project.
+     *
+     * @param paginationParameters Pagination parametres
+     * @return CertificatesResponse
+     */
+    public CompletableFuture<CertificatesResponse> getCertificates(PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/certificates".formatted(apiUrl))
+                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                        .toUri(),
+                CertificatesResponse.class);
+    }
+
+    /**
+     * Get all certificates by label selector.
+     * A label selector can be e.g. env=prod
+     *
+     * @param labelSelector Label selector used for filtering
+     * @return CertificatesResponse
+     */
+    public CompletableFuture<CertificatesResponse> getCertificates(String labelSelector) {
+        return getCertificates(labelSelector, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all certificates by label selector.
+     * A label selector can be e.g. env=prod
+     *
+     * @param labelSelector        Label selector used for filtering
+     * @param paginationParameters Pagination parametres
+     * @return CertificatesResponse
+     */
+    public CompletableFuture<CertificatesResponse> getCertificates(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/certificates".formatted(apiUrl))
+                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
+                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                        .toUri(),
+                CertificatesResponse.class);
+    }
+
+    /**
+     * Get all certificates in a project.
+     * <p>
+     * Unlike {@link #getCertificates()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @return all certificates
+     */
+    public CompletableFuture<List<Certificate>> listAllCertificates() {
+        return Paginator.fetchAll(
+                paginationParameters -> getCertificates(paginationParameters),
+                CertificatesResponse::getCertificates,
+                CertificatesResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get all certificates in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getCertificates(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @param labelSelector Label selector
+     * @return all certificates which match the label selector
+     */
+    public CompletableFuture<List<Certificate>> listAllCertificates(String labelSelector) {
+        return Paginator.fetchAll(
+                paginationParameters -> getCertificates(labelSelector, paginationParameters),
+                CertificatesResponse::getCertificates,
+                CertificatesResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get a specific certificate by its name.
+     *
+     * @param name Name of the certificate
+     * @return CertificatesResponse
+     */
+    public CompletableFuture<CertificatesResponse> getCertificate(String name) {
+        return get(
+                UrlBuilder.from("%s/certificates".formatted(apiUrl))
+                        .queryParam("name", name)
+                        .toUri(),
+                CertificatesResponse.class);
+    }
+
+    /**
+     * Get a specific certificate by id.
+     *
+     * @param id ID of the certificate
+     * @return CertificateResponse
+     */
+    public CompletableFuture<CertificateResponse> getCertificate(long id) {
+        return get(
+                "%s/certificates/%s".formatted(apiUrl, id),
+                CertificateResponse.class);
+    }
+
+    /**
+     * Create a new certificate.
+     *
+     * @param createCertificateRequest CertificateRequest object with name, public- and private-key
+     * @return CertificateResponse
+     */
+    public CompletableFuture<CertificateResponse> createCertificate(CreateCertificateRequest createCertificateRequest) {
+        return post(
+                "%s/certificates".formatted(apiUrl),
+                createCertificateRequest,
+                CertificateResponse.class);
+    }
+
+    /**
+     * Update a certificate.
+     * <p>
+     * Available options to update:
+     * - Name
+     * - Labels
+     *
+     * @param id                       ID of the certificate
+     * @param updateCertificateRequest Certificate Update object
+     * @return CertificateResponse
+     */
+    public CompletableFuture<CertificateResponse> updateCertificate(long id, UpdateCertificateRequest updateCertificateRequest) {
+        return put(
+                "%s/certificates/%s".formatted(apiUrl, id),
+                updateCertificateRequest,
+                CertificateResponse.class);
+    }
+
+    /**
+     * Retry an issuance or renewal for a managed certificate.
+     * <p>
+     * This method is only applicable to managed certificate where either the issuance
+     * or renewal status is failed.
+     *
+     * @param id ID of the certificate
+     * @return ActionResponse
+     */
+    public CompletableFuture<ActionResponse> retryCertificate(long id) {
+        return post(
+                "%s/certificates/%s/actions/retry".formatted(apiUrl, id),
+                ActionResponse.class);
+    }
+
+    /**
+     * Delete a certificate.
+     *
+     * @param id ID of the certificate
+     * @return nothing...
+     */
+    public CompletableFuture<String> deleteCertificate(long id) {
+        return delete(
+                "%s/certificates/%s".formatted(apiUrl, id),
+                String.class);
+    }
+
+    /**
+     * Get all Load Balancers.
+     *
+     * @return LoadBalancersResponse
+     */
+    public CompletableFuture<LoadBalancersResponse> getLoadBalancers() {
+        return getLoadBalancers(null, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get Load Balancer by name.
+     *
+     * @return LoadBalancersResponse
+     */
+    public CompletableFuture<LoadBalancersResponse> getLoadBalancerByName(String name) {
+        return get(
+            UrlBuilder.from("%s/load_balancers".formatted(apiUrl))
+                    .queryParam("name", name)
+                    .toUri(),
+            LoadBalancersResponse.class);
+    }
+
+    /**
+     * Get all Load Balancers by label selector.
+     *
+     * @param labelSelector Label Selector
+     * @return LoadBalancersResponse
+     */
+    public CompletableFuture<LoadBalancersResponse> getLoadBalancers(String labelSelector) {
+        return getLoadBalancers(labelSelector, new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all Load Balancers.
+     *
+     * @param labelSelector Label Selector
+     * @param paginationParameters Pagination parametres
+     * @return LoadBalancersResponse
+     */
+    public CompletableFuture<LoadBalancersResponse> getLoadBalancers(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/load_balancers".formatted(apiUrl))
+                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
+                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                        .toUri(),
+                LoadBalancersResponse.class);
+    }
+
+    /**
+     * Get all Load Balancers in a project.
+     * <p>
+     * Unlike {@link #getLoadBalancers()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @return all Load Balancers
+     */
+    public CompletableFuture<List<LoadBalancer>> listAllLoadBalancers() {
+        return Paginator.fetchAll(
+                paginationParameters -> getLoadBalancers(null, paginationParameters),
+                LoadBalancersResponse::getLoadBalancers,
+                LoadBalancersResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get all Load Balancers in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getLoadBalancers(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @param labelSelector Label selector
+     * @return all Load Balancers which match the label selector
+     */
+    public CompletableFuture<List<LoadBalancer>> listAllLoadBalancers(String labelSelector) {
+        return Paginator.fetchAll(
+                paginationParameters -> getLoadBalancers(labelSelector, paginationParameters),
+                LoadBalancersResponse::getLoadBalancers,
+                LoadBalancersResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get a specific Load Balancer.
+     *
+     * @param id ID of the Load Balancer
+     * @return LoadBalancerResponse
+     */
+    public CompletableFuture<LoadBalancerResponse> getLoadBalancer(long id) {
+        return get(
+                "%s/load_balancers/%s".formatted(apiUrl, id),
+                LoadBalancerResponse.class);
+    }
+
+    /**
+     * Create a new Load Balancer.
+     *
+     * @param createLoadBalancerRequest Load Balancer Request object
+     * @return LoadBalancerResponse
+     */
+    public CompletableFuture<LoadBalancerResponse> createLoadBalancer(CreateLoadBalancerRequest createLoadBalancerRequest) {
+        return post(
+                "%s/load_balancers".formatted(apiUrl),
+                createLoadBalancerRequest,
+                LoadBalancerResponse.class);
+    }
+
+    /**
+     * Update an existing Load Balancer.
+     *
+     * @param id                        ID of the Load Balancer
+     * @param updateLoadBalancerRequest Load Balancer Update Request Object
+     * @return LoadBalancerResponse
+     */
+    public CompletableFuture<LoadBalancerResponse> updateLoadBalancer(long id, UpdateLoadBalancerRequest updateLoadBalancerRequest) {
+        return put(
+                "%s/load_balancers/%s".formatted(apiUrl, id),
+                updateLoadBalancerRequest,
+                LoadBalancerResponse.class);
+    }
+
+    /**
+     * Delete a Load Balancer.
+     *
+     * @param id ID of the Load Balancer
+     * @return nothing
+     */
+    public CompletableFuture<String> deleteLoadBalancer(long id) {
+        return delete(
+                "%s/load_balancers/%s".formatted(apiUrl, id),
+                String.class);
+    }
+
+    /**
+     * Get all actions of a Load Balancer.
+     *
+     * @param id ID of the Load Balancer
+     * @return ActionsResponse
+     */
+    public CompletableFuture<ActionsResponse> getLoadBalancerActions(long id) {
+        return get(
+                "%s/load_balancers/%s/actions".formatted(apiUrl, id),
+                ActionsResponse.class);
+    }
+
+    /**
+     * Add a service to a Load Balancer.
+     *
+     * @param id               ID of the Load Balancer
+     * @param lbServiceRequest Load Balancer Service Request
+     * @return LoadBalancerResponse
+     */
+    public CompletableFuture<LoadBalancerResponse> addServiceToLoadBalancer(long id, LBServiceRequest lbServiceRequest) {
+        return post(
+                "%s/load_balancers/%s/actions/add_service".formatted(apiUrl, id),
+                lbServiceRequest,
+                LoadBalancerResponse.class);
+    }
+
+    /**
+     * Update a service of a Load Balancer.
+     *
+     * @param id               ID of the Load Balancer
+     * @param lbServiceRequest Load Balancer Service Request
+     * @return LoadBalancerResponse
+     */
+    public CompletableFuture<LoadBalancerResponse> updateServiceOfLoadBalancer(long id, LBServiceRequest lbServiceRequest) {
+        return post(
+                "%s/load_balancers/%s/actions/update_service".formatted(apiUrl, id),
+                lbServiceRequest,
+                LoadBalancerResponse.class);
+    }
+
+    /**
+     * Delete a service of a Load Balancer.
+     *
+     * @param id         ID of the Load Balancer
+     * @param listenPort The desired "listen port" of the service
+     * @return ActionResponse
+     */
+    public CompletableFuture<ActionResponse> deleteServiceOfLoadBalancer(long id, long listenPort) {
+        return post(
+                "%s/load_balancers/%s/actions/delete_service".formatted(apiUrl, id),
+                new LoadBalancerDeleteServiceRequest(listenPort),
+                ActionResponse.class);
+    }
+
+    /**
+     * Add a target to a Load Balancer.
+     *
+     * @param id              ID of the Load Balancer
+     * @param lbTargetRequest Load Balancer Target Request
+     * @return ActionResponse
+     */
+    public CompletableFuture<ActionResponse> addTargetToLoadBalancer(long id, LBTargetRequest lbTargetRequest) {
+        return post(
+                "%s/load_balancers/%s/actions/add_target".formatted(apiUrl, id),
+                lbTargetRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Removes a target from a load balancer.
+     *
+     * @param id              ID of the Load Balancer
+     * @param lbTargetRequest Load Balancer Target Request
+     * @return ActionResponse
+     */
+    public CompletableFuture<ActionResponse> removeTargetFromLoadBalancer(long id, LBTargetRequest lbTargetRequest) {
+        return post(
+                "%s/load_balancers/%s/actions/remove_target".formatted(apiUrl, id),
+                lbTargetRequest,
+                ActionResponse.class);
+    }
+
+    /**
+     * Changes the algorithm that determines to which target new requests are sent.
+     *
+     * @param id            ID of the Load Balancer
+     * @param algorithmType Algorithm Type
+     * @return ActionResponse
+     */
+    public CompletableFuture<ActionResponse> changeAlgorithmOfLoadBalancer(long id, String algorithmType) {
+        return post(
+                "%s/load_balancers/%s/actions/change_algorithm".formatted(apiUrl, id),
+                new LoadBalancerChangeAlgorithmRequest(algorithmType),
+                ActionResponse.class);
+    }
+
+    /**
+     * Changes the type of a Load Balancer.
+     *
+     * @param id               ID of the Load Balancer
+     * @param loadBalancerType New type of the Load Balancer
+     * @return ActionResponse
+     */
+    public CompletableFuture<ActionResponse> changeTypeOfLoadBalancer(long id, String loadBalancerType) {
+        return post(
+                "%s/load_balancers/%s/actions/change_type".formatted(apiUrl, id),
+                new LoadBalancerChangeTypeRequest(loadBalancerType),
+                ActionResponse.class);
+    }
+
+    /**
+     * Attach a network to a Load Balancer.
+     *
+     * @param id      ID of the Load Balancer
+     * @param request Network attachment request
+     * @return ActionResponse
+     */
+    public CompletableFuture<ActionResponse> attachNetworkToLoadBalancer(long id, LoadBalancerNetworkRequest request) {
+        return post(
+                "%s/load_balancers/%s/actions/attach_to_network".formatted(apiUrl, id),
+                request,
+                ActionResponse.class);
+    }
+
+    /**
+     * Attach a network to a Load Balancer.
+     *
+     * @param id        ID of the Load Balancer
+     * @param networkId ID of the Network
+     * @param ip        IP for the Load Balancer in this private network
+     * @return ActionResponse
+     * @deprecated Use {@link #attachNetworkToLoadBalancer(long, LoadBalancerNetworkRequest)} instead
+     */
+    @Deprecated
+    public CompletableFuture<ActionResponse> attachNetworkToLoadBalancer(long id, long networkId, String ip) {
+        return attachNetworkToLoadBalancer(id, LoadBalancerNetworkRequest.builder().network(networkId).ip(ip).build());
+    }
+
+    /**
+     * Attach a network to a Load Balancer.
+     *
+     * @param id        ID of the Load Balancer
+     * @param networkId ID of the Network
+     * @return ActionResponse
+     * @deprecated Use {@link #attachNetworkToLoadBalancer(long, LoadBalancerNetworkRequest)} instead
+     */
+    @Deprecated
+    public CompletableFuture<ActionResponse> attachNetworkToLoadBalancer(long id, long networkId) {
+        return attachNetworkToLoadBalancer(id, new LoadBalancerNetworkRequest(networkId));
+    }
+
+    /**
+     * Detach a network from a Load Balancer.
+     *
+     * @param id        ID of the Load Balancer
+     * @param networkId ID of the Network
+     * @return ActionResponse
+     */
+    public CompletableFuture<ActionResponse> detachNetworkFromLoadBalancer(long id, long networkId) {
+        return post(
+                "%s/load_balancers/%s/actions/detach_from_network".formatted(apiUrl, id),
+                new LoadBalancerNetworkRequest(networkId),
+                ActionResponse.class);
+    }
+
+    /**
+     * Enable the public interface of a Load Balancer.
+     *
+     * @param id ID of the Load Balancer
+     * @return ActionResponse
+     */
+    public CompletableFuture<ActionResponse> enablePublicInterfaceOfLoadBalancer(long id) {
+        return post(
+                "%s/load_balancers/%s/actions/enable_public_interface".formatted(apiUrl, id),
+                ActionResponse.class);
+    }
+
+    /**
+     * Disable the public interface of a Load Balancer.
+     *
+     * @param id ID of the Load Balancer
+     * @return ActionResponse
+     */
+    public CompletableFuture<ActionResponse> disablePublicInterfaceOfLoadBalancer(long id) {
+        return post(
+                "%s/load_balancers/%s/actions/disable_public_interface".formatted(apiUrl, id),
+
+                ActionResponse.class);
+    }
+
+    /**
+     * Change the protection configuration of a Load Balancer.
+     *
+     * @param id     ID of the Load Balancer
+     * @param delete Delete protection
+     * @return ActionResponse
+     */
+    public CompletableFuture<ActionResponse> changeProtectionOfLoadBalancer(long id, boolean delete) {
+        return post(
+                "%s/load_balancers/%s/actions/change_protection".formatted(apiUrl, id),
+                new LoadBalancerChangeProtectionRequest(delete),
+                ActionResponse.class);
+    }
+
+    /**
+     * Get a specific placement group.
+     *
+     * @param id placement group ID
+     * @return PlacementGroupResponse
+     */
+    public CompletableFuture<PlacementGroupResponse> getPlacementGroup(long id) {
+        return get(
+                "%s/placement_groups/%s".formatted(apiUrl, id),
+                PlacementGroupResponse.class);
+    }
+
+    /**
+     * Get all placement groups.
+     *
+     * @return PlacementGroupsResponse
+     */
+    public CompletableFuture<PlacementGroupsResponse> getPlacementGroups() {
+        return getPlacementGroups(new PaginationParameters(null, null));
+    }
+
+    /**
+     * Get all placement groups.
+     *
+     * @param paginationParameters Pagination parametres
+     * @return PlacementGroupsResponse
+     */
+    public CompletableFuture<PlacementGroupsResponse> getPlacementGroups(PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/placement_groups".formatted(apiUrl))
+                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                        .toUri(),
+                PlacementGroupsResponse.class);
+    }
+
+    /**
+     * Get placement group by name.
+     *
+     * @param name name of the placement grouo
+     * @return PlacementGroupsResponse
+     */
+    public CompletableFuture<PlacementGroupsResponse> getPlacementGroup(String name) {
+        UrlBuilder builder = UrlBuilder.from("%s/placement_groups".formatted(apiUrl))
+                .queryParam("name", name);
+
+        return get(
+                builder.toUri(),
+                PlacementGroupsResponse.class);
+    }
+
+    /**
+     * Get placement groups by label selector.
+     *
+     * @param labelSelector label selector used by resource
+     * @return PlacementGroupsResponse
+     */
+    public CompletableFuture<PlacementGroupsResponse> getPlacementGroups(String labelSelector) {
+        UrlBuilder builder = UrlBuilder.from("%s/placement_groups".formatted(apiUrl))
+                .queryParam("label_selector", labelSelector);
+
+        return get(
+                builder.toUri(),
+                PlacementGroupsResponse.class);
+    }
+
+    /**
+     * Get placement groups by label selector with pagination.
+     *
+     * @param labelSelector label selector used by resource
+     * @param paginationParameters Pagination parametres
+     * @return PlacementGroupsResponse
+     */
+    public CompletableFuture<PlacementGroupsResponse> getPlacementGroups(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/placement_groups".formatted(apiUrl))
+                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
+                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                        .toUri(),
+                PlacementGroupsResponse.class);
+    }
+
+    /**
+     * Get all placement groups in a project.
+     * <p>
+     * Unlike {@link #getPlacementGroups()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @return all placement groups
+     */
+    public CompletableFuture<List<PlacementGroup>> listAllPlacementGroups() {
+        return Paginator.fetchAll(
+                paginationParameters -> getPlacementGroups(null, paginationParameters),
+                PlacementGroupsResponse::getPlacementGroups,
+                PlacementGroupsResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get all placement groups in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getPlacementGroups(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @param labelSelector Label selector
+     * @return all placement groups which match the label selector
+     */
+    public CompletableFuture<List<PlacementGroup>> listAllPlacementGroups(String labelSelector) {
+        return Paginator.fetchAll(
+                paginationParameters -> getPlacementGroups(labelSelector, paginationParameters),
+                PlacementGroupsResponse::getPlacementGroups,
+                PlacementGroupsResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get placement groups by type
+     *
+     * @param type Type of the placement group
+     * @return PlacementGroupsResponse
+     */
+    public CompletableFuture<PlacementGroupsResponse> getPlacementGroup(PlacementGroupType type) {
+        return get(
+                UrlBuilder.from("%s/placement_groups".formatted(apiUrl)).queryParam("type", type.toString()).toUri(),
+                PlacementGroupsResponse.class);
+    }
+
+    /**
+     * Create a placement group.
+     *
+     * @param placementGroupRequest PlacementGroupRequest object
+     * @return PlacementGroupResponse
+     */
+    public CompletableFuture<PlacementGroupResponse> createPlacementGroup(CreatePlacementGroupRequest placementGroupRequest) {
+        return post(
+                "%s/placement_groups".formatted(apiUrl),
+                placementGroupRequest,
+                PlacementGroupResponse.class);
+    }
+
+    /**
+     * Delete a placement group.
+     *
+     * @param id placement group ID
+     * @return ActionResponse
+     */
+    public CompletableFuture<String> deletePlacementGroup(long id) {
+        return delete(
+                "%s/placement_groups/%s".formatted(apiUrl, id),
+                String.class);
+    }
+
+    /**
+     * Get all Storage Boxes
+     * @throws IllegalStateException if not using Hetzner Online API
+     */
+    public CompletableFuture<StorageBoxesResponse> getStorageBoxes() {
+        validateHetznerOnlineApiUsage();
+        return get("%s/storage_boxes".formatted(apiUrl), StorageBoxesResponse.class);
+    }
+
+    /**
+     * Get all Storage Boxes with label selector
+     * @throws IllegalStateException if not using Hetzner Online API
+     */
+    public CompletableFuture<StorageBoxesResponse> getStorageBoxes(String labelSelector) {
+        validateHetznerOnlineApiUsage();
+        return get(
+                UrlBuilder.from("%s/storage_boxes".formatted(apiUrl))
+                        .queryParam("label_selector", labelSelector)
+                        .toUri(),
+                StorageBoxesResponse.class);
+    }
+
+    /**
+     * Get all Storage Boxes with pagination
+     * @throws IllegalStateException if not using Hetzner Online API
+     */
+    public CompletableFuture<StorageBoxesResponse> getStorageBoxes(PaginationParameters paginationParameters) {
+        validateHetznerOnlineApiUsage();
+        return get(
+                UrlBuilder.from("%s/storage_boxes".formatted(apiUrl))
+                        .queryParam("page", paginationParameters.getPage())
+                        .queryParam("per_page", paginationParameters.getPerPage())
+                        .toUri(),
+                StorageBoxesResponse.class);
+    }
+
+    /**
+     * Get all Storage Boxes, fetching all pages concurrently using the maximum page size.
+     *
+     * @return all Storage Boxes
+     * @throws IllegalStateException if not using Hetzner Online API
+     */
+    public CompletableFuture<List<StorageBox>> listAllStorageBoxes() {
+        return Paginator.fetchAll(
+                paginationParameters -> getStorageBoxes(paginationParameters),
+                StorageBoxesResponse::getStorageBoxes,
+                StorageBoxesResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get Storage Box by ID
+     * @throws IllegalStateException if not using Hetzner Online API
+     */
+    public CompletableFuture<StorageBoxResponse> getStorageBox(long id) {
+        validateHetznerOnlineApiUsage();
+        return get("%s/storage_boxes/%s".formatted(apiUrl, id), StorageBoxResponse.class);
+    }
+
+    /**
+     * Get Storage Box by name
+     * @throws IllegalStateException if not using Hetzner Online API
+     */
+    public CompletableFuture<StorageBoxesResponse> getStorageBoxByName(String name) {
+        validateHetznerOnlineApiUsage();
+        return get(
+                UrlBuilder.from("%s/storage_boxes".formatted(apiUrl))
+                        .queryParam("name", name)
+                        .toUri(),
+                StorageBoxesResponse.class);
+    }
+
+    /**
+     * Create a new Storage Box
+     * @throws IllegalStateException if not using Hetzner Online API
+     */
+    public CompletableFuture<StorageBoxResponse> createStorageBox(CreateStorageBoxRequest request) {
+        validateHetznerOnlineApiUsage();
+        return post("%s/storage_boxes".formatted(apiUrl), request, StorageBoxResponse.class);
+    }
+
+    /**
+     * Update a Storage Box
+     *
+     * @param id ID of the Storage Box
+     * @param request Update request object
+     * @return StorageBoxResponse
+     * @throws IllegalStateException if not using Hetzner Online API
+     */
+    public CompletableFuture<StorageBoxResponse> updateStorageBox(long id, UpdateStorageBoxRequest request) {
+        validateHetznerOnlineApiUsage();
+        return put("%s/storage_boxes/%s".formatted(apiUrl, id), request, StorageBoxResponse.class);
+    }
+
+    /**
+     * Delete a Storage Box
+     *
+     * @param id ID of the Storage Box
+     * @return ActionResponse
+     * @throws IllegalStateException if not using Hetzner Online API
+     */
+    public CompletableFuture<ActionResponse> deleteStorageBox(long id) {
+        validateHetznerOnlineApiUsage();
+        return delete("%s/storage_boxes/%s".formatted(apiUrl, id), ActionResponse.class);
+    }
+
+    /**
+     * Create a sub-account for a Storage Box
+     *
+     * @param storageBoxId ID of the Storage Box
+     * @param request Sub-account creation request
+     * @return StorageBoxResponse
+     * @throws IllegalStateException if not using Hetzner Online API
+     */
+    public CompletableFuture<StorageBoxResponse> createStorageBoxSubAccount(long storageBoxId, CreateStorageBoxSubAccountRequest request) {
+        validateHetznerOnlineApiUsage();
+        return post("%s/storage_boxes/%s/sub_accounts".formatted(apiUrl, storageBoxId), request, StorageBoxResponse.class);
+    }
+
+    /**
+     * Update a Storage Box sub-account
+     *
+     * @param storageBoxId ID of the Storage Box
+     * @param username Username of the sub-account
+     * @param request Sub-account update request
+     * @return StorageBoxResponse
+     * @throws IllegalStateException if not using Hetzner Online API
+     */
+    public CompletableFuture<StorageBoxResponse> updateStorageBoxSubAccount(long storageBoxId, String username, CreateStorageBoxSubAccountRequest request) {
+        validateHetznerOnlineApiUsage();
+        return put("%s/storage_boxes/%s/sub_accounts/%s".formatted(apiUrl, storageBoxId, username), request, StorageBoxResponse.class);
+    }
+
+    /**
+     * Delete a Storage Box sub-account
+     *
+     * @param storageBoxId ID of the Storage Box
+     * @param username Username of the sub-account to delete
+     * @return ActionResponse
+     * @throws IllegalStateException if not using Hetzner Online API
+     */
+    public CompletableFuture<ActionResponse> deleteStorageBoxSubAccount(long storageBoxId, String username) {
+        validateHetznerOnlineApiUsage();
+        return delete("%s/storage_boxes/%s/sub_accounts/%s".formatted(apiUrl, storageBoxId, username), ActionResponse.class);
+    }
+
+    /**
+     * Get snapshots for a Storage Box
+     *
+     * @param storageBoxId ID of the Storage Box
+     * @return StorageBoxSnapshotsResponse
+     * @throws IllegalStateException if not using Hetzner Online API
+     */
+    public CompletableFuture<StorageBoxSnapshotsResponse> getStorageBoxSnapshots(long storageBoxId) {
+        validateHetznerOnlineApiUsage();
+        return get("%s/storage_boxes/%s/snapshots".formatted(apiUrl, storageBoxId), StorageBoxSnapshotsResponse.class);
+    }
+
+    /**
+     * Rollback Storage Box to a snapshot
+     *
+     * @param storageBoxId ID of the Storage Box
+     * @param snapshotName Name of the snapshot to rollback to
+     * @return ActionResponse
+     * @throws IllegalStateException if not using Hetzner Online API
+     */
+    public CompletableFuture<ActionResponse> rollbackStorageBoxToSnapshot(long storageBoxId, String snapshotName) {
+        validateHetznerOnlineApiUsage();
+        var requestBody = objectMapper.createObjectNode();
+        requestBody.put("snapshot", snapshotName);
+        return post("%s/storage_boxes/%s/actions/rollback".formatted(apiUrl, storageBoxId), requestBody, ActionResponse.class);
+    }
+
+    /**
+     * Reset Storage Box password
+     *
+     * @param storageBoxId ID of the Storage Box
+     * @return ActionResponse
+     * @throws IllegalStateException if not using Hetzner Online API
+     */
+    public CompletableFuture<ActionResponse> resetStorageBoxPassword(long storageBoxId) {
+        validateHetznerOnlineApiUsage();
+        return post("%s/storage_boxes/%s/actions/reset_password".formatted(apiUrl, storageBoxId), ActionResponse.class);
+    }
+
+    /**
+     * Enable snapshot plan for Storage Box
+     *
+     * @param storageBoxId ID of the Storage Box
+     * @return ActionResponse
+     * @throws IllegalStateException if not using Hetzner Online API
+     */
+    public CompletableFuture<ActionResponse> enableStorageBoxSnapshotPlan(long storageBoxId) {
+        validateHetznerOnlineApiUsage();
+        return post("%s/storage_boxes/%s/actions/enable_snapshot_plan".formatted(apiUrl, storageBoxId), ActionResponse.class);
+    }
+
+    /**
+     * Disable snapshot plan for Storage Box
+     *
+     * @param storageBoxId ID of the Storage Box
+     * @return ActionResponse
+     * @throws IllegalStateException if not using Hetzner Online API
+     */
+    public CompletableFuture<ActionResponse> disableStorageBoxSnapshotPlan(long storageBoxId) {
+        validateHetznerOnlineApiUsage();
+        return post("%s/storage_boxes/%s/actions/disable_snapshot_plan".formatted(apiUrl, storageBoxId), ActionResponse.class);
+    }
+
+    /**
+     * Converts a Date to the ISO-8601 format
+     *
+     * @param date Date to be converted
+     * @return Date in ISO-8601 format
+     * @see HetznerCloudAPI#convertToISO8601(Date)
+     */
+    public String convertToISO8601(Date date) {
+        return ISO8601Util.format(date.toInstant());
+    }
+
+    /**
+     * Get the first page of DNS zones
+     *
+     * @return List of DNS zones
+     * @see #listAllZones()
+     */
+    public CompletableFuture<ZonesResponse> getZones() {
+        return get("%s/zones".formatted(apiUrl), ZonesResponse.class);
+    }
+
+    /**
+     * Get all DNS zones with pagination
+     *
+     * @param paginationParameters Pagination parameters to apply to the request
+     * @return List of DNS zones
+     */
+    public CompletableFuture<ZonesResponse> getZones(PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/zones".formatted(apiUrl))
+                        .queryParam("per_page", paginationParameters.getPerPage())
+                        .queryParam("page", paginationParameters.getPage())
+                        .toUri(),
+                ZonesResponse.class);
+    }
+
+    /**
+     * Get all DNS zones with label selector
+     *
+     * @param labelSelector Label selector to filter zones
+     * @return List of DNS zones
+     */
+    public CompletableFuture<ZonesResponse> getZones(String labelSelector) {
+        return get(
+                UrlBuilder.from("%s/zones".formatted(apiUrl))
+                        .queryParam("label_selector", labelSelector)
+                        .toUri(),
+                ZonesResponse.class);
+    }
+
+    /**
+     * Get all DNS zones with label selector and pagination
+     *
+     * @param labelSelector Label selector to filter zones
+     * @param paginationParameters Pagination parameters to apply to the request
+     * @return List of DNS zones
+     */
+    public CompletableFuture<ZonesResponse> getZones(String labelSelector, PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/zones".formatted(apiUrl))
+                        .queryParamIfPresent("label_selector", Optional.ofNullable(labelSelector))
+                        .queryParamIfPresent("page", Optional.ofNullable(paginationParameters.page))
+                        .queryParamIfPresent("per_page", Optional.ofNullable(paginationParameters.perPage))
+                        .toUri(),
+                ZonesResponse.class);
+    }
+
+    /**
+     * Get all DNS zones in a project.
+     * <p>
+     * Unlike {@link #getZones()} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @return all DNS zones
+     */
+    public CompletableFuture<List<Zone>> listAllZones() {
+        return Paginator.fetchAll(
+                paginationParameters -> getZones(null, paginationParameters),
+                ZonesResponse::getZones,
+                ZonesResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get all DNS zones in a project filtered by a label selector.
+     * <p>
+     * Unlike {@link #getZones(String)} this fetches all pages using the maximum page size, the pages after the first one concurrently.
+     *
+     * @param labelSelector Label selector
+     * @return all DNS zones which match the label selector
+     */
+    public CompletableFuture<List<Zone>> listAllZones(String labelSelector) {
+        return Paginator.fetchAll(
+                paginationParameters -> getZones(labelSelector, paginationParameters),
+                ZonesResponse::getZones,
+                ZonesResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Get a specific DNS zone by ID
+     *
+     * @param id The zone ID
+     * @return Zone object
+     */
+    public CompletableFuture<ZoneResponse> getZone(long id) {
+        return get("%s/zones/%s".formatted(apiUrl, id), ZoneResponse.class);
+    }
+
+    /**
+     * Get DNS zone by name
+     *
+     * @param name Zone name
+     * @return Zone response containing matching zones
+     */
+    public CompletableFuture<ZonesResponse> getZoneByName(String name) {
+        return get(
+                UrlBuilder.from("%s/zones".formatted(apiUrl))
+                        .queryParam("name", name)
+                        .toUri(),
+                ZonesResponse.class);
+    }
+
+    /**
+     * Create a new DNS zone
+     *
+     * @param request Zone creation request
+     * @return Zone response
+     */
+    public CompletableFuture<ZoneResponse> createZone(CreateZoneRequest request) {
+        return post("%s/zones".formatted(apiUrl), request, ZoneResponse.class);
+    }
+
+    /**
+     * Update a DNS zone
+     *
+     * @param id Zone ID
+     * @param request Zone update request
+     * @return Zone response
+     */
+    public CompletableFuture<ZoneResponse> updateZone(long id, UpdateZoneRequest request) {
+        return put("%s/zones/%s".formatted(apiUrl, id), request, ZoneResponse.class);
+    }
+
+    /**
+     * Delete a DNS zone
+     *
+     * @param id Zone ID
+     * @return Action response
+     */
+    public CompletableFuture<ActionResponse> deleteZone(long id) {
+        return delete("%s/zones/%s".formatted(apiUrl, id), ActionResponse.class);
+    }
+
+    /**
+     * Change protection of a DNS zone
+     *
+     * @param id Zone ID
+     * @param delete Protection setting for deletion
+     * @return Action response
+     */
+    public CompletableFuture<ActionResponse> changeZoneProtection(long id, boolean delete) {
+        return post("%s/zones/%s/actions/change_protection".formatted(apiUrl, id),
+                Map.of("delete", delete), ActionResponse.class);
+    }
+
+    /**
+     * Get all RRSets for a zone
+     *
+     * @param zoneId Zone ID
+     * @return List of RRSets
+     */
+    public CompletableFuture<RRSetsResponse> getRRSets(long zoneId) {
+        return get("%s/zones/%s/rrsets".formatted(apiUrl, zoneId), RRSetsResponse.class);
+    }
+
+    /**
+     * Get all RRSets for a zone with pagination
+     *
+     * @param zoneId Zone ID
+     * @param paginationParameters Pagination parameters
+     * @return List of RRSets
+     */
+    public CompletableFuture<RRSetsResponse> getRRSets(long zoneId, PaginationParameters paginationParameters) {
+        return get(
+                UrlBuilder.from("%s/zones/%s/rrsets".formatted(apiUrl, zoneId))
+                        .queryParam("per_page", paginationParameters.getPerPage())
+                        .queryParam("page", paginationParameters.getPage())
+                        .toUri(),
+                RRSetsResponse.class);
+    }
+
+    /**
+     * Get all RRSets for a zone, fetching all pages concurrently using the maximum page size.
+     *
+     * @param zoneId Zone ID
+     * @return all RRSets of the zone
+     */
+    public CompletableFuture<List<RRSet>> listAllRRSets(long zoneId) {
+        return Paginator.fetchAll(
+                paginationParameters -> getRRSets(zoneId, paginationParameters),
+                RRSetsResponse::getRrsets,
+                RRSetsResponse::getMeta,
+                api.getPageParallelism());
+    }
+
+    /**
+     * Stream all RRSets of a zone to a consumer.
+     * <p>
+     * The pages are requested one after another, every page is parsed directly from the response body and each
+     * RRSet is handed to the consumer as soon as it has been read. The consumer is called on the OkHttp dispatcher.
+     *
+     * @param zoneId Zone ID
+     * @param consumer Consumer which is called for every RRSet
+     * @return future completed once all pages were handed to the consumer
+     */
+    public CompletableFuture<Void> forEachRRSet(long zoneId, Consumer<? super RRSet> consumer) {
+        return forEachItem(
+                paginationParameters -> UrlBuilder.from("%s/zones/%s/rrsets".formatted(apiUrl, zoneId))
+                        .queryParam("page", paginationParameters.page)
+                        .queryParam("per_page", paginationParameters.perPage)
+                        .toUri(),
+                "rrsets", RRSet.class, consumer, 1);
+    }
+
+    /**
+     * Get a specific RRSet
+     *
+     * @param zoneId Zone ID
+     * @param rrsetId RRSet ID
+     * @return RRSet response
+     */
+    public CompletableFuture<RRSetResponse> getRRSet(long zoneId, String rrsetId) {
+        return get("%s/zones/%s/rrsets/%s".formatted(apiUrl, zoneId, rrsetId), RRSetResponse.class);
+    }
+
+    /**
+     * Create a new RRSet
+     *
+     * @param zoneId Zone ID
+     * @param request RRSet creation request
+     * @return RRSet response
+     */
+    public CompletableFuture<RRSetResponse> createRRSet(long zoneId, CreateRRSetRequest request) {
+        return post("%s/zones/%s/rrsets".formatted(apiUrl, zoneId), request, RRSetResponse.class);
+    }
+
+    /**
+     * Update an RRSet
+     *
+     * @param zoneId Zone ID
+     * @param rrsetId RRSet ID
+     * @param request RRSet update request
+     * @return RRSet response
+     */
+    public CompletableFuture<RRSetResponse> updateRRSet(long zoneId, String rrsetId, UpdateRRSetRequest request) {
+        return put("%s/zones/%s/rrsets/%s".formatted(apiUrl, zoneId, rrsetId), request, RRSetResponse.class);
+    }
+
+    /**
+     * Delete an RRSet
+     *
+     * @param zoneId Zone ID
+     * @param rrsetId RRSet ID
+     * @return Action response
+     */
+    public CompletableFuture<ActionResponse> deleteRRSet(long zoneId, String rrsetId) {
+        return delete("%s/zones/%s/rrsets/%s".formatted(apiUrl, zoneId, rrsetId), ActionResponse.class);
+    }
+
+    /**
+     * Change protection of an RRSet
+     *
+     * @param zoneId Zone ID
+     * @param rrsetId RRSet ID
+     * @param change Protection setting for change
+     * @return Action response
+     */
+    public CompletableFuture<ActionResponse> changeRRSetProtection(long zoneId, String rrsetId, boolean change) {
+        return post("%s/zones/%s/rrsets/%s/actions/change_protection".formatted(apiUrl, zoneId, rrsetId),
+                Map.of("change", change), ActionResponse.class);
+    }
+
+    private void validateHetznerOnlineApiUsage() {
+        api.validateHetznerOnlineApiUsage();
+    }
+
+    /**
+     * Walks the pages of a list endpoint one after another with the maximum page size, starting at {@code page}, and
+     * hands every element of the {@code field} array to the consumer.
+     */
+    private <E> CompletableFuture<Void> forEachItem(Function<PaginationParameters, String> url, String field, Class<E> clazz,
+                                                    Consumer<? super E> consumer, long page) {
+        while (true) {
+            final CompletableFuture<Meta> request = transport.stream(
+                    url.apply(new PaginationParameters((int) page, Paginator.MAX_PER_PAGE)), field, clazz, consumer);
+            if (!request.isDone() || request.isCompletedExceptionally()) {
+                final long current = page;
+                return request.thenCompose(meta -> {
+                    final Long next = nextPage(meta, current);
+                    return next != null ? forEachItem(url, field, clazz, consumer, next) : CompletableFuture.completedFuture(null);
+                });
+            }
+
+            // the blocking transport returns completed futures, walk its pages in a loop instead of recursively
+            final Long next = nextPage(request.join(), page);
+            if (next == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            page = next;
+        }
+    }
+
+    private static Long nextPage(Meta meta, long page) {
+        final Meta.Pagination pagination = meta != null ? meta.getPagination() : null;
+        final Long nextPage = pagination != null ? pagination.getNextPage() : null;
+        return nextPage != null && nextPage > page ? nextPage : null;
+    }
+
+    private <T> CompletableFuture<T> get(String url, Class<T> clazz) {
+        return transport.get(url, clazz);
+    }
+
+    private <T> CompletableFuture<T> delete(String url, Class<T> clazz) {
+        return transport.exchange(url, HttpMethod.DELETE, null, clazz);
+    }
+
+    private <T> CompletableFuture<T> put(String url, Object body, Class<T> clazz) {
+        return transport.exchange(url, HttpMethod.PUT, body, clazz);
+    }
+
+    private <T> CompletableFuture<T> post(String url, Object body, Class<T> clazz) {
+        return transport.exchange(url, HttpMethod.POST, body, clazz);
+    }
+
+    private <T> CompletableFuture<T> post(String url, Class<T> clazz) {
+        return transport.exchange(url, HttpMethod.POST, objectMapper.createObjectNode(), clazz);
+    }
+}
@@ -0,0 +1,208 @@
+package io.github.sinuscosinustan.hetznercloud;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.sinuscosinustan.hetznercloud.instrumentation.LatencyHistogramRecorder;
+import io.github.sinuscosinustan.hetznercloud.ratelimit.RateLimiter;
+import okhttp3.OkHttpClient;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+
+/**
+ * Pool of API clients for several Hetzner Cloud projects.
+ * <p>
+ * All projects share one {@link ObjectMapper}, one {@link OkHttpClient} (connection pool and dispatcher) and one
+ * {@link LatencyHistogramRecorder}. If the template builder has a {@link RateLimiter}, rate limits are enforced per
+ * project token, because the API budgets every project on its own. The per-project {@link HetznerCloudAPI} instances only hold the token and these shared
+ * components, so they are cheap to create.
+ * <p>
+ * The HTTP client related settings of the template builder (connection pool, dispatcher, timeouts, HTTP/2) apply to
+ * the shared client; its token and response cache are ignored.
+ */
+public class HetznerCloudClientPool {
+
+    private final HetznerCloudAPI.Builder template;
+    private final ObjectMapper objectMapper;
+    private final OkHttpClient client;
+    private final LatencyHistogramRecorder latencyRecorder = new LatencyHistogramRecorder();
+
+    private final Map<String, HetznerCloudAPI> projects = new ConcurrentSkipListMap<>();
+    private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+
+    /**
+     * Create a pool with the default settings of {@link HetznerCloudAPI#builder()}.
+     */
+    public HetznerCloudClientPool() {
+        this(HetznerCloudAPI.builder());
+    }
+
+    /**
+     * Create a pool whose projects are configured like the given builder.
+     *
+     * @param template builder with the settings shared by all projects
+     */
+    public HetznerCloudClientPool(HetznerCloudAPI.Builder template) {
+        this.template = template;
+        this.objectMapper = HetznerCloudAPI.createObjectMapper();
+        this.client = template.buildClient();
+    }
+
+    /**
+     * Register a project. Registering the same name again replaces the client of that project.
+     *
+     * @param name  name the project is addressed with in this pool
+     * @param token API token of the project
+     * @return client of the project
+     */
+    public synchronized HetznerCloudAPI register(String name, String token) {
+        if (name == null) {
+            throw new IllegalArgumentException("Project name must not be null");
+        }
+        if (token == null || token.isBlank()) {
+            throw new RuntimeException("no Hetzner cloud token provided");
+        }
+
+        final RateLimiter rateLimiter = template.getRateLimiter() != null
+                ? rateLimiters.computeIfAbsent(token, ignored -> new RateLimiter(template.getRateLimiter().getMode()))
+                : null;
+        final HetznerCloudAPI api = template.forProject(token, objectMapper, client, rateLimiter)
+                .requestListener(latencyRecorder)
+                .build();
+        releaseRateLimiter(projects.put(name, api));
+        return api;
+    }
+
+    /**
+     * Remove a project from the pool. The rate limiter of its token is dropped once no other project uses it.
+     *
+     * @param name name of the project
+     */
+    public synchronized void unregister(String name) {
+        releaseRateLimiter(projects.remove(name));
+    }
+
+    /**
+     * @param name name of the project
+     * @return client of the project
+     * @throws IllegalArgumentException if no project with this name is registered
+     */
+    public HetznerCloudAPI get(String name) {
+        final HetznerCloudAPI api = projects.get(name);
+        if (api == null) {
+            throw new IllegalArgumentException("Unknown project: " + name);
+        }
+        return api;
+    }
+
+    /**
+     * @return names of all registered projects in alphabetical order
+     */
+    public Set<String> getProjects() {
+        return Collections.unmodifiableSet(projects.keySet());
+    }
+
+    /**
+     * Run a request against every registered project at the same time.
+     * <p>
+     * The returned future always completes normally. Projects whose request failed are reported in
+     * {@link FanOutResult#getFailures()} instead of failing the other projects.
+     *
+     * @param request request to run for each project
+     * @param <T>     result type of the request
+     * @return future completed with the results of all projects
+     */
+    public <T> CompletableFuture<FanOutResult<T>> fanOut(Function<HetznerCloudAsyncAPI, CompletableFuture<T>> request) {
+        final Map<String, CompletableFuture<T>> futures = new LinkedHashMap<>();
+        projects.forEach((name, api) -> {
+            CompletableFuture<T> future;
+            try {
+                future = request.apply(api.async());
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            futures.put(name, future);
+        });
+
+        return CompletableFuture.allOf(futures.values().stream()
+                        .map(future -> future.handle((result, failure) -> null))
+                        .toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    final Map<String, T> results = new LinkedHashMap<>();
+                    final Map<String, Throwable> failures = new LinkedHashMap<>();
+                    futures.forEach((name, future) -> {
+                        try {
+                            results.put(name, future.join());
+                        } catch (CompletionException e) {
+                            failures.put(name, e.getCause() != null ? e.getCause() : e);
+                        }
+                    });
+                    return new FanOutResult<>(results, failures);
+                });
+    }
+
+    /**
+     * @param name name of the project
+     * @return rate limiter of the project or null if client-side rate limiting is disabled
+     */
+    public RateLimiter getRateLimiter(String name) {
+        return get(name).getRateLimiter();
+    }
+
+    /**
+     * Drops the rate limiter of a removed or replaced client unless another project still uses it.
+     */
+    private void releaseRateLimiter(HetznerCloudAPI removed) {
+        final RateLimiter rateLimiter = removed != null ? removed.getRateLimiter() : null;
+        if (rateLimiter != null && projects.values().stream().noneMatch(api -> api.getRateLimiter() == rateLimiter)) {
+            rateLimiters.values().remove(rateLimiter);
+        }
+    }
+
+    /**
+     * @return latency histograms of the requests of all projects
+     */
+    public LatencyHistogramRecorder getLatencyRecorder() {
+        return latencyRecorder;
+    }
+
+    /**
+     * Results of a {@link #fanOut(Function)} call, keyed by project name
+     *
+     * @param <T> result type of the request
+     */
+    public static final class FanOutResult<T> {
+
+        private final Map<String, T> results;
+        private final Map<String, Throwable> failures;
+
+        FanOutResult(Map<String, T> results, Map<String, Throwable> failures) {
+            this.results = Collections.unmodifiableMap(results);
+            this.failures = Collections.unmodifiableMap(failures);
+        }
+
+        /**
+         * @return results of the projects whose request succeeded
+         */
+        public Map<String, T> getResults() {
+            return results;
+        }
+
+        /**
+         * @return failures of the projects whose request failed
+         */
+        public Map<String, Throwable> getFailures() {
+            return failures;
+        }
+
+        public boolean isSuccessful() {
+            return failures.isEmpty();
+        }
+    }
+}
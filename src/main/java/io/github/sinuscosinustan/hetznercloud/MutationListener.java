@@ -0,0 +1,18 @@
+package io.github.sinuscosinustan.hetznercloud;
+
+/**
+ * Receives every successful modifying request (POST, PUT, DELETE) sent through an API instance.
+ * <p>
+ * Listeners are called synchronously on the thread which finished the exchange, so they have to be fast and must
+ * not block. Exceptions thrown by a listener are ignored.
+ */
+@FunctionalInterface
+public interface MutationListener {
+
+    /**
+     * @param method   HTTP method, e.g. {@code POST}
+     * @param path     path below the API URL without query, e.g. {@code /servers/42/actions/poweron}
+     * @param response deserialized response, null if the response has no body
+     */
+    void onMutation(String method, String path, Object response);
+}
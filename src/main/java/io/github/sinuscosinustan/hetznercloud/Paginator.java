@@ -0,0 +1,153 @@
+package io.github.sinuscosinustan.hetznercloud;
+
+import io.github.sinuscosinustan.hetznercloud.objects.general.Meta;
+import io.github.sinuscosinustan.hetznercloud.objects.pagination.PaginationParameters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Helper that fetches all pages of a list endpoint
+ */
+final class Paginator {
+
+    /**
+     * Largest page size accepted by the API
+     */
+    static final int MAX_PER_PAGE = 50;
+
+    /**
+     * Default number of pages that are requested at the same time
+     */
+    static final int DEFAULT_PARALLELISM = 4;
+
+    private Paginator() {
+    }
+
+    /**
+     * Fetches every page of a list endpoint using the maximum page size.
+     * <p>
+     * The first page is requested on its own. If its pagination metadata contains {@code last_page}, the pages
+     * 2..N are requested concurrently with at most {@code parallelism} requests in flight, otherwise
+     * {@code next_page} is followed one page after another. The items are returned in API order.
+     *
+     * @param fetchPage   function that requests a single page
+     * @param items       extracts the items of a page
+     * @param meta        extracts the pagination metadata of a page
+     * @param parallelism maximum number of concurrent page requests
+     * @param <R>         response type of the list endpoint
+     * @param <E>         item type
+     * @return future completed with all items of all pages
+     */
+    static <R, E> CompletableFuture<List<E>> fetchAll(Function<PaginationParameters, CompletableFuture<R>> fetchPage,
+                                                      Function<R, List<E>> items,
+                                                      Function<R, Meta> meta,
+                                                      int parallelism) {
+        return fetchPage.apply(page(1)).thenCompose(first -> {
+            final Meta.Pagination pagination = pagination(meta.apply(first));
+            final List<E> firstItems = itemsOf(first, items);
+
+            if (pagination == null || pagination.getNextPage() == null) {
+                return CompletableFuture.completedFuture(firstItems);
+            }
+            if (pagination.getLastPage() == null) {
+                return fetchSequentially(fetchPage, items, meta, pagination.getNextPage(), new ArrayList<>(firstItems));
+            }
+
+            final int lastPage = pagination.getLastPage().intValue();
+            final AtomicReferenceArray<List<E>> pages = new AtomicReferenceArray<>(lastPage);
+            final AtomicInteger nextPage = new AtomicInteger(2);
+            pages.set(0, firstItems);
+
+            final CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.max(1, Math.min(parallelism, lastPage - 1))];
+            for (int i = 0; i < workers.length; i++) {
+                workers[i] = fetchRemaining(fetchPage, items, nextPage, lastPage, pages);
+            }
+
+            return CompletableFuture.allOf(workers).thenApply(ignored -> merge(pages));
+        });
+    }
+
+    /**
+     * Waits for a future and rethrows the original exception instead of a {@link CompletionException}.
+     * <p>
+     * The pages are completed on the OkHttp dispatcher, so this must not be called on one of its threads.
+     *
+     * @param future future to wait for
+     * @param <T>    result type
+     * @return result of the future
+     */
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static <R, E> CompletableFuture<Void> fetchRemaining(Function<PaginationParameters, CompletableFuture<R>> fetchPage,
+                                                                 Function<R, List<E>> items,
+                                                                 AtomicInteger nextPage,
+                                                                 int lastPage,
+                                                                 AtomicReferenceArray<List<E>> pages) {
+        final int page = nextPage.getAndIncrement();
+        if (page > lastPage) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return fetchPage.apply(page(page)).thenCompose(response -> {
+            pages.set(page - 1, itemsOf(response, items));
+            return fetchRemaining(fetchPage, items, nextPage, lastPage, pages);
+        });
+    }
+
+    private static <R, E> CompletableFuture<List<E>> fetchSequentially(Function<PaginationParameters, CompletableFuture<R>> fetchPage,
+                                                                       Function<R, List<E>> items,
+                                                                       Function<R, Meta> meta,
+                                                                       long page,
+                                                                       List<E> result) {
+        return fetchPage.apply(page(page)).thenCompose(response -> {
+            result.addAll(itemsOf(response, items));
+
+            final Meta.Pagination pagination = pagination(meta.apply(response));
+            final Long nextPage = pagination != null ? pagination.getNextPage() : null;
+            if (nextPage == null || nextPage <= page) {
+                return CompletableFuture.completedFuture(result);
+            }
+            return fetchSequentially(fetchPage, items, meta, nextPage, result);
+        });
+    }
+
+    private static <E> List<E> merge(AtomicReferenceArray<List<E>> pages) {
+        final List<E> result = new ArrayList<>();
+        for (int i = 0; i < pages.length(); i++) {
+            List<E> page = pages.get(i);
+            if (page != null) {
+                result.addAll(page);
+            }
+        }
+        return result;
+    }
+
+    private static <R, E> List<E> itemsOf(R response, Function<R, List<E>> items) {
+        final List<E> pageItems = items.apply(response);
+        return pageItems != null ? pageItems : Collections.emptyList();
+    }
+
+    private static Meta.Pagination pagination(Meta meta) {
+        return meta != null ? meta.getPagination() : null;
+    }
+
+    private static PaginationParameters page(long page) {
+        return new PaginationParameters((int) page, MAX_PER_PAGE);
+    }
+}
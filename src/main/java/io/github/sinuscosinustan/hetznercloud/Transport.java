@@ -0,0 +1,32 @@
+package io.github.sinuscosinustan.hetznercloud;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI.HttpMethod;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Meta;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Sends the requests built by {@link HetznerCloudAsyncAPI}.
+ * <p>
+ * URLs, query parameters and bodies of all API methods are built once in {@link HetznerCloudAsyncAPI}.
+ * {@link HetznerCloudAPI#async()} sends them on the OkHttp dispatcher, the blocking methods of {@link HetznerCloudAPI}
+ * use a transport which sends them on the calling thread and returns completed futures.
+ */
+interface Transport {
+
+    /**
+     * GET request which may be served from the response cache or joined with an identical one in flight
+     */
+    <T> CompletableFuture<T> get(String url, Class<T> clazz);
+
+    <T> CompletableFuture<T> exchange(String url, HttpMethod method, Object body, Class<T> clazz);
+
+    /**
+     * GET request for one page of a list endpoint, whose {@code field} array is parsed from the body's byte stream
+     * and handed to the consumer element by element
+     *
+     * @return future completed with the pagination metadata of the page
+     */
+    <E> CompletableFuture<Meta> stream(String url, String field, Class<E> clazz, Consumer<? super E> consumer);
+}
@@ -0,0 +1,267 @@
+package io.github.sinuscosinustan.hetznercloud.cache;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.MutationListener;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Certificate;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Image;
+import io.github.sinuscosinustan.hetznercloud.objects.general.LoadBalancer;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Network;
+import io.github.sinuscosinustan.hetznercloud.objects.general.PlacementGroup;
+import io.github.sinuscosinustan.hetznercloud.objects.general.PrimaryIP;
+import io.github.sinuscosinustan.hetznercloud.objects.general.SSHKey;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Server;
+import io.github.sinuscosinustan.hetznercloud.objects.general.StorageBox;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Zone;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Cache for resolving resource names to IDs, backed by the by-name lookups of the API such as
+ * {@link HetznerCloudAPI#getServer(String)}.
+ * <p>
+ * Found IDs are cached for {@code ttl}, names which do not exist for {@code negativeTtl}. The cache holds at most
+ * {@code maxEntries} names and evicts the least recently used one. Successful modifying requests sent through the
+ * same API instance invalidate the affected entries: a changed or deleted resource drops all names pointing to it,
+ * and any modification drops the cached misses, as it may have created a resource with one of the names. A lookup
+ * which overlaps with an invalidation is returned but not cached, as it may have seen the state before the change.
+ */
+public class NameResolver implements MutationListener, AutoCloseable {
+
+    /**
+     * Default maximum number of cached names
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+    public static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofSeconds(30);
+
+    private static final long MISSING = -1;
+
+    /**
+     * Resource types with a by-name lookup
+     */
+    public enum Type {
+        SERVER("servers", (api, name) -> first(api.getServer(name).getServers(), Server::getId)),
+        SSH_KEY("ssh_keys", (api, name) -> first(api.getSSHKey(name).getSshKeys(), SSHKey::getId)),
+        NETWORK("networks", (api, name) -> first(api.getNetworksByName(name).getNetworks(), Network::getId)),
+        IMAGE("images", (api, name) -> first(api.getImageByName(name).getImages(), Image::getId)),
+        CERTIFICATE("certificates", (api, name) -> first(api.getCertificate(name).getCertificates(), Certificate::getId)),
+        LOAD_BALANCER("load_balancers", (api, name) -> first(api.getLoadBalancerByName(name).getLoadBalancers(), LoadBalancer::getId)),
+        PRIMARY_IP("primary_ips", (api, name) -> first(api.getPrimaryIPByName(name).getPrimaryIPs(), PrimaryIP::getId)),
+        PLACEMENT_GROUP("placement_groups", (api, name) -> first(api.getPlacementGroup(name).getPlacementGroups(), PlacementGroup::getId)),
+        ZONE("zones", (api, name) -> first(api.getZoneByName(name).getZones(), Zone::getId)),
+        STORAGE_BOX("storage_boxes", (api, name) -> first(api.getStorageBoxByName(name).getStorageBoxes(), StorageBox::getId));
+
+        private final String endpoint;
+        private final BiFunction<HetznerCloudAPI, String, Long> lookup;
+
+        Type(String endpoint, BiFunction<HetznerCloudAPI, String, Long> lookup) {
+            this.endpoint = endpoint;
+            this.lookup = lookup;
+        }
+
+        /**
+         * @return first path segment of the resource, e.g. {@code ssh_keys}
+         */
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        private static Type ofEndpoint(String endpoint) {
+            for (Type type : values()) {
+                if (type.endpoint.equals(endpoint)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+
+        private static <T> Long first(List<T> items, Function<T, Long> id) {
+            return items == null || items.isEmpty() ? null : id.apply(items.get(0));
+        }
+    }
+
+    private final HetznerCloudAPI api;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final Map<Key, Entry> entries;
+
+    /**
+     * Incremented by every invalidation, guarded by {@link #entries}
+     */
+    private long generation;
+
+    private NameResolver(Builder builder) {
+        this.api = builder.api;
+        this.ttlNanos = builder.ttl.toNanos();
+        this.negativeTtlNanos = builder.negativeTtl.toNanos();
+        final int maxEntries = builder.maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        api.addMutationListener(this);
+    }
+
+    /**
+     * @param api API instance used for the lookups, whose modifying requests invalidate the cache
+     * @return a builder for a resolver
+     */
+    public static Builder builder(HetznerCloudAPI api) {
+        return new Builder(api);
+    }
+
+    /**
+     * @param type resource type
+     * @param name exact name of the resource
+     * @return ID of the resource, empty if there is no resource with the name
+     */
+    public OptionalLong resolve(Type type, String name) {
+        final Key key = new Key(type, name);
+        final long now = System.nanoTime();
+        final long started;
+        synchronized (entries) {
+            final Entry entry = entries.get(key);
+            if (entry != null && entry.expires - now > 0) {
+                return entry.id != MISSING ? OptionalLong.of(entry.id) : OptionalLong.empty();
+            }
+            started = generation;
+        }
+
+        final Long id = type.lookup.apply(api, name);
+        final boolean found = id != null;
+        synchronized (entries) {
+            if (generation == started) {
+                entries.put(key, new Entry(found ? id : MISSING, now + (found ? ttlNanos : negativeTtlNanos)));
+            }
+        }
+        return found ? OptionalLong.of(id) : OptionalLong.empty();
+    }
+
+    /**
+     * @param type resource type
+     * @param name exact name of the resource
+     * @return ID of the resource
+     * @throws IllegalArgumentException if there is no resource with the name
+     */
+    public long require(Type type, String name) {
+        return resolve(type, name).orElseThrow(() -> new IllegalArgumentException(
+                "No %s named '%s'".formatted(type.name().toLowerCase().replace('_', ' '), name)));
+    }
+
+    /**
+     * Drop all cached names of a resource type.
+     *
+     * @param type resource type
+     */
+    public void invalidate(Type type) {
+        synchronized (entries) {
+            generation++;
+            entries.keySet().removeIf(key -> key.type == type);
+        }
+    }
+
+    /**
+     * Drop all cached names.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return number of cached names, including misses
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public void onMutation(String method, String path, Object response) {
+        final String[] segments = path.startsWith("/") ? path.substring(1).split("/") : path.split("/");
+        final Type type = Type.ofEndpoint(segments[0]);
+        final String target = segments.length > 1 ? segments[1] : null;
+
+        synchronized (entries) {
+            generation++;
+            entries.entrySet().removeIf(e -> e.getValue().id == MISSING
+                    || (e.getKey().type == type && target != null && matches(e, target)));
+        }
+    }
+
+    @Override
+    public void close() {
+        api.removeMutationListener(this);
+    }
+
+    /**
+     * @return true if the entry belongs to the ID or, for resources addressed by name like DNS zones, the name
+     */
+    private static boolean matches(Map.Entry<Key, Entry> entry, String target) {
+        return target.equals(entry.getKey().name) || target.equals(Long.toString(entry.getValue().id));
+    }
+
+    private record Key(Type type, String name) {
+        private Key {
+            Objects.requireNonNull(type, "type");
+            Objects.requireNonNull(name, "name");
+        }
+    }
+
+    private record Entry(long id, long expires) {
+    }
+
+    public static class Builder {
+        private final HetznerCloudAPI api;
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+        private Duration ttl = DEFAULT_TTL;
+        private Duration negativeTtl = DEFAULT_NEGATIVE_TTL;
+
+        private Builder(HetznerCloudAPI api) {
+            this.api = api;
+        }
+
+        /**
+         * @param maxEntries maximum number of cached names, including misses
+         * @return the current {@link Builder} instance
+         */
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * @param ttl how long a found ID is cached
+         * @return the current {@link Builder} instance
+         */
+        public Builder ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * @param negativeTtl how long a name without a resource is cached
+         * @return the current {@link Builder} instance
+         */
+        public Builder negativeTtl(Duration negativeTtl) {
+            this.negativeTtl = negativeTtl;
+            return this;
+        }
+
+        public NameResolver build() {
+            return new NameResolver(this);
+        }
+    }
+}
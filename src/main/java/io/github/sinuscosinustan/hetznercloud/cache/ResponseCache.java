@@ -0,0 +1,280 @@
+package io.github.sinuscosinustan.hetznercloud.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache for responses of rarely changing GET endpoints, e.g. server types, locations or pricing.
+ * <p>
+ * Only endpoints which have a TTL configured are cached, keyed by their full request URL. The cache holds at most
+ * {@code maxEntries} responses and evicts the least recently used one. With refresh-ahead enabled, a hit on an entry
+ * which is older than {@code refreshAheadFactor * ttl} is served from the cache while the entry is reloaded in the
+ * background, so hot entries never expire on the request path.
+ * <p>
+ * Every endpoint has a generation which {@link #invalidate(String)} increments. A response is only stored if the
+ * generation of its endpoint did not change while it was loaded, so a load which was started before an
+ * invalidation can not put the outdated response back into the cache.
+ * <p>
+ * Cached responses are shared between callers and must not be modified. {@link #close()} stops the background
+ * reloads; the cache keeps serving and storing responses afterwards, entries then expire on the request path.
+ */
+public class ResponseCache implements AutoCloseable {
+
+    /**
+     * Default maximum number of cached responses
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    private final Map<String, Duration> ttls;
+    private final int maxEntries;
+    private final double refreshAheadFactor;
+    private final ExecutorService refreshExecutor;
+    private final Map<String, Entry> entries;
+    private final Map<String, Long> generations = new HashMap<>();
+    private volatile boolean closed;
+
+    private ResponseCache(Builder builder) {
+        this.ttls = Map.copyOf(builder.ttls);
+        this.maxEntries = builder.maxEntries;
+        this.refreshAheadFactor = builder.refreshAheadFactor;
+        this.refreshExecutor = builder.refreshAheadFactor > 0 ? Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "hetznercloud-cache-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ResponseCache.this.maxEntries;
+            }
+        };
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Cache for the static catalog endpoints: server types, Load Balancer types, locations, datacenters, ISOs and
+     * pricing for one hour, images for five minutes.
+     *
+     * @return ResponseCache with refresh-ahead enabled
+     */
+    public static ResponseCache withDefaults() {
+        return builder()
+                .ttl("server_types", Duration.ofHours(1))
+                .ttl("load_balancer_types", Duration.ofHours(1))
+                .ttl("locations", Duration.ofHours(1))
+                .ttl("datacenters", Duration.ofHours(1))
+                .ttl("isos", Duration.ofHours(1))
+                .ttl("pricing", Duration.ofHours(1))
+                .ttl("images", Duration.ofMinutes(5))
+                .refreshAhead(0.8)
+                .build();
+    }
+
+    /**
+     * Check whether responses of an endpoint are cached.
+     *
+     * @param endpoint first path segment below the API URL, e.g. {@code server_types}
+     * @return true if a TTL is configured for the endpoint
+     */
+    public boolean isCached(String endpoint) {
+        return endpoint != null && ttls.containsKey(endpoint);
+    }
+
+    /**
+     * Return the cached response or load and cache it.
+     *
+     * @param endpoint first path segment below the API URL
+     * @param url full request URL
+     * @param clazz response class
+     * @param loader performs the request
+     * @param <T> response type
+     * @return the response
+     */
+    public <T> T get(String endpoint, String url, Class<T> clazz, Supplier<T> loader) {
+        if (!isCached(endpoint)) {
+            return loader.get();
+        }
+
+        final T cached = lookup(endpoint, url, clazz, () -> CompletableFuture.supplyAsync(loader, refreshExecutor));
+        if (cached != null) {
+            return cached;
+        }
+
+        final long generation = generation(endpoint);
+        final T value = loader.get();
+        store(endpoint, url, value, generation);
+        return value;
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #get(String, String, Class, Supplier)}.
+     *
+     * @param endpoint first path segment below the API URL
+     * @param url full request URL
+     * @param clazz response class
+     * @param loader performs the request
+     * @param <T> response type
+     * @return the response
+     */
+    public <T> CompletableFuture<T> getAsync(String endpoint, String url, Class<T> clazz, Supplier<CompletableFuture<T>> loader) {
+        if (!isCached(endpoint)) {
+            return loader.get();
+        }
+
+        final T cached = lookup(endpoint, url, clazz, loader);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        final long generation = generation(endpoint);
+        return loader.get().thenApply(value -> {
+            store(endpoint, url, value, generation);
+            return value;
+        });
+    }
+
+    /**
+     * Remove all cached responses of an endpoint.
+     *
+     * @param endpoint first path segment below the API URL, e.g. {@code images}
+     */
+    public synchronized void invalidate(String endpoint) {
+        generations.merge(endpoint, 1L, Long::sum);
+        entries.values().removeIf(entry -> entry.endpoint.equals(endpoint));
+    }
+
+    /**
+     * Remove all cached responses.
+     */
+    public synchronized void invalidateAll() {
+        ttls.keySet().forEach(endpoint -> generations.merge(endpoint, 1L, Long::sum));
+        entries.clear();
+    }
+
+    /**
+     * @return number of cached responses
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Stop refresh-ahead and shut down its background thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    private <T> T lookup(String endpoint, String url, Class<T> clazz, Supplier<CompletableFuture<T>> refresh) {
+        final Entry entry;
+        synchronized (this) {
+            entry = entries.get(url);
+        }
+        if (entry == null || !clazz.isInstance(entry.value)) {
+            return null;
+        }
+
+        final long ttl = ttls.get(endpoint).toNanos();
+        final long age = System.nanoTime() - entry.loadedAt;
+        if (age >= ttl) {
+            synchronized (this) {
+                entries.remove(url, entry);
+            }
+            return null;
+        }
+
+        if (refreshAheadFactor > 0 && !closed && age >= ttl * refreshAheadFactor && entry.refreshing.compareAndSet(false, true)) {
+            final long generation = generation(endpoint);
+            refresh.get().whenComplete((value, throwable) -> {
+                if (throwable == null) {
+                    store(endpoint, url, value, generation);
+                } else {
+                    entry.refreshing.set(false);
+                }
+            });
+        }
+        return clazz.cast(entry.value);
+    }
+
+    private synchronized long generation(String endpoint) {
+        return generations.getOrDefault(endpoint, 0L);
+    }
+
+    /**
+     * Stores a loaded response unless its endpoint was invalidated since the load started.
+     */
+    private synchronized void store(String endpoint, String url, Object value, long generation) {
+        if (value != null && generation(endpoint) == generation) {
+            entries.put(url, new Entry(endpoint, value, System.nanoTime()));
+        }
+    }
+
+    private static final class Entry {
+        private final String endpoint;
+        private final Object value;
+        private final long loadedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(String endpoint, Object value, long loadedAt) {
+            this.endpoint = endpoint;
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    public static class Builder {
+        private final Map<String, Duration> ttls = new HashMap<>();
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+        private double refreshAheadFactor = 0;
+
+        /**
+         * Cache responses of an endpoint.
+         *
+         * @param endpoint first path segment below the API URL, e.g. {@code server_types}
+         * @param ttl time after which a response is loaded again
+         * @return the current {@link Builder} instance
+         */
+        public Builder ttl(String endpoint, Duration ttl) {
+            ttls.put(endpoint, ttl);
+            return this;
+        }
+
+        /**
+         * @param maxEntries maximum number of cached responses
+         * @return the current {@link Builder} instance
+         */
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Reload entries in the background once they reached the given fraction of their TTL.
+         *
+         * @param refreshAheadFactor fraction between 0 (disabled) and 1
+         * @return the current {@link Builder} instance
+         */
+        public Builder refreshAhead(double refreshAheadFactor) {
+            this.refreshAheadFactor = refreshAheadFactor;
+            return this;
+        }
+
+        public ResponseCache build() {
+            return new ResponseCache(this);
+        }
+    }
+}
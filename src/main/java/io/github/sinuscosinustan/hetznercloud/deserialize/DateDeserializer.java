@@ -1,21 +1,26 @@
 package io.github.sinuscosinustan.hetznercloud.deserialize;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.github.sinuscosinustan.hetznercloud.util.ISO8601Util;
 
 import java.io.IOException;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.nio.CharBuffer;
+import java.time.format.DateTimeParseException;
 import java.util.Date;
 
+/**
+ * Deserializes the ISO-8601 timestamps of the API with {@link ISO8601Util}.
+ * <p>
+ * The timestamp is parsed from the parser's character buffer, so no intermediate String is created.
+ * Empty strings are mapped to null, invalid timestamps fail with an {@link com.fasterxml.jackson.databind.exc.InvalidFormatException}.
+ */
 public class DateDeserializer extends StdDeserializer<Date> {
 
     private static final long serialVersionUID = 1L;
 
-    private final ThreadLocal<SimpleDateFormat> dateFormatThreadLocal = ThreadLocal.withInitial(() ->
-            new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssXXX"));
-
     public DateDeserializer() {
         this(null);
     }
@@ -25,11 +30,20 @@ public class DateDeserializer extends StdDeserializer<Date> {
     }
 
     @Override
-    public Date deserialize(JsonParser jsonParser, DeserializationContext context) {
+    public Date deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException {
+        if (!jsonParser.hasToken(JsonToken.VALUE_STRING)) {
+            return (Date) context.handleUnexpectedToken(Date.class, jsonParser);
+        }
+
+        final CharBuffer text = CharBuffer.wrap(jsonParser.getTextCharacters(), jsonParser.getTextOffset(), jsonParser.getTextLength());
+        if (text.isEmpty()) {
+            return null;
+        }
+
         try {
-            String date = jsonParser.getText();
-            return dateFormatThreadLocal.get().parse(date);
-        } catch (IOException | ParseException ignored) {}
-        return null;
+            return new Date(ISO8601Util.parseEpochMillis(text));
+        } catch (DateTimeParseException e) {
+            return (Date) context.handleWeirdStringValue(Date.class, text.toString(), e.getMessage());
+        }
     }
 }
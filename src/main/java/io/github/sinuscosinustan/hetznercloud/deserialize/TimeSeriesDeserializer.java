@@ -0,0 +1,96 @@
+package io.github.sinuscosinustan.hetznercloud.deserialize;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.github.sinuscosinustan.hetznercloud.objects.general.TimeSeries;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Streams a metrics series of the form {@code {"values": [[1435781470.622, "42"], ...]}} into a {@link TimeSeries}
+ * without creating intermediate lists, maps or boxed numbers.
+ * <p>
+ * Timestamps are converted from (fractional) seconds to milliseconds. Values may be strings or numbers, unparsable
+ * values become {@link Double#NaN}.
+ */
+public class TimeSeriesDeserializer extends StdDeserializer<TimeSeries> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    public TimeSeriesDeserializer() {
+        super(TimeSeries.class);
+    }
+
+    @Override
+    public TimeSeries deserialize(JsonParser jsonParser, DeserializationContext context) throws IOException {
+        if (!jsonParser.isExpectedStartObjectToken()) {
+            return (TimeSeries) context.handleUnexpectedToken(TimeSeries.class, jsonParser);
+        }
+
+        TimeSeries series = TimeSeries.empty();
+        for (String field = jsonParser.nextFieldName(); field != null; field = jsonParser.nextFieldName()) {
+            jsonParser.nextToken();
+            if ("values".equals(field) && jsonParser.hasToken(JsonToken.START_ARRAY)) {
+                series = readValues(jsonParser, context);
+            } else {
+                jsonParser.skipChildren();
+            }
+        }
+        return series;
+    }
+
+    private TimeSeries readValues(JsonParser jsonParser, DeserializationContext context) throws IOException {
+        long[] timestamps = new long[INITIAL_CAPACITY];
+        double[] values = new double[INITIAL_CAPACITY];
+        int size = 0;
+
+        while (jsonParser.nextToken() == JsonToken.START_ARRAY) {
+            if (size == timestamps.length) {
+                timestamps = Arrays.copyOf(timestamps, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+
+            jsonParser.nextToken();
+            if (!jsonParser.currentToken().isNumeric()) {
+                return (TimeSeries) context.handleUnexpectedToken(TimeSeries.class, jsonParser);
+            }
+            timestamps[size] = Math.round(jsonParser.getDoubleValue() * 1000);
+
+            jsonParser.nextToken();
+            values[size] = readValue(jsonParser);
+
+            // ignore additional elements of the pair
+            if (!jsonParser.hasToken(JsonToken.END_ARRAY)) {
+                while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                    jsonParser.skipChildren();
+                }
+            }
+            size++;
+        }
+
+        if (!jsonParser.hasToken(JsonToken.END_ARRAY)) {
+            return (TimeSeries) context.handleUnexpectedToken(TimeSeries.class, jsonParser);
+        }
+        return new TimeSeries(Arrays.copyOf(timestamps, size), Arrays.copyOf(values, size));
+    }
+
+    private static double readValue(JsonParser jsonParser) throws IOException {
+        final JsonToken token = jsonParser.currentToken();
+        if (token != null && token.isNumeric()) {
+            return jsonParser.getDoubleValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            // uses the parser's own number parsing, strings which are not a number become NaN
+            return jsonParser.getValueAsDouble(Double.NaN);
+        }
+        if (token != JsonToken.END_ARRAY) {
+            jsonParser.skipChildren();
+        }
+        return Double.NaN;
+    }
+}
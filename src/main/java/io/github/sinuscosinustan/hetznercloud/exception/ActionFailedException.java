@@ -0,0 +1,26 @@
+package io.github.sinuscosinustan.hetznercloud.exception;
+
+import io.github.sinuscosinustan.hetznercloud.objects.general.Action;
+import lombok.Getter;
+
+/**
+ * Thrown when an {@link Action} finished with status {@code error}.
+ */
+public class ActionFailedException extends RuntimeException {
+
+    private static final long serialVersionUID = 4394728120938412385L;
+    private static final String DEFAULT_EXCEPTION_MSG = "Action %s (%s) failed: [%s] %s";
+
+    @Getter
+    private final Action action;
+
+    public ActionFailedException(Action action) {
+        super(String.format(DEFAULT_EXCEPTION_MSG,
+                action.getId(),
+                action.getCommand(),
+                action.getError() != null ? action.getError().getCode() : null,
+                action.getError() != null ? action.getError().getMessage() : null));
+        this.action = action;
+    }
+
+}
@@ -0,0 +1,98 @@
+package io.github.sinuscosinustan.hetznercloud.instrumentation;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with logarithmic buckets.
+ * <p>
+ * Every power of two is split into {@value #SUB_BUCKETS} linear sub-buckets, so a percentile is off by at most
+ * 12.5%. Recording is a single {@link LongAdder} increment and does not contend between threads.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @param nanos latency in nanoseconds, negative values are recorded as 0
+     */
+    public void record(long nanos) {
+        final long value = Math.max(0, nanos);
+        buckets[indexOf(value)].increment();
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public Duration getMax() {
+        return Duration.ofNanos(max.get());
+    }
+
+    public Duration getMean() {
+        final long n = count.sum();
+        return n == 0 ? Duration.ZERO : Duration.ofNanos(sum.sum() / n);
+    }
+
+    /**
+     * @param quantile quantile between 0 and 1, e.g. 0.99
+     * @return upper bound of the bucket containing the quantile, {@link Duration#ZERO} if nothing was recorded
+     */
+    public Duration getPercentile(double quantile) {
+        final long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Duration.ofNanos(Math.min(upperBoundOf(i), max.get()));
+            }
+        }
+        return Duration.ofNanos(max.get());
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        final long subBucket = index % SUB_BUCKETS;
+        final long lowerBound = (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.sinuscosinustan.hetznercloud.instrumentation;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link RequestListener} which records the latency of every exchange per endpoint.
+ * <p>
+ * Endpoints are keyed as {@code METHOD endpoint}, e.g. {@code GET /servers/{id}}. The recorded latency is network
+ * plus deserialization time, waiting for the rate limiter is not included.
+ */
+public class LatencyHistogramRecorder implements RequestListener {
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+
+    @Override
+    public void onRequest(RequestEvent event) {
+        final String key = event.getMethod() + " " + event.getEndpoint();
+        histograms.computeIfAbsent(key, k -> new LatencyHistogram()).record(event.getDurationNanos());
+        if (!event.isSuccessful()) {
+            failures.computeIfAbsent(key, k -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * @return all recorded endpoints, sorted
+     */
+    public Set<String> getEndpoints() {
+        return new TreeSet<>(histograms.keySet());
+    }
+
+    /**
+     * @param endpoint endpoint key, e.g. {@code GET /servers/{id}}
+     * @return the histogram or null if nothing was recorded for the endpoint
+     */
+    public LatencyHistogram getHistogram(String endpoint) {
+        return histograms.get(endpoint);
+    }
+
+    /**
+     * @param endpoint endpoint key, e.g. {@code GET /servers/{id}}
+     * @param quantile quantile between 0 and 1, e.g. 0.99
+     * @return latency at the quantile, {@link Duration#ZERO} if nothing was recorded
+     */
+    public Duration getPercentile(String endpoint, double quantile) {
+        final LatencyHistogram histogram = histograms.get(endpoint);
+        return histogram != null ? histogram.getPercentile(quantile) : Duration.ZERO;
+    }
+
+    /**
+     * @param endpoint endpoint key, e.g. {@code GET /servers/{id}}
+     * @return number of failed exchanges
+     */
+    public long getFailureCount(String endpoint) {
+        final LongAdder count = failures.get(endpoint);
+        return count != null ? count.sum() : 0;
+    }
+
+    /**
+     * Remove all recorded data.
+     */
+    public void reset() {
+        histograms.clear();
+        failures.clear();
+    }
+}
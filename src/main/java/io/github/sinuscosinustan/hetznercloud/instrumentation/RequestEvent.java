@@ -0,0 +1,61 @@
+package io.github.sinuscosinustan.hetznercloud.instrumentation;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A single HTTP exchange with the API.
+ */
+@Getter
+@Builder
+@ToString
+public class RequestEvent {
+
+    /**
+     * Path below the API URL with IDs and names replaced by placeholders, e.g. {@code /servers/{id}/actions/poweron}
+     * or {@code /zones/{id}/rrsets/{name}/{type}}
+     */
+    private final String endpoint;
+    private final String method;
+    /**
+     * HTTP status code or 0 if no response was received
+     */
+    private final int status;
+    /**
+     * Size of the response body or -1 if unknown
+     */
+    private final long responseBytes;
+    /**
+     * Time spent waiting for the client-side rate limiter
+     */
+    private final long queueNanos;
+    /**
+     * Time until the response headers were received
+     */
+    private final long networkNanos;
+    /**
+     * Time spent reading and deserializing the response body
+     */
+    private final long deserializationNanos;
+    /**
+     * Number of the attempt, starting at 1. Everything above 1 is a retry.
+     */
+    private final int attempt;
+    private final String correlationId;
+    /**
+     * The failure of the attempt or null if it was successful
+     */
+    private final Throwable failure;
+
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+    /**
+     * @return network and deserialization time
+     */
+    public long getDurationNanos() {
+        return networkNanos + deserializationNanos;
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.sinuscosinustan.hetznercloud.instrumentation;
+
+/**
+ * Receives an event for every HTTP exchange with the API.
+ * <p>
+ * Listeners are called synchronously on the thread which finished the exchange, so they have to be fast and must
+ * not block. Exceptions thrown by a listener are ignored.
+ */
+@FunctionalInterface
+public interface RequestListener {
+
+    /**
+     * Called after every attempt of a request, including attempts which are retried afterwards.
+     *
+     * @param event details of the attempt
+     */
+    void onRequest(RequestEvent event);
+}
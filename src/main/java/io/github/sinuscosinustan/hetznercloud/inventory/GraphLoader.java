@@ -0,0 +1,297 @@
+package io.github.sinuscosinustan.hetznercloud.inventory;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.exception.APIRequestException;
+import io.github.sinuscosinustan.hetznercloud.objects.general.APIErrorCode;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Firewall;
+import io.github.sinuscosinustan.hetznercloud.objects.general.FloatingIP;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Image;
+import io.github.sinuscosinustan.hetznercloud.objects.general.LoadBalancer;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Network;
+import io.github.sinuscosinustan.hetznercloud.objects.general.PrimaryIP;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Server;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Volume;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Loads the resources referenced by ID from a result set, e.g. the volumes, networks and Load Balancers of a list of
+ * servers, and links them into a {@link ResourceGraph}.
+ * <p>
+ * Loading runs in rounds: each round collects the referenced IDs of the resources added in the previous round,
+ * removes duplicates and already loaded resources, and requests all resource types in parallel. For every type the
+ * first page of its listing is requested first, which also tells the number of pages. IDs which are not on that page
+ * are fetched by ID if there are fewer of them than remaining pages, otherwise the remaining pages are requested
+ * concurrently. Listings and first pages are kept for later rounds, so a type is listed at most once per load.
+ * <p>
+ * By default only forward references are followed, e.g. from a server to its networks. The member lists of a network
+ * and the servers a Firewall is applied to can cover a large part of the project and are only followed if enabled.
+ */
+public class GraphLoader {
+
+    /**
+     * Default number of rounds, enough to load a full topology, e.g. servers, their Load Balancers and the servers
+     * targeted by those
+     */
+    public static final int DEFAULT_MAX_DEPTH = 3;
+
+    /**
+     * Number of resources per requested page of a listing, the largest page size accepted by the API
+     */
+    public static final int PAGE_SIZE = 50;
+
+    private final Map<ResourceType, ResourceSource<?>> sources;
+    private final int maxDepth;
+    private final boolean followBackReferences;
+
+    public GraphLoader(HetznerCloudAPI api) {
+        this(api, DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * @param api      API instance used for loading
+     * @param maxDepth maximum number of reference hops followed from the given resources
+     */
+    public GraphLoader(HetznerCloudAPI api, int maxDepth) {
+        this(api, maxDepth, false);
+    }
+
+    /**
+     * @param api                  API instance used for loading
+     * @param maxDepth             maximum number of reference hops followed from the given resources
+     * @param followBackReferences also load the servers and Load Balancers of networks and the servers of Firewalls
+     */
+    public GraphLoader(HetznerCloudAPI api, int maxDepth, boolean followBackReferences) {
+        this.sources = ResourceSource.all(api.async());
+        this.maxDepth = maxDepth;
+        this.followBackReferences = followBackReferences;
+    }
+
+    /**
+     * @param resources resources to start from: {@link Server}, {@link Volume}, {@link Network}, {@link FloatingIP},
+     *                  {@link PrimaryIP}, {@link LoadBalancer}, {@link Firewall} or {@link Image}
+     * @return future completed with the graph of the resources and everything they reference
+     * @throws IllegalArgumentException if a resource has an unsupported class
+     */
+    public CompletableFuture<ResourceGraph> load(Collection<?> resources) {
+        final Loading loading = new Loading();
+        final List<Object> added = new ArrayList<>();
+        for (Object resource : resources) {
+            final ResourceType type = typeOf(resource);
+            if (loading.add(type, sources.get(type), resource)) {
+                added.add(resource);
+            }
+        }
+        return expand(loading, added, 0);
+    }
+
+    private CompletableFuture<ResourceGraph> expand(Loading loading, List<Object> added, int depth) {
+        final Map<ResourceType, Set<Long>> missing = new EnumMap<>(ResourceType.class);
+        for (Object item : added) {
+            ResourceGraph.forEachReference(item, followBackReferences, (type, id) -> {
+                if (!loading.isKnown(type, id)) {
+                    missing.computeIfAbsent(type, t -> new LinkedHashSet<>()).add(id);
+                }
+            });
+        }
+        if (missing.isEmpty() || depth >= maxDepth) {
+            return CompletableFuture.completedFuture(loading.toGraph());
+        }
+
+        final Map<ResourceType, CompletableFuture<List<?>>> requests = new EnumMap<>(ResourceType.class);
+        missing.forEach((type, ids) -> requests.put(type, fetch(loading, sources.get(type), ids)));
+        return CompletableFuture.allOf(requests.values().toArray(new CompletableFuture<?>[0])).thenCompose(ignored -> {
+            final List<Object> next = new ArrayList<>();
+            requests.forEach((type, request) -> {
+                final ResourceSource<?> source = sources.get(type);
+                for (Object item : request.join()) {
+                    if (loading.add(type, source, item)) {
+                        next.add(item);
+                    }
+                }
+                for (Long id : missing.get(type)) {
+                    loading.markUnresolvedIfMissing(type, id);
+                }
+            });
+            return expand(loading, next, depth + 1);
+        });
+    }
+
+    /**
+     * @return the resources with the given IDs which exist
+     */
+    private <T> CompletableFuture<List<?>> fetch(Loading loading, ResourceSource<T> source, Set<Long> ids) {
+        final List<?> listed = loading.listed.get(source.type());
+        if (listed != null) {
+            return CompletableFuture.completedFuture(select(source, listed, ids));
+        }
+
+        return firstPage(loading, source).thenCompose(first -> {
+            final List<?> found = select(source, first.items(), ids);
+            final Set<Long> remaining = new LinkedHashSet<>(ids);
+            for (Object item : found) {
+                remaining.remove(idOf(source, item));
+            }
+            if (remaining.isEmpty()) {
+                return CompletableFuture.completedFuture(found);
+            }
+
+            final Long lastPage = first.lastPage();
+            if (lastPage != null && remaining.size() < lastPage - 1) {
+                return getAll(source, remaining).thenApply(items -> {
+                    final List<Object> all = new ArrayList<>(found);
+                    all.addAll(items);
+                    return all;
+                });
+            }
+            return listRemaining(source, first).thenApply(items -> {
+                synchronized (loading) {
+                    loading.listed.put(source.type(), items);
+                }
+                return select(source, items, ids);
+            });
+        });
+    }
+
+    private static <T> CompletableFuture<ResourceSource.Page<T>> firstPage(Loading loading, ResourceSource<T> source) {
+        @SuppressWarnings("unchecked")
+        final ResourceSource.Page<T> cached = (ResourceSource.Page<T>) loading.firstPages.get(source.type());
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        return source.page().apply(1).thenApply(page -> {
+            synchronized (loading) {
+                loading.firstPages.put(source.type(), page);
+            }
+            return page;
+        });
+    }
+
+    /**
+     * @return the resources with the given IDs which exist, requested one by one
+     */
+    private static <T> CompletableFuture<List<T>> getAll(ResourceSource<T> source, Set<Long> ids) {
+        final List<CompletableFuture<T>> requests = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            requests.add(source.get().apply(id).exceptionally(failure -> {
+                if (isNotFound(failure)) {
+                    return null;
+                }
+                throw failure instanceof CompletionException completion ? completion : new CompletionException(failure);
+            }));
+        }
+        return CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> requests.stream().map(CompletableFuture::join).filter(Objects::nonNull).toList());
+    }
+
+    /**
+     * @return all resources of the listing, the pages after the first one are requested concurrently and limited by
+     * the dispatcher of the HTTP client
+     */
+    private static <T> CompletableFuture<List<T>> listRemaining(ResourceSource<T> source, ResourceSource.Page<T> first) {
+        if (first.lastPage() == null) {
+            // without a page count the listing has to follow next_page from the start
+            return source.listAll().get();
+        }
+
+        final List<CompletableFuture<ResourceSource.Page<T>>> pages = new ArrayList<>();
+        for (long page = 2; page <= first.lastPage(); page++) {
+            pages.add(source.page().apply(page));
+        }
+        return CompletableFuture.allOf(pages.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            final List<T> items = new ArrayList<>(first.items());
+            for (CompletableFuture<ResourceSource.Page<T>> page : pages) {
+                items.addAll(page.join().items());
+            }
+            return items;
+        });
+    }
+
+    private static <T> List<?> select(ResourceSource<T> source, List<?> items, Set<Long> ids) {
+        final List<Object> selected = new ArrayList<>(ids.size());
+        for (Object item : items) {
+            if (ids.contains(idOf(source, item))) {
+                selected.add(item);
+            }
+        }
+        return selected;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Long idOf(ResourceSource<T> source, Object item) {
+        return source.attributes().id().apply((T) item);
+    }
+
+    private static boolean isNotFound(Throwable failure) {
+        final Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        return cause instanceof APIRequestException exception
+                && exception.getApiErrorResponse() != null
+                && exception.getApiErrorResponse().getError() != null
+                && exception.getApiErrorResponse().getError().getCode() == APIErrorCode.not_found;
+    }
+
+    private static ResourceType typeOf(Object resource) {
+        if (resource instanceof Server) {
+            return ResourceType.SERVER;
+        } else if (resource instanceof Volume) {
+            return ResourceType.VOLUME;
+        } else if (resource instanceof Network) {
+            return ResourceType.NETWORK;
+        } else if (resource instanceof FloatingIP) {
+            return ResourceType.FLOATING_IP;
+        } else if (resource instanceof PrimaryIP) {
+            return ResourceType.PRIMARY_IP;
+        } else if (resource instanceof LoadBalancer) {
+            return ResourceType.LOAD_BALANCER;
+        } else if (resource instanceof Firewall) {
+            return ResourceType.FIREWALL;
+        } else if (resource instanceof Image) {
+            return ResourceType.IMAGE;
+        }
+        throw new IllegalArgumentException("Unsupported resource class: "
+                + (resource != null ? resource.getClass().getName() : null));
+    }
+
+    /**
+     * State of one {@link #load(Collection)} call, only modified between rounds
+     */
+    private static final class Loading {
+        private final Map<ResourceType, Map<Long, Object>> resources = new EnumMap<>(ResourceType.class);
+        private final Map<ResourceType, Set<Long>> unresolved = new EnumMap<>(ResourceType.class);
+        private final Map<ResourceType, List<?>> listed = new EnumMap<>(ResourceType.class);
+        private final Map<ResourceType, ResourceSource.Page<?>> firstPages = new EnumMap<>(ResourceType.class);
+
+        @SuppressWarnings("unchecked")
+        private <T> boolean add(ResourceType type, ResourceSource<T> source, Object item) {
+            final Long id = source.attributes().id().apply((T) item);
+            return id != null && resources.computeIfAbsent(type, t -> new LinkedHashMap<>()).putIfAbsent(id, item) == null;
+        }
+
+        private boolean isKnown(ResourceType type, long id) {
+            return resources.getOrDefault(type, Map.of()).containsKey(id)
+                    || unresolved.getOrDefault(type, Set.of()).contains(id);
+        }
+
+        private void markUnresolvedIfMissing(ResourceType type, long id) {
+            if (!resources.getOrDefault(type, Map.of()).containsKey(id)) {
+                unresolved.computeIfAbsent(type, t -> new HashSet<>()).add(id);
+            }
+        }
+
+        private ResourceGraph toGraph() {
+            return new ResourceGraph(resources, unresolved);
+        }
+    }
+}
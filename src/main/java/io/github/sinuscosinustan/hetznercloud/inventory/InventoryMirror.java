@@ -0,0 +1,349 @@
+package io.github.sinuscosinustan.hetznercloud.inventory;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.MutationListener;
+import io.github.sinuscosinustan.hetznercloud.objects.enums.ActionStatus;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Action;
+import io.github.sinuscosinustan.hetznercloud.objects.response.ActionResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.ActionsResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.CreateFirewallResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.CreateFloatingIPResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.CreateImageResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.CreatePrimaryIPResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.CreateServerResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.CreateVolumeResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.EnableRescueResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.RebuildServerResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.ResetRootPasswordResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.ZoneResponse;
+import io.github.sinuscosinustan.hetznercloud.waiter.ActionWaiter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * In-memory copy of the labeled resources of a project, by default the types in {@link #DEFAULT_TYPES}.
+ * <p>
+ * {@link #refresh()} lists all mirrored types concurrently with auto-pagination; {@link #start()} refreshes
+ * periodically. Successful modifying requests sent through the same API instance are applied right away: deleted
+ * resources are removed and resources returned by create and update requests replace the mirrored ones. A resource
+ * with running actions, e.g. after a power action, is re-fetched once its actions finished; any other change
+ * re-fetches the affected resource. Changes written through the mirror win over the results of a refresh which was
+ * started before them.
+ * <p>
+ * Readers get immutable {@link InventorySnapshot}s with indexes by ID, name, label and location, and a
+ * {@link LabelIndex} across all resource types. The indexes of types which are not mirrored stay empty.
+ */
+public class InventoryMirror implements MutationListener, AutoCloseable {
+
+    /**
+     * Default interval between two refreshes
+     */
+    public static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMinutes(5);
+
+    /**
+     * Types mirrored by default: servers and the resources attached to them
+     */
+    public static final Set<ResourceType> DEFAULT_TYPES = Collections.unmodifiableSet(EnumSet.of(
+            ResourceType.SERVER, ResourceType.VOLUME, ResourceType.NETWORK, ResourceType.FLOATING_IP,
+            ResourceType.PRIMARY_IP, ResourceType.LOAD_BALANCER, ResourceType.FIREWALL));
+
+    private final HetznerCloudAPI api;
+    private final Duration refreshInterval;
+    private final Set<ResourceType> types;
+    private final Map<ResourceType, ResourceSource<?>> sources;
+    private final AtomicReference<InventorySnapshot> snapshot;
+
+    /**
+     * Time (System.nanoTime) of the latest write-through per resource, protects it from older refresh results
+     */
+    private final Map<ResourceType, Map<Long, Long>> writes = new ConcurrentHashMap<>();
+
+    private final ActionWaiter actionWaiter;
+    private final ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> refresher;
+
+    public InventoryMirror(HetznerCloudAPI api) {
+        this(api, DEFAULT_REFRESH_INTERVAL);
+    }
+
+    /**
+     * @param api             API instance used for refreshing, whose modifying requests are applied to the mirror
+     * @param refreshInterval interval between two refreshes after {@link #start()}
+     */
+    public InventoryMirror(HetznerCloudAPI api, Duration refreshInterval) {
+        this(api, refreshInterval, DEFAULT_TYPES);
+    }
+
+    /**
+     * @param api             API instance used for refreshing, whose modifying requests are applied to the mirror
+     * @param refreshInterval interval between two refreshes after {@link #start()}
+     * @param types           resource types to mirror, e.g. {@code EnumSet.allOf(ResourceType.class)}
+     * @throws IllegalArgumentException if no type is given
+     */
+    public InventoryMirror(HetznerCloudAPI api, Duration refreshInterval, Set<ResourceType> types) {
+        if (types.isEmpty()) {
+            throw new IllegalArgumentException("at least one resource type has to be mirrored");
+        }
+        this.api = api;
+        this.refreshInterval = refreshInterval;
+        this.types = Collections.unmodifiableSet(EnumSet.copyOf(types));
+
+        this.sources = ResourceSource.all(api.async());
+
+        final Map<ResourceType, ResourceAttributes<?>> attributes = new EnumMap<>(ResourceType.class);
+        sources.forEach((type, source) -> attributes.put(type, source.attributes()));
+        this.snapshot = new AtomicReference<>(InventorySnapshot.empty(attributes));
+
+        this.actionWaiter = new ActionWaiter(api);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "hetznercloud-inventory-mirror");
+            thread.setDaemon(true);
+            return thread;
+        });
+        api.addMutationListener(this);
+    }
+
+    /**
+     * @return the current snapshot, empty until the first refresh finished
+     */
+    public InventorySnapshot snapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * @return the mirrored resource types
+     */
+    public Set<ResourceType> getTypes() {
+        return types;
+    }
+
+    /**
+     * Refresh right away and then once per interval until {@link #close()} is called.
+     */
+    public synchronized void start() {
+        if (refresher == null) {
+            refresher = scheduler.scheduleWithFixedDelay(this::refreshAndWait, 0, refreshInterval.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Refresh all mirrored resource types.
+     *
+     * @return future completed with the snapshot after the refresh
+     * @see #refresh(ResourceType...)
+     */
+    public CompletableFuture<InventorySnapshot> refresh() {
+        return refresh(types.toArray(new ResourceType[0]));
+    }
+
+    /**
+     * Refresh some resource types, the others stay as they are.
+     * <p>
+     * A type which fails to list, e.g. because the token has no access to it, keeps its previous state and does
+     * not affect the other types.
+     *
+     * @param types resource types to list again
+     * @return future completed with the snapshot after the refresh, completed exceptionally if every type failed
+     * @throws IllegalArgumentException if a type is not mirrored
+     */
+    public CompletableFuture<InventorySnapshot> refresh(ResourceType... types) {
+        final long started = System.nanoTime();
+        final List<CompletableFuture<Throwable>> failures = new ArrayList<>(types.length);
+        for (ResourceType type : types) {
+            if (!this.types.contains(type)) {
+                throw new IllegalArgumentException("Resource type is not mirrored: " + type);
+            }
+            failures.add(refresh(sources.get(type), started).handle((ignored, failure) -> failure));
+        }
+        return CompletableFuture.allOf(failures.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            final List<Throwable> failed = failures.stream().map(CompletableFuture::join).filter(Objects::nonNull).toList();
+            if (!failed.isEmpty() && failed.size() == failures.size()) {
+                throw failed.get(0) instanceof CompletionException completion ? completion : new CompletionException(failed.get(0));
+            }
+            return snapshot.get();
+        });
+    }
+
+    @Override
+    public void onMutation(String method, String path, Object response) {
+        final String[] segments = path.startsWith("/") ? path.substring(1).split("/") : path.split("/");
+        final ResourceType type = ResourceType.ofEndpoint(segments[0]);
+        if (type == null || !types.contains(type)) {
+            return;
+        }
+
+        final Long pathId = segments.length > 1 ? parseId(segments[1]) : null;
+        if ("DELETE".equals(method) && segments.length == 2) {
+            if (pathId != null) {
+                remove(type, pathId);
+            }
+            return;
+        }
+
+        final ResourceSource<?> source = sources.get(type);
+        final Long appliedId = apply(source, response);
+        final Long id = appliedId != null ? appliedId : pathId;
+        if (id == null) {
+            return;
+        }
+
+        final List<Action> running = actionsOf(response).stream()
+                .filter(action -> ActionStatus.running.name().equals(action.getStatus()))
+                .toList();
+        if (!running.isEmpty()) {
+            // the resource changes until its actions finished
+            actionWaiter.waitForAll(running).whenComplete((actions, failure) -> {
+                if (!scheduler.isShutdown()) {
+                    refetch(source, id);
+                }
+            });
+        } else if (appliedId == null) {
+            refetch(source, id);
+        }
+    }
+
+    @Override
+    public void close() {
+        api.removeMutationListener(this);
+        scheduler.shutdownNow();
+        actionWaiter.close();
+    }
+
+    private <T> CompletableFuture<Void> refresh(ResourceSource<T> source, long started) {
+        return source.listAll().get().thenAccept(items -> {
+            final Map<Long, Long> typeWrites = writes.computeIfAbsent(source.type(), t -> new ConcurrentHashMap<>());
+            update(source.type(), (ResourceIndex<T> current) -> {
+                final Map<Long, T> merged = new LinkedHashMap<>();
+                for (T item : items) {
+                    merged.put(source.attributes().id().apply(item), item);
+                }
+                // changes written after the refresh started are newer than the listed state
+                typeWrites.forEach((id, written) -> {
+                    if (written - started >= 0) {
+                        final T item = current.get(id);
+                        if (item != null) {
+                            merged.put(id, item);
+                        } else {
+                            merged.remove(id);
+                        }
+                    }
+                });
+                return ResourceIndex.of(source.attributes(), merged.values());
+            });
+            typeWrites.values().removeIf(written -> written - started < 0);
+        });
+    }
+
+    private <T> void refetch(ResourceSource<T> source, long id) {
+        source.get().apply(id).thenAccept(item -> {
+            if (item != null) {
+                markWritten(source.type(), id);
+                update(source.type(), (ResourceIndex<T> current) -> current.with(item));
+            }
+        });
+    }
+
+    /**
+     * Applies the resource contained in the response of a modifying request.
+     *
+     * @return ID of the applied resource, null if the response contains none
+     */
+    private <T> Long apply(ResourceSource<T> source, Object response) {
+        final T item = source.fromResponse().apply(response);
+        final Long id = item != null ? source.attributes().id().apply(item) : null;
+        if (id != null) {
+            markWritten(source.type(), id);
+            update(source.type(), (ResourceIndex<T> current) -> current.with(item));
+        }
+        return id;
+    }
+
+    private void remove(ResourceType type, long id) {
+        markWritten(type, id);
+        update(type, current -> current.without(id));
+    }
+
+    private void markWritten(ResourceType type, long id) {
+        writes.computeIfAbsent(type, t -> new ConcurrentHashMap<>()).put(id, System.nanoTime());
+    }
+
+    private <T> void update(ResourceType type, Function<ResourceIndex<T>, ResourceIndex<T>> change) {
+        snapshot.updateAndGet(current -> current.with(type, change.apply(current.get(type))));
+    }
+
+    private void refreshAndWait() {
+        try {
+            refresh().join();
+        } catch (RuntimeException e) {
+            // the next run refreshes again
+        }
+    }
+
+    /**
+     * @return actions contained in the response of a modifying request
+     */
+    private static List<Action> actionsOf(Object response) {
+        final List<Action> actions = new ArrayList<>();
+        if (response instanceof ActionResponse action) {
+            actions.add(action.getAction());
+        } else if (response instanceof ActionsResponse list) {
+            addAll(actions, list.getActions());
+        } else if (response instanceof CreateServerResponse created) {
+            actions.add(created.getAction());
+            addAll(actions, created.getNextActions());
+        } else if (response instanceof CreateVolumeResponse created) {
+            actions.add(created.getAction());
+            addAll(actions, created.getNextActions());
+        } else if (response instanceof CreateFloatingIPResponse created) {
+            actions.add(created.getAction());
+        } else if (response instanceof CreatePrimaryIPResponse created) {
+            actions.add(created.getAction());
+        } else if (response instanceof CreateFirewallResponse firewall) {
+            addAll(actions, firewall.getActions());
+        } else if (response instanceof ZoneResponse zone) {
+            addAll(actions, zone.getActions());
+        } else if (response instanceof CreateImageResponse image) {
+            actions.add(image.getAction());
+        } else if (response instanceof RebuildServerResponse rebuild) {
+            actions.add(rebuild.getAction());
+        } else if (response instanceof EnableRescueResponse rescue) {
+            actions.add(rescue.getAction());
+        } else if (response instanceof ResetRootPasswordResponse reset) {
+            actions.add(reset.getAction());
+        }
+        actions.removeIf(Objects::isNull);
+        return actions;
+    }
+
+    private static void addAll(List<Action> actions, List<Action> added) {
+        if (added != null) {
+            actions.addAll(added);
+        }
+    }
+
+    private static Long parseId(String segment) {
+        try {
+            return Long.parseLong(segment);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
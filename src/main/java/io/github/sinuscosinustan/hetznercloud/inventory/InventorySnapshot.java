@@ -0,0 +1,135 @@
+package io.github.sinuscosinustan.hetznercloud.inventory;
+
+import io.github.sinuscosinustan.hetznercloud.objects.general.Certificate;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Firewall;
+import io.github.sinuscosinustan.hetznercloud.objects.general.FloatingIP;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Image;
+import io.github.sinuscosinustan.hetznercloud.objects.general.LoadBalancer;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Network;
+import io.github.sinuscosinustan.hetznercloud.objects.general.PlacementGroup;
+import io.github.sinuscosinustan.hetznercloud.objects.general.PrimaryIP;
+import io.github.sinuscosinustan.hetznercloud.objects.general.SSHKey;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Server;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Volume;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Zone;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Consistent, immutable view of the mirrored resources.
+ * <p>
+ * A snapshot never changes; updates of the {@link InventoryMirror} produce a new snapshot. Readers which need several
+ * lookups to agree with each other should therefore take one snapshot and run all lookups on it.
+ */
+public final class InventorySnapshot {
+
+    private final Map<ResourceType, ResourceIndex<?>> indexes;
+    private final long version;
+    private volatile LabelIndex labelIndex;
+
+    private InventorySnapshot(Map<ResourceType, ResourceIndex<?>> indexes, long version) {
+        this.indexes = indexes;
+        this.version = version;
+    }
+
+    static InventorySnapshot empty(Map<ResourceType, ResourceAttributes<?>> attributes) {
+        final Map<ResourceType, ResourceIndex<?>> indexes = new EnumMap<>(ResourceType.class);
+        attributes.forEach((type, attribute) -> indexes.put(type, ResourceIndex.of(attribute, List.of())));
+        return new InventorySnapshot(indexes, 0);
+    }
+
+    public ResourceIndex<Server> getServers() {
+        return get(ResourceType.SERVER);
+    }
+
+    public ResourceIndex<Volume> getVolumes() {
+        return get(ResourceType.VOLUME);
+    }
+
+    public ResourceIndex<Network> getNetworks() {
+        return get(ResourceType.NETWORK);
+    }
+
+    public ResourceIndex<FloatingIP> getFloatingIPs() {
+        return get(ResourceType.FLOATING_IP);
+    }
+
+    public ResourceIndex<PrimaryIP> getPrimaryIPs() {
+        return get(ResourceType.PRIMARY_IP);
+    }
+
+    public ResourceIndex<LoadBalancer> getLoadBalancers() {
+        return get(ResourceType.LOAD_BALANCER);
+    }
+
+    public ResourceIndex<Firewall> getFirewalls() {
+        return get(ResourceType.FIREWALL);
+    }
+
+    public ResourceIndex<Certificate> getCertificates() {
+        return get(ResourceType.CERTIFICATE);
+    }
+
+    public ResourceIndex<PlacementGroup> getPlacementGroups() {
+        return get(ResourceType.PLACEMENT_GROUP);
+    }
+
+    public ResourceIndex<SSHKey> getSSHKeys() {
+        return get(ResourceType.SSH_KEY);
+    }
+
+    public ResourceIndex<Image> getImages() {
+        return get(ResourceType.IMAGE);
+    }
+
+    public ResourceIndex<Zone> getZones() {
+        return get(ResourceType.ZONE);
+    }
+
+    /**
+     * The index is built on first access and shared by all later callers of this snapshot.
+     *
+     * @return label index over all resource types of this snapshot
+     */
+    public LabelIndex getLabelIndex() {
+        LabelIndex index = labelIndex;
+        if (index == null) {
+            final LabelIndex.Builder builder = LabelIndex.builder();
+            indexes.forEach((type, resources) -> add(builder, type, resources));
+            index = builder.build();
+            labelIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * @return number of changes applied since the mirror was created, increases with every new snapshot
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> ResourceIndex<T> get(ResourceType type) {
+        return (ResourceIndex<T>) indexes.get(type);
+    }
+
+    private static <T> void add(LabelIndex.Builder builder, ResourceType type, ResourceIndex<T> resources) {
+        final ResourceAttributes<T> attributes = resources.getAttributes();
+        for (T item : resources.getAll()) {
+            builder.add(type, attributes.id().apply(item), attributes.labels().apply(item));
+        }
+    }
+
+    InventorySnapshot with(ResourceType type, ResourceIndex<?> index) {
+        if (indexes.get(type) == index) {
+            return this;
+        }
+
+        final Map<ResourceType, ResourceIndex<?>> copy = new EnumMap<>(indexes);
+        copy.put(type, index);
+        return new InventorySnapshot(copy, version + 1);
+    }
+}
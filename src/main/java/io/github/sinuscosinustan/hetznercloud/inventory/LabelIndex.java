@@ -0,0 +1,266 @@
+package io.github.sinuscosinustan.hetznercloud.inventory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable inverted index from label key and value to the IDs of the resources carrying the label, across all
+ * {@link ResourceType}s.
+ * <p>
+ * IDs are stored per resource type as sorted {@code long[]}, so the index needs about eight bytes per label of a
+ * resource and every query is answered from memory. Get an index from {@link InventorySnapshot#getLabelIndex()}.
+ */
+public final class LabelIndex {
+
+    private static final long[] NO_IDS = new long[0];
+    private static final ResourceType[] TYPES = ResourceType.values();
+
+    /**
+     * key -> value -> IDs indexed by {@link ResourceType#ordinal()}, null if a type has none
+     */
+    private final Map<String, Map<String, long[][]>> byLabel;
+
+    /**
+     * key -> IDs indexed by {@link ResourceType#ordinal()}, null if a type has none
+     */
+    private final Map<String, long[][]> byKey;
+
+    private LabelIndex(Map<String, Map<String, long[][]>> byLabel, Map<String, long[][]> byKey) {
+        this.byLabel = byLabel;
+        this.byKey = byKey;
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @param type  resource type
+     * @param key   label key
+     * @param value label value
+     * @return sorted IDs of the resources of the type with the label {@code key=value}
+     */
+    public long[] getIds(ResourceType type, String key, String value) {
+        return copy(idsOf(byLabel.getOrDefault(key, Map.of()).get(value), type));
+    }
+
+    /**
+     * @param type resource type
+     * @param key  label key
+     * @return sorted IDs of the resources of the type which have the label key with any value
+     */
+    public long[] getIds(ResourceType type, String key) {
+        return copy(idsOf(byKey.get(key), type));
+    }
+
+    /**
+     * @param key   label key
+     * @param value label value
+     * @return sorted IDs per resource type of all resources with the label {@code key=value}, types without any
+     * such resource are left out
+     */
+    public Map<ResourceType, long[]> find(String key, String value) {
+        return toMap(byLabel.getOrDefault(key, Map.of()).get(value));
+    }
+
+    /**
+     * @param key label key
+     * @return sorted IDs per resource type of all resources which have the label key, types without any such
+     * resource are left out
+     */
+    public Map<ResourceType, long[]> find(String key) {
+        return toMap(byKey.get(key));
+    }
+
+    /**
+     * @param type  resource type
+     * @param key   label key
+     * @param value label value
+     * @param id    ID of the resource
+     * @return true if the resource has the label {@code key=value}
+     */
+    public boolean contains(ResourceType type, String key, String value, long id) {
+        return Arrays.binarySearch(idsOf(byLabel.getOrDefault(key, Map.of()).get(value), type), id) >= 0;
+    }
+
+    /**
+     * @param key   label key
+     * @param value label value
+     * @return number of resources of all types with the label {@code key=value}
+     */
+    public int count(String key, String value) {
+        return count(byLabel.getOrDefault(key, Map.of()).get(value));
+    }
+
+    /**
+     * @param key label key
+     * @return number of resources of all types per value of the label key, sorted by value
+     */
+    public Map<String, Integer> countByValue(String key) {
+        final Map<String, Integer> counts = new TreeMap<>();
+        byLabel.getOrDefault(key, Map.of()).forEach((value, ids) -> counts.put(value, count(ids)));
+        return counts;
+    }
+
+    /**
+     * @param type resource type
+     * @param key  label key
+     * @return number of resources of the type per value of the label key, sorted by value
+     */
+    public Map<String, Integer> countByValue(ResourceType type, String key) {
+        final Map<String, Integer> counts = new TreeMap<>();
+        byLabel.getOrDefault(key, Map.of()).forEach((value, ids) -> {
+            final int count = idsOf(ids, type).length;
+            if (count > 0) {
+                counts.put(value, count);
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * @return all label keys used by any resource
+     */
+    public Set<String> getKeys() {
+        return Collections.unmodifiableSet(byLabel.keySet());
+    }
+
+    /**
+     * @param key label key
+     * @return all values of the label key
+     */
+    public Set<String> getValues(String key) {
+        return Collections.unmodifiableSet(byLabel.getOrDefault(key, Map.of()).keySet());
+    }
+
+    private static long[] idsOf(long[][] idsPerType, ResourceType type) {
+        if (idsPerType == null) {
+            return NO_IDS;
+        }
+        final long[] ids = idsPerType[type.ordinal()];
+        return ids != null ? ids : NO_IDS;
+    }
+
+    private static int count(long[][] idsPerType) {
+        int count = 0;
+        if (idsPerType != null) {
+            for (long[] ids : idsPerType) {
+                count += ids != null ? ids.length : 0;
+            }
+        }
+        return count;
+    }
+
+    private static Map<ResourceType, long[]> toMap(long[][] idsPerType) {
+        final Map<ResourceType, long[]> result = new EnumMap<>(ResourceType.class);
+        if (idsPerType != null) {
+            for (ResourceType type : TYPES) {
+                final long[] ids = idsPerType[type.ordinal()];
+                if (ids != null) {
+                    result.put(type, ids.clone());
+                }
+            }
+        }
+        return result;
+    }
+
+    private static long[] copy(long[] ids) {
+        return ids.length > 0 ? ids.clone() : NO_IDS;
+    }
+
+    static final class Builder {
+        private final Map<String, Map<String, IdList[]>> labels = new HashMap<>();
+
+        private Builder() {
+        }
+
+        Builder add(ResourceType type, Long id, Map<String, String> labels) {
+            if (id == null || labels == null) {
+                return this;
+            }
+
+            labels.forEach((key, value) -> {
+                final IdList[] lists = this.labels.computeIfAbsent(key, k -> new HashMap<>())
+                        .computeIfAbsent(value, v -> new IdList[TYPES.length]);
+                if (lists[type.ordinal()] == null) {
+                    lists[type.ordinal()] = new IdList();
+                }
+                lists[type.ordinal()].add(id);
+            });
+            return this;
+        }
+
+        LabelIndex build() {
+            final Map<String, Map<String, long[][]>> byLabel = new HashMap<>();
+            final Map<String, long[][]> byKey = new HashMap<>();
+            labels.forEach((key, values) -> {
+                final Map<String, long[][]> byValue = new HashMap<>();
+                final IdList[] keyLists = new IdList[TYPES.length];
+                values.forEach((value, lists) -> {
+                    final long[][] idsPerType = new long[TYPES.length][];
+                    for (int i = 0; i < lists.length; i++) {
+                        if (lists[i] != null) {
+                            idsPerType[i] = lists[i].toSortedArray();
+                            if (keyLists[i] == null) {
+                                keyLists[i] = new IdList();
+                            }
+                            keyLists[i].addAll(idsPerType[i]);
+                        }
+                    }
+                    byValue.put(value, idsPerType);
+                });
+
+                final long[][] keyIds = new long[TYPES.length][];
+                for (int i = 0; i < keyLists.length; i++) {
+                    keyIds[i] = keyLists[i] != null ? keyLists[i].toSortedArray() : null;
+                }
+                byLabel.put(key, byValue);
+                byKey.put(key, keyIds);
+            });
+            return new LabelIndex(byLabel, byKey);
+        }
+    }
+
+    /**
+     * Growable list of IDs
+     */
+    private static final class IdList {
+        private long[] ids = new long[4];
+        private int size;
+
+        private void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        private void addAll(long[] values) {
+            if (size + values.length > ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(size * 2, size + values.length));
+            }
+            System.arraycopy(values, 0, ids, size, values.length);
+            size += values.length;
+        }
+
+        /**
+         * @return the IDs sorted and without duplicates
+         */
+        private long[] toSortedArray() {
+            final long[] sorted = Arrays.copyOf(ids, size);
+            Arrays.sort(sorted);
+            int unique = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[unique++] = sorted[i];
+                }
+            }
+            return unique == sorted.length ? sorted : Arrays.copyOf(sorted, unique);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.sinuscosinustan.hetznercloud.inventory;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Accessors for the indexed attributes of a resource class. Every accessor may return null.
+ */
+record ResourceAttributes<T>(Function<T, Long> id,
+                             Function<T, String> name,
+                             Function<T, Map<String, String>> labels,
+                             Function<T, String> location) {
+}
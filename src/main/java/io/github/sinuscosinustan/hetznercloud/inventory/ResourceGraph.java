@@ -0,0 +1,380 @@
+package io.github.sinuscosinustan.hetznercloud.inventory;
+
+import io.github.sinuscosinustan.hetznercloud.objects.enums.IPAssigneeType;
+import io.github.sinuscosinustan.hetznercloud.objects.general.FWApplicationTarget;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Firewall;
+import io.github.sinuscosinustan.hetznercloud.objects.general.FloatingIP;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Image;
+import io.github.sinuscosinustan.hetznercloud.objects.general.LBTarget;
+import io.github.sinuscosinustan.hetznercloud.objects.general.LoadBalancer;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Network;
+import io.github.sinuscosinustan.hetznercloud.objects.general.PrimaryIP;
+import io.github.sinuscosinustan.hetznercloud.objects.general.PrivateNet;
+import io.github.sinuscosinustan.hetznercloud.objects.general.PublicNet;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Server;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Volume;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Linked, immutable object graph of resources and the resources they reference by ID, loaded by the
+ * {@link GraphLoader}.
+ * <p>
+ * The navigation methods, e.g. {@link #getVolumes(Server)}, follow the ID references of a resource within the
+ * graph. References which were not loaded, because the resource does not exist anymore, is beyond the maximum
+ * depth of the loader or is only reachable by a back-reference the loader did not follow, are left out.
+ */
+public final class ResourceGraph {
+
+    private final Map<ResourceType, Map<Long, Object>> resources;
+    private final Map<ResourceType, Set<Long>> unresolved;
+
+    ResourceGraph(Map<ResourceType, Map<Long, Object>> resources, Map<ResourceType, Set<Long>> unresolved) {
+        this.resources = resources;
+        this.unresolved = unresolved;
+    }
+
+    public Server getServer(long id) {
+        return get(ResourceType.SERVER, id);
+    }
+
+    public Volume getVolume(long id) {
+        return get(ResourceType.VOLUME, id);
+    }
+
+    public Network getNetwork(long id) {
+        return get(ResourceType.NETWORK, id);
+    }
+
+    public FloatingIP getFloatingIP(long id) {
+        return get(ResourceType.FLOATING_IP, id);
+    }
+
+    public PrimaryIP getPrimaryIP(long id) {
+        return get(ResourceType.PRIMARY_IP, id);
+    }
+
+    public LoadBalancer getLoadBalancer(long id) {
+        return get(ResourceType.LOAD_BALANCER, id);
+    }
+
+    public Firewall getFirewall(long id) {
+        return get(ResourceType.FIREWALL, id);
+    }
+
+    public Image getImage(long id) {
+        return get(ResourceType.IMAGE, id);
+    }
+
+    public Collection<Server> getServers() {
+        return getAll(ResourceType.SERVER);
+    }
+
+    public Collection<Volume> getVolumes() {
+        return getAll(ResourceType.VOLUME);
+    }
+
+    public Collection<Network> getNetworks() {
+        return getAll(ResourceType.NETWORK);
+    }
+
+    public Collection<FloatingIP> getFloatingIPs() {
+        return getAll(ResourceType.FLOATING_IP);
+    }
+
+    public Collection<PrimaryIP> getPrimaryIPs() {
+        return getAll(ResourceType.PRIMARY_IP);
+    }
+
+    public Collection<LoadBalancer> getLoadBalancers() {
+        return getAll(ResourceType.LOAD_BALANCER);
+    }
+
+    public Collection<Firewall> getFirewalls() {
+        return getAll(ResourceType.FIREWALL);
+    }
+
+    public Collection<Image> getImages() {
+        return getAll(ResourceType.IMAGE);
+    }
+
+    /**
+     * @return volumes attached to the server
+     */
+    public List<Volume> getVolumes(Server server) {
+        return resolve(ResourceType.VOLUME, server.getVolumes());
+    }
+
+    /**
+     * @return Load Balancers targeting the server
+     */
+    public List<LoadBalancer> getLoadBalancers(Server server) {
+        return resolve(ResourceType.LOAD_BALANCER, server.getLoadBalancers());
+    }
+
+    /**
+     * @return networks the server is attached to
+     */
+    public List<Network> getNetworks(Server server) {
+        return resolve(ResourceType.NETWORK, networkIds(server));
+    }
+
+    /**
+     * @return Floating IPs assigned to the server
+     */
+    public List<FloatingIP> getFloatingIPs(Server server) {
+        return resolve(ResourceType.FLOATING_IP, server.getPublicNet() != null ? server.getPublicNet().getFloatingIPs() : null);
+    }
+
+    /**
+     * @return Primary IPs (IPv4 and IPv6) assigned to the server
+     */
+    public List<PrimaryIP> getPrimaryIPs(Server server) {
+        return resolve(ResourceType.PRIMARY_IP, primaryIPIds(server));
+    }
+
+    /**
+     * @return Firewalls applied to the server
+     */
+    public List<Firewall> getFirewalls(Server server) {
+        return resolve(ResourceType.FIREWALL, firewallIds(server));
+    }
+
+    /**
+     * @return server the volume is attached to, null if detached
+     */
+    public Server getServer(Volume volume) {
+        return resolveOne(ResourceType.SERVER, volume.getServer());
+    }
+
+    /**
+     * @return server the Floating IP is assigned to, null if unassigned
+     */
+    public Server getServer(FloatingIP floatingIP) {
+        return resolveOne(ResourceType.SERVER, floatingIP.getServer());
+    }
+
+    /**
+     * @return server the Primary IP is assigned to, null if unassigned
+     */
+    public Server getAssignee(PrimaryIP primaryIP) {
+        return resolveOne(ResourceType.SERVER, assigneeId(primaryIP));
+    }
+
+    /**
+     * @return server a backup image is bound to, null for other images
+     */
+    public Server getBoundServer(Image image) {
+        return resolveOne(ResourceType.SERVER, image.getBoundTo());
+    }
+
+    /**
+     * @return networks the Load Balancer is attached to
+     */
+    public List<Network> getNetworks(LoadBalancer loadBalancer) {
+        return resolve(ResourceType.NETWORK, networkIds(loadBalancer));
+    }
+
+    /**
+     * @return servers which are direct targets of the Load Balancer
+     */
+    public List<Server> getTargetServers(LoadBalancer loadBalancer) {
+        return resolve(ResourceType.SERVER, targetServerIds(loadBalancer));
+    }
+
+    /**
+     * @return servers attached to the network
+     */
+    public List<Server> getServers(Network network) {
+        return resolve(ResourceType.SERVER, network.getServers());
+    }
+
+    /**
+     * @return Load Balancers attached to the network
+     */
+    public List<LoadBalancer> getLoadBalancers(Network network) {
+        return resolve(ResourceType.LOAD_BALANCER, network.getLoadBalancers());
+    }
+
+    /**
+     * @return servers the Firewall is applied to directly
+     */
+    public List<Server> getServers(Firewall firewall) {
+        return resolve(ResourceType.SERVER, appliedServerIds(firewall));
+    }
+
+    /**
+     * @param type resource type
+     * @return referenced IDs of the type which do not exist
+     */
+    public Set<Long> getUnresolved(ResourceType type) {
+        return unresolved.getOrDefault(type, Set.of());
+    }
+
+    /**
+     * @return total number of resources in the graph
+     */
+    public int size() {
+        int size = 0;
+        for (Map<Long, Object> byId : resources.values()) {
+            size += byId.size();
+        }
+        return size;
+    }
+
+    /**
+     * Call the action with the type and ID of every resource referenced by the item.
+     *
+     * @param backReferences also call it for the lists of resources which point to the item, i.e. the servers and
+     *                       Load Balancers of a network and the servers a Firewall is applied to
+     */
+    static void forEachReference(Object item, boolean backReferences, BiConsumer<ResourceType, Long> action) {
+        if (item instanceof Server server) {
+            forEach(ResourceType.VOLUME, server.getVolumes(), action);
+            forEach(ResourceType.LOAD_BALANCER, server.getLoadBalancers(), action);
+            forEach(ResourceType.NETWORK, networkIds(server), action);
+            forEach(ResourceType.FLOATING_IP, server.getPublicNet() != null ? server.getPublicNet().getFloatingIPs() : null, action);
+            forEach(ResourceType.PRIMARY_IP, primaryIPIds(server), action);
+            forEach(ResourceType.FIREWALL, firewallIds(server), action);
+        } else if (item instanceof Volume volume) {
+            forEach(ResourceType.SERVER, volume.getServer(), action);
+        } else if (item instanceof FloatingIP floatingIP) {
+            forEach(ResourceType.SERVER, floatingIP.getServer(), action);
+        } else if (item instanceof PrimaryIP primaryIP) {
+            forEach(ResourceType.SERVER, assigneeId(primaryIP), action);
+        } else if (item instanceof Image image) {
+            forEach(ResourceType.SERVER, image.getBoundTo(), action);
+        } else if (item instanceof LoadBalancer loadBalancer) {
+            forEach(ResourceType.NETWORK, networkIds(loadBalancer), action);
+            forEach(ResourceType.SERVER, targetServerIds(loadBalancer), action);
+        } else if (item instanceof Network network && backReferences) {
+            forEach(ResourceType.SERVER, network.getServers(), action);
+            forEach(ResourceType.LOAD_BALANCER, network.getLoadBalancers(), action);
+        } else if (item instanceof Firewall firewall && backReferences) {
+            forEach(ResourceType.SERVER, appliedServerIds(firewall), action);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(ResourceType type, long id) {
+        final Map<Long, Object> byId = resources.get(type);
+        return byId != null ? (T) byId.get(id) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Collection<T> getAll(ResourceType type) {
+        final Map<Long, Object> byId = resources.get(type);
+        return byId != null ? Collections.unmodifiableCollection((Collection<T>) byId.values()) : List.of();
+    }
+
+    private <T> List<T> resolve(ResourceType type, List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        final List<T> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            final T item = resolveOne(type, id);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    private <T> T resolveOne(ResourceType type, Long id) {
+        return id != null ? get(type, id) : null;
+    }
+
+    private static void forEach(ResourceType type, List<Long> ids, BiConsumer<ResourceType, Long> action) {
+        if (ids != null) {
+            for (Long id : ids) {
+                forEach(type, id, action);
+            }
+        }
+    }
+
+    private static void forEach(ResourceType type, Long id, BiConsumer<ResourceType, Long> action) {
+        if (id != null) {
+            action.accept(type, id);
+        }
+    }
+
+    private static List<Long> networkIds(Server server) {
+        final List<Long> ids = new ArrayList<>();
+        if (server.getPrivateNet() != null) {
+            for (PrivateNet privateNet : server.getPrivateNet()) {
+                ids.add(privateNet.getNetwork());
+            }
+        }
+        return ids;
+    }
+
+    private static List<Long> primaryIPIds(Server server) {
+        final List<Long> ids = new ArrayList<>(2);
+        final PublicNet publicNet = server.getPublicNet();
+        if (publicNet != null) {
+            if (publicNet.getIpv4() != null) {
+                ids.add(publicNet.getIpv4().getId());
+            }
+            if (publicNet.getIpv6() != null) {
+                ids.add(publicNet.getIpv6().getId());
+            }
+        }
+        return ids;
+    }
+
+    private static List<Long> firewallIds(Server server) {
+        final List<Long> ids = new ArrayList<>();
+        if (server.getPublicNet() != null && server.getPublicNet().getFirewalls() != null) {
+            for (PublicNet.Firewall firewall : server.getPublicNet().getFirewalls()) {
+                ids.add(firewall.getId());
+            }
+        }
+        return ids;
+    }
+
+    private static Long assigneeId(PrimaryIP primaryIP) {
+        return primaryIP.getAssigneeType() == IPAssigneeType.server ? primaryIP.getAssigneeId() : null;
+    }
+
+    private static List<Long> networkIds(LoadBalancer loadBalancer) {
+        final List<Long> ids = new ArrayList<>();
+        if (loadBalancer.getPrivateNet() != null) {
+            for (LoadBalancer.LBPrivateNet privateNet : loadBalancer.getPrivateNet()) {
+                ids.add(privateNet.getNetwork());
+            }
+        }
+        return ids;
+    }
+
+    private static List<Long> targetServerIds(LoadBalancer loadBalancer) {
+        final List<Long> ids = new ArrayList<>();
+        if (loadBalancer.getTargets() != null) {
+            for (LBTarget target : loadBalancer.getTargets()) {
+                if (target.getServer() != null) {
+                    ids.add(target.getServer().getId());
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static List<Long> appliedServerIds(Firewall firewall) {
+        final List<Long> ids = new ArrayList<>();
+        if (firewall.getAppliedTo() != null) {
+            for (FWApplicationTarget target : firewall.getAppliedTo()) {
+                if (target.getServer() != null) {
+                    ids.add(target.getServer().getId());
+                }
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,176 @@
+package io.github.sinuscosinustan.hetznercloud.inventory;
+
+import io.github.sinuscosinustan.hetznercloud.labels.LabelSelector;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable set of resources of one type with lookups by ID, name, label and location.
+ * <p>
+ * All lookups are plain map accesses on indexes which are built once, the returned lists must not be modified.
+ *
+ * @param <T> resource class
+ */
+public final class ResourceIndex<T> {
+
+    private final ResourceAttributes<T> attributes;
+    private final Map<Long, T> byId;
+    private final Map<String, T> byName;
+    private final Map<String, Map<String, List<T>>> byLabel;
+    private final Map<String, List<T>> byLabelKey;
+    private final Map<String, List<T>> byLocation;
+
+    private ResourceIndex(ResourceAttributes<T> attributes, Map<Long, T> byId) {
+        this.attributes = attributes;
+        this.byId = Collections.unmodifiableMap(byId);
+
+        final Map<String, T> byName = new HashMap<>();
+        final Map<String, Map<String, List<T>>> byLabel = new HashMap<>();
+        final Map<String, List<T>> byLabelKey = new HashMap<>();
+        final Map<String, List<T>> byLocation = new HashMap<>();
+        for (T item : byId.values()) {
+            final String name = attributes.name().apply(item);
+            if (name != null) {
+                byName.put(name, item);
+            }
+
+            final Map<String, String> labels = attributes.labels().apply(item);
+            if (labels != null) {
+                labels.forEach((key, value) -> {
+                    byLabel.computeIfAbsent(key, k -> new HashMap<>()).computeIfAbsent(value, v -> new ArrayList<>()).add(item);
+                    byLabelKey.computeIfAbsent(key, k -> new ArrayList<>()).add(item);
+                });
+            }
+
+            final String location = attributes.location().apply(item);
+            if (location != null) {
+                byLocation.computeIfAbsent(location, l -> new ArrayList<>()).add(item);
+            }
+        }
+        this.byName = byName;
+        this.byLabel = byLabel;
+        this.byLabelKey = byLabelKey;
+        this.byLocation = byLocation;
+    }
+
+    static <T> ResourceIndex<T> of(ResourceAttributes<T> attributes, Collection<T> items) {
+        final Map<Long, T> byId = new LinkedHashMap<>();
+        for (T item : items) {
+            final Long id = attributes.id().apply(item);
+            if (id != null) {
+                byId.put(id, item);
+            }
+        }
+        return new ResourceIndex<>(attributes, byId);
+    }
+
+    /**
+     * @param id ID of the resource
+     * @return the resource or null
+     */
+    public T get(long id) {
+        return byId.get(id);
+    }
+
+    /**
+     * @param name name of the resource
+     * @return the resource or null
+     */
+    public T getByName(String name) {
+        return byName.get(name);
+    }
+
+    /**
+     * @param key   label key
+     * @param value label value
+     * @return resources with the label {@code key=value}
+     */
+    public List<T> withLabel(String key, String value) {
+        final Map<String, List<T>> values = byLabel.get(key);
+        final List<T> items = values != null ? values.get(value) : null;
+        return items != null ? Collections.unmodifiableList(items) : List.of();
+    }
+
+    /**
+     * @param key label key
+     * @return resources which have the label key with any value
+     */
+    public List<T> withLabel(String key) {
+        final List<T> items = byLabelKey.get(key);
+        return items != null ? Collections.unmodifiableList(items) : List.of();
+    }
+
+    /**
+     * Evaluates the selector only on the resources having the rarest of its required label keys.
+     *
+     * @param selector label selector
+     * @return resources matching the selector in API order
+     */
+    public List<T> select(LabelSelector selector) {
+        Collection<T> candidates = byId.values();
+        for (String key : selector.getRequiredKeys()) {
+            final List<T> items = byLabelKey.getOrDefault(key, List.of());
+            if (items.size() < candidates.size()) {
+                candidates = items;
+            }
+        }
+        return selector.filter(candidates, attributes.labels());
+    }
+
+    /**
+     * @param location name of the location, e.g. {@code fsn1}
+     * @return resources in the location
+     */
+    public List<T> inLocation(String location) {
+        final List<T> items = byLocation.get(location);
+        return items != null ? Collections.unmodifiableList(items) : List.of();
+    }
+
+    /**
+     * @return all resources in API order
+     */
+    public Collection<T> getAll() {
+        return byId.values();
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    ResourceAttributes<T> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * @return a copy with the resource added or replaced
+     */
+    ResourceIndex<T> with(T item) {
+        final Long id = attributes.id().apply(item);
+        if (id == null) {
+            return this;
+        }
+
+        final Map<Long, T> copy = new LinkedHashMap<>(byId);
+        copy.put(id, item);
+        return new ResourceIndex<>(attributes, copy);
+    }
+
+    /**
+     * @return a copy without the resource
+     */
+    ResourceIndex<T> without(long id) {
+        if (!byId.containsKey(id)) {
+            return this;
+        }
+
+        final Map<Long, T> copy = new LinkedHashMap<>(byId);
+        copy.remove(id);
+        return new ResourceIndex<>(attributes, copy);
+    }
+}
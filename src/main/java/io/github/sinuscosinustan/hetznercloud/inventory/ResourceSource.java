@@ -0,0 +1,233 @@
+package io.github.sinuscosinustan.hetznercloud.inventory;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAsyncAPI;
+import io.github.sinuscosinustan.hetznercloud.objects.enums.ImageType;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Certificate;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Datacenter;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Firewall;
+import io.github.sinuscosinustan.hetznercloud.objects.general.FloatingIP;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Image;
+import io.github.sinuscosinustan.hetznercloud.objects.general.LoadBalancer;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Location;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Meta;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Network;
+import io.github.sinuscosinustan.hetznercloud.objects.general.PlacementGroup;
+import io.github.sinuscosinustan.hetznercloud.objects.general.PrimaryIP;
+import io.github.sinuscosinustan.hetznercloud.objects.general.SSHKey;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Server;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Volume;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Zone;
+import io.github.sinuscosinustan.hetznercloud.objects.pagination.PaginationParameters;
+import io.github.sinuscosinustan.hetznercloud.objects.response.CertificateResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.CertificatesResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.CreateFirewallResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.CreateFloatingIPResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.CreatePrimaryIPResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.CreateServerResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.CreateVolumeResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.FirewallsResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.FloatingIPResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.FloatingIPsResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.ImageResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.ImagesResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.LoadBalancerResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.LoadBalancersResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.NetworkResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.NetworksResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.PlacementGroupResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.PlacementGroupsResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.PrimaryIPResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.PrimaryIPsResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.SSHKeyResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.SSHKeysResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.ServerResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.ServersResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.VolumeResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.VolumesResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.ZoneResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.ZonesResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Requests and attribute accessors of one {@link ResourceType}.
+ *
+ * @param listAll      lists all resources of the type with auto-pagination
+ * @param page         requests one page of the listing with {@link GraphLoader#PAGE_SIZE} resources
+ * @param get          fetches a single resource by ID
+ * @param fromResponse extracts the resource from the response of a modifying request, null if it contains none
+ */
+record ResourceSource<T>(ResourceType type,
+                         ResourceAttributes<T> attributes,
+                         Supplier<CompletableFuture<List<T>>> listAll,
+                         LongFunction<CompletableFuture<Page<T>>> page,
+                         LongFunction<CompletableFuture<T>> get,
+                         Function<Object, T> fromResponse) {
+
+    /**
+     * @return sources of all resource types, using the given API instance
+     */
+    static Map<ResourceType, ResourceSource<?>> all(HetznerCloudAsyncAPI async) {
+        final Map<ResourceType, ResourceSource<?>> sources = new EnumMap<>(ResourceType.class);
+        register(sources, ResourceType.SERVER, new ResourceAttributes<>(Server::getId, Server::getName, Server::getLabels,
+                        server -> locationOf(server.getDatacenter())),
+                async::listAllServers,
+                pages(parameters -> async.getServers(null, parameters), ServersResponse::getServers, ServersResponse::getMeta),
+                id -> async.getServer(id).thenApply(ServerResponse::getServer),
+                response -> response instanceof CreateServerResponse created ? created.getServer()
+                        : response instanceof ServerResponse updated ? updated.getServer() : null);
+        register(sources, ResourceType.VOLUME, new ResourceAttributes<>(Volume::getId, Volume::getName, Volume::getLabels,
+                        volume -> nameOf(volume.getLocation())),
+                async::listAllVolumes,
+                pages(async::getVolumes, VolumesResponse::getVolumes, VolumesResponse::getMeta),
+                id -> async.getVolume(id).thenApply(VolumeResponse::getVolume),
+                response -> response instanceof CreateVolumeResponse created ? created.getVolume()
+                        : response instanceof VolumeResponse updated ? updated.getVolume() : null);
+        register(sources, ResourceType.NETWORK, new ResourceAttributes<>(Network::getId, Network::getName, Network::getLabels,
+                        network -> null),
+                async::listAllNetworks,
+                pages(async::getNetworks, NetworksResponse::getNetworks, NetworksResponse::getMeta),
+                id -> async.getNetwork(id).thenApply(NetworkResponse::getNetwork),
+                response -> response instanceof NetworkResponse network ? network.getNetwork() : null);
+        register(sources, ResourceType.FLOATING_IP, new ResourceAttributes<>(FloatingIP::getId, FloatingIP::getName, FloatingIP::getLabels,
+                        floatingIP -> nameOf(floatingIP.getHomeLocation())),
+                async::listAllFloatingIPs,
+                pages(async::getFloatingIPs, FloatingIPsResponse::getFloatingIps, FloatingIPsResponse::getMeta),
+                id -> async.getFloatingIP(id).thenApply(FloatingIPResponse::getFloatingIP),
+                response -> response instanceof CreateFloatingIPResponse created ? created.getFloatingIP()
+                        : response instanceof FloatingIPResponse updated ? updated.getFloatingIP() : null);
+        register(sources, ResourceType.PRIMARY_IP, new ResourceAttributes<>(PrimaryIP::getId, PrimaryIP::getName, PrimaryIP::getLabels,
+                        primaryIP -> locationOf(primaryIP.getDatacenter())),
+                async::listAllPrimaryIPs,
+                pages(parameters -> async.getPrimaryIPs(null, parameters), PrimaryIPsResponse::getPrimaryIPs, PrimaryIPsResponse::getMeta),
+                id -> async.getPrimaryIP(id).thenApply(PrimaryIPResponse::getPrimaryIP),
+                response -> response instanceof CreatePrimaryIPResponse created ? created.getPrimaryIP()
+                        : response instanceof PrimaryIPResponse updated ? updated.getPrimaryIP() : null);
+        register(sources, ResourceType.LOAD_BALANCER, new ResourceAttributes<>(LoadBalancer::getId, LoadBalancer::getName, LoadBalancer::getLabels,
+                        loadBalancer -> nameOf(loadBalancer.getLocation())),
+                async::listAllLoadBalancers,
+                pages(parameters -> async.getLoadBalancers(null, parameters), LoadBalancersResponse::getLoadBalancers, LoadBalancersResponse::getMeta),
+                id -> async.getLoadBalancer(id).thenApply(LoadBalancerResponse::getLoadBalancer),
+                response -> response instanceof LoadBalancerResponse loadBalancer ? loadBalancer.getLoadBalancer() : null);
+        register(sources, ResourceType.FIREWALL, new ResourceAttributes<>(Firewall::getId, Firewall::getName, Firewall::getLabels,
+                        firewall -> null),
+                async::listAllFirewalls,
+                pages(async::getFirewalls, FirewallsResponse::getFirewalls, FirewallsResponse::getMeta),
+                id -> async.getFirewall(id).thenApply(CreateFirewallResponse::getFirewall),
+                response -> response instanceof CreateFirewallResponse firewall ? firewall.getFirewall() : null);
+        register(sources, ResourceType.CERTIFICATE, new ResourceAttributes<>(Certificate::getId, Certificate::getName, Certificate::getLabels,
+                        certificate -> null),
+                async::listAllCertificates,
+                pages(async::getCertificates, CertificatesResponse::getCertificates, CertificatesResponse::getMeta),
+                id -> async.getCertificate(id).thenApply(CertificateResponse::getCertificate),
+                response -> response instanceof CertificateResponse certificate ? certificate.getCertificate() : null);
+        register(sources, ResourceType.PLACEMENT_GROUP, new ResourceAttributes<>(PlacementGroup::getId, PlacementGroup::getName, PlacementGroup::getLabels,
+                        placementGroup -> null),
+                async::listAllPlacementGroups,
+                pages(async::getPlacementGroups, PlacementGroupsResponse::getPlacementGroups, PlacementGroupsResponse::getMeta),
+                id -> async.getPlacementGroup(id).thenApply(PlacementGroupResponse::getPlacementGroup),
+                response -> response instanceof PlacementGroupResponse placementGroup ? placementGroup.getPlacementGroup() : null);
+        register(sources, ResourceType.SSH_KEY, new ResourceAttributes<>(SSHKey::getId, SSHKey::getName, SSHKey::getLabels,
+                        sshKey -> null),
+                async::listAllSSHKeys,
+                pages(async::getSSHKeys, SSHKeysResponse::getSshKeys, SSHKeysResponse::getMeta),
+                id -> async.getSSHKey(id).thenApply(SSHKeyResponse::getSshKey),
+                response -> response instanceof SSHKeyResponse sshKey ? sshKey.getSshKey() : null);
+        // only the images of the project, system and app images are shared by all projects
+        register(sources, ResourceType.IMAGE, new ResourceAttributes<>(Image::getId, Image::getName, Image::getLabels,
+                        image -> null),
+                () -> async.listAllImagesByType(ImageType.snapshot)
+                        .thenCombine(async.listAllImagesByType(ImageType.backup), ResourceSource::concat),
+                imagePages(async),
+                id -> async.getImage(id).thenApply(ImageResponse::getImage),
+                response -> response instanceof ImageResponse image ? image.getImage() : null);
+        register(sources, ResourceType.ZONE, new ResourceAttributes<>(Zone::getId, Zone::getName, Zone::getLabels,
+                        zone -> null),
+                async::listAllZones,
+                pages(async::getZones, ZonesResponse::getZones, ZonesResponse::getMeta),
+                id -> async.getZone(id).thenApply(ZoneResponse::getZone),
+                response -> response instanceof ZoneResponse zone ? zone.getZone() : null);
+        return Collections.unmodifiableMap(sources);
+    }
+
+    private static <T> void register(Map<ResourceType, ResourceSource<?>> sources, ResourceType type,
+                                     ResourceAttributes<T> attributes, Supplier<CompletableFuture<List<T>>> listAll,
+                                     LongFunction<CompletableFuture<Page<T>>> page,
+                                     LongFunction<CompletableFuture<T>> get, Function<Object, T> fromResponse) {
+        sources.put(type, new ResourceSource<>(type, attributes, listAll, page, get, fromResponse));
+    }
+
+    private static <R, T> LongFunction<CompletableFuture<Page<T>>> pages(Function<PaginationParameters, CompletableFuture<R>> request,
+                                                                         Function<R, List<T>> items,
+                                                                         Function<R, Meta> meta) {
+        return page -> request.apply(new PaginationParameters((int) page, GraphLoader.PAGE_SIZE))
+                .thenApply(response -> Page.of(items.apply(response), meta.apply(response)));
+    }
+
+    /**
+     * Page N of the images are page N of the snapshots and page N of the backups. Pages beyond the end of one of the
+     * listings are empty.
+     */
+    private static LongFunction<CompletableFuture<Page<Image>>> imagePages(HetznerCloudAsyncAPI async) {
+        final LongFunction<CompletableFuture<Page<Image>>> snapshots = pages(parameters -> async.getImagesByType(ImageType.snapshot, parameters),
+                ImagesResponse::getImages, ImagesResponse::getMeta);
+        final LongFunction<CompletableFuture<Page<Image>>> backups = pages(parameters -> async.getImagesByType(ImageType.backup, parameters),
+                ImagesResponse::getImages, ImagesResponse::getMeta);
+        return page -> snapshots.apply(page).thenCombine(backups.apply(page), (first, second) ->
+                new Page<>(concat(first.items(), second.items()),
+                        first.lastPage() != null && second.lastPage() != null ? Math.max(first.lastPage(), second.lastPage()) : null));
+    }
+
+    private static <T> List<T> concat(List<T> first, List<T> second) {
+        final List<T> all = new ArrayList<>(first.size() + second.size());
+        all.addAll(first);
+        all.addAll(second);
+        return all;
+    }
+
+    private static String locationOf(Datacenter datacenter) {
+        return datacenter != null ? nameOf(datacenter.getLocation()) : null;
+    }
+
+    private static String nameOf(Location location) {
+        return location != null ? location.getName() : null;
+    }
+
+    /**
+     * One page of a listing.
+     *
+     * @param items    resources on the page
+     * @param lastPage number of the last page of the listing, null if the API did not report it
+     */
+    record Page<T>(List<T> items, Long lastPage) {
+
+        static <T> Page<T> of(List<T> items, Meta meta) {
+            final Meta.Pagination pagination = meta != null ? meta.getPagination() : null;
+            return new Page<>(items != null ? items : List.of(), lastPageOf(pagination));
+        }
+
+        private static Long lastPageOf(Meta.Pagination pagination) {
+            if (pagination == null) {
+                return 1L;
+            }
+            if (pagination.getLastPage() != null) {
+                return pagination.getLastPage();
+            }
+            if (pagination.getNextPage() == null) {
+                return pagination.getPage() != null ? pagination.getPage() : 1L;
+            }
+            if (pagination.getTotalEntries() != null && pagination.getPerPage() != null && pagination.getPerPage() > 0) {
+                return Math.max(1, (pagination.getTotalEntries() + pagination.getPerPage() - 1) / pagination.getPerPage());
+            }
+            return null;
+        }
+    }
+}
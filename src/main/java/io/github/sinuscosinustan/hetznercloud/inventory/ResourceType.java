@@ -0,0 +1,45 @@
+package io.github.sinuscosinustan.hetznercloud.inventory;
+
+/**
+ * Labeled resource types kept by the {@link InventoryMirror}
+ */
+public enum ResourceType {
+    SERVER("servers"),
+    VOLUME("volumes"),
+    NETWORK("networks"),
+    FLOATING_IP("floating_ips"),
+    PRIMARY_IP("primary_ips"),
+    LOAD_BALANCER("load_balancers"),
+    FIREWALL("firewalls"),
+    CERTIFICATE("certificates"),
+    PLACEMENT_GROUP("placement_groups"),
+    SSH_KEY("ssh_keys"),
+    IMAGE("images"),
+    ZONE("zones");
+
+    private final String endpoint;
+
+    ResourceType(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * @return first path segment of the resource, e.g. {@code floating_ips}
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * @param endpoint first path segment, e.g. {@code servers}
+     * @return the resource type or null if the endpoint does not belong to a mirrored resource
+     */
+    public static ResourceType ofEndpoint(String endpoint) {
+        for (ResourceType type : values()) {
+            if (type.endpoint.equals(endpoint)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
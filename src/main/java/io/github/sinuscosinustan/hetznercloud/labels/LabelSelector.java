@@ -0,0 +1,292 @@
+package io.github.sinuscosinustan.hetznercloud.labels;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Compiled label selector which is evaluated locally with the same semantics as the {@code label_selector} query
+ * parameter of the API.
+ * <p>
+ * A selector consists of comma separated requirements which all have to match:
+ * <ul>
+ *     <li>{@code key=value} or {@code key==value}: the label is present with the value</li>
+ *     <li>{@code key!=value}: the label is absent or has another value</li>
+ *     <li>{@code key in (v1,v2)}: the label is present with one of the values</li>
+ *     <li>{@code key notin (v1,v2)}: the label is absent or has none of the values</li>
+ *     <li>{@code key}: the label is present</li>
+ *     <li>{@code !key}: the label is absent</li>
+ * </ul>
+ * Instances are immutable and thread-safe. Parse a selector once and reuse it for all resources, matching does
+ * not allocate.
+ */
+public final class LabelSelector {
+
+    private static final LabelSelector EVERYTHING = new LabelSelector("", new Requirement[0]);
+
+    private final String expression;
+    private final Requirement[] requirements;
+    private final Set<String> requiredKeys;
+
+    private LabelSelector(String expression, Requirement[] requirements) {
+        this.expression = expression;
+        this.requirements = requirements;
+
+        final Set<String> requiredKeys = new LinkedHashSet<>();
+        for (Requirement requirement : requirements) {
+            if (requirement.operator.requiresKey) {
+                requiredKeys.add(requirement.key);
+            }
+        }
+        this.requiredKeys = Collections.unmodifiableSet(requiredKeys);
+    }
+
+    /**
+     * @param expression label selector, e.g. {@code env=prod,tier in (web,api),!deprecated}
+     * @return the compiled selector, a selector matching everything if the expression is null or blank
+     * @throws IllegalArgumentException if the expression is not a valid label selector
+     */
+    public static LabelSelector parse(String expression) {
+        if (expression == null || expression.isBlank()) {
+            return EVERYTHING;
+        }
+
+        final Requirement[] requirements = new Parser(expression).parse();
+        // the requirements are AND-ed, so the cheapest ones are checked first
+        Arrays.sort(requirements, Comparator.comparingInt(requirement -> requirement.operator.ordinal()));
+        return new LabelSelector(expression, requirements);
+    }
+
+    /**
+     * @param labels labels of a resource, null is treated as no labels
+     * @return true if all requirements match
+     */
+    public boolean matches(Map<String, String> labels) {
+        final Map<String, String> actual = labels != null ? labels : Map.of();
+        for (Requirement requirement : requirements) {
+            if (!requirement.matches(actual.get(requirement.key))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param labels function returning the labels of a resource, e.g. {@code Server::getLabels}
+     * @param <T>    resource class
+     * @return predicate matching the resources selected by this selector
+     */
+    public <T> Predicate<T> toPredicate(Function<? super T, Map<String, String>> labels) {
+        return item -> matches(labels.apply(item));
+    }
+
+    /**
+     * @param items  resources to filter
+     * @param labels function returning the labels of a resource, e.g. {@code Server::getLabels}
+     * @param <T>    resource class
+     * @return the selected resources in their original order
+     */
+    public <T> List<T> filter(Collection<T> items, Function<? super T, Map<String, String>> labels) {
+        final List<T> selected = new ArrayList<>();
+        for (T item : items) {
+            if (matches(labels.apply(item))) {
+                selected.add(item);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Keys which every selected resource has, usable to narrow down candidates with an index by label key.
+     *
+     * @return keys used with {@code =}, {@code in} or as an existence requirement
+     */
+    public Set<String> getRequiredKeys() {
+        return requiredKeys;
+    }
+
+    /**
+     * @return true if this selector matches everything
+     */
+    public boolean isEmpty() {
+        return requirements.length == 0;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * Ordered from the cheapest to the most expensive check
+     */
+    private enum Operator {
+        EXISTS(true),
+        NOT_EXISTS(false),
+        EQUALS(true),
+        NOT_EQUALS(false),
+        IN(true),
+        NOT_IN(false);
+
+        private final boolean requiresKey;
+
+        Operator(boolean requiresKey) {
+            this.requiresKey = requiresKey;
+        }
+    }
+
+    private static final class Requirement {
+        private final String key;
+        private final Operator operator;
+        private final String value;
+        private final Set<String> values;
+
+        private Requirement(String key, Operator operator, String value, Set<String> values) {
+            this.key = key;
+            this.operator = operator;
+            this.value = value;
+            this.values = values;
+        }
+
+        private boolean matches(String actual) {
+            return switch (operator) {
+                case EXISTS -> actual != null;
+                case NOT_EXISTS -> actual == null;
+                case EQUALS -> value.equals(actual);
+                case NOT_EQUALS -> !value.equals(actual);
+                case IN -> actual != null && values.contains(actual);
+                case NOT_IN -> actual == null || !values.contains(actual);
+            };
+        }
+    }
+
+    private static final class Parser {
+        private final String expression;
+        private int position;
+
+        private Parser(String expression) {
+            this.expression = expression;
+        }
+
+        private Requirement[] parse() {
+            final List<Requirement> requirements = new ArrayList<>();
+            do {
+                requirements.add(requirement());
+                skipWhitespace();
+            } while (consume(','));
+
+            if (position < expression.length()) {
+                throw error("unexpected '" + expression.charAt(position) + "'");
+            }
+            return requirements.toArray(new Requirement[0]);
+        }
+
+        private Requirement requirement() {
+            skipWhitespace();
+            if (consume('!')) {
+                skipWhitespace();
+                return new Requirement(key(), Operator.NOT_EXISTS, null, null);
+            }
+
+            final String key = key();
+            final int afterKey = position;
+            skipWhitespace();
+            if (consume('=')) {
+                consume('=');
+                return new Requirement(key, Operator.EQUALS, value(), null);
+            }
+            if (consume('!')) {
+                expect('=');
+                return new Requirement(key, Operator.NOT_EQUALS, value(), null);
+            }
+            if (position > afterKey) {
+                if (keyword("notin")) {
+                    return new Requirement(key, Operator.NOT_IN, null, values());
+                }
+                if (keyword("in")) {
+                    return new Requirement(key, Operator.IN, null, values());
+                }
+            }
+            return new Requirement(key, Operator.EXISTS, null, null);
+        }
+
+        private String key() {
+            final int start = position;
+            while (position < expression.length() && isWordCharacter(expression.charAt(position))) {
+                position++;
+            }
+            if (position == start) {
+                throw error("label key expected");
+            }
+            return expression.substring(start, position);
+        }
+
+        private String value() {
+            skipWhitespace();
+            final int start = position;
+            while (position < expression.length() && isWordCharacter(expression.charAt(position))) {
+                position++;
+            }
+            return expression.substring(start, position);
+        }
+
+        private Set<String> values() {
+            skipWhitespace();
+            expect('(');
+            final Set<String> values = new LinkedHashSet<>();
+            do {
+                values.add(value());
+                skipWhitespace();
+            } while (consume(','));
+            expect(')');
+            return Set.copyOf(values);
+        }
+
+        private boolean keyword(String keyword) {
+            final int end = position + keyword.length();
+            if (!expression.startsWith(keyword, position)
+                    || (end < expression.length() && isWordCharacter(expression.charAt(end)))) {
+                return false;
+            }
+            position = end;
+            return true;
+        }
+
+        private boolean consume(char c) {
+            if (position < expression.length() && expression.charAt(position) == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char c) {
+            if (!consume(c)) {
+                throw error("'" + c + "' expected");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(
+                    "Invalid label selector '%s' at position %d: %s".formatted(expression, position, message));
+        }
+
+        private static boolean isWordCharacter(char c) {
+            return !Character.isWhitespace(c) && c != ',' && c != '=' && c != '!' && c != '(' && c != ')';
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package io.github.sinuscosinustan.hetznercloud.metrics;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Server;
+import io.github.sinuscosinustan.hetznercloud.objects.general.TimeSeries;
+import io.github.sinuscosinustan.hetznercloud.objects.general.TypedMetrics;
+import io.github.sinuscosinustan.hetznercloud.ratelimit.RateLimiter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Scrapes the metrics of all servers periodically and keeps the latest samples in memory.
+ * <p>
+ * Every scrape lists the servers and requests the metrics of each server since its latest stored sample, with at
+ * most {@code parallelism} requests in flight. If the API instance has a {@link RateLimiter}, a scrape only uses the
+ * requests above {@code rateLimitReserve}; servers which did not fit are scraped first in the next run.
+ * <p>
+ * Samples are stored per server and series (e.g. {@code cpu}, {@code disk.0.iops.read}) in fixed-size ring buffers
+ * covering the retention period at the scrape interval. The windowed queries do not allocate.
+ */
+public class MetricsCollector implements AutoCloseable {
+
+    public static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(1);
+    public static final Duration DEFAULT_RETENTION = Duration.ofHours(3);
+    public static final String DEFAULT_METRIC_TYPES = "cpu,disk,network";
+    public static final int DEFAULT_PARALLELISM = 8;
+
+    /**
+     * Default number of requests of the rate limit budget left to other callers
+     */
+    public static final int DEFAULT_RATE_LIMIT_RESERVE = 100;
+
+    private final HetznerCloudAPI api;
+    private final String labelSelector;
+    private final String metricTypes;
+    private final Duration interval;
+    private final Duration retention;
+    private final int capacity;
+    private final int parallelism;
+    private final int rateLimitReserve;
+
+    private final Map<Long, Map<String, SampleRingBuffer>> store = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private int cursor;
+    private ScheduledFuture<?> scraper;
+
+    private MetricsCollector(Builder builder) {
+        this.api = builder.api;
+        this.labelSelector = builder.labelSelector;
+        this.metricTypes = builder.metricTypes;
+        this.interval = builder.interval;
+        this.retention = builder.retention;
+        this.capacity = (int) Math.max(1, retention.getSeconds() / Math.max(1, interval.getSeconds()) + 1);
+        this.parallelism = builder.parallelism;
+        this.rateLimitReserve = builder.rateLimitReserve;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "hetznercloud-metrics-collector");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @param api API instance used for scraping
+     * @return a builder for a collector
+     */
+    public static Builder builder(HetznerCloudAPI api) {
+        return new Builder(api);
+    }
+
+    /**
+     * Scrape right away and then once per interval until {@link #close()} is called.
+     */
+    public synchronized void start() {
+        if (scraper == null) {
+            scraper = scheduler.scheduleWithFixedDelay(this::scrapeAndWait, 0, interval.toNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Scrape the metrics of all servers once.
+     *
+     * @return future completed once all requests of this scrape finished
+     */
+    public CompletableFuture<Void> scrape() {
+        return api.async().listAllServers(labelSelector).thenCompose(servers -> {
+            final Set<Long> ids = servers.stream().map(Server::getId).collect(Collectors.toSet());
+            store.keySet().retainAll(ids);
+
+            final List<Server> batch = nextBatch(servers);
+            final AtomicInteger next = new AtomicInteger();
+            final CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(parallelism, batch.size())];
+            for (int i = 0; i < workers.length; i++) {
+                workers[i] = scrapeRemaining(batch, next);
+            }
+            return CompletableFuture.allOf(workers);
+        });
+    }
+
+    /**
+     * @param serverId ID of the server
+     * @param series   name of the series, e.g. {@code cpu}
+     * @param window   length of the window ending now
+     * @return average of the window, NaN if there are no samples
+     */
+    public double average(long serverId, String series, Duration window) {
+        final SampleRingBuffer buffer = buffer(serverId, series);
+        return buffer != null ? buffer.average(since(window)) : Double.NaN;
+    }
+
+    /**
+     * @param serverId ID of the server
+     * @param series   name of the series, e.g. {@code cpu}
+     * @param window   length of the window ending now
+     * @return maximum of the window, NaN if there are no samples
+     */
+    public double max(long serverId, String series, Duration window) {
+        final SampleRingBuffer buffer = buffer(serverId, series);
+        return buffer != null ? buffer.max(since(window)) : Double.NaN;
+    }
+
+    /**
+     * @param serverId ID of the server
+     * @param series   name of the series, e.g. {@code cpu}
+     * @param window   length of the window ending now
+     * @param quantile quantile between 0 and 1, e.g. 0.95
+     * @return nearest-rank percentile of the window, NaN if there are no samples
+     */
+    public double percentile(long serverId, String series, Duration window, double quantile) {
+        final SampleRingBuffer buffer = buffer(serverId, series);
+        return buffer != null ? buffer.percentile(since(window), quantile) : Double.NaN;
+    }
+
+    /**
+     * @return IDs of all servers with stored samples
+     */
+    public Set<Long> getServerIds() {
+        return Collections.unmodifiableSet(store.keySet());
+    }
+
+    /**
+     * @param serverId ID of the server
+     * @return names of the stored series of the server
+     */
+    public Set<String> getSeries(long serverId) {
+        final Map<String, SampleRingBuffer> series = store.get(serverId);
+        return series != null ? Collections.unmodifiableSet(series.keySet()) : Set.of();
+    }
+
+    /**
+     * @param serverId ID of the server
+     * @param series   name of the series, e.g. {@code cpu}
+     * @return number of stored samples
+     */
+    public int getSampleCount(long serverId, String series) {
+        final SampleRingBuffer buffer = buffer(serverId, series);
+        return buffer != null ? buffer.size() : 0;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Servers to scrape in this run, starting after the last server of the previous run and limited by the
+     * available rate limit budget.
+     */
+    private synchronized List<Server> nextBatch(List<Server> servers) {
+        if (servers.isEmpty()) {
+            return servers;
+        }
+
+        int budget = servers.size();
+        final RateLimiter limiter = api.getRateLimiter();
+        if (limiter != null) {
+            budget = (int) Math.max(0, Math.min(budget, limiter.getAvailableTokens() - rateLimitReserve));
+        }
+
+        final int start = cursor % servers.size();
+        cursor = start + budget;
+        final List<Server> batch = new ArrayList<>(budget);
+        for (int i = 0; i < budget; i++) {
+            batch.add(servers.get((start + i) % servers.size()));
+        }
+        return batch;
+    }
+
+    private CompletableFuture<Void> scrapeRemaining(List<Server> batch, AtomicInteger next) {
+        final int index = next.getAndIncrement();
+        if (index >= batch.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return scrapeServer(batch.get(index).getId())
+                // a failed server is retried with the next scrape
+                .handle((ignored, failure) -> null)
+                .thenCompose(ignored -> scrapeRemaining(batch, next));
+    }
+
+    private CompletableFuture<Void> scrapeServer(long serverId) {
+        final Instant end = Instant.now();
+        final Instant start = Instant.ofEpochMilli(Math.max(latestTimestamp(serverId), end.minus(retention).toEpochMilli()));
+        if (!end.isAfter(start)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return api.async()
+                .getTypedServerMetrics(serverId, metricTypes, start, end, Math.max(1, interval.getSeconds()))
+                .thenAccept(response -> {
+                    final TypedMetrics metrics = response.getMetrics();
+                    if (metrics != null && metrics.getTimeSeries() != null) {
+                        metrics.getTimeSeries().forEach((name, series) -> store(serverId, name, series));
+                    }
+                });
+    }
+
+    private void store(long serverId, String name, TimeSeries series) {
+        final SampleRingBuffer buffer = store.computeIfAbsent(serverId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(name, n -> new SampleRingBuffer(capacity));
+        for (int i = 0; i < series.size(); i++) {
+            buffer.add(series.getTimestamp(i), series.getValue(i));
+        }
+    }
+
+    private long latestTimestamp(long serverId) {
+        final Map<String, SampleRingBuffer> series = store.get(serverId);
+        long latest = Long.MIN_VALUE;
+        if (series != null) {
+            for (SampleRingBuffer buffer : series.values()) {
+                latest = Math.max(latest, buffer.getLatestTimestamp());
+            }
+        }
+        return latest;
+    }
+
+    private SampleRingBuffer buffer(long serverId, String series) {
+        final Map<String, SampleRingBuffer> buffers = store.get(serverId);
+        return buffers != null ? buffers.get(series) : null;
+    }
+
+    private static long since(Duration window) {
+        return System.currentTimeMillis() - window.toMillis();
+    }
+
+    private void scrapeAndWait() {
+        try {
+            scrape().join();
+        } catch (RuntimeException e) {
+            // the next run scrapes again
+        }
+    }
+
+    public static class Builder {
+        private final HetznerCloudAPI api;
+        private String labelSelector;
+        private String metricTypes = DEFAULT_METRIC_TYPES;
+        private Duration interval = DEFAULT_INTERVAL;
+        private Duration retention = DEFAULT_RETENTION;
+        private int parallelism = DEFAULT_PARALLELISM;
+        private int rateLimitReserve = DEFAULT_RATE_LIMIT_RESERVE;
+
+        private Builder(HetznerCloudAPI api) {
+            this.api = api;
+        }
+
+        /**
+         * @param labelSelector only scrape servers matching the label selector
+         * @return the current {@link Builder} instance
+         */
+        public Builder labelSelector(String labelSelector) {
+            this.labelSelector = labelSelector;
+            return this;
+        }
+
+        /**
+         * @param metricTypes metric types to scrape, e.g. {@code cpu,disk}
+         * @return the current {@link Builder} instance
+         */
+        public Builder metricTypes(String metricTypes) {
+            this.metricTypes = metricTypes;
+            return this;
+        }
+
+        /**
+         * @param interval time between two scrapes, also used as the step of the series
+         * @return the current {@link Builder} instance
+         */
+        public Builder interval(Duration interval) {
+            this.interval = interval;
+            return this;
+        }
+
+        /**
+         * @param retention time range of samples kept per series
+         * @return the current {@link Builder} instance
+         */
+        public Builder retention(Duration retention) {
+            this.retention = retention;
+            return this;
+        }
+
+        /**
+         * @param parallelism maximum number of metrics requests in flight
+         * @return the current {@link Builder} instance
+         */
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * @param rateLimitReserve number of requests of the rate limit budget left to other callers
+         * @return the current {@link Builder} instance
+         */
+        public Builder rateLimitReserve(int rateLimitReserve) {
+            this.rateLimitReserve = rateLimitReserve;
+            return this;
+        }
+
+        public MetricsCollector build() {
+            return new MetricsCollector(this);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package io.github.sinuscosinustan.hetznercloud.metrics;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.objects.general.TimeSeries;
+import io.github.sinuscosinustan.hetznercloud.objects.general.TypedMetrics;
+import io.github.sinuscosinustan.hetznercloud.objects.response.TypedMetricsResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fetches server metrics for long time ranges.
+ * <p>
+ * The range is split into windows of at most {@code maxPointsPerRequest} points at the chosen step. The API includes
+ * both ends of a window, so a window spans {@code maxPointsPerRequest - 1} steps. The windows are requested
+ * concurrently, with at most {@code parallelism} requests in flight, and stitched into one contiguous series per
+ * metric. The point at the boundary of two windows, which the API reports in both, is only taken once.
+ * <p>
+ * Without an explicit step, the smallest step of {@link #STEPS} is chosen that keeps the whole range below
+ * {@code maxPoints} points.
+ */
+public class MetricsFetcher {
+
+    /**
+     * Default maximum number of points of a series in a single response
+     */
+    public static final int DEFAULT_MAX_POINTS_PER_REQUEST = 500;
+
+    /**
+     * Default maximum number of points of a series for the whole range when the step is chosen automatically
+     */
+    public static final int DEFAULT_MAX_POINTS = 10_000;
+
+    /**
+     * Default number of windows requested at the same time
+     */
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    /**
+     * Steps in seconds the automatic step selection chooses from
+     */
+    static final long[] STEPS = {1, 5, 10, 15, 30, 60, 120, 300, 600, 900, 1800, 3600, 7200, 21600, 43200, 86400};
+
+    private final HetznerCloudAPI api;
+    private final int maxPointsPerRequest;
+    private final int maxPoints;
+    private final int parallelism;
+
+    public MetricsFetcher(HetznerCloudAPI api) {
+        this(api, DEFAULT_MAX_POINTS_PER_REQUEST, DEFAULT_MAX_POINTS, DEFAULT_PARALLELISM);
+    }
+
+    public MetricsFetcher(HetznerCloudAPI api, int maxPointsPerRequest, int maxPoints, int parallelism) {
+        if (maxPointsPerRequest < 2) {
+            throw new IllegalArgumentException("maxPointsPerRequest must be at least 2");
+        }
+        if (maxPoints < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("maxPoints and parallelism must be positive");
+        }
+        this.api = api;
+        this.maxPointsPerRequest = maxPointsPerRequest;
+        this.maxPoints = maxPoints;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Fetch the metrics of a server with an automatically chosen step.
+     *
+     * @param serverId   ID of the server
+     * @param metricType like cpu, disk or network (but also cpu,disk possible)
+     * @param start      start of the range
+     * @param end        end of the range
+     * @return future completed with the stitched metrics
+     */
+    public CompletableFuture<TypedMetrics> fetch(long serverId, String metricType, Instant start, Instant end) {
+        return fetch(serverId, metricType, start, end, stepFor(Duration.between(start, end)));
+    }
+
+    /**
+     * Fetch the metrics of a server.
+     *
+     * @param serverId   ID of the server
+     * @param metricType like cpu, disk or network (but also cpu,disk possible)
+     * @param start      start of the range
+     * @param end        end of the range
+     * @param step       resolution of the series, at least one second
+     * @return future completed with the stitched metrics
+     */
+    public CompletableFuture<TypedMetrics> fetch(long serverId, String metricType, Instant start, Instant end, Duration step) {
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("end must be after start");
+        }
+        final long stepSeconds = Math.max(1, step.getSeconds());
+        // both ends of a window are included in the response
+        final long windowSeconds = stepSeconds * (maxPointsPerRequest - 1);
+        final long rangeSeconds = Duration.between(start, end).getSeconds();
+        final int windows = (int) Math.max(1, (rangeSeconds + windowSeconds - 1) / windowSeconds);
+
+        final AtomicReferenceArray<TypedMetrics> results = new AtomicReferenceArray<>(windows);
+        final AtomicInteger nextWindow = new AtomicInteger();
+        final CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(parallelism, windows)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = fetchRemaining(serverId, metricType, start, end, stepSeconds, windowSeconds, nextWindow, results);
+        }
+
+        return CompletableFuture.allOf(workers).thenApply(ignored -> stitch(results, start, end, stepSeconds));
+    }
+
+    /**
+     * @param range length of the range
+     * @return the smallest step of {@link #STEPS} which keeps the range below {@code maxPoints} points
+     */
+    Duration stepFor(Duration range) {
+        final long minimum = (range.getSeconds() + maxPoints - 1) / maxPoints;
+        for (long step : STEPS) {
+            if (step >= minimum) {
+                return Duration.ofSeconds(step);
+            }
+        }
+        return Duration.ofSeconds(minimum);
+    }
+
+    private CompletableFuture<Void> fetchRemaining(long serverId, String metricType, Instant start, Instant end,
+                                                   long stepSeconds, long windowSeconds, AtomicInteger nextWindow,
+                                                   AtomicReferenceArray<TypedMetrics> results) {
+        final int window = nextWindow.getAndIncrement();
+        if (window >= results.length()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final Instant windowStart = start.plusSeconds(window * windowSeconds);
+        final Instant windowEnd = min(windowStart.plusSeconds(windowSeconds), end);
+        return api.async().getTypedServerMetrics(serverId, metricType, windowStart, windowEnd, stepSeconds)
+                .thenCompose(response -> {
+                    results.set(window, metricsOf(response));
+                    return fetchRemaining(serverId, metricType, start, end, stepSeconds, windowSeconds, nextWindow, results);
+                });
+    }
+
+    private static TypedMetrics stitch(AtomicReferenceArray<TypedMetrics> results, Instant start, Instant end, long stepSeconds) {
+        final Map<String, List<TimeSeries>> parts = new LinkedHashMap<>();
+        for (int i = 0; i < results.length(); i++) {
+            final TypedMetrics metrics = results.get(i);
+            if (metrics == null || metrics.getTimeSeries() == null) {
+                continue;
+            }
+            metrics.getTimeSeries().forEach((name, series) ->
+                    parts.computeIfAbsent(name, k -> new ArrayList<>()).add(series));
+        }
+
+        final Map<String, TimeSeries> timeSeries = new LinkedHashMap<>();
+        parts.forEach((name, series) -> timeSeries.put(name, concat(series)));
+
+        final TypedMetrics stitched = new TypedMetrics();
+        stitched.setStart(Date.from(start));
+        stitched.setEnd(Date.from(end));
+        stitched.setStep(stepSeconds);
+        stitched.setTimeSeries(timeSeries);
+        return stitched;
+    }
+
+    /**
+     * Concatenates the series of consecutive windows, skipping points which are not after the last point taken.
+     */
+    private static TimeSeries concat(List<TimeSeries> parts) {
+        int capacity = 0;
+        for (TimeSeries part : parts) {
+            capacity += part.size();
+        }
+
+        final long[] timestamps = new long[capacity];
+        final double[] values = new double[capacity];
+        int size = 0;
+        for (TimeSeries part : parts) {
+            for (int i = 0; i < part.size(); i++) {
+                final long timestamp = part.getTimestamp(i);
+                if (size > 0 && timestamp <= timestamps[size - 1]) {
+                    continue;
+                }
+                timestamps[size] = timestamp;
+                values[size] = part.getValue(i);
+                size++;
+            }
+        }
+        return new TimeSeries(Arrays.copyOf(timestamps, size), Arrays.copyOf(values, size));
+    }
+
+    private static TypedMetrics metricsOf(TypedMetricsResponse response) {
+        return response != null ? response.getMetrics() : null;
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
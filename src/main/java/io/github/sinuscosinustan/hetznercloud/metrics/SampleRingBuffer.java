@@ -0,0 +1,176 @@
+package io.github.sinuscosinustan.hetznercloud.metrics;
+
+/**
+ * Fixed-size store of the latest samples of one series.
+ * <p>
+ * Samples are kept in primitive arrays which are allocated once. When the buffer is full, the oldest sample is
+ * overwritten. The windowed queries do not allocate; the percentile works on a scratch array of the same size.
+ */
+final class SampleRingBuffer {
+
+    private final long[] timestamps;
+    private final double[] values;
+    private final double[] scratch;
+
+    private int head;
+    private int size;
+
+    SampleRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.timestamps = new long[capacity];
+        this.values = new double[capacity];
+        this.scratch = new double[capacity];
+    }
+
+    /**
+     * Appends a sample unless it is not newer than the latest sample.
+     *
+     * @param timestamp timestamp in milliseconds since the epoch
+     * @param value     value of the sample
+     * @return true if the sample was appended
+     */
+    synchronized boolean add(long timestamp, double value) {
+        if (size > 0 && timestamp <= timestamps[index(size - 1)]) {
+            return false;
+        }
+
+        final int slot = index(size);
+        timestamps[slot] = timestamp;
+        values[slot] = value;
+        if (size < timestamps.length) {
+            size++;
+        } else {
+            head = (head + 1) % timestamps.length;
+        }
+        return true;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return timestamp of the latest sample, {@link Long#MIN_VALUE} if empty
+     */
+    synchronized long getLatestTimestamp() {
+        return size > 0 ? timestamps[index(size - 1)] : Long.MIN_VALUE;
+    }
+
+    /**
+     * @param since timestamp in milliseconds since the epoch
+     * @return average of the samples at or after {@code since}, NaN values are ignored, NaN if there are none
+     */
+    synchronized double average(long since) {
+        double sum = 0;
+        int count = 0;
+        for (int i = first(since); i < size; i++) {
+            final double value = values[index(i)];
+            if (!Double.isNaN(value)) {
+                sum += value;
+                count++;
+            }
+        }
+        return count > 0 ? sum / count : Double.NaN;
+    }
+
+    /**
+     * @param since timestamp in milliseconds since the epoch
+     * @return maximum of the samples at or after {@code since}, NaN values are ignored, NaN if there are none
+     */
+    synchronized double max(long since) {
+        double max = Double.NaN;
+        for (int i = first(since); i < size; i++) {
+            final double value = values[index(i)];
+            if (!Double.isNaN(value) && (Double.isNaN(max) || value > max)) {
+                max = value;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Nearest-rank percentile.
+     *
+     * @param since    timestamp in milliseconds since the epoch
+     * @param quantile quantile between 0 and 1, e.g. 0.95
+     * @return the percentile of the samples at or after {@code since}, NaN values are ignored, NaN if there are none
+     */
+    synchronized double percentile(long since, double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("quantile must be between 0 and 1");
+        }
+
+        int count = 0;
+        for (int i = first(since); i < size; i++) {
+            final double value = values[index(i)];
+            if (!Double.isNaN(value)) {
+                scratch[count++] = value;
+            }
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+
+        final int rank = Math.max(0, (int) Math.ceil(quantile * count) - 1);
+        return select(scratch, count, rank);
+    }
+
+    /**
+     * @return position (0 = oldest) of the first sample at or after {@code since}
+     */
+    private int first(long since) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (timestamps[index(mid)] < since) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int index(int position) {
+        return (head + position) % timestamps.length;
+    }
+
+    /**
+     * Quickselect: the k-th smallest of the first {@code count} elements, reordering them in place.
+     */
+    private static double select(double[] data, int count, int k) {
+        int left = 0;
+        int right = count - 1;
+        while (left < right) {
+            final double pivot = data[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (data[i] < pivot) {
+                    i++;
+                }
+                while (data[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    final double tmp = data[i];
+                    data[i] = data[j];
+                    data[j] = tmp;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return data[k];
+            }
+        }
+        return data[left];
+    }
+}
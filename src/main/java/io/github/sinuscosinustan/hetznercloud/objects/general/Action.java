@@ -1,9 +1,11 @@
 package io.github.sinuscosinustan.hetznercloud.objects.general;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Data;
 import io.github.sinuscosinustan.hetznercloud.deserialize.DateDeserializer;
 
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 
@@ -21,6 +23,16 @@ public class Action {
     private List<Resources> resources;
     private Error error;
 
+    @JsonIgnore
+    public Instant getStartedInstant() {
+        return started != null ? started.toInstant() : null;
+    }
+
+    @JsonIgnore
+    public Instant getFinishedInstant() {
+        return finished != null ? finished.toInstant() : null;
+    }
+
     @Data
     public static class Resources {
         private Long id;
@@ -1,8 +1,10 @@
 package io.github.sinuscosinustan.hetznercloud.objects.general;
 
+import java.time.Instant;
 import java.util.Date;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
@@ -44,6 +46,21 @@ public class Image {
     private Map<String, String> labels;
     private Architecture architecture;
 
+    @JsonIgnore
+    public Instant getCreatedInstant() {
+        return created != null ? created.toInstant() : null;
+    }
+
+    @JsonIgnore
+    public Instant getDeletedInstant() {
+        return deleted != null ? deleted.toInstant() : null;
+    }
+
+    @JsonIgnore
+    public Instant getDeprecatedInstant() {
+        return deprecated != null ? deprecated.toInstant() : null;
+    }
+
     @Data
     public static class CreatedFrom {
         private Long id;
@@ -1,10 +1,12 @@
 package io.github.sinuscosinustan.hetznercloud.objects.general;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Data;
 import io.github.sinuscosinustan.hetznercloud.deserialize.DateDeserializer;
 
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +32,11 @@ public class LoadBalancer {
     private List<LBTarget> targets;
     private String algorithmType;
 
+    @JsonIgnore
+    public Instant getCreatedInstant() {
+        return created != null ? created.toInstant() : null;
+    }
+
     @JsonProperty("algorithm")
     private void algorithmDeserializer(Map<String, Object> algorithm) {
         this.algorithmType = (String) algorithm.get("type");
@@ -1,5 +1,6 @@
 package io.github.sinuscosinustan.hetznercloud.objects.general;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
@@ -7,6 +8,7 @@ import lombok.Data;
 import io.github.sinuscosinustan.hetznercloud.deserialize.DateDeserializer;
 import io.github.sinuscosinustan.hetznercloud.serialize.MetricsSerializer;
 
+import java.time.Instant;
 import java.util.Date;
 
 @Data
@@ -20,4 +22,14 @@ public class Metrics {
     @JsonProperty("time_series")
     @JsonSerialize(using = MetricsSerializer.class)
     private Object timeSeries;
+
+    @JsonIgnore
+    public Instant getStartInstant() {
+        return start != null ? start.toInstant() : null;
+    }
+
+    @JsonIgnore
+    public Instant getEndInstant() {
+        return end != null ? end.toInstant() : null;
+    }
 }
\ No newline at end of file
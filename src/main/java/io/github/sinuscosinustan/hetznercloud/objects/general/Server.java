@@ -1,10 +1,12 @@
 package io.github.sinuscosinustan.hetznercloud.objects.general;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Data;
 import io.github.sinuscosinustan.hetznercloud.deserialize.DateDeserializer;
 
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -47,6 +49,11 @@ public class Server {
     @JsonProperty("placement_group")
     private PlacementGroup placementGroup;
 
+    @JsonIgnore
+    public Instant getCreatedInstant() {
+        return created != null ? created.toInstant() : null;
+    }
+
     @Data
     @Deprecated
     public static class Protect {
@@ -0,0 +1,61 @@
+package io.github.sinuscosinustan.hetznercloud.objects.general;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.github.sinuscosinustan.hetznercloud.deserialize.TimeSeriesDeserializer;
+
+/**
+ * Single metrics series stored as parallel primitive arrays.
+ * <p>
+ * The arrays are not copied, callers must not modify them.
+ */
+@JsonDeserialize(using = TimeSeriesDeserializer.class)
+public final class TimeSeries {
+
+    private static final long[] NO_TIMESTAMPS = new long[0];
+    private static final double[] NO_VALUES = new double[0];
+
+    private final long[] timestamps;
+    private final double[] values;
+
+    public TimeSeries(long[] timestamps, double[] values) {
+        if (timestamps.length != values.length) {
+            throw new IllegalArgumentException("timestamps and values must have the same length");
+        }
+        this.timestamps = timestamps;
+        this.values = values;
+    }
+
+    public static TimeSeries empty() {
+        return new TimeSeries(NO_TIMESTAMPS, NO_VALUES);
+    }
+
+    /**
+     * @return timestamps in milliseconds since the epoch, in ascending order
+     */
+    public long[] getTimestamps() {
+        return timestamps;
+    }
+
+    /**
+     * @return values, {@link Double#NaN} where the API did not report a value
+     */
+    public double[] getValues() {
+        return values;
+    }
+
+    public int size() {
+        return timestamps.length;
+    }
+
+    public boolean isEmpty() {
+        return timestamps.length == 0;
+    }
+
+    public long getTimestamp(int index) {
+        return timestamps[index];
+    }
+
+    public double getValue(int index) {
+        return values[index];
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.sinuscosinustan.hetznercloud.objects.general;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.Data;
+import io.github.sinuscosinustan.hetznercloud.deserialize.DateDeserializer;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Metrics with every series decoded into a {@link TimeSeries}, as opposed to the untyped {@link Metrics}.
+ */
+@Data
+public class TypedMetrics {
+
+    @JsonDeserialize(using = DateDeserializer.class)
+    private Date start;
+    @JsonDeserialize(using = DateDeserializer.class)
+    private Date end;
+    private Long step;
+    @JsonProperty("time_series")
+    private Map<String, TimeSeries> timeSeries;
+
+    /**
+     * @param name name of the series, e.g. {@code disk.0.iops.read}
+     * @return the series or an empty series if the response does not contain it
+     */
+    public TimeSeries getSeries(String name) {
+        final TimeSeries series = timeSeries != null ? timeSeries.get(name) : null;
+        return series != null ? series : TimeSeries.empty();
+    }
+
+    @JsonIgnore
+    public TimeSeries getCpu() {
+        return getSeries("cpu");
+    }
+
+    public TimeSeries getDiskIopsRead(int disk) {
+        return getSeries("disk.%d.iops.read".formatted(disk));
+    }
+
+    public TimeSeries getDiskIopsWrite(int disk) {
+        return getSeries("disk.%d.iops.write".formatted(disk));
+    }
+
+    public TimeSeries getDiskBandwidthRead(int disk) {
+        return getSeries("disk.%d.bandwidth.read".formatted(disk));
+    }
+
+    public TimeSeries getDiskBandwidthWrite(int disk) {
+        return getSeries("disk.%d.bandwidth.write".formatted(disk));
+    }
+
+    public TimeSeries getNetworkPpsIn(int network) {
+        return getSeries("network.%d.pps.in".formatted(network));
+    }
+
+    public TimeSeries getNetworkPpsOut(int network) {
+        return getSeries("network.%d.pps.out".formatted(network));
+    }
+
+    public TimeSeries getNetworkBandwidthIn(int network) {
+        return getSeries("network.%d.bandwidth.in".formatted(network));
+    }
+
+    public TimeSeries getNetworkBandwidthOut(int network) {
+        return getSeries("network.%d.bandwidth.out".formatted(network));
+    }
+
+    @JsonIgnore
+    public Instant getStartInstant() {
+        return start != null ? start.toInstant() : null;
+    }
+
+    @JsonIgnore
+    public Instant getEndInstant() {
+        return end != null ? end.toInstant() : null;
+    }
+}
@@ -1,11 +1,13 @@
 package io.github.sinuscosinustan.hetznercloud.objects.general;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lombok.Data;
 import io.github.sinuscosinustan.hetznercloud.deserialize.DateDeserializer;
 import io.github.sinuscosinustan.hetznercloud.objects.enums.ZoneMode;
 
+import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +41,11 @@ public class Zone {
 
     private String registrar;
 
+    @JsonIgnore
+    public Instant getCreatedInstant() {
+        return created != null ? created.toInstant() : null;
+    }
+
     @Data
     public static class PrimaryNameserver {
         private String address;
@@ -0,0 +1,11 @@
+package io.github.sinuscosinustan.hetznercloud.objects.response;
+
+import lombok.Data;
+import io.github.sinuscosinustan.hetznercloud.objects.general.TypedMetrics;
+
+@Data
+public class TypedMetricsResponse {
+
+    private TypedMetrics metrics;
+
+}
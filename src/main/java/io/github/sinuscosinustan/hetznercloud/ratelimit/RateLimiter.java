@@ -0,0 +1,189 @@
+package io.github.sinuscosinustan.hetznercloud.ratelimit;
+
+import io.github.sinuscosinustan.hetznercloud.exception.APIRequestException;
+import io.github.sinuscosinustan.hetznercloud.objects.general.APIError;
+import io.github.sinuscosinustan.hetznercloud.objects.general.APIErrorCode;
+import io.github.sinuscosinustan.hetznercloud.objects.response.APIErrorResponse;
+import okhttp3.Headers;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side token bucket which keeps requests below the API rate limit.
+ * <p>
+ * The bucket starts with the documented default budget of the Hetzner API and is re-seeded from the
+ * {@code RateLimit-Limit}, {@code RateLimit-Remaining} and {@code RateLimit-Reset} headers of every response.
+ * Once the budget is used up, requests are spaced at the refill rate of the API instead of running into
+ * {@code rate_limit_exceeded} errors.
+ * <p>
+ * A single instance can be shared by several API instances which use the same project token.
+ */
+public class RateLimiter {
+
+    /**
+     * Default request budget of a project
+     */
+    public static final long DEFAULT_LIMIT = 3600;
+
+    /**
+     * Default number of requests which are replenished per second
+     */
+    public static final double DEFAULT_REFILL_PER_SECOND = 1.0;
+
+    public enum Mode {
+        /**
+         * Callers wait until a request is available
+         */
+        BLOCK,
+        /**
+         * Callers get an {@link APIRequestException} with {@link APIErrorCode#rate_limit_exceeded} instead of waiting
+         */
+        FAIL_FAST
+    }
+
+    private final Mode mode;
+
+    private double capacity;
+    private double tokens;
+    private double refillPerNano;
+    private long lastRefill;
+
+    /**
+     * UNIX timestamp at which the last reported budget is fully replenished
+     */
+    private long resetEpochSeconds;
+
+    public RateLimiter() {
+        this(Mode.BLOCK);
+    }
+
+    public RateLimiter(Mode mode) {
+        this.mode = mode;
+        this.capacity = DEFAULT_LIMIT;
+        this.tokens = DEFAULT_LIMIT;
+        this.refillPerNano = DEFAULT_REFILL_PER_SECOND / TimeUnit.SECONDS.toNanos(1);
+        this.lastRefill = System.nanoTime();
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Reserve a request without waiting.
+     *
+     * @return nanoseconds the caller has to wait before the request may be sent, 0 if it may be sent right away
+     * @throws APIRequestException in {@link Mode#FAIL_FAST} if no request is available
+     */
+    public synchronized long reserve() {
+        refill(System.nanoTime());
+
+        if (tokens < 1 && mode == Mode.FAIL_FAST) {
+            final long waitMillis = TimeUnit.NANOSECONDS.toMillis((long) Math.ceil((1 - tokens) / refillPerNano));
+            throw exceeded("Client-side rate limit reached, next request is available in %d ms".formatted(waitMillis));
+        }
+
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / refillPerNano);
+    }
+
+    /**
+     * Reserve a request and wait until it may be sent.
+     *
+     * @throws APIRequestException in {@link Mode#FAIL_FAST} if no request is available
+     */
+    public void acquire() {
+        final long waitNanos = reserve();
+        if (waitNanos <= 0) {
+            return;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Seed the bucket from the rate limit headers of a response. Responses without these headers are ignored.
+     *
+     * @param headers response headers
+     */
+    public void update(Headers headers) {
+        final Long limit = parse(headers.get("RateLimit-Limit"));
+        final Long remaining = parse(headers.get("RateLimit-Remaining"));
+        final Long reset = parse(headers.get("RateLimit-Reset"));
+
+        if (limit != null && remaining != null && reset != null) {
+            update(limit, remaining, reset);
+        }
+    }
+
+    /**
+     * Seed the bucket with the budget reported by the API.
+     * <p>
+     * Within the window of the previous update the estimate is only lowered, because requests which are still in
+     * flight are not part of the reported budget yet. Once that window has passed, the reported budget is taken
+     * as it is, also if it is higher than the estimate.
+     *
+     * @param limit total budget
+     * @param remaining remaining budget
+     * @param resetEpochSeconds UNIX timestamp at which the budget is fully replenished
+     */
+    public synchronized void update(long limit, long remaining, long resetEpochSeconds) {
+        refill(System.nanoTime());
+
+        final long nowEpochSeconds = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+        final long secondsUntilReset = resetEpochSeconds - nowEpochSeconds;
+        if (limit > remaining && secondsUntilReset > 0) {
+            refillPerNano = (double) (limit - remaining) / TimeUnit.SECONDS.toNanos(secondsUntilReset);
+        }
+
+        capacity = limit;
+        if (nowEpochSeconds >= this.resetEpochSeconds) {
+            // the previously reported window has passed, so the reported budget is more accurate than the estimate
+            tokens = Math.min(capacity, remaining);
+        } else {
+            // requests which are still in flight are not part of the reported budget yet, so never raise the estimate
+            tokens = Math.min(tokens, remaining);
+        }
+        this.resetEpochSeconds = resetEpochSeconds;
+    }
+
+    /**
+     * @return currently available requests, negative if callers are queued
+     */
+    public synchronized double getAvailableTokens() {
+        refill(System.nanoTime());
+        return tokens;
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+    }
+
+    private static Long parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static APIRequestException exceeded(String message) {
+        final APIError error = new APIError();
+        error.setCode(APIErrorCode.rate_limit_exceeded);
+        error.setMessage(message);
+
+        final APIErrorResponse errorResponse = new APIErrorResponse();
+        errorResponse.setError(error);
+
+        return new APIRequestException(errorResponse);
+    }
+}
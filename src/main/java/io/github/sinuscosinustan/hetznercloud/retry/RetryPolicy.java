@@ -0,0 +1,178 @@
+package io.github.sinuscosinustan.hetznercloud.retry;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.github.sinuscosinustan.hetznercloud.exception.APIRequestException;
+import io.github.sinuscosinustan.hetznercloud.objects.general.APIErrorCode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether a failed request is sent again and how long to wait before doing so.
+ * <p>
+ * Error responses are retried if their {@link APIErrorCode} is one of {@link #getRetryableErrorCodes()}. Error
+ * responses of non-idempotent methods ({@code POST}) are only retried if their code is also one of
+ * {@link #getNonIdempotentRetryableErrorCodes()}, i.e. the API rejected the request before processing it, and
+ * I/O errors are only retried for idempotent methods, because a {@code POST} may already have been processed.
+ * The delay grows exponentially with jitter, a {@code Retry-After} header of the response is honored.
+ * Retrying stops once {@link #getMaxAttempts()} or {@link #getMaxElapsed()} is reached.
+ */
+@Getter
+@Builder
+public class RetryPolicy {
+
+    /**
+     * Error codes that describe a transient condition
+     */
+    public static final Set<APIErrorCode> DEFAULT_RETRYABLE_ERROR_CODES = EnumSet.of(
+            APIErrorCode.rate_limit_exceeded,
+            APIErrorCode.locked,
+            APIErrorCode.conflict,
+            APIErrorCode.timeout,
+            APIErrorCode.unavailable,
+            APIErrorCode.maintenance,
+            APIErrorCode.service_error);
+
+    /**
+     * Error codes which guarantee that the request was rejected before it was processed, so sending a
+     * non-idempotent request again does not duplicate it. A {@code timeout} or {@code service_error} may occur
+     * after the request was already processed.
+     */
+    public static final Set<APIErrorCode> DEFAULT_NON_IDEMPOTENT_RETRYABLE_ERROR_CODES = EnumSet.of(
+            APIErrorCode.rate_limit_exceeded,
+            APIErrorCode.locked,
+            APIErrorCode.conflict,
+            APIErrorCode.maintenance);
+
+    /**
+     * Maximum number of attempts including the first one
+     */
+    @Builder.Default
+    private int maxAttempts = 4;
+
+    /**
+     * Delay before the first retry
+     */
+    @Builder.Default
+    private Duration initialBackoff = Duration.ofMillis(500);
+
+    /**
+     * Upper bound of a single delay
+     */
+    @Builder.Default
+    private Duration maxBackoff = Duration.ofSeconds(30);
+
+    /**
+     * Factor the delay grows by with every attempt
+     */
+    @Builder.Default
+    private double multiplier = 2.0;
+
+    /**
+     * Total time budget for all attempts of a request including delays
+     */
+    @Builder.Default
+    private Duration maxElapsed = Duration.ofMinutes(2);
+
+    /**
+     * Whether I/O errors of idempotent requests are retried
+     */
+    @Builder.Default
+    private boolean retryOnIOException = true;
+
+    @Builder.Default
+    private Set<APIErrorCode> retryableErrorCodes = DEFAULT_RETRYABLE_ERROR_CODES;
+
+    @Builder.Default
+    private Set<APIErrorCode> nonIdempotentRetryableErrorCodes = DEFAULT_NON_IDEMPOTENT_RETRYABLE_ERROR_CODES;
+
+    /**
+     * @return policy with the default settings
+     */
+    public static RetryPolicy defaultPolicy() {
+        return RetryPolicy.builder().build();
+    }
+
+    /**
+     * @return policy which never retries
+     */
+    public static RetryPolicy none() {
+        return RetryPolicy.builder().maxAttempts(1).build();
+    }
+
+    /**
+     * Calculate the delay before the next attempt.
+     *
+     * @param attempt number of the attempt which failed, starting at 1
+     * @param failure the {@link APIRequestException} or {@link IOException} of the failed attempt
+     * @param idempotent whether the request may be sent again after an I/O error or any retryable error code
+     * @param retryAfter value of the {@code Retry-After} header, may be null
+     * @param elapsedNanos time spent on the request so far
+     * @return delay in nanoseconds or -1 if the request must not be retried
+     */
+    public long nextDelayNanos(int attempt, Throwable failure, boolean idempotent, Duration retryAfter, long elapsedNanos) {
+        if (attempt >= maxAttempts || !isRetryable(failure, idempotent)) {
+            return -1;
+        }
+
+        long delay = backoffNanos(attempt);
+        if (retryAfter != null) {
+            delay = Math.max(delay, retryAfter.toNanos());
+        }
+
+        if (elapsedNanos + delay > maxElapsed.toNanos()) {
+            return -1;
+        }
+        return delay;
+    }
+
+    /**
+     * Check whether a failure is transient.
+     *
+     * @param failure the {@link APIRequestException} or {@link IOException} of the failed attempt
+     * @param idempotent whether the request may be sent again after an I/O error or any retryable error code
+     * @return true if the request may be retried
+     */
+    public boolean isRetryable(Throwable failure, boolean idempotent) {
+        if (failure instanceof APIRequestException apiRequestException) {
+            if (apiRequestException.getApiErrorResponse() == null || apiRequestException.getApiErrorResponse().getError() == null) {
+                return false;
+            }
+            final APIErrorCode code = apiRequestException.getApiErrorResponse().getError().getCode();
+            return retryableErrorCodes.contains(code) && (idempotent || nonIdempotentRetryableErrorCodes.contains(code));
+        }
+        // malformed response bodies are not going to change on the next attempt
+        return failure instanceof IOException && !(failure instanceof JsonProcessingException) && retryOnIOException && idempotent;
+    }
+
+    /**
+     * Parse a {@code Retry-After} header given in seconds.
+     *
+     * @param value header value, may be null
+     * @return the duration or null if the header is missing or not a number of seconds
+     */
+    public static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private long backoffNanos(int attempt) {
+        final double exponential = initialBackoff.toNanos() * Math.pow(multiplier, attempt - 1);
+        final long capped = (long) Math.min(exponential, maxBackoff.toNanos());
+
+        // equal jitter: at least half of the delay, the rest is random to spread out concurrent clients
+        final long half = capped / 2;
+        return half + ThreadLocalRandom.current().nextLong(capped - half + 1);
+    }
+}
@@ -0,0 +1,220 @@
+package io.github.sinuscosinustan.hetznercloud.util;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Parser and formatter for the ISO-8601 timestamps used by the API, e.g. {@code 2016-01-30T23:55:00+00:00}.
+ * <p>
+ * Parsing works directly on the characters without intermediate objects. Supported is
+ * {@code yyyy-MM-dd'T'HH:mm[:ss[.fraction]](Z|+HH:mm|+HHmm|+HH)} as well as plain {@code yyyy-MM-dd} dates, which
+ * are interpreted as midnight UTC.
+ */
+public final class ISO8601Util {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private static final int SECONDS_PER_DAY = 86400;
+    private static final int[] DAYS_PER_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private ISO8601Util() {
+    }
+
+    /**
+     * @param text timestamp
+     * @return the parsed timestamp
+     * @throws DateTimeParseException if the text is not a supported ISO-8601 timestamp
+     */
+    public static Instant parse(CharSequence text) {
+        return Instant.ofEpochSecond(parseEpochSecond(text), parseNanos(text));
+    }
+
+    /**
+     * @param text timestamp
+     * @return milliseconds since the epoch
+     * @throws DateTimeParseException if the text is not a supported ISO-8601 timestamp
+     */
+    public static long parseEpochMillis(CharSequence text) {
+        return parseEpochSecond(text) * 1000 + parseNanos(text) / 1_000_000;
+    }
+
+    /**
+     * Formats a timestamp in UTC with second precision, e.g. {@code 2016-01-30T23:55:00Z}.
+     *
+     * @param instant timestamp
+     * @return the formatted timestamp
+     */
+    public static String format(Instant instant) {
+        return FORMATTER.format(instant);
+    }
+
+    private static long parseEpochSecond(CharSequence text) {
+        final int length = text.length();
+        if (length < 10) {
+            throw error(text, length);
+        }
+
+        final int year = digits(text, 0, 4);
+        expect(text, 4, '-');
+        final int month = digits(text, 5, 2);
+        expect(text, 7, '-');
+        final int day = digits(text, 8, 2);
+        if (month < 1 || month > 12) {
+            throw error(text, 5);
+        }
+        if (day < 1 || day > daysInMonth(year, month)) {
+            throw error(text, 8);
+        }
+
+        final long epochDay = epochDay(year, month, day);
+        if (length == 10) {
+            return epochDay * SECONDS_PER_DAY;
+        }
+
+        if (text.charAt(10) != 'T' && text.charAt(10) != 't' && text.charAt(10) != ' ') {
+            throw error(text, 10);
+        }
+        final int hour = digits(text, 11, 2);
+        expect(text, 13, ':');
+        final int minute = digits(text, 14, 2);
+        final int second = hasSeconds(text) ? digits(text, 17, 2) : 0;
+        if (hour > 23) {
+            throw error(text, 11);
+        }
+        if (minute > 59) {
+            throw error(text, 14);
+        }
+        if (second > 59) {
+            throw error(text, 17);
+        }
+
+        return epochDay * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second - offsetSeconds(text, fractionEnd(text));
+    }
+
+    private static int parseNanos(CharSequence text) {
+        if (!hasFraction(text)) {
+            return 0;
+        }
+
+        int nanos = 0;
+        int scale = 100_000_000;
+        for (int i = 20; i < text.length() && isDigit(text.charAt(i)); i++) {
+            nanos += (text.charAt(i) - '0') * scale;
+            scale /= 10;
+        }
+        return nanos;
+    }
+
+    private static boolean hasSeconds(CharSequence text) {
+        return text.length() > 16 && text.charAt(16) == ':';
+    }
+
+    private static boolean hasFraction(CharSequence text) {
+        return hasSeconds(text) && text.length() > 19 && (text.charAt(19) == '.' || text.charAt(19) == ',');
+    }
+
+    private static int fractionEnd(CharSequence text) {
+        if (!hasFraction(text)) {
+            return hasSeconds(text) ? 19 : 16;
+        }
+
+        int i = 20;
+        while (i < text.length() && isDigit(text.charAt(i))) {
+            i++;
+        }
+        if (i == 20) {
+            throw error(text, 20);
+        }
+        return i;
+    }
+
+    private static int offsetSeconds(CharSequence text, int index) {
+        final int length = text.length();
+        if (index >= length) {
+            throw error(text, index);
+        }
+
+        final char sign = text.charAt(index);
+        if (sign == 'Z' || sign == 'z') {
+            if (index + 1 != length) {
+                throw error(text, index + 1);
+            }
+            return 0;
+        }
+        if (sign != '+' && sign != '-') {
+            throw error(text, index);
+        }
+
+        final int hours = digits(text, index + 1, 2);
+        int minutes = 0;
+        int end = index + 3;
+        if (end < length) {
+            if (text.charAt(end) == ':') {
+                end++;
+            }
+            minutes = digits(text, end, 2);
+            end += 2;
+        }
+        if (end != length) {
+            throw error(text, end);
+        }
+        if (hours > 18 || minutes > 59) {
+            throw error(text, index + 1);
+        }
+
+        final int offset = hours * 3600 + minutes * 60;
+        return sign == '-' ? -offset : offset;
+    }
+
+    private static int digits(CharSequence text, int index, int count) {
+        if (index + count > text.length()) {
+            throw error(text, text.length());
+        }
+
+        int value = 0;
+        for (int i = index; i < index + count; i++) {
+            final char c = text.charAt(i);
+            if (!isDigit(c)) {
+                throw error(text, i);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static void expect(CharSequence text, int index, char expected) {
+        if (index >= text.length() || text.charAt(index) != expected) {
+            throw error(text, index);
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int daysInMonth(int year, int month) {
+        if (month == 2 && (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0))) {
+            return 29;
+        }
+        return DAYS_PER_MONTH[month - 1];
+    }
+
+    /**
+     * Days since 1970-01-01 of a date in the proleptic Gregorian calendar
+     */
+    private static long epochDay(int year, int month, int day) {
+        final int y = month <= 2 ? year - 1 : year;
+        final int era = Math.floorDiv(y, 400);
+        final int yearOfEra = y - era * 400;
+        final int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+
+    private static DateTimeParseException error(CharSequence text, int index) {
+        return new DateTimeParseException("Text '%s' is not a valid ISO-8601 timestamp".formatted(text), text, index);
+    }
+}
@@ -0,0 +1,215 @@
+package io.github.sinuscosinustan.hetznercloud.waiter;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.exception.ActionFailedException;
+import io.github.sinuscosinustan.hetznercloud.objects.enums.ActionStatus;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Action;
+import io.github.sinuscosinustan.hetznercloud.objects.response.ActionsResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Waits for many actions at once.
+ * <p>
+ * All outstanding action IDs are polled together with {@code GET /actions?id=...}, in chunks of {@link #MAX_IDS_PER_REQUEST}
+ * IDs per request, on a single scheduler thread. The future of an action completes with the action once its status
+ * is no longer {@code running}, or exceptionally with an {@link ActionFailedException} if it finished with {@code error}.
+ * An action which is missing from the responses of {@link #getMaxMissedPolls()} polls in a row fails with an
+ * {@link IllegalStateException}, e.g. because the ID does not exist.
+ * <p>
+ * Polling only runs while there are outstanding actions. {@link #close()} stops the scheduler and cancels all
+ * outstanding futures, waiting on a closed waiter returns a future failed with a {@link CancellationException}.
+ */
+public class ActionWaiter extends PollingWaiter {
+
+    /**
+     * Maximum number of action IDs per poll request
+     */
+    public static final int MAX_IDS_PER_REQUEST = 50;
+
+    /**
+     * Default interval between two polls
+     */
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * Default number of polls in a row an action may be missing from the response
+     */
+    public static final int DEFAULT_MAX_MISSED_POLLS = 10;
+
+    private final HetznerCloudAPI api;
+    private final int maxMissedPolls;
+    private final Map<Long, Pending> pending = new ConcurrentHashMap<>();
+
+    public ActionWaiter(HetznerCloudAPI api) {
+        this(api, DEFAULT_POLL_INTERVAL);
+    }
+
+    public ActionWaiter(HetznerCloudAPI api, Duration pollInterval) {
+        this(api, pollInterval, DEFAULT_MAX_MISSED_POLLS);
+    }
+
+    /**
+     * @param api            API instance used for polling
+     * @param pollInterval   interval between two polls
+     * @param maxMissedPolls number of successful polls in a row without an action after which its future fails
+     */
+    public ActionWaiter(HetznerCloudAPI api, Duration pollInterval, int maxMissedPolls) {
+        super(pollInterval, "hetznercloud-action-waiter");
+        if (maxMissedPolls < 1) {
+            throw new IllegalArgumentException("maxMissedPolls must be at least 1");
+        }
+        this.api = api;
+        this.maxMissedPolls = maxMissedPolls;
+    }
+
+    /**
+     * Wait for an action.
+     *
+     * @param action the action, e.g. from an {@code ActionResponse}
+     * @return future completed with the finished action
+     */
+    public CompletableFuture<Action> waitFor(Action action) {
+        if (!ActionStatus.running.name().equals(action.getStatus())) {
+            final CompletableFuture<Action> future = new CompletableFuture<>();
+            complete(future, action);
+            return future;
+        }
+        return waitFor(action.getId());
+    }
+
+    /**
+     * Wait for an action by its ID.
+     *
+     * @param actionId ID of the action
+     * @return future completed with the finished action
+     */
+    public CompletableFuture<Action> waitFor(long actionId) {
+        final CompletableFuture<Action> future = pending.computeIfAbsent(actionId, id -> new Pending()).future;
+        if (!startPolling()) {
+            pending.remove(actionId);
+            future.completeExceptionally(new CancellationException("ActionWaiter closed"));
+        }
+        return future;
+    }
+
+    /**
+     * Wait for several actions.
+     *
+     * @param actions the actions, e.g. from an {@code ActionsResponse}
+     * @return future completed with the finished actions in the given order
+     */
+    public CompletableFuture<List<Action>> waitForAll(Collection<Action> actions) {
+        final List<CompletableFuture<Action>> futures = actions.stream().map(this::waitFor).toList();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * @return number of actions which are still polled
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public int getMaxMissedPolls() {
+        return maxMissedPolls;
+    }
+
+    @Override
+    void cancelPending() {
+        pending.values().forEach(entry -> entry.future.completeExceptionally(new CancellationException("ActionWaiter closed")));
+        pending.clear();
+    }
+
+    @Override
+    boolean isIdle() {
+        return pending.isEmpty();
+    }
+
+    @Override
+    void poll() {
+        pending.values().removeIf(entry -> entry.future.isDone());
+
+        final List<Long> ids = new ArrayList<>(pending.keySet());
+        final List<List<Long>> chunks = new ArrayList<>();
+        final List<CompletableFuture<ActionsResponse>> requests = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_REQUEST) {
+            final List<Long> chunk = ids.subList(from, Math.min(from + MAX_IDS_PER_REQUEST, ids.size()));
+            chunks.add(chunk);
+            requests.add(api.async().getActions(chunk));
+        }
+
+        for (int i = 0; i < requests.size(); i++) {
+            final ActionsResponse response;
+            try {
+                response = requests.get(i).join();
+            } catch (RuntimeException e) {
+                // the affected actions stay pending and are polled again with the next run
+                continue;
+            }
+
+            final Set<Long> returned = new HashSet<>();
+            if (response.getActions() != null) {
+                for (Action action : response.getActions()) {
+                    returned.add(action.getId());
+                    update(action);
+                }
+            }
+            for (Long id : chunks.get(i)) {
+                if (!returned.contains(id)) {
+                    missed(id);
+                }
+            }
+        }
+    }
+
+    private void update(Action action) {
+        final Pending entry = pending.get(action.getId());
+        if (entry == null) {
+            return;
+        }
+        entry.misses = 0;
+        if (ActionStatus.running.name().equals(action.getStatus())) {
+            return;
+        }
+
+        pending.remove(action.getId(), entry);
+        complete(entry.future, action);
+    }
+
+    private void missed(long id) {
+        final Pending entry = pending.get(id);
+        if (entry != null && ++entry.misses >= maxMissedPolls) {
+            pending.remove(id, entry);
+            entry.future.completeExceptionally(new IllegalStateException(
+                    "action %s was not returned by %d polls in a row".formatted(id, entry.misses)));
+        }
+    }
+
+    private static void complete(CompletableFuture<Action> future, Action action) {
+        if (ActionStatus.error.name().equals(action.getStatus())) {
+            future.completeExceptionally(new ActionFailedException(action));
+        } else {
+            future.complete(action);
+        }
+    }
+
+    /**
+     * Future of an outstanding action and the number of polls in a row it was missing from, only modified on the
+     * scheduler thread
+     */
+    private static final class Pending {
+        private final CompletableFuture<Action> future = new CompletableFuture<>();
+        private int misses;
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.sinuscosinustan.hetznercloud.waiter;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base class for waiters which poll on a single scheduler thread while something is pending.
+ */
+abstract class PollingWaiter implements AutoCloseable {
+
+    private final Duration pollInterval;
+    private final ScheduledExecutorService scheduler;
+
+    private ScheduledFuture<?> poller;
+    private boolean closed;
+
+    PollingWaiter(Duration pollInterval, String threadName) {
+        this.pollInterval = pollInterval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Polls once. Called on the scheduler thread.
+     */
+    abstract void poll();
+
+    /**
+     * @return true if nothing is pending anymore
+     */
+    abstract boolean isIdle();
+
+    /**
+     * Fails everything which is still pending. Called by {@link #close()}.
+     */
+    abstract void cancelPending();
+
+    /**
+     * Starts polling after one interval unless it is already running. Must be called after something became pending.
+     *
+     * @return false if the waiter is closed, the caller has to fail what it added
+     */
+    synchronized boolean startPolling() {
+        if (closed) {
+            return false;
+        }
+        if (poller == null || poller.isDone()) {
+            poller = scheduler.scheduleWithFixedDelay(this::pollAndStopIfIdle,
+                    pollInterval.toNanos(), pollInterval.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            scheduler.shutdownNow();
+        }
+        cancelPending();
+    }
+
+    private void pollAndStopIfIdle() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            // everything stays pending and is polled again with the next run
+        }
+        stopPollingIfIdle();
+    }
+
+    private synchronized void stopPollingIfIdle() {
+        if (isIdle() && poller != null) {
+            poller.cancel(false);
+            poller = null;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package io.github.sinuscosinustan.hetznercloud.waiter;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Server;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Waits for servers to reach a status, e.g. {@code running} after {@code powerOnServer} or {@code createServer}.
+ * <p>
+ * All watched servers are checked with one listing of the servers per poll (one request per 50 servers) instead of
+ * one {@code getServer} call per server. The listing can be narrowed by a label selector, which then has to match
+ * every watched server. A watched server which is missing from a listing that was requested after the server was
+ * registered fails its future with an {@link IllegalStateException}; listings which were already in flight do not
+ * have to contain it yet.
+ * <p>
+ * Polling only runs while there are outstanding servers. {@link #close()} stops the scheduler and cancels all
+ * outstanding futures.
+ */
+public class ServerStatusWatcher extends PollingWaiter {
+
+    /**
+     * Default interval between two polls
+     */
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(2);
+
+    public static final String STATUS_RUNNING = "running";
+    public static final String STATUS_OFF = "off";
+
+    private final HetznerCloudAPI api;
+    private final String labelSelector;
+    private final Map<Long, Queue<Watch>> watches = new ConcurrentHashMap<>();
+
+    public ServerStatusWatcher(HetznerCloudAPI api) {
+        this(api, null, DEFAULT_POLL_INTERVAL);
+    }
+
+    /**
+     * @param api API instance used for polling
+     * @param labelSelector label selector matching all watched servers, may be null
+     * @param pollInterval interval between two polls
+     */
+    public ServerStatusWatcher(HetznerCloudAPI api, String labelSelector, Duration pollInterval) {
+        super(pollInterval, "hetznercloud-server-status-watcher");
+        this.api = api;
+        this.labelSelector = labelSelector;
+    }
+
+    /**
+     * Wait until a server has status {@code running}.
+     *
+     * @param serverId ID of the server
+     * @return future completed with the server once it is running
+     */
+    public CompletableFuture<Server> waitForRunning(long serverId) {
+        return waitFor(serverId, Set.of(STATUS_RUNNING));
+    }
+
+    /**
+     * Wait until a server has status {@code off}.
+     *
+     * @param serverId ID of the server
+     * @return future completed with the server once it is off
+     */
+    public CompletableFuture<Server> waitForOff(long serverId) {
+        return waitFor(serverId, Set.of(STATUS_OFF));
+    }
+
+    /**
+     * Wait until a server has one of the given statuses.
+     *
+     * @param serverId ID of the server
+     * @param statuses statuses which complete the future
+     * @return future completed with the server once it has one of the statuses
+     */
+    public CompletableFuture<Server> waitFor(long serverId, Set<String> statuses) {
+        final Watch watch = new Watch(Set.copyOf(statuses), new CompletableFuture<>(), System.nanoTime());
+        watches.compute(serverId, (id, queue) -> {
+            final Queue<Watch> current = queue != null ? queue : new ConcurrentLinkedQueue<>();
+            current.add(watch);
+            return current;
+        });
+        if (!startPolling()) {
+            watches.computeIfPresent(serverId, (id, queue) -> {
+                queue.remove(watch);
+                return queue.isEmpty() ? null : queue;
+            });
+            watch.future().completeExceptionally(new CancellationException("ServerStatusWatcher closed"));
+        }
+        return watch.future();
+    }
+
+    /**
+     * @return number of servers which are still watched
+     */
+    public int getPendingCount() {
+        return watches.size();
+    }
+
+    @Override
+    void cancelPending() {
+        watches.values().forEach(queue -> queue.forEach(watch ->
+                watch.future().completeExceptionally(new CancellationException("ServerStatusWatcher closed"))));
+        watches.clear();
+    }
+
+    @Override
+    boolean isIdle() {
+        return watches.isEmpty();
+    }
+
+    @Override
+    void poll() {
+        final long started = System.nanoTime();
+        final List<Server> servers = labelSelector != null ? api.listAllServers(labelSelector) : api.listAllServers();
+        final Map<Long, Server> byId = servers.stream().collect(Collectors.toMap(Server::getId, Function.identity()));
+
+        for (Map.Entry<Long, Queue<Watch>> entry : watches.entrySet()) {
+            final Server server = byId.get(entry.getKey());
+            final Queue<Watch> queue = entry.getValue();
+
+            queue.removeIf(watch -> {
+                if (watch.future().isDone()) {
+                    return true;
+                }
+                if (server == null) {
+                    if (watch.registered() - started >= 0) {
+                        // registered while the listing was in flight, so the listing may predate the server
+                        return false;
+                    }
+                    watch.future().completeExceptionally(new IllegalStateException("server %s does not exist (anymore)".formatted(entry.getKey())));
+                    return true;
+                }
+                if (watch.statuses().contains(server.getStatus())) {
+                    watch.future().complete(server);
+                    return true;
+                }
+                return false;
+            });
+            if (queue.isEmpty()) {
+                watches.computeIfPresent(entry.getKey(), (id, current) -> current.isEmpty() ? null : current);
+            }
+        }
+    }
+
+    /**
+     * @param registered time (System.nanoTime) the watch was registered
+     */
+    private record Watch(Set<String> statuses, CompletableFuture<Server> future, long registered) {
+    }
+}
@@ -3,6 +3,8 @@ package io.github.sinuscosinustan.hetznercloud;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.*;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -53,4 +55,12 @@ public class UrlBuilderTest {
                 .queryParam("key3", true)
                 .toUri()).isEqualTo("http://www.heise.de?key1=value1&key2=1&key3=true");
     }
+
+    @Test
+    void testUrlRepeatedQueryParam() {
+        assertThat(UrlBuilder.from("http://www.heise.de")
+                .queryParams("id", List.of(1, 2, 3))
+                .queryParam("per_page", 50)
+                .toUri()).isEqualTo("http://www.heise.de?id=1&id=2&id=3&per_page=50");
+    }
 }
@@ -0,0 +1,46 @@
+package io.github.sinuscosinustan.hetznercloud.instrumentation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Should map every value into a bucket containing it")
+    void shouldMapValuesIntoMatchingBuckets() {
+        for (long value : new long[]{0, 1, 7, 8, 9, 15, 16, 17, 1_000, 123_456_789, Long.MAX_VALUE / 2}) {
+            int index = LatencyHistogram.indexOf(value);
+
+            assertThat(LatencyHistogram.upperBoundOf(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LatencyHistogram.upperBoundOf(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should report percentiles within the bucket precision")
+    void shouldReportPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(Duration.ofMillis(millis).toNanos());
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(100);
+        assertThat(histogram.getPercentile(0.5).toNanos())
+                .isBetween(Duration.ofMillis(50).toNanos(), Duration.ofMillis(57).toNanos());
+        assertThat(histogram.getPercentile(0.99).toNanos())
+                .isBetween(Duration.ofMillis(99).toNanos(), Duration.ofMillis(100).toNanos());
+        assertThat(histogram.getMax()).isEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    @DisplayName("Should return zero without recorded values")
+    void shouldReturnZeroWhenEmpty() {
+        assertThat(new LatencyHistogram().getPercentile(0.99)).isEqualTo(Duration.ZERO);
+    }
+}
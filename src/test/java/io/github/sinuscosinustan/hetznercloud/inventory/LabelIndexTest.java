@@ -0,0 +1,90 @@
+package io.github.sinuscosinustan.hetznercloud.inventory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LabelIndexTest {
+
+    private LabelIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = LabelIndex.builder()
+                .add(ResourceType.SERVER, 30L, Map.of("tenant", "acme", "env", "prod"))
+                .add(ResourceType.SERVER, 10L, Map.of("tenant", "acme"))
+                .add(ResourceType.SERVER, 20L, Map.of("tenant", "globex"))
+                .add(ResourceType.VOLUME, 5L, Map.of("tenant", "acme"))
+                .add(ResourceType.ZONE, 7L, Map.of("tenant", "acme"))
+                .add(ResourceType.CERTIFICATE, 8L, Map.of())
+                .add(ResourceType.FIREWALL, 9L, null)
+                .add(ResourceType.NETWORK, null, Map.of("tenant", "acme"))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Lookups")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should return sorted IDs per resource type")
+        void shouldReturnSortedIds() {
+            assertThat(index.getIds(ResourceType.SERVER, "tenant", "acme")).containsExactly(10L, 30L);
+            assertThat(index.getIds(ResourceType.SERVER, "tenant")).containsExactly(10L, 20L, 30L);
+            assertThat(index.getIds(ResourceType.NETWORK, "tenant", "acme")).isEmpty();
+            assertThat(index.getIds(ResourceType.SERVER, "missing", "acme")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should find a label across all resource types")
+        void shouldFindAcrossTypes() {
+            Map<ResourceType, long[]> acme = index.find("tenant", "acme");
+
+            assertThat(acme).containsOnlyKeys(ResourceType.SERVER, ResourceType.VOLUME, ResourceType.ZONE);
+            assertThat(acme.get(ResourceType.VOLUME)).containsExactly(5L);
+            assertThat(index.find("env")).containsOnlyKeys(ResourceType.SERVER);
+            assertThat(index.find("tenant", "initech")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should check a single resource with a binary search")
+        void shouldCheckSingleResource() {
+            assertThat(index.contains(ResourceType.SERVER, "tenant", "acme", 30L)).isTrue();
+            assertThat(index.contains(ResourceType.SERVER, "tenant", "acme", 20L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should not expose the internal ID arrays")
+        void shouldCopyIds() {
+            index.getIds(ResourceType.SERVER, "tenant", "acme")[0] = 99L;
+            index.find("tenant", "acme").get(ResourceType.SERVER)[0] = 99L;
+
+            assertThat(index.getIds(ResourceType.SERVER, "tenant", "acme")).containsExactly(10L, 30L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Counts")
+    class CountTests {
+
+        @Test
+        @DisplayName("Should count resources per label value")
+        void shouldCountPerValue() {
+            assertThat(index.count("tenant", "acme")).isEqualTo(4);
+            assertThat(index.countByValue("tenant")).containsExactly(entry("acme", 4), entry("globex", 1));
+            assertThat(index.countByValue(ResourceType.VOLUME, "tenant")).containsExactly(entry("acme", 1));
+        }
+
+        @Test
+        @DisplayName("Should list keys and values")
+        void shouldListKeysAndValues() {
+            assertThat(index.getKeys()).containsExactlyInAnyOrder("tenant", "env");
+            assertThat(index.getValues("tenant")).containsExactlyInAnyOrder("acme", "globex");
+        }
+    }
+}
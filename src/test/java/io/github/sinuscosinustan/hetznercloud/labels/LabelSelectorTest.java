@@ -0,0 +1,105 @@
+package io.github.sinuscosinustan.hetznercloud.labels;
+
+import io.github.sinuscosinustan.hetznercloud.objects.general.Server;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LabelSelectorTest {
+
+    private static final Map<String, String> LABELS = Map.of("env", "prod", "tier", "web", "example.com/team", "core");
+
+    @Nested
+    @DisplayName("Matching")
+    class MatchingTests {
+
+        @ParameterizedTest
+        @CsvSource(delimiter = '|', value = {
+                "env=prod                          | true",
+                "env==prod                         | true",
+                "env=staging                       | false",
+                "env!=prod                         | false",
+                "env != staging                    | true",
+                "missing!=value                    | true",
+                "tier in (web, api)                | true",
+                "tier in (api)                     | false",
+                "missing in (web)                  | false",
+                "tier notin (web)                  | false",
+                "tier notin(api,db)                | true",
+                "missing notin (web)               | true",
+                "env                               | true",
+                "missing                           | false",
+                "!env                              | false",
+                "!missing                          | true",
+                "example.com/team=core,tier in (web),!deprecated | true",
+                "env=prod,tier=api                 | false",
+        })
+        @DisplayName("Should evaluate every operator like the API")
+        void shouldEvaluateOperators(String selector, boolean expected) {
+            assertThat(LabelSelector.parse(selector).matches(LABELS)).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("Should treat missing labels as an empty label set")
+        void shouldHandleMissingLabels() {
+            assertThat(LabelSelector.parse("env!=prod").matches(null)).isTrue();
+            assertThat(LabelSelector.parse("env").matches(null)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should match everything for an empty selector")
+        void shouldMatchEverythingWhenEmpty() {
+            assertThat(LabelSelector.parse(null).isEmpty()).isTrue();
+            assertThat(LabelSelector.parse(" ").matches(LABELS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should filter resources in their original order")
+        void shouldFilterResources() {
+            Server web = new Server();
+            web.setId(1L);
+            web.setLabels(Map.of("env", "prod"));
+            Server db = new Server();
+            db.setId(2L);
+            db.setLabels(Map.of("env", "staging"));
+            Server other = new Server();
+            other.setId(3L);
+            other.setLabels(Map.of("env", "prod", "role", "db"));
+
+            LabelSelector selector = LabelSelector.parse("env=prod");
+
+            assertThat(selector.filter(List.of(web, db, other), Server::getLabels)).containsExactly(web, other);
+            assertThat(List.of(web, db, other).stream().filter(selector.toPredicate(Server::getLabels)))
+                    .containsExactly(web, other);
+        }
+    }
+
+    @Nested
+    @DisplayName("Parsing")
+    class ParsingTests {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"=prod", "env in prod", "env in (prod", "env=prod)", "!", "env prod", "env=prod,"})
+        @DisplayName("Should reject invalid selectors")
+        void shouldRejectInvalidSelectors(String selector) {
+            assertThatThrownBy(() -> LabelSelector.parse(selector))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(selector);
+        }
+
+        @Test
+        @DisplayName("Should report the keys every selected resource has")
+        void shouldReportRequiredKeys() {
+            assertThat(LabelSelector.parse("env=prod,tier in (web),role,!deprecated,team!=core,zone notin (a)")
+                    .getRequiredKeys()).containsExactlyInAnyOrder("env", "tier", "role");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.sinuscosinustan.hetznercloud.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SampleRingBufferTest {
+
+    @Nested
+    @DisplayName("Storage")
+    class StorageTests {
+
+        @Test
+        @DisplayName("Should overwrite the oldest samples when full")
+        void shouldOverwriteOldest() {
+            SampleRingBuffer buffer = new SampleRingBuffer(3);
+            for (int i = 1; i <= 5; i++) {
+                buffer.add(i * 1000L, i);
+            }
+
+            assertThat(buffer.size()).isEqualTo(3);
+            assertThat(buffer.getLatestTimestamp()).isEqualTo(5000L);
+            assertThat(buffer.average(0)).isEqualTo(4.0);
+        }
+
+        @Test
+        @DisplayName("Should ignore samples which are not newer than the latest one")
+        void shouldIgnoreOldSamples() {
+            SampleRingBuffer buffer = new SampleRingBuffer(3);
+
+            assertThat(buffer.add(2000, 1)).isTrue();
+            assertThat(buffer.add(2000, 2)).isFalse();
+            assertThat(buffer.add(1000, 3)).isFalse();
+            assertThat(buffer.size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Windowed Queries")
+    class QueryTests {
+
+        @Test
+        @DisplayName("Should aggregate only samples inside the window")
+        void shouldAggregateWindow() {
+            SampleRingBuffer buffer = new SampleRingBuffer(10);
+            for (int i = 1; i <= 10; i++) {
+                buffer.add(i * 1000L, i * 10);
+            }
+
+            assertThat(buffer.average(6000)).isEqualTo(80.0);
+            assertThat(buffer.max(6000)).isEqualTo(100.0);
+            assertThat(buffer.percentile(0, 0.5)).isEqualTo(50.0);
+            assertThat(buffer.percentile(0, 0.95)).isEqualTo(100.0);
+            assertThat(buffer.percentile(0, 0)).isEqualTo(10.0);
+            assertThat(buffer.average(11000)).isNaN();
+        }
+
+        @Test
+        @DisplayName("Should ignore NaN values")
+        void shouldIgnoreNaN() {
+            SampleRingBuffer buffer = new SampleRingBuffer(4);
+            buffer.add(1000, Double.NaN);
+            buffer.add(2000, 4);
+            buffer.add(3000, Double.NaN);
+            buffer.add(4000, 2);
+
+            assertThat(buffer.average(0)).isEqualTo(3.0);
+            assertThat(buffer.max(0)).isEqualTo(4.0);
+            assertThat(buffer.percentile(0, 1)).isEqualTo(4.0);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.sinuscosinustan.hetznercloud.ratelimit;
+
+import io.github.sinuscosinustan.hetznercloud.exception.APIRequestException;
+import io.github.sinuscosinustan.hetznercloud.objects.general.APIErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private static long inSeconds(long seconds) {
+        return TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) + seconds;
+    }
+
+    @Test
+    @DisplayName("Should not delay requests while budget is available")
+    void shouldNotDelayWithBudget() {
+        RateLimiter limiter = new RateLimiter();
+
+        limiter.update(3600, 100, inSeconds(3500));
+
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.getAvailableTokens()).isLessThan(100);
+    }
+
+    @Test
+    @DisplayName("Should space requests at the refill rate once the budget is used up")
+    void shouldDelayWhenExhausted() {
+        RateLimiter limiter = new RateLimiter(RateLimiter.Mode.BLOCK);
+
+        limiter.update(3600, 0, inSeconds(3600));
+
+        long first = limiter.reserve();
+        long second = limiter.reserve();
+
+        assertThat(first).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("Should fail fast with rate_limit_exceeded once the budget is used up")
+    void shouldFailFastWhenExhausted() {
+        RateLimiter limiter = new RateLimiter(RateLimiter.Mode.FAIL_FAST);
+
+        limiter.update(3600, 0, inSeconds(3600));
+
+        assertThatThrownBy(limiter::reserve)
+                .isInstanceOf(APIRequestException.class)
+                .satisfies(e -> assertThat(((APIRequestException) e).getApiErrorResponse().getError().getCode())
+                        .isEqualTo(APIErrorCode.rate_limit_exceeded));
+    }
+
+    @Test
+    @DisplayName("Should only lower the estimate within the reported window")
+    void shouldNotRaiseWithinWindow() {
+        RateLimiter limiter = new RateLimiter();
+
+        limiter.update(3600, 10, inSeconds(3590));
+        limiter.update(3600, 3000, inSeconds(600));
+
+        assertThat(limiter.getAvailableTokens()).isLessThan(11);
+    }
+
+    @Test
+    @DisplayName("Should take the reported budget once the window has passed")
+    void shouldTrustRemainingAfterReset() {
+        RateLimiter limiter = new RateLimiter();
+
+        limiter.update(3600, 10, inSeconds(-1));
+        limiter.update(3600, 3000, inSeconds(600));
+
+        assertThat(limiter.getAvailableTokens()).isGreaterThanOrEqualTo(3000);
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.sinuscosinustan.hetznercloud.unit;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.exception.ActionFailedException;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Action;
+import io.github.sinuscosinustan.hetznercloud.waiter.ActionWaiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+
+class ActionWaiterTest extends OpenAPIMockServer {
+
+    @Nested
+    @DisplayName("Action Waiter")
+    class ActionWaiterTests {
+
+        @Test
+        @DisplayName("Should poll all actions with a single request")
+        void shouldPollAllActionsTogether() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+
+            wireMockServer.stubFor(get(urlPathEqualTo("/v1/actions"))
+                    .willReturn(aResponse()
+                            .withStatus(200)
+                            .withHeader("Content-Type", "application/json")
+                            .withBody("""
+                                {
+                                  "actions": [
+                                    { "id": 1, "command": "start_server", "status": "success", "progress": 100 },
+                                    { "id": 2, "command": "start_server", "status": "error", "progress": 100,
+                                      "error": { "code": "action_failed", "message": "Action failed" } }
+                                  ]
+                                }
+                                """)));
+
+            try (ActionWaiter waiter = new ActionWaiter(api, Duration.ofMillis(50))) {
+                CompletableFuture<Action> first = waiter.waitFor(1);
+                CompletableFuture<Action> second = waiter.waitFor(2);
+
+                assertThat(first.join().getStatus()).isEqualTo("success");
+                assertThatThrownBy(second::join)
+                        .isInstanceOf(CompletionException.class)
+                        .hasCauseInstanceOf(ActionFailedException.class);
+            }
+
+            wireMockServer.verify(getRequestedFor(urlPathEqualTo("/v1/actions"))
+                    .withQueryParam("id", havingExactly("1", "2")));
+        }
+
+        @Test
+        @DisplayName("Should complete finished actions without polling")
+        void shouldCompleteFinishedActionsImmediately() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            Action action = new Action();
+            action.setId(3L);
+            action.setStatus("success");
+
+            try (ActionWaiter waiter = new ActionWaiter(api)) {
+                assertThat(waiter.waitFor(action).join()).isSameAs(action);
+                assertThat(waiter.getPendingCount()).isZero();
+            }
+        }
+
+        @Test
+        @DisplayName("Should fail actions which are never returned")
+        void shouldFailMissingActions() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            addStub("GET", "/v1/actions", 200, """
+                { "actions": [] }
+                """);
+
+            try (ActionWaiter waiter = new ActionWaiter(api, Duration.ofMillis(20), 3)) {
+                CompletableFuture<Action> future = waiter.waitFor(404);
+
+                assertThatThrownBy(future::join)
+                        .isInstanceOf(CompletionException.class)
+                        .hasCauseInstanceOf(IllegalStateException.class);
+                assertThat(waiter.getPendingCount()).isZero();
+            }
+
+            wireMockServer.verify(3, getRequestedFor(urlPathEqualTo("/v1/actions")));
+        }
+
+        @Test
+        @DisplayName("Should return a failed future after close")
+        void shouldFailAfterClose() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            ActionWaiter waiter = new ActionWaiter(api);
+            waiter.close();
+
+            CompletableFuture<Action> future = waiter.waitFor(1);
+
+            assertThat(future).isCompletedExceptionally();
+            assertThatThrownBy(future::join).isInstanceOf(CancellationException.class);
+            assertThat(waiter.getPendingCount()).isZero();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package io.github.sinuscosinustan.hetznercloud.unit;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.inventory.GraphLoader;
+import io.github.sinuscosinustan.hetznercloud.inventory.ResourceGraph;
+import io.github.sinuscosinustan.hetznercloud.inventory.ResourceType;
+import io.github.sinuscosinustan.hetznercloud.objects.general.LoadBalancer;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Network;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Server;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Volume;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+
+class GraphLoaderTest extends OpenAPIMockServer {
+
+    private static String pagination(int page, int lastPage, int totalEntries) {
+        return """
+            "meta": { "pagination": { "page": %d, "per_page": 50, "next_page": %s, "last_page": %d, "total_entries": %d } }
+            """.formatted(page, page < lastPage ? Integer.toString(page + 1) : "null", lastPage, totalEntries);
+    }
+
+    private void stubTopology() {
+        addStub("GET", "/v1/servers/1", 200, """
+            {
+              "server": {
+                "id": 1,
+                "name": "web-1",
+                "volumes": [10, 11, 12],
+                "load_balancers": [20],
+                "private_net": [{ "network": 5, "ip": "10.0.0.2" }]
+              }
+            }
+            """);
+        addStub("GET", "/v1/servers?page=1&per_page=50", 200, """
+            {
+              "servers": [
+                { "id": 1, "name": "web-1" },
+                { "id": 2, "name": "web-2" },
+                { "id": 3, "name": "db-1" }
+              ],
+              %s
+            }
+            """.formatted(pagination(1, 1, 3)));
+        addStub("GET", "/v1/volumes?page=1&per_page=50", 200, """
+            {
+              "volumes": [
+                { "id": 10, "name": "data-1", "server": 1 },
+                { "id": 11, "name": "data-2", "server": 1 }
+              ],
+              %s
+            }
+            """.formatted(pagination(1, 1, 2)));
+        addStub("GET", "/v1/networks?page=1&per_page=50", 200, """
+            {
+              "networks": [{ "id": 5, "name": "backend", "servers": [1, 2], "load_balancers": [20] }],
+              %s
+            }
+            """.formatted(pagination(1, 1, 1)));
+        addStub("GET", "/v1/load_balancers?page=1&per_page=50", 200, """
+            {
+              "load_balancers": [
+                {
+                  "id": 20,
+                  "name": "frontend",
+                  "private_net": [{ "network": 5, "ip": "10.0.0.5" }],
+                  "targets": [{ "type": "server", "server": { "id": 3 } }]
+                }
+              ],
+              %s
+            }
+            """.formatted(pagination(1, 1, 1)));
+    }
+
+    @Nested
+    @DisplayName("Loading")
+    class LoadingTests {
+
+        @Test
+        @DisplayName("Should resolve the forward references of the resources")
+        void shouldResolveReferences() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubTopology();
+            Server server = api.getServer(1).getServer();
+
+            ResourceGraph graph = new GraphLoader(api).load(List.of(server)).join();
+
+            assertThat(graph.getVolumes(server)).extracting(Volume::getId).containsExactly(10L, 11L);
+            assertThat(graph.getUnresolved(ResourceType.VOLUME)).containsExactly(12L);
+            assertThat(graph.getServer(graph.getVolume(10))).isSameAs(server);
+
+            assertThat(graph.getNetworks(server)).extracting(Network::getName).containsExactly("backend");
+            assertThat(graph.getServers(graph.getNetwork(5))).extracting(Server::getId).containsExactly(1L);
+
+            LoadBalancer loadBalancer = graph.getLoadBalancers(server).get(0);
+            assertThat(graph.getNetworks(loadBalancer)).containsExactly(graph.getNetwork(5));
+            assertThat(graph.getTargetServers(loadBalancer)).extracting(Server::getName).containsExactly("db-1");
+
+            assertThat(graph.getServer(2)).isNull();
+            assertThat(graph.size()).isEqualTo(6);
+
+            wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/volumes")));
+            wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/servers")));
+            wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/networks")));
+            wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/load_balancers")));
+            wireMockServer.verify(0, getRequestedFor(urlPathMatching("/v1/(volumes|networks|load_balancers)/.*")));
+        }
+
+        @Test
+        @DisplayName("Should follow back-references if enabled")
+        void shouldFollowBackReferences() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubTopology();
+            Server server = api.getServer(1).getServer();
+
+            ResourceGraph graph = new GraphLoader(api, GraphLoader.DEFAULT_MAX_DEPTH, true).load(List.of(server)).join();
+
+            assertThat(graph.getServers(graph.getNetwork(5))).extracting(Server::getId).containsExactly(1L, 2L);
+            assertThat(graph.getLoadBalancers(graph.getNetwork(5))).extracting(LoadBalancer::getName).containsExactly("frontend");
+            assertThat(graph.size()).isEqualTo(7);
+
+            wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/servers")));
+            wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/load_balancers")));
+        }
+
+        @Test
+        @DisplayName("Should fetch missing IDs one by one if there are fewer than remaining pages")
+        void shouldFetchByIdBelowPageCount() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            addStub("GET", "/v1/volumes?page=1&per_page=50", 200, """
+                {
+                  "volumes": [
+                    { "id": 100, "name": "data-100", "server": 1 },
+                    { "id": 999, "name": "unrelated", "server": null }
+                  ],
+                  %s
+                }
+                """.formatted(pagination(1, 5, 250)));
+            addStub("GET", "/v1/volumes/101", 200, """
+                { "volume": { "id": 101, "name": "data-101", "server": 1 } }
+                """);
+            addStub("GET", "/v1/volumes/102", 404, """
+                { "error": { "code": "not_found", "message": "volume with ID '102' not found" } }
+                """);
+            Server server = new Server();
+            server.setId(1L);
+            server.setVolumes(List.of(100L, 101L, 102L));
+
+            ResourceGraph graph = new GraphLoader(api).load(List.of(server)).join();
+
+            assertThat(graph.getVolumes(server)).extracting(Volume::getId).containsExactly(100L, 101L);
+            assertThat(graph.getVolume(999)).isNull();
+            assertThat(graph.getUnresolved(ResourceType.VOLUME)).containsExactly(102L);
+
+            wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/volumes")));
+            wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/volumes/101")));
+            wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/volumes/102")));
+        }
+
+        @Test
+        @DisplayName("Should list the remaining pages if there are at least as many missing IDs")
+        void shouldListRemainingPagesAtPageCount() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            for (int page = 1; page <= 3; page++) {
+                addStub("GET", "/v1/volumes?page=%d&per_page=50".formatted(page), 200, """
+                    {
+                      "volumes": [{ "id": %d, "name": "data-%d", "server": 1 }],
+                      %s
+                    }
+                    """.formatted(99 + page, 99 + page, pagination(page, 3, 3)));
+            }
+            Server server = new Server();
+            server.setId(1L);
+            server.setVolumes(List.of(100L, 101L, 102L, 103L));
+
+            ResourceGraph graph = new GraphLoader(api).load(List.of(server)).join();
+
+            assertThat(graph.getVolumes(server)).extracting(Volume::getId).containsExactly(100L, 101L, 102L);
+            assertThat(graph.getUnresolved(ResourceType.VOLUME)).containsExactly(103L);
+
+            wireMockServer.verify(3, getRequestedFor(urlPathEqualTo("/v1/volumes")));
+            for (int page = 1; page <= 3; page++) {
+                wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/volumes"))
+                        .withQueryParam("page", equalTo(Integer.toString(page))));
+            }
+            wireMockServer.verify(0, getRequestedFor(urlPathMatching("/v1/volumes/.*")));
+        }
+
+        @Test
+        @DisplayName("Should stop after the maximum depth")
+        void shouldStopAtMaxDepth() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubTopology();
+            Server server = new Server();
+            server.setId(1L);
+            server.setLoadBalancers(List.of(20L));
+
+            ResourceGraph graph = new GraphLoader(api, 1).load(List.of(server)).join();
+
+            assertThat(graph.getLoadBalancers(server)).hasSize(1);
+            assertThat(graph.getTargetServers(graph.getLoadBalancer(20))).isEmpty();
+            assertThat(graph.getNetworks(graph.getLoadBalancer(20))).isEmpty();
+            wireMockServer.verify(0, getRequestedFor(urlPathEqualTo("/v1/servers")));
+        }
+
+        @Test
+        @DisplayName("Should reject unsupported resource classes")
+        void shouldRejectUnsupportedClasses() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+
+            assertThatThrownBy(() -> new GraphLoader(api).load(List.of("server")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.sinuscosinustan.hetznercloud.unit;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+
+class HetznerCloudAPIBuilderTest extends OpenAPIMockServer {
+
+    @Nested
+    @DisplayName("Builder")
+    class BuilderTests {
+
+        @Test
+        @DisplayName("Should build a working instance with tuned client")
+        void shouldBuildTunedInstance() {
+            HetznerCloudAPI api = HetznerCloudAPI.builder()
+                    .token("test-token")
+                    .apiUrl(getMockApiUrl())
+                    .userAgentPrefix("my-tool/1.0")
+                    .connectionPool(32, Duration.ofMinutes(5))
+                    .dispatcher(128, 64)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .readTimeout(Duration.ofSeconds(10))
+                    .longRunningTimeout(Duration.ofMinutes(2))
+                    .http2(false)
+                    .pageParallelism(8)
+                    .build();
+
+            addStub("GET", "/v1/servers/42", 200, """
+                {
+                  "server": { "id": 42, "name": "server-42" }
+                }
+                """);
+
+            assertThat(api.getServer(42).getServer().getName()).isEqualTo("server-42");
+            wireMockServer.verify(getRequestedFor(urlPathEqualTo("/v1/servers/42"))
+                    .withHeader("User-Agent", matching("my-tool/1\\.0 sinuscosinustan-hetznercloud-java/.*")));
+        }
+
+        @Test
+        @DisplayName("Should apply optional features from the builder")
+        void shouldApplyOptionalFeatures() {
+            HetznerCloudAPI api = HetznerCloudAPI.builder()
+                    .token("test-token")
+                    .apiUrl(getMockApiUrl())
+                    .rateLimiter(null)
+                    .retryPolicy(null)
+                    .requestCoalescing(false)
+                    .build();
+
+            assertThat(api.getRateLimiter()).isNull();
+            assertThat(api.getRetryPolicy().getMaxAttempts()).isEqualTo(1);
+            assertThat(api.isRequestCoalescing()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should validate the token")
+        void shouldValidateToken() {
+            assertThatThrownBy(() -> HetznerCloudAPI.builder().build())
+                    .isInstanceOf(RuntimeException.class)
+                    .hasMessage("no Hetzner cloud token provided");
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.sinuscosinustan.hetznercloud.unit;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.exception.APIRequestException;
+import io.github.sinuscosinustan.hetznercloud.objects.response.LocationResponse;
+import io.github.sinuscosinustan.hetznercloud.objects.response.ServersResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HetznerCloudAsyncAPITest extends OpenAPIMockServer {
+
+    @Nested
+    @DisplayName("Async Requests")
+    class AsyncRequestTests {
+
+        @Test
+        @DisplayName("Should complete future with deserialized response")
+        void shouldCompleteFutureWithResponse() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+
+            ServersResponse response = api.async().getServers().join();
+
+            assertThat(response).isNotNull();
+            assertThat(response.getServers()).isNotNull();
+            assertThat(response.getMeta().getPagination().getPage()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("Should run multiple requests concurrently")
+        void shouldRunMultipleRequestsConcurrently() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+
+            addStub("GET", "/v1/locations/1", 200, """
+                {
+                  "location": {
+                    "id": 1,
+                    "name": "fsn1",
+                    "network_zone": "eu-central"
+                  }
+                }
+                """);
+
+            CompletableFuture<LocationResponse> first = api.async().getLocation(1);
+            CompletableFuture<LocationResponse> second = api.async().getLocation(1);
+
+            assertThat(first.join().getLocation().getName()).isEqualTo("fsn1");
+            assertThat(second.join().getLocation().getName()).isEqualTo("fsn1");
+        }
+
+        @Test
+        @DisplayName("Should complete future exceptionally with APIRequestException")
+        void shouldCompleteExceptionallyOnError() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+
+            addStub("GET", "/v1/servers/42", 404, """
+                {
+                  "error": {
+                    "code": "not_found",
+                    "message": "server not found"
+                  }
+                }
+                """);
+
+            assertThatThrownBy(() -> api.async().getServer(42).join())
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(APIRequestException.class);
+        }
+    }
+}
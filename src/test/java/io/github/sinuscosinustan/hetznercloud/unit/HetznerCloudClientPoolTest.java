@@ -0,0 +1,125 @@
+package io.github.sinuscosinustan.hetznercloud.unit;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudClientPool;
+import io.github.sinuscosinustan.hetznercloud.exception.APIRequestException;
+import io.github.sinuscosinustan.hetznercloud.objects.response.ServerResponse;
+import io.github.sinuscosinustan.hetznercloud.ratelimit.RateLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+
+class HetznerCloudClientPoolTest extends OpenAPIMockServer {
+
+    private HetznerCloudClientPool createPool() {
+        return new HetznerCloudClientPool(HetznerCloudAPI.builder().apiUrl(getMockApiUrl()));
+    }
+
+    private void stubServer(String token, int status, String body) {
+        wireMockServer.stubFor(get(urlPathEqualTo("/v1/servers/1"))
+                .withHeader("Authorization", equalTo("Bearer " + token))
+                .willReturn(aResponse()
+                        .withStatus(status)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(body)));
+    }
+
+    @Nested
+    @DisplayName("Projects")
+    class ProjectTests {
+
+        @Test
+        @DisplayName("Should send the token of the addressed project")
+        void shouldUseProjectToken() {
+            HetznerCloudClientPool pool = createPool();
+            pool.register("staging", "token-staging");
+            pool.register("production", "token-production");
+
+            stubServer("token-staging", 200, """
+                { "server": { "id": 1, "name": "staging-1" } }
+                """);
+            stubServer("token-production", 200, """
+                { "server": { "id": 1, "name": "production-1" } }
+                """);
+
+            assertThat(pool.get("staging").getServer(1).getServer().getName()).isEqualTo("staging-1");
+            assertThat(pool.get("production").getServer(1).getServer().getName()).isEqualTo("production-1");
+            assertThat(pool.getProjects()).containsExactly("production", "staging");
+        }
+
+        @Test
+        @DisplayName("Should keep one rate limiter per token")
+        void shouldShareRateLimiterPerToken() {
+            HetznerCloudClientPool pool = new HetznerCloudClientPool(HetznerCloudAPI.builder()
+                    .apiUrl(getMockApiUrl())
+                    .rateLimiter(new RateLimiter()));
+            pool.register("a", "token-1");
+            pool.register("b", "token-1");
+            pool.register("c", "token-2");
+
+            assertThat(pool.getRateLimiter("a")).isSameAs(pool.getRateLimiter("b"));
+            assertThat(pool.getRateLimiter("a")).isNotSameAs(pool.getRateLimiter("c"));
+        }
+
+        @Test
+        @DisplayName("Should drop the rate limiter of a token once its last project is removed")
+        void shouldReleaseRateLimiterOfToken() {
+            HetznerCloudClientPool pool = new HetznerCloudClientPool(HetznerCloudAPI.builder()
+                    .apiUrl(getMockApiUrl())
+                    .rateLimiter(new RateLimiter()));
+            pool.register("a", "token-1");
+            pool.register("b", "token-1");
+            RateLimiter rateLimiter = pool.getRateLimiter("a");
+
+            pool.unregister("a");
+            pool.register("c", "token-1");
+            assertThat(pool.getRateLimiter("c")).isSameAs(rateLimiter);
+
+            pool.unregister("b");
+            pool.unregister("c");
+            pool.register("d", "token-1");
+            assertThat(pool.getRateLimiter("d")).isNotSameAs(rateLimiter);
+        }
+
+        @Test
+        @DisplayName("Should reject unknown projects")
+        void shouldRejectUnknownProject() {
+            HetznerCloudClientPool pool = createPool();
+
+            assertThatThrownBy(() -> pool.get("missing"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Fan-out")
+    class FanOutTests {
+
+        @Test
+        @DisplayName("Should merge results and failures per project")
+        void shouldMergeResultsPerProject() {
+            HetznerCloudClientPool pool = createPool();
+            pool.register("staging", "token-staging");
+            pool.register("production", "token-production");
+
+            stubServer("token-staging", 200, """
+                { "server": { "id": 1, "name": "staging-1" } }
+                """);
+            stubServer("token-production", 404, """
+                { "error": { "code": "not_found", "message": "server not found" } }
+                """);
+
+            HetznerCloudClientPool.FanOutResult<ServerResponse> result = pool.fanOut(api -> api.getServer(1)).join();
+
+            assertThat(result.isSuccessful()).isFalse();
+            assertThat(result.getResults()).containsOnlyKeys("staging");
+            assertThat(result.getResults().get("staging").getServer().getName()).isEqualTo("staging-1");
+            assertThat(result.getFailures()).containsOnlyKeys("production");
+            assertThat(result.getFailures().get("production")).isInstanceOf(APIRequestException.class);
+            assertThat(pool.getLatencyRecorder().getHistogram("GET /servers/{id}").getCount()).isEqualTo(2);
+        }
+    }
+}
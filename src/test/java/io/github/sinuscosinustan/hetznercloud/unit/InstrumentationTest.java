@@ -0,0 +1,118 @@
+package io.github.sinuscosinustan.hetznercloud.unit;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.exception.APIRequestException;
+import io.github.sinuscosinustan.hetznercloud.instrumentation.LatencyHistogramRecorder;
+import io.github.sinuscosinustan.hetznercloud.instrumentation.RequestEvent;
+import io.github.sinuscosinustan.hetznercloud.ratelimit.RateLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InstrumentationTest extends OpenAPIMockServer {
+
+    @Nested
+    @DisplayName("Request Listeners")
+    class RequestListenerTests {
+
+        @Test
+        @DisplayName("Should emit an event with endpoint template, status and size")
+        void shouldEmitEvents() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            List<RequestEvent> events = new CopyOnWriteArrayList<>();
+            api.addRequestListener(events::add);
+
+            addStub("GET", "/v1/servers/42", 200, """
+                {
+                  "server": { "id": 42, "name": "server-42" }
+                }
+                """);
+
+            api.getServer(42);
+
+            assertThat(events).hasSize(1);
+            RequestEvent event = events.get(0);
+            assertThat(event.getEndpoint()).isEqualTo("/servers/{id}");
+            assertThat(event.getMethod()).isEqualTo("GET");
+            assertThat(event.getStatus()).isEqualTo(200);
+            assertThat(event.getResponseBytes()).isPositive();
+            assertThat(event.getAttempt()).isEqualTo(1);
+            assertThat(event.isSuccessful()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should record latencies and failures per endpoint")
+        void shouldRecordLatencies() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            LatencyHistogramRecorder recorder = new LatencyHistogramRecorder();
+            api.addRequestListener(recorder);
+
+            addStub("GET", "/v1/servers/1", 200, """
+                {
+                  "server": { "id": 1, "name": "server-1" }
+                }
+                """);
+            addStub("GET", "/v1/servers/2", 404, """
+                {
+                  "error": { "code": "not_found", "message": "server not found" }
+                }
+                """);
+
+            api.getServer(1);
+            assertThatThrownBy(() -> api.getServer(2)).isInstanceOf(APIRequestException.class);
+
+            assertThat(recorder.getEndpoints()).containsExactly("GET /servers/{id}");
+            assertThat(recorder.getHistogram("GET /servers/{id}").getCount()).isEqualTo(2);
+            assertThat(recorder.getFailureCount("GET /servers/{id}")).isEqualTo(1);
+            assertThat(recorder.getPercentile("GET /servers/{id}", 0.99)).isPositive();
+        }
+
+        @Test
+        @DisplayName("Should collapse RRSet names and types in the endpoint template")
+        void shouldCollapseRRSetPath() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            List<RequestEvent> events = new CopyOnWriteArrayList<>();
+            api.addRequestListener(events::add);
+
+            addStub("GET", "/v1/zones/42/rrsets/www/A", 200, """
+                {
+                  "rrset": { "id": "www/A", "name": "www", "type": "A", "zone": 42 }
+                }
+                """);
+
+            api.getRRSet(42, "www/A");
+
+            assertThat(events).extracting(RequestEvent::getEndpoint).containsExactly("/zones/{id}/rrsets/{name}/{type}");
+        }
+
+        @Test
+        @DisplayName("Should report requests rejected by the rate limiter")
+        void shouldReportRateLimitRejections() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            RateLimiter limiter = new RateLimiter(RateLimiter.Mode.FAIL_FAST);
+            limiter.update(3600, 0, Instant.now().plusSeconds(3600).getEpochSecond());
+            api.setRateLimiter(limiter);
+            List<RequestEvent> events = new CopyOnWriteArrayList<>();
+            api.addRequestListener(events::add);
+
+            assertThatThrownBy(() -> api.getServer(1)).isInstanceOf(APIRequestException.class);
+            assertThatThrownBy(() -> api.async().getServer(1).join())
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(APIRequestException.class);
+
+            assertThat(events).hasSize(2).allSatisfy(event -> {
+                assertThat(event.getEndpoint()).isEqualTo("/servers/{id}");
+                assertThat(event.getStatus()).isZero();
+                assertThat(event.isSuccessful()).isFalse();
+                assertThat(event.getFailure()).isInstanceOf(APIRequestException.class);
+            });
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package io.github.sinuscosinustan.hetznercloud.unit;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.inventory.InventoryMirror;
+import io.github.sinuscosinustan.hetznercloud.inventory.InventorySnapshot;
+import io.github.sinuscosinustan.hetznercloud.inventory.ResourceType;
+import io.github.sinuscosinustan.hetznercloud.labels.LabelSelector;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Image;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Server;
+import io.github.sinuscosinustan.hetznercloud.objects.request.CreateServerRequest;
+import io.github.sinuscosinustan.hetznercloud.objects.request.UpdateServerRequest;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.concurrent.CompletionException;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+
+class InventoryMirrorTest extends OpenAPIMockServer {
+
+    private static final String[] ENDPOINTS = {
+            "volumes", "networks", "floating_ips", "primary_ips", "load_balancers", "firewalls",
+            "certificates", "placement_groups", "ssh_keys", "images", "zones"
+    };
+
+    private String server(long id, String name, String env, String location) {
+        return """
+            { "id": %d, "name": "%s", "labels": { "env": "%s" }, "datacenter": { "name": "%s-dc1", "location": { "name": "%s" } } }
+            """.formatted(id, name, env, location, location);
+    }
+
+    private void stubInventory(String... servers) {
+        addStub("GET", "/v1/servers?page=1&per_page=50", 200, """
+            {
+              "servers": [%s],
+              "meta": { "pagination": { "page": 1, "per_page": 50, "next_page": null, "last_page": 1, "total_entries": %d } }
+            }
+            """.formatted(String.join(", ", servers), servers.length));
+        for (String endpoint : ENDPOINTS) {
+            addStub("GET", "/v1/" + endpoint + "?page=1&per_page=50", 200, """
+                {
+                  "%s": [],
+                  "meta": { "pagination": { "page": 1, "per_page": 50, "next_page": null, "last_page": 1, "total_entries": 0 } }
+                }
+                """.formatted(endpoint));
+        }
+    }
+
+    @Nested
+    @DisplayName("Refresh")
+    class RefreshTests {
+
+        @Test
+        @DisplayName("Should index the listed resources by ID, name, label and location")
+        void shouldIndexResources() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubInventory(server(1, "web-1", "prod", "fsn1"), server(2, "web-2", "prod", "nbg1"),
+                    server(3, "db-1", "staging", "fsn1"));
+
+            try (InventoryMirror mirror = new InventoryMirror(api)) {
+                InventorySnapshot snapshot = mirror.refresh().join();
+
+                assertThat(snapshot.getServers().size()).isEqualTo(3);
+                assertThat(snapshot.getServers().get(2).getName()).isEqualTo("web-2");
+                assertThat(snapshot.getServers().getByName("db-1").getId()).isEqualTo(3L);
+                assertThat(snapshot.getServers().withLabel("env", "prod")).extracting(Server::getId).containsExactly(1L, 2L);
+                assertThat(snapshot.getServers().withLabel("env")).hasSize(3);
+                assertThat(snapshot.getServers().inLocation("fsn1")).extracting(Server::getId).containsExactly(1L, 3L);
+                assertThat(snapshot.getServers().select(LabelSelector.parse("env=prod,!missing")))
+                        .extracting(Server::getId).containsExactly(1L, 2L);
+                assertThat(snapshot.getServers().select(LabelSelector.parse("env!=prod")))
+                        .extracting(Server::getId).containsExactly(3L);
+                assertThat(snapshot.getVolumes().size()).isZero();
+                assertThat(snapshot.getLabelIndex().getIds(ResourceType.SERVER, "env", "prod")).containsExactly(1L, 2L);
+                assertThat(snapshot.getLabelIndex().countByValue("env")).containsEntry("staging", 1);
+                assertThat(mirror.snapshot()).isSameAs(snapshot);
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep earlier snapshots unchanged")
+        void shouldKeepEarlierSnapshots() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubInventory(server(1, "web-1", "prod", "fsn1"));
+
+            try (InventoryMirror mirror = new InventoryMirror(api)) {
+                InventorySnapshot first = mirror.refresh().join();
+
+                stubInventory(server(1, "web-1", "prod", "fsn1"), server(2, "web-2", "prod", "fsn1"));
+                InventorySnapshot second = mirror.refresh().join();
+
+                assertThat(first.getServers().size()).isEqualTo(1);
+                assertThat(second.getServers().size()).isEqualTo(2);
+                assertThat(second.getVersion()).isGreaterThan(first.getVersion());
+            }
+        }
+
+        @Test
+        @DisplayName("Should only list the default types")
+        void shouldListDefaultTypes() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubInventory(server(1, "web-1", "prod", "fsn1"));
+
+            try (InventoryMirror mirror = new InventoryMirror(api)) {
+                InventorySnapshot snapshot = mirror.refresh().join();
+
+                assertThat(mirror.getTypes()).isEqualTo(InventoryMirror.DEFAULT_TYPES);
+                assertThat(snapshot.getServers().size()).isEqualTo(1);
+                assertThat(snapshot.getZones().size()).isZero();
+                assertThatThrownBy(() -> mirror.refresh(ResourceType.ZONE)).isInstanceOf(IllegalArgumentException.class);
+            }
+
+            wireMockServer.verify(0, getRequestedFor(urlPathEqualTo("/v1/images")));
+            wireMockServer.verify(0, getRequestedFor(urlPathEqualTo("/v1/zones")));
+        }
+
+        @Test
+        @DisplayName("Should only list snapshots and backups")
+        void shouldListProjectImages() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            addStub("GET", "/v1/images?type=snapshot&page=1&per_page=50", 200, """
+                {
+                  "images": [{ "id": 31, "type": "snapshot", "description": "web-snapshot", "labels": { "env": "prod" } }],
+                  "meta": { "pagination": { "page": 1, "per_page": 50, "next_page": null, "last_page": 1, "total_entries": 1 } }
+                }
+                """);
+            addStub("GET", "/v1/images?type=backup&page=1&per_page=50", 200, """
+                {
+                  "images": [{ "id": 32, "type": "backup", "description": "web-backup", "labels": {} }],
+                  "meta": { "pagination": { "page": 1, "per_page": 50, "next_page": null, "last_page": 1, "total_entries": 1 } }
+                }
+                """);
+
+            try (InventoryMirror mirror = new InventoryMirror(api, InventoryMirror.DEFAULT_REFRESH_INTERVAL,
+                    EnumSet.of(ResourceType.IMAGE))) {
+                InventorySnapshot snapshot = mirror.refresh().join();
+
+                assertThat(snapshot.getImages().size()).isEqualTo(2);
+                assertThat(snapshot.getImages().withLabel("env", "prod")).extracting(Image::getId).containsExactly(31L);
+            }
+
+            wireMockServer.verify(2, getRequestedFor(urlPathEqualTo("/v1/images")));
+            wireMockServer.verify(0, getRequestedFor(urlPathEqualTo("/v1/images")).withQueryParam("type", equalTo("system")));
+        }
+
+        @Test
+        @DisplayName("Should keep the other types when one type fails")
+        void shouldTolerateFailingType() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubInventory(server(1, "web-1", "prod", "fsn1"));
+            addStub("GET", "/v1/zones?page=1&per_page=50", 403, """
+                { "error": { "code": "forbidden", "message": "insufficient permissions" } }
+                """);
+
+            try (InventoryMirror mirror = new InventoryMirror(api, InventoryMirror.DEFAULT_REFRESH_INTERVAL,
+                    EnumSet.of(ResourceType.SERVER, ResourceType.ZONE))) {
+                InventorySnapshot snapshot = mirror.refresh().join();
+
+                assertThat(snapshot.getServers().size()).isEqualTo(1);
+                assertThat(snapshot.getZones().size()).isZero();
+                assertThatThrownBy(() -> mirror.refresh(ResourceType.ZONE).join()).isInstanceOf(CompletionException.class);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Write-Through")
+    class WriteThroughTests {
+
+        @Test
+        @DisplayName("Should remove a deleted server right away")
+        void shouldRemoveDeletedServer() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubInventory(server(1, "web-1", "prod", "fsn1"), server(2, "web-2", "prod", "fsn1"));
+            addStub("DELETE", "/v1/servers/1", 200, """
+                { "action": { "id": 13, "command": "delete_server", "status": "running" } }
+                """);
+
+            try (InventoryMirror mirror = new InventoryMirror(api)) {
+                mirror.refresh().join();
+                api.deleteServer(1);
+
+                assertThat(mirror.snapshot().getServers().get(1)).isNull();
+                assertThat(mirror.snapshot().getServers().withLabel("env", "prod")).extracting(Server::getId).containsExactly(2L);
+            }
+        }
+
+        @Test
+        @DisplayName("Should apply an updated server from the response")
+        void shouldApplyUpdatedServer() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubInventory(server(1, "web-1", "prod", "fsn1"));
+            addStub("PUT", "/v1/servers/1", 200, "{ \"server\": " + server(1, "web-1", "staging", "fsn1") + " }");
+
+            try (InventoryMirror mirror = new InventoryMirror(api)) {
+                mirror.refresh().join();
+                api.updateServer(1, UpdateServerRequest.builder().label("env", "staging").build());
+
+                assertThat(mirror.snapshot().getServers().withLabel("env", "staging")).extracting(Server::getId).containsExactly(1L);
+                assertThat(mirror.snapshot().getServers().withLabel("env", "prod")).isEmpty();
+            }
+
+            wireMockServer.verify(0, getRequestedFor(urlPathEqualTo("/v1/servers/1")));
+        }
+
+        @Test
+        @DisplayName("Should add a created server from the response")
+        void shouldAddCreatedServer() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubInventory(server(1, "web-1", "prod", "fsn1"));
+            addStub("POST", "/v1/servers", 201, """
+                {
+                  "server": %s,
+                  "action": { "id": 14, "command": "create_server", "status": "success" },
+                  "next_actions": []
+                }
+                """.formatted(server(7, "web-7", "prod", "nbg1")));
+
+            try (InventoryMirror mirror = new InventoryMirror(api)) {
+                mirror.refresh().join();
+                api.createServer(CreateServerRequest.builder().name("web-7").serverType("cpx11").image("ubuntu-24.04").build());
+
+                assertThat(mirror.snapshot().getServers().getByName("web-7").getId()).isEqualTo(7L);
+                assertThat(mirror.snapshot().getServers().inLocation("nbg1")).extracting(Server::getId).containsExactly(7L);
+            }
+
+            wireMockServer.verify(0, getRequestedFor(urlPathEqualTo("/v1/servers/7")));
+        }
+
+        @Test
+        @DisplayName("Should re-fetch a server after its action finished")
+        void shouldRefetchAfterAction() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubInventory(server(1, "web-1", "prod", "fsn1"));
+            addStub("POST", "/v1/servers/1/actions/poweroff", 201, """
+                { "action": { "id": 15, "command": "stop_server", "status": "running" } }
+                """);
+            addStub("GET", "/v1/actions?id=15", 200, """
+                { "actions": [{ "id": 15, "command": "stop_server", "status": "success", "progress": 100 }] }
+                """);
+            addStub("GET", "/v1/servers/1", 200, "{ \"server\": " + server(1, "web-1", "staging", "fsn1") + " }");
+
+            try (InventoryMirror mirror = new InventoryMirror(api)) {
+                mirror.refresh().join();
+                api.powerOffServer(1);
+
+                assertThat(mirror.snapshot().getServers().withLabel("env", "prod")).hasSize(1);
+                Awaitility.await().until(() -> !mirror.snapshot().getServers().withLabel("env", "staging").isEmpty());
+            }
+
+            wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/actions")));
+            wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/servers/1")));
+        }
+    }
+}
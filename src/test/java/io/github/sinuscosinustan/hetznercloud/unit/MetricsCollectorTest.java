@@ -0,0 +1,96 @@
+package io.github.sinuscosinustan.hetznercloud.unit;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.metrics.MetricsCollector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+
+class MetricsCollectorTest extends OpenAPIMockServer {
+
+    private void stubServers(long... ids) {
+        StringBuilder servers = new StringBuilder();
+        for (long id : ids) {
+            if (!servers.isEmpty()) {
+                servers.append(", ");
+            }
+            servers.append("{ \"id\": %d, \"name\": \"server-%d\" }".formatted(id, id));
+        }
+        addStub("GET", "/v1/servers?page=1&per_page=50", 200, """
+            {
+              "servers": [%s],
+              "meta": { "pagination": { "page": 1, "per_page": 50, "next_page": null, "last_page": 1, "total_entries": %d } }
+            }
+            """.formatted(servers, ids.length));
+    }
+
+    private void stubCpu(long serverId, double... values) {
+        long now = System.currentTimeMillis() / 1000;
+        StringBuilder points = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                points.append(", ");
+            }
+            points.append("[%d, \"%s\"]".formatted(now - (values.length - i) * 60L, values[i]));
+        }
+        addStub("GET", "/v1/servers/" + serverId + "/metrics", 200, """
+            {
+              "metrics": {
+                "step": 60,
+                "time_series": { "cpu": { "values": [%s] } }
+              }
+            }
+            """.formatted(points));
+    }
+
+    @Nested
+    @DisplayName("Scraping")
+    class ScrapingTests {
+
+        @Test
+        @DisplayName("Should store the samples of every server and answer windowed queries")
+        void shouldStoreSamples() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubServers(1, 2);
+            stubCpu(1, 10, 20, 30, 40);
+            stubCpu(2, 5);
+
+            try (MetricsCollector collector = MetricsCollector.builder(api).metricTypes("cpu").build()) {
+                collector.scrape().join();
+
+                assertThat(collector.getServerIds()).containsExactlyInAnyOrder(1L, 2L);
+                assertThat(collector.getSeries(1)).containsExactly("cpu");
+                assertThat(collector.getSampleCount(1, "cpu")).isEqualTo(4);
+                assertThat(collector.average(1, "cpu", Duration.ofMinutes(10))).isEqualTo(25.0);
+                assertThat(collector.max(1, "cpu", Duration.ofMinutes(10))).isEqualTo(40.0);
+                assertThat(collector.percentile(1, "cpu", Duration.ofMinutes(10), 0.5)).isEqualTo(20.0);
+                assertThat(collector.average(1, "cpu", Duration.ofSeconds(90))).isEqualTo(40.0);
+                assertThat(collector.average(3, "cpu", Duration.ofMinutes(10))).isNaN();
+            }
+        }
+
+        @Test
+        @DisplayName("Should leave the reserved rate limit budget to other callers")
+        void shouldRespectRateLimitReserve() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubServers(1, 2);
+            stubCpu(1, 10);
+            stubCpu(2, 20);
+
+            try (MetricsCollector collector = MetricsCollector.builder(api)
+                    .metricTypes("cpu")
+                    .rateLimitReserve(1_000_000)
+                    .build()) {
+                collector.scrape().join();
+
+                assertThat(collector.getServerIds()).isEmpty();
+                wireMockServer.verify(0, getRequestedFor(urlPathMatching("/v1/servers/\\d+/metrics")));
+            }
+        }
+    }
+}
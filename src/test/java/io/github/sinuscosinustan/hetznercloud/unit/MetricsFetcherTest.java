@@ -0,0 +1,82 @@
+package io.github.sinuscosinustan.hetznercloud.unit;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.metrics.MetricsFetcher;
+import io.github.sinuscosinustan.hetznercloud.objects.general.TypedMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+
+class MetricsFetcherTest extends OpenAPIMockServer {
+
+    private static final Instant START = Instant.parse("2017-01-01T00:00:00Z");
+
+    private String window(long firstTimestamp, long lastTimestamp) {
+        StringBuilder values = new StringBuilder();
+        for (long timestamp = firstTimestamp; timestamp <= lastTimestamp; timestamp += 60) {
+            if (!values.isEmpty()) {
+                values.append(", ");
+            }
+            values.append("[%d, \"%d\"]".formatted(timestamp, timestamp - START.getEpochSecond()));
+        }
+        return """
+            {
+              "metrics": {
+                "step": 60,
+                "time_series": {
+                  "cpu": { "values": [%s] }
+                }
+              }
+            }
+            """.formatted(values);
+    }
+
+    @Nested
+    @DisplayName("Chunked Fetch")
+    class ChunkedFetchTests {
+
+        @Test
+        @DisplayName("Should split the range into windows and stitch them without duplicates")
+        void shouldStitchWindows() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            MetricsFetcher fetcher = new MetricsFetcher(api, 3, 1000, 2);
+            long start = START.getEpochSecond();
+
+            addStub("GET", "/v1/servers/1/metrics?type=cpu&start=2017-01-01T00:00:00Z&end=2017-01-01T00:02:00Z&step=60",
+                    200, window(start, start + 120));
+            addStub("GET", "/v1/servers/1/metrics?type=cpu&start=2017-01-01T00:02:00Z&end=2017-01-01T00:04:00Z&step=60",
+                    200, window(start + 120, start + 240));
+
+            TypedMetrics metrics = fetcher.fetch(1, "cpu", START, START.plusSeconds(240), Duration.ofMinutes(1)).join();
+
+            assertThat(metrics.getCpu().getTimestamps()).containsExactly(
+                    (start) * 1000, (start + 60) * 1000, (start + 120) * 1000, (start + 180) * 1000, (start + 240) * 1000);
+            assertThat(metrics.getCpu().getValues()).containsExactly(0.0, 60.0, 120.0, 180.0, 240.0);
+            assertThat(metrics.getStep()).isEqualTo(60L);
+            assertThat(metrics.getStartInstant()).isEqualTo(START);
+            wireMockServer.verify(2, getRequestedFor(urlPathEqualTo("/v1/servers/1/metrics")));
+        }
+
+        @Test
+        @DisplayName("Should choose the smallest step that keeps the range below the point limit")
+        void shouldChooseStep() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            long start = START.getEpochSecond();
+
+            addStub("GET", "/v1/servers/1/metrics?type=cpu&start=2017-01-01T00:00:00Z&end=2017-01-31T00:00:00Z&step=300",
+                    200, window(start, start));
+
+            TypedMetrics metrics = new MetricsFetcher(api, 10_000, 10_000, 1)
+                    .fetch(1, "cpu", START, START.plus(Duration.ofDays(30))).join();
+
+            assertThat(metrics.getStep()).isEqualTo(300L);
+            assertThat(metrics.getCpu().size()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package io.github.sinuscosinustan.hetznercloud.unit;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.cache.NameResolver;
+import io.github.sinuscosinustan.hetznercloud.objects.request.CreateSSHKeyRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+
+class NameResolverTest extends OpenAPIMockServer {
+
+    private void stubServer(String name, long id) {
+        addStub("GET", "/v1/servers?name=" + name, 200, """
+            { "servers": [{ "id": %d, "name": "%s" }] }
+            """.formatted(id, name));
+    }
+
+    private void stubSSHKeys(String name, String keys) {
+        addStub("GET", "/v1/ssh_keys?name=" + name, 200, """
+            { "ssh_keys": [%s] }
+            """.formatted(keys));
+    }
+
+    @Nested
+    @DisplayName("Caching")
+    class CachingTests {
+
+        @Test
+        @DisplayName("Should resolve a name with a single request")
+        void shouldCacheFoundIds() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubServer("web-1", 42);
+
+            try (NameResolver resolver = NameResolver.builder(api).build()) {
+                for (int i = 0; i < 100; i++) {
+                    assertThat(resolver.resolve(NameResolver.Type.SERVER, "web-1")).hasValue(42L);
+                }
+                assertThat(resolver.require(NameResolver.Type.SERVER, "web-1")).isEqualTo(42L);
+            }
+
+            wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/servers")));
+        }
+
+        @Test
+        @DisplayName("Should cache names without a resource")
+        void shouldCacheMisses() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubSSHKeys("missing", "");
+
+            try (NameResolver resolver = NameResolver.builder(api).build()) {
+                assertThat(resolver.resolve(NameResolver.Type.SSH_KEY, "missing")).isEmpty();
+                assertThat(resolver.resolve(NameResolver.Type.SSH_KEY, "missing")).isEmpty();
+                assertThatThrownBy(() -> resolver.require(NameResolver.Type.SSH_KEY, "missing"))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("missing");
+            }
+
+            wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/ssh_keys")));
+        }
+
+        @Test
+        @DisplayName("Should evict the least recently used name and expire entries")
+        void shouldEvictAndExpire() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubServer("web-1", 1);
+            stubServer("web-2", 2);
+            stubServer("web-3", 3);
+
+            try (NameResolver resolver = NameResolver.builder(api).maxEntries(2).build()) {
+                resolver.resolve(NameResolver.Type.SERVER, "web-1");
+                resolver.resolve(NameResolver.Type.SERVER, "web-2");
+                resolver.resolve(NameResolver.Type.SERVER, "web-3");
+
+                assertThat(resolver.size()).isEqualTo(2);
+            }
+
+            try (NameResolver resolver = NameResolver.builder(api).ttl(Duration.ZERO).build()) {
+                resolver.resolve(NameResolver.Type.SERVER, "web-1");
+                resolver.resolve(NameResolver.Type.SERVER, "web-1");
+            }
+
+            wireMockServer.verify(5, getRequestedFor(urlPathEqualTo("/v1/servers")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Should drop the names of a deleted server")
+        void shouldInvalidateDeletedServer() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubServer("web-1", 42);
+            addStub("DELETE", "/v1/servers/42", 200, """
+                { "action": { "id": 13, "command": "delete_server", "status": "running" } }
+                """);
+
+            try (NameResolver resolver = NameResolver.builder(api).build()) {
+                resolver.resolve(NameResolver.Type.SERVER, "web-1");
+                api.deleteServer(42);
+
+                stubServer("web-1", 43);
+                assertThat(resolver.resolve(NameResolver.Type.SERVER, "web-1")).hasValue(43L);
+            }
+
+            wireMockServer.verify(2, getRequestedFor(urlPathEqualTo("/v1/servers")));
+        }
+
+        @Test
+        @DisplayName("Should drop cached misses when a resource is created")
+        void shouldInvalidateMissesOnCreate() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubSSHKeys("deploy", "");
+            addStub("POST", "/v1/ssh_keys", 201, """
+                { "ssh_key": { "id": 7, "name": "deploy", "public_key": "ssh-ed25519 AAAA" } }
+                """);
+
+            try (NameResolver resolver = NameResolver.builder(api).build()) {
+                assertThat(resolver.resolve(NameResolver.Type.SSH_KEY, "deploy")).isEmpty();
+                api.createSSHKey(CreateSSHKeyRequest.builder().name("deploy").publicKey("ssh-ed25519 AAAA").build());
+
+                stubSSHKeys("deploy", "{ \"id\": 7, \"name\": \"deploy\" }");
+                assertThat(resolver.resolve(NameResolver.Type.SSH_KEY, "deploy")).hasValue(7L);
+            }
+        }
+
+        @Test
+        @DisplayName("Should not cache a lookup which overlaps with an invalidation")
+        void shouldNotCacheOverlappingLookup() throws InterruptedException {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            wireMockServer.stubFor(get(urlPathEqualTo("/v1/servers")).withQueryParam("name", equalTo("web-1"))
+                    .willReturn(aResponse().withStatus(200).withFixedDelay(500)
+                            .withHeader("Content-Type", "application/json")
+                            .withBody("""
+                                { "servers": [{ "id": 42, "name": "web-1" }] }
+                                """)));
+
+            try (NameResolver resolver = NameResolver.builder(api).build()) {
+                CompletableFuture<OptionalLong> lookup = CompletableFuture.supplyAsync(
+                        () -> resolver.resolve(NameResolver.Type.SERVER, "web-1"));
+                Thread.sleep(200);
+                resolver.invalidateAll();
+
+                assertThat(lookup.join()).hasValue(42L);
+                assertThat(resolver.size()).isZero();
+            }
+        }
+
+        @Test
+        @DisplayName("Should stop invalidating after close")
+        void shouldStopListeningAfterClose() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubServer("web-1", 42);
+            addStub("DELETE", "/v1/servers/42", 200, """
+                { "action": { "id": 13, "command": "delete_server", "status": "running" } }
+                """);
+
+            NameResolver resolver = NameResolver.builder(api).build();
+            resolver.resolve(NameResolver.Type.SERVER, "web-1");
+            resolver.close();
+            api.deleteServer(42);
+
+            assertThat(resolver.size()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package io.github.sinuscosinustan.hetznercloud.unit;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.exception.APIRequestException;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Server;
+import io.github.sinuscosinustan.hetznercloud.retry.RetryPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.assertj.core.api.Assertions.*;
+
+class PaginationTest extends OpenAPIMockServer {
+
+    @Nested
+    @DisplayName("Auto Pagination")
+    class AutoPaginationTests {
+
+        @Test
+        @DisplayName("Should follow next_page until the last page")
+        void shouldFollowNextPage() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+
+            addStub("GET", "/v1/servers?page=1&per_page=50", 200, """
+                {
+                  "servers": [
+                    { "id": 1, "name": "server-1" },
+                    { "id": 2, "name": "server-2" }
+                  ],
+                  "meta": {
+                    "pagination": {
+                      "page": 1,
+                      "per_page": 50,
+                      "previous_page": null,
+                      "next_page": 2,
+                      "last_page": 2,
+                      "total_entries": 3
+                    }
+                  }
+                }
+                """);
+            addStub("GET", "/v1/servers?page=2&per_page=50", 200, """
+                {
+                  "servers": [
+                    { "id": 3, "name": "server-3" }
+                  ],
+                  "meta": {
+                    "pagination": {
+                      "page": 2,
+                      "per_page": 50,
+                      "previous_page": 1,
+                      "next_page": null,
+                      "last_page": 2,
+                      "total_entries": 3
+                    }
+                  }
+                }
+                """);
+
+            List<Server> servers = api.listAllServers();
+
+            assertThat(servers).extracting(Server::getId).containsExactly(1L, 2L, 3L);
+        }
+
+        @Test
+        @DisplayName("Should stop after a single page without next_page")
+        void shouldStopWithoutNextPage() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+
+            addStub("GET", "/v1/servers?label_selector=env&page=1&per_page=50", 200, """
+                {
+                  "servers": [
+                    { "id": 7, "name": "server-7" }
+                  ],
+                  "meta": {
+                    "pagination": {
+                      "page": 1,
+                      "per_page": 50,
+                      "previous_page": null,
+                      "next_page": null,
+                      "last_page": 1,
+                      "total_entries": 1
+                    }
+                  }
+                }
+                """);
+
+            List<Server> servers = api.listAllServers("env");
+
+            assertThat(servers).extracting(Server::getName).containsExactly("server-7");
+        }
+
+        @Test
+        @DisplayName("Should fetch remaining pages concurrently and keep API order")
+        void shouldFetchRemainingPagesConcurrently() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+
+            for (int page = 1; page <= 3; page++) {
+                addStub("GET", "/v1/servers?page=" + page + "&per_page=50", 200, """
+                    {
+                      "servers": [
+                        { "id": %d, "name": "server-%d" }
+                      ],
+                      "meta": {
+                        "pagination": {
+                          "page": %d,
+                          "per_page": 50,
+                          "next_page": %s,
+                          "last_page": 3,
+                          "total_entries": 3
+                        }
+                      }
+                    }
+                    """.formatted(page, page, page, page < 3 ? String.valueOf(page + 1) : "null"));
+            }
+
+            List<Server> servers = api.async().listAllServers().join();
+
+            assertThat(servers).extracting(Server::getId).containsExactly(1L, 2L, 3L);
+        }
+
+        @Test
+        @DisplayName("Should follow next_page sequentially without last_page")
+        void shouldFollowNextPageWithoutLastPage() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+
+            addStub("GET", "/v1/servers?page=1&per_page=50", 200, """
+                {
+                  "servers": [
+                    { "id": 1, "name": "server-1" }
+                  ],
+                  "meta": {
+                    "pagination": {
+                      "page": 1,
+                      "per_page": 50,
+                      "next_page": 2
+                    }
+                  }
+                }
+                """);
+            addStub("GET", "/v1/servers?page=2&per_page=50", 200, """
+                {
+                  "servers": [
+                    { "id": 2, "name": "server-2" }
+                  ],
+                  "meta": {
+                    "pagination": {
+                      "page": 2,
+                      "per_page": 50,
+                      "next_page": null
+                    }
+                  }
+                }
+                """);
+
+            List<Server> servers = api.listAllServers();
+
+            assertThat(servers).extracting(Server::getId).containsExactly(1L, 2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Streaming")
+    class StreamingTests {
+
+        @Test
+        @DisplayName("Should hand every element of all pages to the consumer in order")
+        void shouldStreamAllPages() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+
+            addStub("GET", "/v1/zones/1/rrsets?page=1&per_page=50", 200, """
+                {
+                  "meta": {
+                    "pagination": { "page": 1, "per_page": 50, "next_page": 2, "last_page": 2, "total_entries": 3 }
+                  },
+                  "rrsets": [
+                    { "id": "www/A", "name": "www", "type": "A", "unknown": { "nested": [1, 2, 3] } },
+                    { "id": "mail/A", "name": "mail", "type": "A" }
+                  ]
+                }
+                """);
+            addStub("GET", "/v1/zones/1/rrsets?page=2&per_page=50", 200, """
+                {
+                  "rrsets": [
+                    { "id": "@/MX", "name": "@", "type": "MX" }
+                  ],
+                  "meta": {
+                    "pagination": { "page": 2, "per_page": 50, "next_page": null, "last_page": 2, "total_entries": 3 }
+                  }
+                }
+                """);
+
+            List<String> names = new ArrayList<>();
+            api.forEachRRSet(1, rrSet -> names.add(rrSet.getName()));
+
+            assertThat(names).containsExactly("www", "mail", "@");
+        }
+
+        @Test
+        @DisplayName("Should follow next_page asynchronously")
+        void shouldStreamAllPagesAsync() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+
+            for (int page = 1; page <= 3; page++) {
+                addStub("GET", "/v1/images?page=" + page + "&per_page=50", 200, """
+                    {
+                      "images": [{ "id": %d, "type": "snapshot", "description": "image-%d" }],
+                      "meta": {
+                        "pagination": { "page": %d, "per_page": 50, "next_page": %s, "last_page": 3, "total_entries": 3 }
+                      }
+                    }
+                    """.formatted(page, page, page, page < 3 ? String.valueOf(page + 1) : "null"));
+            }
+
+            List<Long> ids = new CopyOnWriteArrayList<>();
+            api.async().forEachImage(image -> ids.add(image.getId())).join();
+
+            assertThat(ids).containsExactly(1L, 2L, 3L);
+            for (int page = 1; page <= 3; page++) {
+                wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/images"))
+                        .withQueryParam("page", equalTo(String.valueOf(page))));
+            }
+        }
+
+        @Test
+        @DisplayName("Should retry a failed page with the retry policy")
+        void shouldRetryPage() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            api.setRetryPolicy(RetryPolicy.builder().maxAttempts(3).initialBackoff(Duration.ofMillis(10)).build());
+
+            addStub("GET", "/v1/servers?page=1&per_page=50", 200, """
+                {
+                  "servers": [{ "id": 1, "name": "server-1" }],
+                  "meta": { "pagination": { "page": 1, "per_page": 50, "next_page": 2, "last_page": 2, "total_entries": 2 } }
+                }
+                """);
+            wireMockServer.stubFor(get(urlPathEqualTo("/v1/servers")).withQueryParam("page", equalTo("2"))
+                    .inScenario("page-2").whenScenarioStateIs(STARTED)
+                    .willReturn(aResponse().withStatus(503).withHeader("Content-Type", "application/json")
+                            .withBody("""
+                                { "error": { "code": "unavailable", "message": "service temporarily unavailable" } }
+                                """))
+                    .willSetStateTo("recovered"));
+            wireMockServer.stubFor(get(urlPathEqualTo("/v1/servers")).withQueryParam("page", equalTo("2"))
+                    .inScenario("page-2").whenScenarioStateIs("recovered")
+                    .willReturn(aResponse().withStatus(200).withHeader("Content-Type", "application/json")
+                            .withBody("""
+                                {
+                                  "servers": [{ "id": 2, "name": "server-2" }],
+                                  "meta": { "pagination": { "page": 2, "per_page": 50, "next_page": null, "last_page": 2, "total_entries": 2 } }
+                                }
+                                """)));
+
+            List<Long> ids = new ArrayList<>();
+            api.forEachServer(server -> ids.add(server.getId()));
+
+            assertThat(ids).containsExactly(1L, 2L);
+            wireMockServer.verify(2, getRequestedFor(urlPathEqualTo("/v1/servers")).withQueryParam("page", equalTo("2")));
+        }
+
+        @Test
+        @DisplayName("Should throw APIRequestException for error responses")
+        void shouldThrowOnError() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+
+            addStub("GET", "/v1/servers?page=1&per_page=50", 401, """
+                {
+                  "error": {
+                    "code": "unauthorized",
+                    "message": "unable to authenticate"
+                  }
+                }
+                """);
+
+            assertThatThrownBy(() -> api.forEachServer(server -> { }))
+                    .isInstanceOf(APIRequestException.class);
+        }
+    }
+}
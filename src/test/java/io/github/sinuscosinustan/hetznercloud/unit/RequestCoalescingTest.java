@@ -0,0 +1,83 @@
+package io.github.sinuscosinustan.hetznercloud.unit;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.objects.response.ServerResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+
+class RequestCoalescingTest extends OpenAPIMockServer {
+
+    private void stubSlowServer() {
+        wireMockServer.stubFor(get(urlPathEqualTo("/v1/servers/42"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withFixedDelay(300)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                            {
+                              "server": { "id": 42, "name": "server-42" }
+                            }
+                            """)));
+    }
+
+    @Nested
+    @DisplayName("Request Coalescing")
+    class RequestCoalescingTests {
+
+        @Test
+        @DisplayName("Should share one request between concurrent identical GETs")
+        void shouldShareConcurrentRequests() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            api.setRequestCoalescing(true);
+            stubSlowServer();
+
+            List<CompletableFuture<ServerResponse>> futures = IntStream.range(0, 5)
+                    .mapToObj(i -> api.async().getServer(42))
+                    .toList();
+            List<ServerResponse> responses = futures.stream().map(CompletableFuture::join).toList();
+
+            assertThat(responses).allSatisfy(response -> assertThat(response).isSameAs(responses.get(0)));
+            wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/servers/42")));
+        }
+
+        @Test
+        @DisplayName("Should send every request unless coalescing is enabled")
+        void shouldSendEveryRequestByDefault() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            stubSlowServer();
+
+            List<CompletableFuture<ServerResponse>> futures = IntStream.range(0, 3)
+                    .mapToObj(i -> api.async().getServer(42))
+                    .toList();
+            futures.forEach(CompletableFuture::join);
+
+            wireMockServer.verify(3, getRequestedFor(urlPathEqualTo("/v1/servers/42")));
+        }
+
+        @Test
+        @DisplayName("Should not join requests which were in flight before a modifying request")
+        void shouldNotJoinAfterMutation() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            api.setRequestCoalescing(true);
+            stubSlowServer();
+            addStub("POST", "/v1/servers/42/actions/poweron", 201, """
+                { "action": { "id": 13, "command": "start_server", "status": "running" } }
+                """);
+
+            CompletableFuture<ServerResponse> before = api.async().getServer(42);
+            api.powerOnServer(42);
+            CompletableFuture<ServerResponse> after = api.async().getServer(42);
+
+            assertThat(after.join()).isNotSameAs(before.join());
+            wireMockServer.verify(2, getRequestedFor(urlPathEqualTo("/v1/servers/42")));
+        }
+    }
+}
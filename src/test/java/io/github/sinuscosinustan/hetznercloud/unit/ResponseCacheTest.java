@@ -0,0 +1,137 @@
+package io.github.sinuscosinustan.hetznercloud.unit;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.cache.ResponseCache;
+import io.github.sinuscosinustan.hetznercloud.objects.request.CreateImageRequest;
+import io.github.sinuscosinustan.hetznercloud.objects.response.LocationsResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+
+class ResponseCacheTest extends OpenAPIMockServer {
+
+    private static final String LOCATIONS = """
+        {
+          "locations": [
+            { "id": 1, "name": "fsn1", "network_zone": "eu-central" }
+          ]
+        }
+        """;
+
+    @Nested
+    @DisplayName("Response Cache")
+    class ResponseCacheTests {
+
+        @Test
+        @DisplayName("Should serve repeated lookups from the cache")
+        void shouldServeRepeatedLookupsFromCache() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            api.setResponseCache(ResponseCache.builder().ttl("locations", Duration.ofHours(1)).build());
+            addStub("GET", "/v1/locations?name=fsn1", 200, LOCATIONS);
+
+            LocationsResponse first = api.getLocationByName("fsn1");
+            LocationsResponse second = api.getLocationByName("fsn1");
+            LocationsResponse third = api.async().getLocationByName("fsn1").join();
+
+            assertThat(second).isSameAs(first);
+            assertThat(third).isSameAs(first);
+            wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/locations")));
+        }
+
+        @Test
+        @DisplayName("Should load again after invalidation")
+        void shouldLoadAgainAfterInvalidation() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            ResponseCache cache = ResponseCache.builder().ttl("locations", Duration.ofHours(1)).build();
+            api.setResponseCache(cache);
+            addStub("GET", "/v1/locations?name=fsn1", 200, LOCATIONS);
+
+            api.getLocationByName("fsn1");
+            cache.invalidate("locations");
+            api.getLocationByName("fsn1");
+
+            wireMockServer.verify(2, getRequestedFor(urlPathEqualTo("/v1/locations")));
+        }
+
+        @Test
+        @DisplayName("Should not store responses loaded before an invalidation")
+        void shouldNotStoreOutdatedLoads() {
+            ResponseCache cache = ResponseCache.builder().ttl("locations", Duration.ofHours(1)).build();
+
+            String value = cache.get("locations", "/v1/locations", String.class, () -> {
+                cache.invalidate("locations");
+                return "outdated";
+            });
+
+            assertThat(value).isEqualTo("outdated");
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should invalidate images when a server image is created")
+        void shouldInvalidateImagesOnCreateImage() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            api.setResponseCache(ResponseCache.builder().ttl("images", Duration.ofHours(1)).build());
+            addStub("GET", "/v1/images/5", 200, """
+                {
+                  "image": { "id": 5, "type": "snapshot", "description": "before" }
+                }
+                """);
+            addStub("POST", "/v1/servers/1/actions/create_image", 201, """
+                {
+                  "image": { "id": 6, "type": "snapshot", "description": "after" },
+                  "action": { "id": 13, "command": "create_image", "status": "running" }
+                }
+                """);
+
+            api.getImage(5);
+            api.createImage(1, CreateImageRequest.builder().type("snapshot").build());
+            api.getImage(5);
+
+            wireMockServer.verify(2, getRequestedFor(urlPathEqualTo("/v1/images/5")));
+        }
+
+        @Test
+        @DisplayName("Should not cache endpoints without TTL")
+        void shouldNotCacheEndpointsWithoutTtl() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            api.setResponseCache(ResponseCache.withDefaults());
+            addStub("GET", "/v1/servers/42", 200, """
+                {
+                  "server": { "id": 42, "name": "server-42" }
+                }
+                """);
+
+            api.getServer(42);
+            api.getServer(42);
+
+            wireMockServer.verify(2, getRequestedFor(urlPathEqualTo("/v1/servers/42")));
+        }
+
+        @Test
+        @DisplayName("Should stop refresh-ahead when the API is closed")
+        void shouldStopRefreshAheadOnClose() throws InterruptedException {
+            ResponseCache cache = ResponseCache.builder()
+                    .ttl("locations", Duration.ofHours(1))
+                    .refreshAhead(0.000001)
+                    .build();
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            api.setResponseCache(cache);
+            AtomicInteger loads = new AtomicInteger();
+
+            cache.get("locations", "/v1/locations", String.class, () -> "load-" + loads.incrementAndGet());
+            api.close();
+            Thread.sleep(10);
+            String value = cache.get("locations", "/v1/locations", String.class, () -> "load-" + loads.incrementAndGet());
+
+            assertThat(value).isEqualTo("load-1");
+            assertThat(loads).hasValue(1);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.sinuscosinustan.hetznercloud.unit;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.exception.APIRequestException;
+import io.github.sinuscosinustan.hetznercloud.objects.response.LocationResponse;
+import io.github.sinuscosinustan.hetznercloud.retry.RetryPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.assertj.core.api.Assertions.*;
+
+class RetryTest extends OpenAPIMockServer {
+
+    private static final String UNAVAILABLE = """
+        {
+          "error": {
+            "code": "unavailable",
+            "message": "service temporarily unavailable"
+          }
+        }
+        """;
+
+    private static final String LOCATION = """
+        {
+          "location": {
+            "id": 1,
+            "name": "fsn1"
+          }
+        }
+        """;
+
+    private HetznerCloudAPI createApi() {
+        HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+        api.setRetryPolicy(RetryPolicy.builder()
+                .maxAttempts(3)
+                .initialBackoff(Duration.ofMillis(10))
+                .build());
+        return api;
+    }
+
+    private void stubUnavailableThenSuccess() {
+        wireMockServer.stubFor(get(urlPathEqualTo("/v1/locations/1")).inScenario("retry")
+                .whenScenarioStateIs(STARTED)
+                .willReturn(aResponse().withStatus(503).withHeader("Retry-After", "0")
+                        .withHeader("Content-Type", "application/json").withBody(UNAVAILABLE))
+                .willSetStateTo("recovered"));
+        wireMockServer.stubFor(get(urlPathEqualTo("/v1/locations/1")).inScenario("retry")
+                .whenScenarioStateIs("recovered")
+                .willReturn(aResponse().withStatus(200)
+                        .withHeader("Content-Type", "application/json").withBody(LOCATION)));
+    }
+
+    @Nested
+    @DisplayName("Retry Policy")
+    class RetryPolicyTests {
+
+        @Test
+        @DisplayName("Should retry transient error codes")
+        void shouldRetryTransientErrors() {
+            HetznerCloudAPI api = createApi();
+            stubUnavailableThenSuccess();
+
+            LocationResponse response = api.getLocation(1);
+
+            assertThat(response.getLocation().getName()).isEqualTo("fsn1");
+            wireMockServer.verify(2, getRequestedFor(urlPathEqualTo("/v1/locations/1")));
+        }
+
+        @Test
+        @DisplayName("Should retry transient error codes asynchronously")
+        void shouldRetryTransientErrorsAsync() {
+            HetznerCloudAPI api = createApi();
+            stubUnavailableThenSuccess();
+
+            LocationResponse response = api.async().getLocation(1).join();
+
+            assertThat(response.getLocation().getName()).isEqualTo("fsn1");
+        }
+
+        @Test
+        @DisplayName("Should give up after max attempts")
+        void shouldGiveUpAfterMaxAttempts() {
+            HetznerCloudAPI api = createApi();
+            addStub("GET", "/v1/locations/1", 503, UNAVAILABLE);
+
+            assertThatThrownBy(() -> api.getLocation(1))
+                    .isInstanceOf(APIRequestException.class);
+            wireMockServer.verify(3, getRequestedFor(urlPathEqualTo("/v1/locations/1")));
+        }
+
+        @Test
+        @DisplayName("Should not retry permanent error codes")
+        void shouldNotRetryPermanentErrors() {
+            HetznerCloudAPI api = createApi();
+            addStub("GET", "/v1/locations/1", 404, """
+                {
+                  "error": {
+                    "code": "not_found",
+                    "message": "location not found"
+                  }
+                }
+                """);
+
+            assertThatThrownBy(() -> api.getLocation(1))
+                    .isInstanceOf(APIRequestException.class);
+            wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/locations/1")));
+        }
+
+        @Test
+        @DisplayName("Should not retry POST requests which may have been processed")
+        void shouldNotRetryPossiblyProcessedPost() {
+            HetznerCloudAPI api = createApi();
+            addStub("POST", "/v1/servers/1/actions/poweron", 503, UNAVAILABLE);
+
+            assertThatThrownBy(() -> api.powerOnServer(1))
+                    .isInstanceOf(APIRequestException.class);
+            wireMockServer.verify(1, postRequestedFor(urlPathEqualTo("/v1/servers/1/actions/poweron")));
+        }
+
+        @Test
+        @DisplayName("Should retry POST requests which were rejected before processing")
+        void shouldRetryRejectedPost() {
+            HetznerCloudAPI api = createApi();
+            addStub("POST", "/v1/servers/1/actions/poweron", 423, """
+                {
+                  "error": {
+                    "code": "locked",
+                    "message": "server is locked"
+                  }
+                }
+                """);
+
+            assertThatThrownBy(() -> api.powerOnServer(1))
+                    .isInstanceOf(APIRequestException.class);
+            wireMockServer.verify(3, postRequestedFor(urlPathEqualTo("/v1/servers/1/actions/poweron")));
+        }
+
+        @Test
+        @DisplayName("Should not retry without a configured policy")
+        void shouldNotRetryByDefault() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            addStub("GET", "/v1/locations/1", 503, UNAVAILABLE);
+
+            assertThatThrownBy(() -> api.getLocation(1))
+                    .isInstanceOf(APIRequestException.class);
+            wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/locations/1")));
+        }
+    }
+}
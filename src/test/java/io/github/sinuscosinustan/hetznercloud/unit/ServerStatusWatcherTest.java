@@ -0,0 +1,99 @@
+package io.github.sinuscosinustan.hetznercloud.unit;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Server;
+import io.github.sinuscosinustan.hetznercloud.waiter.ServerStatusWatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.assertj.core.api.Assertions.*;
+
+class ServerStatusWatcherTest extends OpenAPIMockServer {
+
+    private static final String LISTING = """
+        {
+          "servers": [%s],
+          "meta": {
+            "pagination": { "page": 1, "per_page": 50, "next_page": null, "last_page": 1, "total_entries": %d }
+          }
+        }
+        """;
+
+    @Nested
+    @DisplayName("Server Status Watcher")
+    class ServerStatusWatcherTests {
+
+        @Test
+        @DisplayName("Should resolve all watched servers from one listing")
+        void shouldResolveServersFromListing() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+
+            addStub("GET", "/v1/servers?page=1&per_page=50", 200, """
+                {
+                  "servers": [
+                    { "id": 1, "name": "server-1", "status": "running" },
+                    { "id": 2, "name": "server-2", "status": "off" }
+                  ],
+                  "meta": {
+                    "pagination": { "page": 1, "per_page": 50, "next_page": null, "last_page": 1, "total_entries": 2 }
+                  }
+                }
+                """);
+
+            try (ServerStatusWatcher watcher = new ServerStatusWatcher(api, null, Duration.ofMillis(50))) {
+                CompletableFuture<Server> running = watcher.waitForRunning(1);
+                CompletableFuture<Server> off = watcher.waitForOff(2);
+                CompletableFuture<Server> missing = watcher.waitForRunning(3);
+
+                assertThat(running.join().getName()).isEqualTo("server-1");
+                assertThat(off.join().getName()).isEqualTo("server-2");
+                assertThatThrownBy(missing::join)
+                        .isInstanceOf(CompletionException.class)
+                        .hasCauseInstanceOf(IllegalStateException.class);
+            }
+
+            wireMockServer.verify(1, getRequestedFor(urlPathEqualTo("/v1/servers")));
+        }
+
+        @Test
+        @DisplayName("Should keep watching a server registered while a listing was in flight")
+        void shouldWaitForNextListing() throws InterruptedException {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+
+            wireMockServer.stubFor(get(urlPathEqualTo("/v1/servers")).inScenario("created")
+                    .whenScenarioStateIs(STARTED)
+                    .willReturn(aResponse().withStatus(200).withFixedDelay(500)
+                            .withHeader("Content-Type", "application/json")
+                            .withBody(LISTING.formatted("""
+                                { "id": 1, "name": "server-1", "status": "running" }
+                                """, 1)))
+                    .willSetStateTo("listed"));
+            wireMockServer.stubFor(get(urlPathEqualTo("/v1/servers")).inScenario("created")
+                    .whenScenarioStateIs("listed")
+                    .willReturn(aResponse().withStatus(200)
+                            .withHeader("Content-Type", "application/json")
+                            .withBody(LISTING.formatted("""
+                                { "id": 1, "name": "server-1", "status": "running" },
+                                { "id": 7, "name": "server-7", "status": "running" }
+                                """, 2))));
+
+            try (ServerStatusWatcher watcher = new ServerStatusWatcher(api, null, Duration.ofMillis(20))) {
+                CompletableFuture<Server> first = watcher.waitForRunning(1);
+                Thread.sleep(200);
+                CompletableFuture<Server> created = watcher.waitForRunning(7);
+
+                assertThat(first.join().getName()).isEqualTo("server-1");
+                assertThat(created.join().getName()).isEqualTo("server-7");
+            }
+
+            wireMockServer.verify(2, getRequestedFor(urlPathEqualTo("/v1/servers")));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.sinuscosinustan.hetznercloud.unit;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import io.github.sinuscosinustan.hetznercloud.objects.general.TimeSeries;
+import io.github.sinuscosinustan.hetznercloud.objects.general.TypedMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TypedMetricsTest extends OpenAPIMockServer {
+
+    @Nested
+    @DisplayName("Typed Server Metrics")
+    class TypedServerMetricsTests {
+
+        @Test
+        @DisplayName("Should decode every series into primitive arrays")
+        void shouldDecodeSeries() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+
+            addStub("GET", "/v1/servers/1/metrics?type=cpu,disk,network", 200, """
+                {
+                  "metrics": {
+                    "start": "2017-01-01T00:00:00+00:00",
+                    "end": "2017-01-01T23:00:00+00:00",
+                    "step": 60,
+                    "time_series": {
+                      "cpu": {
+                        "values": [[1435781470.622, "42"], [1435781530.622, "43.5"]]
+                      },
+                      "disk.0.iops.read": {
+                        "values": [[1435781470.622, "NaN"], [1435781530.622, 7]]
+                      },
+                      "network.0.bandwidth.in": {
+                        "values": []
+                      }
+                    }
+                  }
+                }
+                """);
+
+            TypedMetrics metrics = api.getTypedServerMetrics(1, "cpu,disk,network",
+                    "2017-01-01T00:00:00Z", "2017-01-01T23:00:00Z").getMetrics();
+
+            TimeSeries cpu = metrics.getCpu();
+            assertThat(cpu.getTimestamps()).containsExactly(1435781470622L, 1435781530622L);
+            assertThat(cpu.getValues()).containsExactly(42.0, 43.5);
+            assertThat(metrics.getDiskIopsRead(0).getValue(0)).isNaN();
+            assertThat(metrics.getDiskIopsRead(0).getValue(1)).isEqualTo(7.0);
+            assertThat(metrics.getNetworkBandwidthIn(0).isEmpty()).isTrue();
+            assertThat(metrics.getNetworkBandwidthOut(0).isEmpty()).isTrue();
+            assertThat(metrics.getStep()).isEqualTo(60L);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package io.github.sinuscosinustan.hetznercloud.unit;
+
+import io.github.sinuscosinustan.hetznercloud.HetznerCloudAPI;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.*;
+
+class WarmUpTest extends OpenAPIMockServer {
+
+    @Nested
+    @DisplayName("Connection Warm-Up")
+    class WarmUpTests {
+
+        @Test
+        @DisplayName("Should send one request per connection without coalescing them")
+        void shouldSendOneRequestPerConnection() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+
+            api.warmUp(3);
+
+            wireMockServer.verify(3, getRequestedFor(urlPathEqualTo("/v1/locations")));
+        }
+
+        @Test
+        @DisplayName("Should ignore errors")
+        void shouldIgnoreErrors() {
+            HetznerCloudAPI api = new HetznerCloudAPI("test-token", getMockApiUrl());
+            addStub("GET", "/v1/locations", 401, """
+                {
+                  "error": { "code": "unauthorized", "message": "unable to authenticate" }
+                }
+                """);
+
+            assertThatCode(() -> api.warmUp(2)).doesNotThrowAnyException();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.sinuscosinustan.hetznercloud.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import io.github.sinuscosinustan.hetznercloud.objects.general.Server;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ISO8601UtilTest {
+
+    @Nested
+    @DisplayName("Parsing")
+    class ParsingTests {
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "2016-01-30T23:55:00+00:00",
+                "2016-01-30T23:55:00Z",
+                "2024-02-29T12:00:00.123+02:00",
+                "2024-02-29T12:00:00.123456789-05:30",
+                "1999-12-31T23:59:59+0100",
+                "2038-01-19T03:14:08+01",
+                "1969-07-20T20:17:40Z"
+        })
+        @DisplayName("Should parse like java.time")
+        void shouldParseLikeJavaTime(String text) {
+            Instant expected = OffsetDateTime.parse(fixOffset(text)).toInstant();
+
+            assertThat(ISO8601Util.parse(text)).isEqualTo(expected);
+            assertThat(ISO8601Util.parseEpochMillis(text)).isEqualTo(expected.toEpochMilli());
+        }
+
+        @Test
+        @DisplayName("Should parse dates as midnight UTC")
+        void shouldParseDate() {
+            assertThat(ISO8601Util.parse("2024-03-01")).isEqualTo(Instant.parse("2024-03-01T00:00:00Z"));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "",
+                "2016-01-30T23:55:00",
+                "2016-13-01T00:00:00Z",
+                "2023-02-29T00:00:00Z",
+                "2016-01-30T24:00:00Z",
+                "2016-01-30T23:55:00.Z",
+                "2016-01-30T23:55:00+00:00x",
+                "2016/01/30T23:55:00Z",
+                "not a date"
+        })
+        @DisplayName("Should reject invalid timestamps")
+        void shouldRejectInvalid(String text) {
+            assertThatThrownBy(() -> ISO8601Util.parse(text))
+                    .isInstanceOf(DateTimeParseException.class);
+        }
+
+        private String fixOffset(String text) {
+            if (text.matches(".*[+-]\\d{4}$")) {
+                return text.substring(0, text.length() - 2) + ":" + text.substring(text.length() - 2);
+            }
+            if (text.matches(".*[+-]\\d{2}$")) {
+                return text + ":00";
+            }
+            return text;
+        }
+    }
+
+    @Nested
+    @DisplayName("Formatting")
+    class FormattingTests {
+
+        @Test
+        @DisplayName("Should format in UTC with second precision")
+        void shouldFormatInUtc() {
+            assertThat(ISO8601Util.format(Instant.parse("2016-01-30T23:55:00.789Z"))).isEqualTo("2016-01-30T23:55:00Z");
+        }
+    }
+
+    @Nested
+    @DisplayName("DateDeserializer")
+    class DateDeserializerTests {
+
+        private final ObjectMapper objectMapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        @Test
+        @DisplayName("Should deserialize timestamps of the models")
+        void shouldDeserializeModelDates() throws Exception {
+            Server server = objectMapper.readValue("""
+                { "id": 1, "created": "2016-01-30T23:55:00+01:00" }
+                """, Server.class);
+
+            assertThat(server.getCreatedInstant()).isEqualTo(Instant.parse("2016-01-30T22:55:00Z"));
+            assertThat(server.getCreated().toInstant()).isEqualTo(server.getCreatedInstant());
+            assertThat(objectMapper.writeValueAsString(server)).doesNotContain("createdInstant");
+        }
+
+        @Test
+        @DisplayName("Should fail on invalid timestamps instead of returning null")
+        void shouldFailOnInvalidTimestamp() {
+            assertThatThrownBy(() -> objectMapper.readValue("""
+                { "id": 1, "created": "yesterday" }
+                """, Server.class))
+                    .isInstanceOf(InvalidFormatException.class);
+        }
+    }
+}